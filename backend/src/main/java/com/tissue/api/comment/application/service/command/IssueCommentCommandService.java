@@ -36,7 +36,7 @@ public class IssueCommentCommandService {
 	) {
 		Issue issue = issueReader.findIssue(issueKey, workspaceCode);
 
-		WorkspaceMember workspaceMember = workspaceMemberReader.findWorkspaceMember(memberId, workspaceCode);
+		WorkspaceMember workspaceMember = workspaceMemberReader.getReference(memberId, workspaceCode);
 
 		IssueComment parentComment = request.hasParentComment()
 			? (IssueComment)commentRepository.findById(request.parentCommentId())
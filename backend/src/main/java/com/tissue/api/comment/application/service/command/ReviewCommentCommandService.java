@@ -48,7 +48,7 @@ public class ReviewCommentCommandService {
 					reviewId, issueKey, workspaceCode))
 			);
 
-		WorkspaceMember workspaceMember = workspaceMemberReader.findWorkspaceMember(memberId, workspaceCode);
+		WorkspaceMember workspaceMember = workspaceMemberReader.getReference(memberId, workspaceCode);
 
 		ReviewComment parentComment = request.hasParentComment()
 			? (ReviewComment)commentRepository.findById(request.parentCommentId())
@@ -1,5 +1,7 @@
 package com.tissue.api.comment.domain.event;
 
+import java.io.Serial;
+
 import com.tissue.api.comment.domain.model.IssueComment;
 import com.tissue.api.issue.domain.model.Issue;
 import com.tissue.api.issue.domain.model.enums.IssueType;
@@ -12,6 +14,9 @@ import lombok.Getter;
 @Getter
 public class IssueCommentAddedEvent extends CommentEvent {
 
+	@Serial
+	private static final long serialVersionUID = 1L;
+
 	public IssueCommentAddedEvent(
 		Long issueId,
 		String issueKey,
@@ -1,5 +1,7 @@
 package com.tissue.api.comment.domain.event;
 
+import java.io.Serial;
+
 import com.tissue.api.comment.domain.model.ReviewComment;
 import com.tissue.api.issue.domain.model.Issue;
 import com.tissue.api.issue.domain.model.enums.IssueType;
@@ -13,6 +15,9 @@ import lombok.Getter;
 @Getter
 public class ReviewCommentAddedEvent extends CommentEvent {
 
+	@Serial
+	private static final long serialVersionUID = 1L;
+
 	private final Long reviewId;
 
 	public ReviewCommentAddedEvent(
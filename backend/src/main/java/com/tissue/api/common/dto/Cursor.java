@@ -0,0 +1,44 @@
+package com.tissue.api.common.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.tissue.api.common.exception.type.InvalidRequestException;
+
+/**
+ * 커서 기반 페이징의 위치(정렬 키 + id)
+ * - 클라이언트에는 내부 구조를 노출하지 않도록 Base64(URL-safe)로 인코딩한 문자열로 전달한다
+ * - (createdDate DESC, id DESC) 정렬에서 이 위치 다음 행부터 조회한다
+ */
+public record Cursor(
+	LocalDateTime createdDate,
+	Long id
+) {
+	private static final String DELIMITER = "|";
+
+	public String encode() {
+		String raw = createdDate + DELIMITER + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * @return 빈 값이면 첫 페이지를 의미하는 null
+	 */
+	public static Cursor decode(String value) {
+		if (value == null || value.isBlank()) {
+			return null;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+			int delimiterIndex = raw.lastIndexOf(DELIMITER);
+			return new Cursor(
+				LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+				Long.parseLong(raw.substring(delimiterIndex + 1))
+			);
+		} catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+			throw new InvalidRequestException("Invalid cursor: " + value);
+		}
+	}
+}
@@ -0,0 +1,54 @@
+package com.tissue.api.common.dto;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Limit;
+
+/**
+ * 커서 기반 페이징 요청(?cursor=&size=&count=)
+ * - cursor: 이전 응답의 nextCursor, 첫 페이지는 빈 값
+ * - count: true인 경우에만 전체 개수를 조회한다(COUNT 쿼리)
+ */
+public record CursorRequest(
+	String cursor,
+	Integer size,
+	Boolean count
+) {
+	private static final int DEFAULT_SIZE = 20;
+	private static final int MAX_SIZE = 100;
+
+	public CursorRequest {
+		if (size == null || size < 1) {
+			size = DEFAULT_SIZE;
+		}
+		size = Math.min(size, MAX_SIZE);
+		if (count == null) {
+			count = false;
+		}
+	}
+
+	public Cursor decodedCursor() {
+		return Cursor.decode(cursor);
+	}
+
+	public LocalDateTime cursorCreatedDate() {
+		Cursor decoded = decodedCursor();
+		return decoded != null ? decoded.createdDate() : null;
+	}
+
+	public Long cursorId() {
+		Cursor decoded = decodedCursor();
+		return decoded != null ? decoded.id() : null;
+	}
+
+	/**
+	 * 다음 페이지 존재 여부를 알기 위해 한 건 더 조회한다
+	 */
+	public Limit fetchLimit() {
+		return Limit.of(size + 1);
+	}
+
+	public boolean withCount() {
+		return count;
+	}
+}
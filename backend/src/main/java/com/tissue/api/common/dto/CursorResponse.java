@@ -0,0 +1,35 @@
+package com.tissue.api.common.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorResponse<T>(
+	List<T> content,
+	String nextCursor, // 다음 페이지 요청에 사용할 커서, 마지막 페이지면 null
+	boolean hasNext,
+	Long totalElements // count=true로 요청한 경우에만 포함
+) {
+	/**
+	 * @param rows CursorRequest.fetchLimit()으로 조회한 결과(최대 size + 1건)
+	 * @param cursorOf 행의 정렬 키로 커서를 만드는 함수
+	 */
+	public static <E, T> CursorResponse<T> of(
+		List<E> rows,
+		CursorRequest request,
+		Function<E, Cursor> cursorOf,
+		Function<E, T> mapper,
+		Long totalElements
+	) {
+		boolean hasNext = rows.size() > request.size();
+		List<E> page = hasNext ? rows.subList(0, request.size()) : rows;
+
+		String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+
+		return new CursorResponse<>(
+			page.stream().map(mapper).toList(),
+			nextCursor,
+			hasNext,
+			totalElements
+		);
+	}
+}
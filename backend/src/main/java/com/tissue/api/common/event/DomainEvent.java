@@ -1,12 +1,19 @@
 package com.tissue.api.common.event;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 import com.tissue.api.notification.domain.enums.NotificationType;
 import com.tissue.api.notification.domain.model.vo.EntityReference;
 
-public interface DomainEvent {
+/**
+ * outbox에 직렬화되어 저장될 수 있으므로, 구현체는 직렬화 가능한 값만 가져야 한다
+ * - 구현체(추상 클래스 포함)와 필드로 가지는 값 타입은 serialVersionUID를 명시한다
+ *   (재컴파일만으로 UID가 바뀌면 배포 전에 쌓인 outbox 이벤트를 역직렬화하지 못한다)
+ * - 필드 추가/삭제는 호환되는 변경이므로 UID를 유지하고, 필드 타입 변경처럼 호환되지 않는 변경은 새 이벤트 클래스로 만든다
+ */
+public interface DomainEvent extends Serializable {
 
 	UUID getEventId();
 
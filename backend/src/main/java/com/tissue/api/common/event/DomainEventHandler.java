@@ -0,0 +1,11 @@
+package com.tissue.api.common.event;
+
+/**
+ * 커밋된 DomainEvent를 처리하는 핸들러
+ * - api.event.outbox.enabled=false(default): InMemoryDomainEventRelay가 커밋 후 비동기로 전달
+ * - api.event.outbox.enabled=true: OutboxEventDispatcher가 outbox 테이블에서 꺼내서 전달
+ */
+public interface DomainEventHandler {
+
+	void handle(DomainEvent event);
+}
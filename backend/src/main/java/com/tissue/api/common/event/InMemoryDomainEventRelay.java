@@ -0,0 +1,30 @@
+package com.tissue.api.common.event;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 커밋 이후 DomainEvent를 notificationTaskExecutor에서 핸들러들에게 전달한다
+ * - 이벤트는 메모리에만 존재하므로, 큐가 가득 차면 요청 스레드에서 실행되고 서버가 종료되면 유실된다
+ * - 유실되면 안 되는 경우 api.event.outbox.enabled=true 로 outbox 방식을 사용한다
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "api.event.outbox.enabled", havingValue = "false", matchIfMissing = true)
+public class InMemoryDomainEventRelay {
+
+	private final List<DomainEventHandler> handlers;
+
+	@Async("notificationTaskExecutor")
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void relay(DomainEvent event) {
+		handlers.forEach(handler -> handler.handle(event));
+	}
+}
@@ -0,0 +1,11 @@
+package com.tissue.api.common.exception.type;
+
+import org.springframework.http.HttpStatus;
+
+import com.tissue.api.common.exception.TissueException;
+
+public class TooManyRequestsException extends TissueException {
+	public TooManyRequestsException(String message) {
+		super(message, HttpStatus.TOO_MANY_REQUESTS);
+	}
+}
@@ -1,12 +1,23 @@
 package com.tissue.api.email.config;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.mail.javamail.JavaMailSender;
 
 import com.tissue.api.email.domain.EmailClient;
+import com.tissue.api.email.domain.EmailDelivery;
+import com.tissue.api.email.infrastructure.ConcurrencyLimitedEmailClient;
 import com.tissue.api.email.infrastructure.GmailSmtpClient;
+import com.tissue.api.email.infrastructure.delivery.DirectEmailDelivery;
+import com.tissue.api.email.infrastructure.delivery.QueuedEmailDelivery;
+import com.tissue.api.email.infrastructure.repository.EmailDeadLetterRepository;
+import com.tissue.api.global.concurrency.ConcurrencyLimiter;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -15,9 +26,47 @@ public class EmailClientConfig {
 
 	private final JavaMailSender mailSender;
 
+	/**
+	 * virtual thread 모드(api.async.mode=virtual)에서는 SMTP 동시 연결 수를 smtpConcurrencyLimiter로 제한한다
+	 */
 	@Bean
-	public EmailClient emailClient() {
-		// return new DummyEmailClient();
-		return new GmailSmtpClient(mailSender);
+	public EmailClient emailClient(
+		@Qualifier("smtpConcurrencyLimiter") ObjectProvider<ConcurrencyLimiter> smtpConcurrencyLimiter
+	) {
+		// EmailClient client = new DummyEmailClient();
+		EmailClient client = new GmailSmtpClient(mailSender);
+
+		ConcurrencyLimiter limiter = smtpConcurrencyLimiter.getIfAvailable();
+		return limiter == null ? client : new ConcurrencyLimitedEmailClient(client, limiter);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "api.email.delivery.mode", havingValue = "direct", matchIfMissing = true)
+	public EmailDelivery directEmailDelivery(EmailClient emailClient) {
+		return new DirectEmailDelivery(emailClient);
+	}
+
+	@Bean(initMethod = "start", destroyMethod = "stop")
+	@ConditionalOnProperty(name = "api.email.delivery.mode", havingValue = "queued")
+	public EmailDelivery queuedEmailDelivery(
+		EmailClient emailClient,
+		EmailDeadLetterRepository deadLetterRepository,
+		@Value("${api.email.delivery.queue-capacity:10000}") int queueCapacity,
+		@Value("${api.email.delivery.digest-window:5000}") long digestWindowMillis,
+		@Value("${api.email.delivery.rate-per-second:10}") double ratePerSecond,
+		@Value("${api.email.delivery.max-attempts:5}") int maxAttempts,
+		@Value("${api.email.delivery.retry-backoff:1000}") long retryBackoffMillis,
+		MeterRegistry meterRegistry
+	) {
+		return new QueuedEmailDelivery(
+			emailClient,
+			deadLetterRepository,
+			queueCapacity,
+			digestWindowMillis,
+			ratePerSecond,
+			maxAttempts,
+			retryBackoffMillis,
+			meterRegistry
+		);
 	}
 }
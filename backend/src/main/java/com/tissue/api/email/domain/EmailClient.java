@@ -1,5 +1,24 @@
 package com.tissue.api.email.domain;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public interface EmailClient {
 	void send(String to, String subject, String body);
+
+	/**
+	 * 여러 메일을 전송하고, 전송에 실패한 메일들(전달받은 인스턴스 그대로)을 반환한다
+	 * - 구현체는 하나의 SMTP 연결로 전송하도록 재정의할 수 있다
+	 */
+	default List<EmailMessage> sendAll(List<EmailMessage> messages) {
+		List<EmailMessage> failed = new ArrayList<>();
+		for (EmailMessage message : messages) {
+			try {
+				send(message.to(), message.subject(), message.body());
+			} catch (RuntimeException e) {
+				failed.add(message);
+			}
+		}
+		return failed;
+	}
 }
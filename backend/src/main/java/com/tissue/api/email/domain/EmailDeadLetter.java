@@ -0,0 +1,52 @@
+package com.tissue.api.email.domain;
+
+import com.tissue.api.common.entity.BaseDateEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재시도 후에도 전송하지 못했거나, 큐가 가득 차서 받지 못한 메일
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmailDeadLetter extends BaseDateEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false)
+	private String receiver;
+
+	@Column(nullable = false)
+	private String subject;
+
+	@Lob
+	private String body;
+
+	@Column(nullable = false)
+	private int attempts;
+
+	private String reason;
+
+	private EmailDeadLetter(EmailMessage message, int attempts, String reason) {
+		this.receiver = message.to();
+		this.subject = message.subject();
+		this.body = message.body();
+		this.attempts = attempts;
+		this.reason = reason;
+	}
+
+	public static EmailDeadLetter of(EmailMessage message, int attempts, String reason) {
+		return new EmailDeadLetter(message, attempts, reason);
+	}
+}
@@ -0,0 +1,11 @@
+package com.tissue.api.email.domain;
+
+/**
+ * 알림 메일 전달 방식
+ * - api.email.delivery.mode=direct(default): 호출한 스레드에서 바로 EmailClient로 전송
+ * - api.email.delivery.mode=queued: 큐에 넣고, 수신자 별로 모아서(digest) 전송
+ */
+public interface EmailDelivery {
+
+	void deliver(EmailMessage message);
+}
@@ -0,0 +1,28 @@
+package com.tissue.api.email.domain;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public record EmailMessage(
+	String to,
+	String subject,
+	String body
+) {
+	private static final String DIGEST_SEPARATOR = "\n\n----------------------------------------\n\n";
+
+	/**
+	 * 같은 수신자에게 보낼 여러 메일을 하나의 메일로 합친다
+	 */
+	public static EmailMessage digest(String to, List<EmailMessage> messages) {
+		if (messages.size() == 1) {
+			return messages.get(0);
+		}
+
+		String subject = "%s (+%d)".formatted(messages.get(0).subject(), messages.size() - 1);
+		String body = messages.stream()
+			.map(message -> message.subject() + "\n\n" + message.body())
+			.collect(Collectors.joining(DIGEST_SEPARATOR));
+
+		return new EmailMessage(to, subject, body);
+	}
+}
@@ -0,0 +1,29 @@
+package com.tissue.api.email.infrastructure;
+
+import java.util.List;
+
+import com.tissue.api.email.domain.EmailClient;
+import com.tissue.api.email.domain.EmailMessage;
+import com.tissue.api.global.concurrency.ConcurrencyLimiter;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * SMTP 서버와 동시에 맺는 연결 수를 제한하는 EmailClient 데코레이터
+ */
+@RequiredArgsConstructor
+public class ConcurrencyLimitedEmailClient implements EmailClient {
+
+	private final EmailClient delegate;
+	private final ConcurrencyLimiter smtpConcurrencyLimiter;
+
+	@Override
+	public void send(String to, String subject, String body) {
+		smtpConcurrencyLimiter.run(() -> delegate.send(to, subject, body));
+	}
+
+	@Override
+	public List<EmailMessage> sendAll(List<EmailMessage> messages) {
+		return smtpConcurrencyLimiter.call(() -> delegate.sendAll(messages));
+	}
+}
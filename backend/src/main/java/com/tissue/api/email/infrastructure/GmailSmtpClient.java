@@ -1,11 +1,17 @@
 package com.tissue.api.email.infrastructure;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
 
 import com.tissue.api.email.domain.EmailClient;
+import com.tissue.api.email.domain.EmailMessage;
 
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
@@ -20,17 +26,55 @@ public class GmailSmtpClient implements EmailClient {
 	@Override
 	public void send(String to, String subject, String body) {
 		try {
-			MimeMessage message = mailSender.createMimeMessage();
-			MimeMessageHelper helper = new MimeMessageHelper(message, "utf-8");
-
-			helper.setTo(to);
-			helper.setSubject(subject);
-			helper.setFrom("your-email@gmail.com"); // 보내는 사람
-			helper.setText(body, false); // false = plain text
-
-			mailSender.send(message);
+			mailSender.send(createMessage(to, subject, body));
 		} catch (MessagingException e) {
 			throw new MailSendException("Failed to send email to: " + to, e);
 		}
 	}
+
+	/**
+	 * JavaMailSender.send(MimeMessage...)는 하나의 SMTP 연결로 모든 메일을 전송한다
+	 */
+	@Override
+	public List<EmailMessage> sendAll(List<EmailMessage> messages) {
+		List<EmailMessage> failed = new ArrayList<>();
+		Map<MimeMessage, EmailMessage> messageByMime = new IdentityHashMap<>();
+
+		for (EmailMessage message : messages) {
+			try {
+				messageByMime.put(createMessage(message.to(), message.subject(), message.body()), message);
+			} catch (MessagingException e) {
+				failed.add(message);
+			}
+		}
+
+		if (messageByMime.isEmpty()) {
+			return failed;
+		}
+
+		try {
+			mailSender.send(messageByMime.keySet().toArray(MimeMessage[]::new));
+		} catch (MailSendException e) {
+			if (e.getFailedMessages().isEmpty()) {
+				failed.addAll(messageByMime.values());
+			} else {
+				e.getFailedMessages().keySet().stream()
+					.map(messageByMime::get)
+					.forEach(failed::add);
+			}
+		}
+		return failed;
+	}
+
+	private MimeMessage createMessage(String to, String subject, String body) throws MessagingException {
+		MimeMessage message = mailSender.createMimeMessage();
+		MimeMessageHelper helper = new MimeMessageHelper(message, "utf-8");
+
+		helper.setTo(to);
+		helper.setSubject(subject);
+		helper.setFrom("your-email@gmail.com"); // 보내는 사람
+		helper.setText(body, false); // false = plain text
+
+		return message;
+	}
 }
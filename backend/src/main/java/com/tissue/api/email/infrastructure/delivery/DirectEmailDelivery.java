@@ -0,0 +1,18 @@
+package com.tissue.api.email.infrastructure.delivery;
+
+import com.tissue.api.email.domain.EmailClient;
+import com.tissue.api.email.domain.EmailDelivery;
+import com.tissue.api.email.domain.EmailMessage;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class DirectEmailDelivery implements EmailDelivery {
+
+	private final EmailClient emailClient;
+
+	@Override
+	public void deliver(EmailMessage message) {
+		emailClient.send(message.to(), message.subject(), message.body());
+	}
+}
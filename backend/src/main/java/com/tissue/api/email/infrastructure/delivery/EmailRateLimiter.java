@@ -0,0 +1,34 @@
+package com.tissue.api.email.infrastructure.delivery;
+
+/**
+ * 초당 permitsPerSecond 개의 토큰이 채워지는 토큰 버킷
+ * - 최대 burstMillis 분량까지 누적한다(flush 주기만큼 누적해야 flush 사이에 채워진 토큰을 버리지 않는다)
+ * - 블로킹하지 않고, 사용할 수 있는 만큼만 가져간다
+ */
+class EmailRateLimiter {
+
+	private final double permitsPerSecond;
+	private final double capacity;
+	private double tokens;
+	private long lastRefillNanos;
+
+	EmailRateLimiter(double permitsPerSecond, long burstMillis) {
+		this.permitsPerSecond = permitsPerSecond;
+		this.capacity = permitsPerSecond * Math.max(burstMillis, 1000) / 1000.0;
+		this.tokens = capacity;
+		this.lastRefillNanos = System.nanoTime();
+	}
+
+	synchronized int tryAcquire(int requested) {
+		refill();
+		int acquired = (int)Math.min(requested, Math.floor(tokens));
+		tokens -= acquired;
+		return acquired;
+	}
+
+	private void refill() {
+		long now = System.nanoTime();
+		tokens = Math.min(capacity, tokens + (now - lastRefillNanos) / 1_000_000_000.0 * permitsPerSecond);
+		lastRefillNanos = now;
+	}
+}
@@ -0,0 +1,216 @@
+package com.tissue.api.email.infrastructure.delivery;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.tissue.api.email.domain.EmailClient;
+import com.tissue.api.email.domain.EmailDeadLetter;
+import com.tissue.api.email.domain.EmailDelivery;
+import com.tissue.api.email.domain.EmailMessage;
+import com.tissue.api.email.infrastructure.repository.EmailDeadLetterRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 메일을 큐에 모아서 digest-window 마다 전송한다
+ * - digest: 한 window 안에서 같은 수신자에게 가는 메일들은 하나로 합친다
+ * - 연결 재사용: 한 번의 flush에서 보내는 메일들은 EmailClient.sendAll로 한 번에 전송한다
+ * - rate limit: 초당 rate-per-second 개(한 flush에서 최대 digest-window 분량)를 넘는 메일은 다음 flush로 미룬다
+ * - retry: 실패한 메일은 retry-backoff * 2^(시도 횟수 - 1) 이후에 다시 전송한다
+ * - 미룬 메일과 재시도할 메일도 같은 큐로 돌려보내므로 queue-capacity 제한을 받는다
+ * - dead letter: max-attempts 번 실패하거나 큐가 가득 찬 경우 EmailDeadLetter로 저장한다
+ */
+@Slf4j
+public class QueuedEmailDelivery implements EmailDelivery {
+
+	private final EmailClient emailClient;
+	private final EmailDeadLetterRepository deadLetterRepository;
+	private final EmailRateLimiter rateLimiter;
+	private final int maxAttempts;
+	private final long retryBackoffMillis;
+	private final long digestWindowMillis;
+
+	private final BlockingQueue<PendingEmail> queue;
+	private final ScheduledExecutorService worker = Executors.newSingleThreadScheduledExecutor(
+		runnable -> new Thread(runnable, "EmailDelivery")
+	);
+
+	private final Counter sentCounter;
+	private final Counter digestedCounter;
+	private final Counter retriedCounter;
+	private final Counter deadLetteredCounter;
+
+	public QueuedEmailDelivery(
+		EmailClient emailClient,
+		EmailDeadLetterRepository deadLetterRepository,
+		int queueCapacity,
+		long digestWindowMillis,
+		double ratePerSecond,
+		int maxAttempts,
+		long retryBackoffMillis,
+		MeterRegistry meterRegistry
+	) {
+		this.emailClient = emailClient;
+		this.deadLetterRepository = deadLetterRepository;
+		this.queue = new LinkedBlockingQueue<>(queueCapacity);
+		this.digestWindowMillis = digestWindowMillis;
+		this.rateLimiter = new EmailRateLimiter(ratePerSecond, digestWindowMillis);
+		this.maxAttempts = maxAttempts;
+		this.retryBackoffMillis = retryBackoffMillis;
+
+		Gauge.builder("email.delivery.queue.size", queue, BlockingQueue::size)
+			.description("Number of emails waiting for the next flush, retry or rate limit")
+			.register(meterRegistry);
+		this.sentCounter = Counter.builder("email.delivery.sent").register(meterRegistry);
+		this.digestedCounter = Counter.builder("email.delivery.digested")
+			.description("Number of emails merged into another email")
+			.register(meterRegistry);
+		this.retriedCounter = Counter.builder("email.delivery.retried").register(meterRegistry);
+		this.deadLetteredCounter = Counter.builder("email.delivery.dead-lettered").register(meterRegistry);
+	}
+
+	public void start() {
+		worker.scheduleWithFixedDelay(this::flushSafely, digestWindowMillis, digestWindowMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 종료 시에는 남아있는 메일을 한 번 더 전송 시도한다
+	 */
+	public void stop() {
+		worker.shutdown();
+		try {
+			worker.awaitTermination(digestWindowMillis, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		flushSafely();
+	}
+
+	@Override
+	public void deliver(EmailMessage message) {
+		enqueue(PendingEmail.first(message));
+	}
+
+	public synchronized void flush() {
+		long now = System.currentTimeMillis();
+
+		List<PendingEmail> drained = new ArrayList<>();
+		queue.drainTo(drained);
+
+		List<PendingEmail> outgoing = new ArrayList<>(digest(drained.stream().filter(PendingEmail::isFresh).toList()));
+		drained.stream()
+			.filter(pending -> !pending.isFresh())
+			.forEach(pending -> {
+				if (pending.nextAttemptAt() <= now) {
+					outgoing.add(pending);
+				} else {
+					enqueue(pending);
+				}
+			});
+		if (outgoing.isEmpty()) {
+			return;
+		}
+
+		int allowed = rateLimiter.tryAcquire(outgoing.size());
+		List<PendingEmail> sending = outgoing.subList(0, allowed);
+		outgoing.subList(allowed, outgoing.size())
+			.forEach(pending -> enqueue(new PendingEmail(pending.message(), pending.attempts(), now)));
+
+		Map<EmailMessage, PendingEmail> pendingByMessage = new IdentityHashMap<>();
+		sending.forEach(pending -> pendingByMessage.put(pending.message(), pending));
+
+		List<EmailMessage> failed = send(new ArrayList<>(pendingByMessage.keySet()));
+		sentCounter.increment(sending.size() - failed.size());
+
+		failed.stream()
+			.map(pendingByMessage::get)
+			.forEach(pending -> retryOrDeadLetter(pending, now));
+	}
+
+	/**
+	 * 새로 들어온 메일만 수신자 별로 합친다(이미 합쳐진 재시도 메일은 다시 합치지 않는다)
+	 */
+	private List<PendingEmail> digest(List<PendingEmail> fresh) {
+		Map<String, List<EmailMessage>> messagesByReceiver = new LinkedHashMap<>();
+		fresh.forEach(pending -> messagesByReceiver.computeIfAbsent(pending.message().to(), to -> new ArrayList<>())
+			.add(pending.message()));
+
+		digestedCounter.increment(fresh.size() - messagesByReceiver.size());
+
+		return messagesByReceiver.entrySet().stream()
+			.map(entry -> PendingEmail.first(EmailMessage.digest(entry.getKey(), entry.getValue())))
+			.toList();
+	}
+
+	private void enqueue(PendingEmail pending) {
+		if (!queue.offer(pending)) {
+			log.warn("Email delivery queue is full. receiver={}", pending.message().to());
+			deadLetter(pending.message(), pending.attempts(), "queue full");
+		}
+	}
+
+	private List<EmailMessage> send(List<EmailMessage> messages) {
+		try {
+			return emailClient.sendAll(messages);
+		} catch (RuntimeException e) {
+			log.warn("Failed to send emails. count={}, cause={}", messages.size(), e.getMessage());
+			return messages;
+		}
+	}
+
+	private void retryOrDeadLetter(PendingEmail pending, long now) {
+		int attempts = pending.attempts() + 1;
+		if (attempts >= maxAttempts) {
+			deadLetter(pending.message(), attempts, "max attempts exceeded");
+			return;
+		}
+
+		retriedCounter.increment();
+		enqueue(new PendingEmail(pending.message(), attempts, now + (retryBackoffMillis << (attempts - 1))));
+	}
+
+	private void deadLetter(EmailMessage message, int attempts, String reason) {
+		deadLetteredCounter.increment();
+		try {
+			deadLetterRepository.save(EmailDeadLetter.of(message, attempts, reason));
+		} catch (Exception e) {
+			log.error("Failed to save email dead letter. receiver={}, subject={}", message.to(), message.subject(), e);
+		}
+	}
+
+	private void flushSafely() {
+		try {
+			flush();
+		} catch (Exception e) {
+			log.error("Email delivery flush failed", e);
+		}
+	}
+
+	/**
+	 * @param nextAttemptAt 0이면 아직 digest 하지 않은 새 메일
+	 */
+	private record PendingEmail(
+		EmailMessage message,
+		int attempts,
+		long nextAttemptAt
+	) {
+		static PendingEmail first(EmailMessage message) {
+			return new PendingEmail(message, 0, 0);
+		}
+
+		boolean isFresh() {
+			return nextAttemptAt == 0;
+		}
+	}
+}
@@ -0,0 +1,8 @@
+package com.tissue.api.email.infrastructure.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.tissue.api.email.domain.EmailDeadLetter;
+
+public interface EmailDeadLetterRepository extends JpaRepository<EmailDeadLetter, Long> {
+}
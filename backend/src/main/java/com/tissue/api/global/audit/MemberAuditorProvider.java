@@ -4,23 +4,30 @@ import java.util.Optional;
 
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
-import com.tissue.api.security.session.SessionAttributes;
+import com.tissue.api.security.authentication.strategy.AuthenticationStrategy;
 
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 현재 요청의 로그인 멤버를 auditor로 사용한다
+ * - 인증 방식(session, token)에 관계없이 AuthenticationStrategy로 조회하므로 token 모드에서 세션을 만들지 않는다
+ * - 요청 스레드가 아닌 곳(비동기 이벤트 핸들러 등)에서는 empty
+ */
 @Component
 @RequiredArgsConstructor
 public class MemberAuditorProvider implements AuditorAware<Long> {
 
-	private final HttpSession session;
+	private final AuthenticationStrategy authenticationStrategy;
 
 	@Override
 	public Optional<Long> getCurrentAuditor() {
 
-		return Optional.ofNullable(
-			(Long)session.getAttribute(SessionAttributes.LOGIN_MEMBER_ID)
-		);
+		if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+			return Optional.empty();
+		}
+		return authenticationStrategy.findLoginMemberId(attributes.getRequest());
 	}
 }
@@ -0,0 +1,99 @@
+package com.tissue.api.global.concurrency;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * limited()로 감싼 작업이 커넥션을 얻을 때만 permit을 얻고, 커넥션을 반납(close)할 때 permit을 반환한다
+ * - permit은 커넥션을 잡고 있는 구간(트랜잭션 또는 리포지토리 호출)에만 잡히므로,
+ *   같은 작업 안에서 트랜잭션 밖의 SMTP, 네트워크 호출을 하는 동안에는 다른 작업이 DB에 접근할 수 있다
+ * - 요청 스레드 등 limited()로 감싸지 않은 작업의 커넥션은 제한하지 않는다
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+	private static final ThreadLocal<Boolean> LIMITED = new ThreadLocal<>();
+
+	private final ObjectProvider<ConcurrencyLimiter> limiter;
+
+	public ConcurrencyLimitedDataSource(DataSource targetDataSource, ObjectProvider<ConcurrencyLimiter> limiter) {
+		super(targetDataSource);
+		this.limiter = limiter;
+	}
+
+	public static Runnable limited(Runnable task) {
+		return () -> {
+			LIMITED.set(Boolean.TRUE);
+			try {
+				task.run();
+			} finally {
+				LIMITED.remove();
+			}
+		};
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		if (!Boolean.TRUE.equals(LIMITED.get())) {
+			return super.getConnection();
+		}
+
+		ConcurrencyLimiter connectionLimiter = limiter.getObject();
+		connectionLimiter.acquire();
+		try {
+			return releasingOnClose(super.getConnection(), connectionLimiter);
+		} catch (SQLException | RuntimeException e) {
+			connectionLimiter.release();
+			throw e;
+		}
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		if (!Boolean.TRUE.equals(LIMITED.get())) {
+			return super.getConnection(username, password);
+		}
+
+		ConcurrencyLimiter connectionLimiter = limiter.getObject();
+		connectionLimiter.acquire();
+		try {
+			return releasingOnClose(super.getConnection(username, password), connectionLimiter);
+		} catch (SQLException | RuntimeException e) {
+			connectionLimiter.release();
+			throw e;
+		}
+	}
+
+	private static Connection releasingOnClose(Connection connection, ConcurrencyLimiter connectionLimiter) {
+		AtomicBoolean released = new AtomicBoolean();
+		return (Connection)Proxy.newProxyInstance(
+			Connection.class.getClassLoader(),
+			new Class<?>[] {Connection.class},
+			(proxy, method, args) -> {
+				if ("equals".equals(method.getName())) {
+					return proxy == args[0];
+				}
+				if ("hashCode".equals(method.getName())) {
+					return System.identityHashCode(proxy);
+				}
+
+				try {
+					return method.invoke(connection, args);
+				} catch (InvocationTargetException e) {
+					throw e.getTargetException();
+				} finally {
+					if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+						connectionLimiter.release();
+					}
+				}
+			}
+		);
+	}
+}
@@ -0,0 +1,65 @@
+package com.tissue.api.global.concurrency;
+
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+
+/**
+ * 하위 자원(DB 커넥션 풀, SMTP 서버 등)에 동시에 접근하는 작업 수를 permit 수로 제한한다
+ * - 스레드 수로 동시성을 제한하지 않는 virtual thread 실행 모드에서 사용한다
+ * - permit을 기다리는 동안 블로킹되므로, 요청 스레드가 아닌 작업 스레드에서 호출해야 한다
+ */
+public class ConcurrencyLimiter {
+
+	@Getter
+	private final String name;
+	private final Semaphore semaphore;
+
+	public ConcurrencyLimiter(String name, int permits, MeterRegistry meterRegistry) {
+		this.name = name;
+		this.semaphore = new Semaphore(permits, true);
+
+		Gauge.builder("concurrency.limiter.available", semaphore, Semaphore::availablePermits)
+			.tag("name", name)
+			.register(meterRegistry);
+		Gauge.builder("concurrency.limiter.waiting", semaphore, Semaphore::getQueueLength)
+			.tag("name", name)
+			.register(meterRegistry);
+	}
+
+	public void run(Runnable task) {
+		call(() -> {
+			task.run();
+			return null;
+		});
+	}
+
+	public <T> T call(Supplier<T> task) {
+		acquire();
+		try {
+			return task.get();
+		} finally {
+			release();
+		}
+	}
+
+	/**
+	 * 작업 단위가 아닌 자원의 사용 구간(예: 커넥션을 얻고 반납할 때까지)으로 제한할 때 사용한다
+	 * - acquire 이후에는 반드시 release를 호출해야 한다
+	 */
+	public void acquire() {
+		try {
+			semaphore.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for permit: " + name, e);
+		}
+	}
+
+	public void release() {
+		semaphore.release();
+	}
+}
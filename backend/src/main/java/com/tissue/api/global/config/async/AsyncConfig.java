@@ -3,12 +3,31 @@ package com.tissue.api.global.config.async;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
 
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import com.tissue.api.global.concurrency.ConcurrencyLimitedDataSource;
+import com.tissue.api.global.concurrency.ConcurrencyLimiter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * api.async.mode
+ *  - platform(default): 고정 크기의 스레드 풀, 큐가 가득 차면 호출한 스레드에서 실행(CallerRunsPolicy)
+ *  - virtual: 작업마다 virtual thread를 생성하고, 작업이 DB 커넥션을 잡고 있는 동안의 동시성은 databaseConcurrencyLimiter로 제한
+ *    (Java 21 이상에서 실행해야 한다. ./gradlew bootRun -PjavaVersion=21)
+ */
 @EnableAsync
 @Configuration
 public class AsyncConfig implements AsyncConfigurer {
@@ -18,6 +37,7 @@ public class AsyncConfig implements AsyncConfigurer {
 	 *  - 필요한 경우 Epic의 StoryPoint 업데이트를 위한 이벤트 핸들러에 @Async를 적용하자(비동기로 구현)
 	 */
 	@Bean(name = "epicTaskExecutor")
+	@ConditionalOnProperty(name = "api.async.mode", havingValue = "platform", matchIfMissing = true)
 	public Executor epicTaskExecutor() {
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
@@ -34,6 +54,7 @@ public class AsyncConfig implements AsyncConfigurer {
 	}
 
 	@Bean(name = "notificationTaskExecutor")
+	@ConditionalOnProperty(name = "api.async.mode", havingValue = "platform", matchIfMissing = true)
 	public Executor notificationTaskExecutor() {
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 		executor.setCorePoolSize(3);
@@ -44,4 +65,64 @@ public class AsyncConfig implements AsyncConfigurer {
 		executor.initialize();
 		return executor;
 	}
+
+	/**
+	 * virtual thread는 개수 제한 없이 생성되므로, 커넥션 풀 크기 이상으로 DB에 몰리지 않도록 permit으로 제한한다
+	 * - permit은 작업 전체가 아니라 커넥션을 얻어서 반납할 때까지만 잡는다(ConcurrencyLimitedDataSource)
+	 */
+	@Bean
+	@ConditionalOnProperty(name = "api.async.mode", havingValue = "virtual")
+	public ConcurrencyLimiter databaseConcurrencyLimiter(
+		@Value("${api.async.virtual.database-permits:10}") int permits,
+		MeterRegistry meterRegistry
+	) {
+		return new ConcurrencyLimiter("database", permits, meterRegistry);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "api.async.mode", havingValue = "virtual")
+	public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(
+		@Qualifier("databaseConcurrencyLimiter") ObjectProvider<ConcurrencyLimiter> databaseConcurrencyLimiter
+	) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitedDataSource)) {
+					return new ConcurrencyLimitedDataSource(dataSource, databaseConcurrencyLimiter);
+				}
+				return bean;
+			}
+		};
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "api.async.mode", havingValue = "virtual")
+	public ConcurrencyLimiter smtpConcurrencyLimiter(
+		@Value("${api.async.virtual.smtp-permits:5}") int permits,
+		MeterRegistry meterRegistry
+	) {
+		return new ConcurrencyLimiter("smtp", permits, meterRegistry);
+	}
+
+	@Bean(name = "epicTaskExecutor")
+	@ConditionalOnProperty(name = "api.async.mode", havingValue = "virtual")
+	public Executor virtualEpicTaskExecutor() {
+		return createVirtualThreadExecutor("EpicEvent-");
+	}
+
+	@Bean(name = "notificationTaskExecutor")
+	@ConditionalOnProperty(name = "api.async.mode", havingValue = "virtual")
+	public Executor virtualNotificationTaskExecutor() {
+		return createVirtualThreadExecutor("Notify-");
+	}
+
+	/**
+	 * 작업 제출은 블로킹되지 않고(요청 스레드는 바로 반환), permit 대기는 virtual thread 안에서 커넥션을 얻을 때 한다
+	 */
+	private Executor createVirtualThreadExecutor(String threadNamePrefix) {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+		executor.setVirtualThreads(true);
+		executor.setTaskDecorator(ConcurrencyLimitedDataSource::limited);
+		return executor;
+	}
 }
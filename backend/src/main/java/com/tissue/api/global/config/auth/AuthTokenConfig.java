@@ -0,0 +1,113 @@
+package com.tissue.api.global.config.auth;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.tissue.api.global.redis.RedisBroadcastChannel;
+import com.tissue.api.security.authentication.strategy.AuthenticationStrategy;
+import com.tissue.api.security.authentication.strategy.TokenAuthenticationStrategy;
+import com.tissue.api.security.authentication.token.AuthTokenCodec;
+import com.tissue.api.security.authentication.token.RedisTokenRevocationStore;
+import com.tissue.api.security.authentication.token.TokenRevocationList;
+
+/**
+ * api.auth.mode=token 일 때의 토큰 인증 구성(session 모드는 SessionAuthenticationStrategy)
+ * - 토큰 검증은 노드 로컬에서 끝나고, 로그아웃 폐기 목록만 Redis pub/sub으로 다른 노드에 전파한다
+ * - 폐기 목록은 Redis에도 저장해서 재시작할 때 복원한다
+ *   (api.auth.token.broadcast-revocation=false 이면 Redis를 사용하지 않고 노드 로컬 폐기 목록만 사용한다)
+ */
+@Configuration
+@ConditionalOnProperty(name = "api.auth.mode", havingValue = "token")
+public class AuthTokenConfig {
+
+	private static final String REVOCATION_CHANNEL = "auth-token:revoked";
+	private static final String BROADCAST_CONDITION = "${api.auth.token.broadcast-revocation:true}";
+
+	/**
+	 * chain 인터셉터는 서블릿 세션으로 로그인 멤버를 확인하므로 token 모드와 함께 쓰면 모든 @LoginRequired 요청이 401이 된다
+	 * - 잘못된 조합은 시작 시점에 실패시킨다
+	 */
+	public AuthTokenConfig(@Value("${api.security.interceptor.mode:combined}") String interceptorMode) {
+		if (!"combined".equals(interceptorMode)) {
+			throw new IllegalStateException(
+				"api.auth.mode=token requires api.security.interceptor.mode=combined. Current: " + interceptorMode);
+		}
+	}
+
+	@Bean
+	public AuthTokenCodec authTokenCodec(@Value("${api.auth.token.secret}") String secret) {
+		return new AuthTokenCodec(secret);
+	}
+
+	@Bean
+	@ConditionalOnExpression(BROADCAST_CONDITION)
+	public RedisTokenRevocationStore redisTokenRevocationStore(StringRedisTemplate stringRedisTemplate) {
+		return new RedisTokenRevocationStore(stringRedisTemplate);
+	}
+
+	@Bean
+	public TokenRevocationList tokenRevocationList(
+		@Value("${api.auth.token.revocation-list.max-per-member:100}") int maximumPerMember,
+		ObjectProvider<RedisTokenRevocationStore> redisTokenRevocationStore
+	) {
+		RedisTokenRevocationStore store = redisTokenRevocationStore.getIfAvailable();
+		if (store == null) {
+			return new TokenRevocationList(maximumPerMember);
+		}
+
+		TokenRevocationList revocationList = new TokenRevocationList(maximumPerMember, store::save);
+		store.restoreInto(revocationList);
+		return revocationList;
+	}
+
+	@Bean
+	@ConditionalOnExpression(BROADCAST_CONDITION)
+	public RedisBroadcastChannel tokenRevocationChannel(StringRedisTemplate stringRedisTemplate) {
+		return new RedisBroadcastChannel(REVOCATION_CHANNEL, stringRedisTemplate);
+	}
+
+	@Bean
+	@ConditionalOnExpression(BROADCAST_CONDITION)
+	public RedisMessageListenerContainer tokenRevocationListenerContainer(
+		RedisConnectionFactory connectionFactory,
+		RedisBroadcastChannel tokenRevocationChannel
+	) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.addMessageListener(tokenRevocationChannel, new ChannelTopic(tokenRevocationChannel.getChannel()));
+		return container;
+	}
+
+	@Bean
+	public AuthenticationStrategy tokenAuthenticationStrategy(
+		AuthTokenCodec authTokenCodec,
+		TokenRevocationList tokenRevocationList,
+		@Value("${api.auth.token.ttl:3600}") long ttlSeconds,
+		@Qualifier("tokenRevocationChannel") ObjectProvider<RedisBroadcastChannel> tokenRevocationChannel
+	) {
+		RedisBroadcastChannel channel = tokenRevocationChannel.getIfAvailable();
+
+		TokenAuthenticationStrategy strategy = new TokenAuthenticationStrategy(
+			authTokenCodec,
+			tokenRevocationList,
+			Duration.ofSeconds(ttlSeconds),
+			channel != null ? channel::publish : payload -> {
+			}
+		);
+		if (channel != null) {
+			channel.subscribe(strategy::onRevocationBroadcast);
+		}
+		return strategy;
+	}
+}
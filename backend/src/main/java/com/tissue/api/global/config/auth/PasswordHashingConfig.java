@@ -0,0 +1,37 @@
+package com.tissue.api.global.config.auth;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.tissue.api.security.password.PasswordHashingExecutor;
+import com.tissue.api.security.password.VerifiedPasswordCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * api.security.password-hashing.threads가 0이면 사용 가능한 CPU 코어 수만큼 스레드를 만든다
+ */
+@Configuration
+public class PasswordHashingConfig {
+
+	@Bean(destroyMethod = "shutdown")
+	public PasswordHashingExecutor passwordHashingExecutor(
+		@Value("${api.security.password-hashing.threads:0}") int threads,
+		@Value("${api.security.password-hashing.queue-capacity:64}") int queueCapacity,
+		@Value("${api.security.password-hashing.timeout:2000}") long timeoutMillis,
+		MeterRegistry meterRegistry
+	) {
+		int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+		return new PasswordHashingExecutor(poolSize, queueCapacity, timeoutMillis, meterRegistry);
+	}
+
+	@Bean
+	public VerifiedPasswordCache verifiedPasswordCache(
+		@Value("${api.security.verified-password-cache.size:10000}") int cacheSize,
+		@Value("${api.security.verified-password-cache.duration:300}") int expirationSeconds,
+		MeterRegistry meterRegistry
+	) {
+		return new VerifiedPasswordCache(cacheSize, expirationSeconds, meterRegistry);
+	}
+}
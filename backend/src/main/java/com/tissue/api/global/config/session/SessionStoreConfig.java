@@ -0,0 +1,114 @@
+package com.tissue.api.global.config.session;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.tissue.api.global.redis.RedisBroadcastChannel;
+import com.tissue.api.security.session.filter.DistributedSessionFilter;
+import com.tissue.api.security.session.filter.DistributedSessionProperties;
+import com.tissue.api.security.session.store.InMemorySessionStore;
+import com.tissue.api.security.session.store.NearCachedSessionStore;
+import com.tissue.api.security.session.store.RedisSessionStore;
+import com.tissue.api.security.session.store.SessionSnapshotCodec;
+import com.tissue.api.security.session.store.SessionStore;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 세션 저장 방식 선택(api.session.store)
+ * - servlet: 서블릿 컨테이너의 HttpSession(기본값, 노드 고정 필요)
+ * - redis: Redis + 노드 별 near-cache(여러 인스턴스에서 세션 공유)
+ * - memory: 단일 노드용 in-memory 저장소(Redis 없이 같은 경로를 확인할 때 사용)
+ */
+@Configuration
+public class SessionStoreConfig {
+
+	private static final String STORE_PROPERTY = "api.session.store";
+	private static final String INVALIDATION_CHANNEL = "session:invalidated";
+
+	@Bean
+	@ConditionalOnProperty(name = STORE_PROPERTY, havingValue = "redis")
+	public RedisTemplate<String, byte[]> sessionRedisTemplate(RedisConnectionFactory connectionFactory) {
+		RedisTemplate<String, byte[]> redisTemplate = new RedisTemplate<>();
+		redisTemplate.setConnectionFactory(connectionFactory);
+		redisTemplate.setKeySerializer(RedisSerializer.string());
+		redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+		return redisTemplate;
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = STORE_PROPERTY, havingValue = "redis")
+	public RedisBroadcastChannel sessionInvalidationChannel(StringRedisTemplate stringRedisTemplate) {
+		return new RedisBroadcastChannel(INVALIDATION_CHANNEL, stringRedisTemplate);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = STORE_PROPERTY, havingValue = "redis")
+	public RedisMessageListenerContainer sessionInvalidationListenerContainer(
+		RedisConnectionFactory connectionFactory,
+		RedisBroadcastChannel sessionInvalidationChannel
+	) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.addMessageListener(
+			sessionInvalidationChannel,
+			new ChannelTopic(sessionInvalidationChannel.getChannel())
+		);
+		return container;
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = STORE_PROPERTY, havingValue = "redis")
+	public SessionStore redisSessionStore(
+		RedisTemplate<String, byte[]> sessionRedisTemplate,
+		RedisBroadcastChannel sessionInvalidationChannel,
+		@Value("${api.session.near-cache.size:10000}") int nearCacheSize,
+		@Value("${api.session.near-cache.duration:5}") int nearCacheSeconds,
+		MeterRegistry meterRegistry
+	) {
+		NearCachedSessionStore sessionStore = new NearCachedSessionStore(
+			new RedisSessionStore(sessionRedisTemplate, new SessionSnapshotCodec()),
+			sessionInvalidationChannel::publish,
+			nearCacheSize,
+			nearCacheSeconds,
+			meterRegistry
+		);
+		sessionInvalidationChannel.subscribe(sessionStore::evictLocal);
+		return sessionStore;
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = STORE_PROPERTY, havingValue = "memory")
+	public SessionStore inMemorySessionStore() {
+		return new InMemorySessionStore(new SessionSnapshotCodec());
+	}
+
+	@Bean
+	@ConditionalOnExpression("'${" + STORE_PROPERTY + ":servlet}' != 'servlet'")
+	public FilterRegistrationBean<DistributedSessionFilter> distributedSessionFilter(
+		SessionStore sessionStore,
+		@Value("${api.session.cookie-name:SESSION}") String cookieName,
+		@Value("${api.session.max-inactive-interval:1800}") int maxInactiveIntervalSeconds,
+		@Value("${api.session.touch-interval:60}") int touchIntervalSeconds
+	) {
+		DistributedSessionProperties properties =
+			new DistributedSessionProperties(cookieName, maxInactiveIntervalSeconds, touchIntervalSeconds);
+
+		FilterRegistrationBean<DistributedSessionFilter> registration =
+			new FilterRegistrationBean<>(new DistributedSessionFilter(sessionStore, properties));
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 50);
+		registration.addUrlPatterns("/*");
+		return registration;
+	}
+}
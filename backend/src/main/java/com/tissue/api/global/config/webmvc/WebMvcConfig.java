@@ -2,6 +2,7 @@ package com.tissue.api.global.config.webmvc;
 
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -11,6 +12,7 @@ import com.tissue.api.security.authentication.interceptor.AuthenticationIntercep
 import com.tissue.api.security.authentication.resolver.LoginMemberArgumentResolver;
 import com.tissue.api.security.authorization.interceptor.RoleRequiredInterceptor;
 import com.tissue.api.security.authorization.interceptor.SelfOrRoleRequiredInterceptor;
+import com.tissue.api.security.interceptor.HandlerSecurityInterceptor;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,10 +23,24 @@ public class WebMvcConfig implements WebMvcConfigurer {
 	private final RoleRequiredInterceptor roleRequiredInterceptor;
 	private final SelfOrRoleRequiredInterceptor selfOrRoleRequiredInterceptor;
 	private final AuthenticationInterceptor authenticationInterceptor;
+	private final HandlerSecurityInterceptor handlerSecurityInterceptor;
 	private final LoginMemberArgumentResolver loginMemberArgumentResolver;
 
+	/**
+	 * combined: 미리 계산한 descriptor로 한 번에 검사(기본값)
+	 * chain: 애노테이션 별 인터셉터를 순서대로 실행(세션으로 로그인 멤버를 확인하므로 api.auth.mode=session 에서만 사용)
+	 */
+	@Value("${api.security.interceptor.mode:combined}")
+	private String interceptorMode;
+
 	@Override
 	public void addInterceptors(InterceptorRegistry registry) {
+		if ("combined".equals(interceptorMode)) {
+			registry.addInterceptor(handlerSecurityInterceptor)
+				.order(1);
+			return;
+		}
+
 		registry.addInterceptor(authenticationInterceptor)
 			.order(1);
 		registry.addInterceptor(roleRequiredInterceptor)
@@ -0,0 +1,52 @@
+package com.tissue.api.global.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 노드 간 로컬 캐시 무효화 등을 위한 Redis pub/sub 채널
+ * - 메시지: {nodeId}:{payload}, 자신이 보낸 메시지는 무시한다
+ * - RedisMessageListenerContainer에 getChannel() 토픽으로 등록해서 사용한다
+ */
+public class RedisBroadcastChannel implements MessageListener {
+
+	private final String nodeId = UUID.randomUUID().toString();
+	private final String channel;
+	private final StringRedisTemplate redisTemplate;
+	private Consumer<String> subscriber = payload -> {
+	};
+
+	public RedisBroadcastChannel(String channel, StringRedisTemplate redisTemplate) {
+		this.channel = channel;
+		this.redisTemplate = redisTemplate;
+	}
+
+	public String getChannel() {
+		return channel;
+	}
+
+	public void subscribe(Consumer<String> subscriber) {
+		this.subscriber = subscriber;
+	}
+
+	public void publish(String payload) {
+		redisTemplate.convertAndSend(channel, nodeId + ":" + payload);
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		int separator = body.indexOf(':');
+
+		if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+			return;
+		}
+
+		subscriber.accept(body.substring(separator + 1));
+	}
+}
@@ -12,6 +12,7 @@ import com.tissue.api.invitation.domain.enums.InvitationStatus;
 import com.tissue.api.invitation.domain.service.InvitationValidator;
 import com.tissue.api.invitation.infrastructure.repository.InvitationRepository;
 import com.tissue.api.invitation.presentation.dto.response.InvitationResponse;
+import com.tissue.api.workspace.application.service.command.WorkspaceSnapshotCache;
 import com.tissue.api.workspace.domain.event.MemberJoinedWorkspaceEvent;
 import com.tissue.api.workspacemember.domain.model.WorkspaceMember;
 import com.tissue.api.workspacemember.infrastructure.repository.WorkspaceMemberRepository;
@@ -26,6 +27,7 @@ public class InvitationCommandService {
 	private final InvitationRepository invitationRepository;
 	private final WorkspaceMemberRepository workspaceMemberRepository;
 	private final InvitationValidator invitationValidator;
+	private final WorkspaceSnapshotCache workspaceSnapshotCache;
 	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
@@ -42,6 +44,7 @@ public class InvitationCommandService {
 		);
 
 		workspaceMemberRepository.save(workspaceMember);
+		workspaceSnapshotCache.evict(invitation.getWorkspaceCode());
 
 		eventPublisher.publishEvent(
 			MemberJoinedWorkspaceEvent.createEvent(workspaceMember)
@@ -1,10 +1,16 @@
 package com.tissue.api.invitation.application.service.query;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.tissue.api.common.dto.Cursor;
+import com.tissue.api.common.dto.CursorRequest;
+import com.tissue.api.common.dto.CursorResponse;
+import com.tissue.api.invitation.domain.model.Invitation;
 import com.tissue.api.invitation.infrastructure.repository.InvitationQueryRepository;
 import com.tissue.api.invitation.presentation.controller.query.InvitationSearchCondition;
 import com.tissue.api.invitation.presentation.dto.response.InvitationDetail;
@@ -29,4 +35,34 @@ public class InvitationQueryService {
 			pageable
 		).map(InvitationDetail::from);
 	}
+
+	/**
+	 * 커서 기반 페이징(createdDate, id 역순)
+	 */
+	@Transactional(readOnly = true)
+	public CursorResponse<InvitationDetail> getInvitations(
+		Long memberId,
+		InvitationSearchCondition searchCondition,
+		CursorRequest cursorRequest
+	) {
+		List<Invitation> invitations = invitationQueryRepository.findSliceByMemberIdAndStatusIn(
+			memberId,
+			searchCondition.statuses(),
+			cursorRequest.cursorCreatedDate(),
+			cursorRequest.cursorId(),
+			cursorRequest.fetchLimit()
+		);
+
+		Long totalElements = cursorRequest.withCount()
+			? invitationQueryRepository.countByMemberIdAndStatusIn(memberId, searchCondition.statuses())
+			: null;
+
+		return CursorResponse.of(
+			invitations,
+			cursorRequest,
+			invitation -> new Cursor(invitation.getCreatedDate(), invitation.getId()),
+			InvitationDetail::from,
+			totalElements
+		);
+	}
 }
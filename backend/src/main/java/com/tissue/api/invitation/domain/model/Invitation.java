@@ -13,8 +13,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,6 +24,11 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
+@Table(
+	indexes = {
+		@Index(name = "IDX_INVITATION_MEMBER_CREATED", columnList = "MEMBER_ID, createdDate, INVITATION_ID")
+	}
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Invitation extends BaseEntity {
 
@@ -1,7 +1,9 @@
 package com.tissue.api.invitation.infrastructure.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -21,4 +23,24 @@ public interface InvitationQueryRepository extends JpaRepository<Invitation, Lon
 		@Param("statuses") List<InvitationStatus> statuses,
 		Pageable pageable
 	);
+
+	/**
+	 * 커서 기반 페이징: (createdDate, id)가 커서보다 작은 행부터 limit 만큼 조회한다
+	 */
+	@Query("SELECT i FROM Invitation i "
+		+ "WHERE i.member.id = :memberId "
+		+ "AND i.status IN :statuses "
+		+ "AND (:cursorCreatedDate IS NULL "
+		+ "     OR i.createdDate < :cursorCreatedDate "
+		+ "     OR (i.createdDate = :cursorCreatedDate AND i.id < :cursorId)) "
+		+ "ORDER BY i.createdDate DESC, i.id DESC")
+	List<Invitation> findSliceByMemberIdAndStatusIn(
+		@Param("memberId") Long memberId,
+		@Param("statuses") List<InvitationStatus> statuses,
+		@Param("cursorCreatedDate") LocalDateTime cursorCreatedDate,
+		@Param("cursorId") Long cursorId,
+		Limit limit
+	);
+
+	long countByMemberIdAndStatusIn(Long memberId, List<InvitationStatus> statuses);
 }
@@ -12,6 +12,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.tissue.api.common.dto.ApiResponse;
+import com.tissue.api.common.dto.CursorRequest;
+import com.tissue.api.common.dto.CursorResponse;
 import com.tissue.api.common.dto.PageResponse;
 import com.tissue.api.invitation.presentation.controller.query.InvitationSearchCondition;
 import com.tissue.api.invitation.presentation.dto.response.InvitationDetail;
@@ -48,6 +50,24 @@ public class InvitationController {
 		return ApiResponse.ok("Found invitations", PageResponse.of(page));
 	}
 
+	/**
+	 * cursor 파라미터가 있으면(첫 페이지는 빈 값) 커서 기반으로 조회한다
+	 */
+	@LoginRequired
+	@GetMapping(params = "cursor")
+	public ApiResponse<CursorResponse<InvitationDetail>> getMyInvitationsByCursor(
+		@ResolveLoginMember Long loginMemberId,
+		InvitationSearchCondition searchCondition,
+		CursorRequest cursorRequest
+	) {
+		CursorResponse<InvitationDetail> response = invitationQueryService.getInvitations(
+			loginMemberId,
+			searchCondition,
+			cursorRequest
+		);
+		return ApiResponse.ok("Found invitations", response);
+	}
+
 	@LoginRequired
 	@PostMapping("/{invitationId}/accept")
 	public ApiResponse<InvitationResponse> acceptInvitation(
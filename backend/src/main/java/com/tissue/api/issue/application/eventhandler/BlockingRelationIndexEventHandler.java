@@ -0,0 +1,65 @@
+package com.tissue.api.issue.application.eventhandler;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.tissue.api.issue.domain.event.IssueRelationCreatedEvent;
+import com.tissue.api.issue.domain.event.IssueRelationRemovedEvent;
+import com.tissue.api.issue.domain.model.enums.IssueRelationType;
+import com.tissue.api.issue.domain.service.validator.index.BlockingRelationIndex;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이슈 관계 변경을 BLOCKS 관계 인덱스에 반영하는 이벤트 핸들러
+ * - 생성: 워크스페이스 잠금을 잡은 채로 커밋 직전에 간선을 추가한다
+ *   (커밋 후에 추가하면 잠금을 이어받은 다음 요청이 간선 없이 검사할 수 있다)
+ *   커밋되지 않으면 워크스페이스 인덱스를 버리고 다음 접근 시 DB에서 다시 적재한다
+ * - 제거: 커밋 후에 반영한다(그 전까지 남아 있는 간선은 순환을 더 엄격하게 판단할 뿐이다)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "api.issue.circular-dependency.strategy", havingValue = "index")
+@RequiredArgsConstructor
+public class BlockingRelationIndexEventHandler {
+
+	private final BlockingRelationIndex blockingRelationIndex;
+
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+	public void handleRelationCreated(IssueRelationCreatedEvent event) {
+		if (!event.isBlockingRelation()) {
+			return;
+		}
+
+		// 항상 blocking 이슈 -> blocked 이슈 방향으로 저장
+		boolean isBlocks = event.getRelationType() == IssueRelationType.BLOCKS;
+		Long blockingIssueId = isBlocks ? event.getSourceIssueId() : event.getTargetIssueId();
+		Long blockedIssueId = isBlocks ? event.getTargetIssueId() : event.getSourceIssueId();
+
+		blockingRelationIndex.addBlockingEdge(event.getWorkspaceCode(), blockingIssueId, blockedIssueId);
+		evictIfNotCommitted(event.getWorkspaceCode());
+		log.debug("Blocking edge added to index: {} -> {}", event.getSourceIssueKey(), event.getTargetIssueKey());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleRelationRemoved(IssueRelationRemovedEvent event) {
+		blockingRelationIndex.removeEdges(event.getWorkspaceCode(), event.getSourceIssueId(), event.getTargetIssueId());
+		log.debug("Edges removed from index: {} <-> {}", event.getSourceIssueKey(), event.getTargetIssueKey());
+	}
+
+	private void evictIfNotCommitted(String workspaceCode) {
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status != STATUS_COMMITTED) {
+					blockingRelationIndex.evict(workspaceCode);
+				}
+			}
+		});
+	}
+}
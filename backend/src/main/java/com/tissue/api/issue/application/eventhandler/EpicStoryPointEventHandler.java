@@ -1,25 +1,26 @@
 package com.tissue.api.issue.application.eventhandler;
 
-import java.util.Objects;
-
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import com.tissue.api.issue.application.service.command.rollup.EpicStoryPointRollup;
 import com.tissue.api.issue.domain.model.Issue;
+import com.tissue.api.issue.domain.model.enums.IssueStatus;
 import com.tissue.api.issue.domain.model.enums.IssueType;
 import com.tissue.api.issue.domain.event.IssueParentAssignedEvent;
 import com.tissue.api.issue.domain.event.IssueParentRemovedEvent;
 import com.tissue.api.issue.domain.event.IssueStatusChangedEvent;
 import com.tissue.api.issue.domain.event.IssueUpdatedEvent;
+import com.tissue.api.issue.domain.event.IssuesStatusChangedEvent;
+import com.tissue.api.issue.domain.event.IssuesStatusChangedEvent.IssueStatusChange;
 import com.tissue.api.issue.infrastructure.repository.IssueRepository;
-import com.tissue.api.issue.domain.model.types.Epic;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Epic 이슈의 스토리 포인트를 자식 이슈들의 스토리 포인트 합계로 자동 계산하는 이벤트 핸들러
+ * - 재계산 시점과 병합(coalescing)은 EpicStoryPointRollup 구현체가 결정한다(api.issue.epic-rollup.mode)
  */
 @Slf4j
 @Component
@@ -27,6 +28,7 @@ import lombok.extern.slf4j.Slf4j;
 public class EpicStoryPointEventHandler {
 
 	private final IssueRepository issueRepository;
+	private final EpicStoryPointRollup epicStoryPointRollup;
 
 	/**
 	 * 이슈 내용 업데이트 이벤트를 처리합니다.
@@ -49,7 +51,7 @@ public class EpicStoryPointEventHandler {
 			.filter(issue -> issue.getParentIssue().getType() == IssueType.EPIC)
 			.map(issue -> issue.getParentIssue().getId())
 			.ifPresent(epicId -> {
-				updateEpicStoryPoint(epicId);
+				epicStoryPointRollup.requestRecalculation(epicId);
 				log.debug("Parent issue(EPIC) story point updated: {}", event.getIssueKey());
 			});
 	}
@@ -68,14 +70,14 @@ public class EpicStoryPointEventHandler {
 
 		// 새 부모가 Epic인 경우 업데이트
 		if (event.isNewParentEpic()) {
-			updateEpicStoryPoint(event.getParentIssueId());
+			epicStoryPointRollup.requestRecalculation(event.getParentIssueId());
 			log.debug("자식 이슈 할당 후 Epic 스토리 포인트 업데이트: parentEpic={}, childIssue={}",
 				event.getParentIssueKey(), event.getIssueKey());
 		}
 
 		// 이전 부모가 Epic인 경우 업데이트
 		if (event.wasOldParentEpic()) {
-			updateEpicStoryPoint(event.getOldParentIssueId());
+			epicStoryPointRollup.requestRecalculation(event.getOldParentIssueId());
 			log.debug("자식 이슈 재할당 후 이전 부모 Epic 스토리 포인트 업데이트: oldParentEpic={}, childIssue={}",
 				event.getOldParentIssueKey(), event.getIssueKey());
 		}
@@ -95,7 +97,7 @@ public class EpicStoryPointEventHandler {
 
 		// 제거된 부모가 Epic인 경우 업데이트
 		if (event.wasRemovedParentEpic()) {
-			updateEpicStoryPoint(event.getRemovedParentIssueId());
+			epicStoryPointRollup.requestRecalculation(event.getRemovedParentIssueId());
 			log.debug("자식 이슈 제거 후 Epic 스토리 포인트 업데이트: epicIssue={}, childIssue={}",
 				event.getRemovedParentIssueKey(), event.getIssueKey());
 		}
@@ -114,33 +116,35 @@ public class EpicStoryPointEventHandler {
 			return;
 		}
 
-		// CLOSED 상태로 변경된 경우에만 처리 (Epic 계산 메서드에서 CLOSED 이슈는 제외됨)
-		if (event.isClosedNow()) {
-			updateEpicStoryPoint(event.getParentIssueId());
+		if (event.getParentIssueType() != IssueType.EPIC) {
+			return;
+		}
+
+		// CLOSED 상태로 변경되거나 CLOSED 상태에서 벗어난 경우에만 처리 (Epic 계산에서 CLOSED 이슈는 제외됨)
+		if (event.isClosedNow() || event.getOldStatus() == IssueStatus.CLOSED) {
+			epicStoryPointRollup.requestRecalculation(event.getParentIssueId());
 			log.debug("자식 이슈 상태 변경(CLOSED) 후 Epic 스토리 포인트 업데이트: epicIssue={}, childIssue={}",
 				event.getParentIssueKey(), event.getIssueKey());
 		}
 	}
 
 	/**
-	 * Epic 이슈의 스토리 포인트를 자식 이슈들의 합계로 업데이트합니다.
+	 * 이슈 상태 일괄 변경 이벤트를 처리합니다.
+	 * 같은 Epic의 자식 이슈가 여러 개 변경되어도 Epic마다 한 번만 재계산을 요청합니다.
 	 */
-	@Transactional
-	public void updateEpicStoryPoint(Long epicId) {
-		issueRepository.findById(epicId)
-			.filter(issue -> issue.getType() == IssueType.EPIC)
-			.map(issue -> (Epic)issue)
-			.ifPresent(epic -> {
-				Integer oldStoryPoint = epic.getStoryPoint();
-				epic.updateStoryPoint();
-
-				// 로깅을 위해 새 값 가져오기
-				Integer newStoryPoint = epic.getStoryPoint();
-
-				// 변경 사항이 있으면 로그 남기기
-				if (!Objects.equals(oldStoryPoint, newStoryPoint)) {
-					log.info("Epic '{}' 스토리 포인트 업데이트: {} -> {}", epic.getIssueKey(), oldStoryPoint, newStoryPoint);
-				}
+	@EventListener
+	public void handleIssuesStatusUpdated(IssuesStatusChangedEvent event) {
+		boolean closedNow = event.getNewStatus() == IssueStatus.CLOSED;
+
+		event.getChanges().stream()
+			.filter(change -> change.issueType() != IssueType.SUB_TASK && change.issueType() != IssueType.EPIC)
+			.filter(IssueStatusChange::isChildOfEpic)
+			.filter(change -> closedNow || change.oldStatus() == IssueStatus.CLOSED)
+			.map(IssueStatusChange::parentIssueId)
+			.distinct()
+			.forEach(epicId -> {
+				epicStoryPointRollup.requestRecalculation(epicId);
+				log.debug("자식 이슈 상태 일괄 변경(CLOSED) 후 Epic 스토리 포인트 업데이트: epicIssueId={}", epicId);
 			});
 	}
 }
@@ -0,0 +1,69 @@
+package com.tissue.api.issue.application.eventhandler;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.tissue.api.issue.domain.event.IssueRelationCreatedEvent;
+import com.tissue.api.issue.domain.event.IssueRelationRemovedEvent;
+import com.tissue.api.issue.domain.model.enums.IssueRelationType;
+import com.tissue.api.issue.domain.service.validator.cache.IssueRelationDependencyCache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이슈 관계 변경 시 도달 가능한 이슈 캐시에서 영향을 받는 엔트리만 무효화하는 이벤트 핸들러
+ * - 같은 트랜잭션 안의 이후 검사를 위해 이벤트 발행 즉시 한 번 무효화한다
+ * - 커밋 전에 다른 트랜잭션이 이전 상태로 다시 캐시할 수 있으므로 커밋 후에 한 번 더 무효화한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IssueRelationDependencyCacheEventHandler {
+
+	private final IssueRelationDependencyCache dependencyCache;
+
+	@EventListener
+	public void evictOnRelationCreated(IssueRelationCreatedEvent event) {
+		evictAffectedEntries(event);
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void evictOnRelationCreatedAfterCommit(IssueRelationCreatedEvent event) {
+		evictAffectedEntries(event);
+	}
+
+	@EventListener
+	public void evictOnRelationRemoved(IssueRelationRemovedEvent event) {
+		evictAffectedEntries(event);
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void evictOnRelationRemovedAfterCommit(IssueRelationRemovedEvent event) {
+		evictAffectedEntries(event);
+	}
+
+	private void evictAffectedEntries(IssueRelationCreatedEvent event) {
+		if (!event.isBlockingRelation()) {
+			return;
+		}
+
+		// 새 간선의 시작점(blocking 이슈)에 도달할 수 있는 이슈들만 영향을 받는다
+		String blockingIssueKey = event.getRelationType() == IssueRelationType.BLOCKS
+			? event.getSourceIssueKey()
+			: event.getTargetIssueKey();
+
+		dependencyCache.evictAncestorsOf(event.getWorkspaceCode(), blockingIssueKey);
+		log.debug("Dependency cache evicted for new blocking relation. blockingIssueKey: {}", blockingIssueKey);
+	}
+
+	private void evictAffectedEntries(IssueRelationRemovedEvent event) {
+		// 제거된 관계의 방향을 알 수 없으므로 양쪽 이슈 모두 처리
+		dependencyCache.evictAncestorsOf(event.getWorkspaceCode(), event.getSourceIssueKey());
+		dependencyCache.evictAncestorsOf(event.getWorkspaceCode(), event.getTargetIssueKey());
+		log.debug("Dependency cache evicted for removed relation. issueKeys: {}, {}",
+			event.getSourceIssueKey(), event.getTargetIssueKey());
+	}
+}
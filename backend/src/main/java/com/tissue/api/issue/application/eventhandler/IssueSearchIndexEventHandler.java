@@ -0,0 +1,98 @@
+package com.tissue.api.issue.application.eventhandler;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.tissue.api.issue.domain.event.IssueCreatedEvent;
+import com.tissue.api.issue.domain.event.IssueEvent;
+import com.tissue.api.issue.domain.event.IssueReviewRequestedEvent;
+import com.tissue.api.issue.domain.event.IssueStatusChangedEvent;
+import com.tissue.api.issue.domain.event.IssueUpdatedEvent;
+import com.tissue.api.issue.domain.event.IssuesBatchCreatedEvent;
+import com.tissue.api.issue.domain.event.IssuesStatusChangedEvent;
+import com.tissue.api.issue.domain.service.search.IssueSearchIndex;
+import com.tissue.api.issue.infrastructure.repository.IssueRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 커밋된 이슈 변경을 검색 인덱스에 반영하는 이벤트 핸들러
+ * - 이벤트에는 검색 대상 필드가 모두 담겨있지 않으므로, 커밋된 이슈를 다시 읽어서 색인한다
+ * - 커밋 이후에는 기존 트랜잭션에 참여할 수 없으므로 조회는 새 읽기 전용 트랜잭션에서 한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IssueSearchIndexEventHandler {
+
+	private final IssueSearchIndex issueSearchIndex;
+	private final IssueRepository issueRepository;
+
+	@Value("${api.issue.search.rebuild-on-startup:true}")
+	private boolean rebuildOnStartup;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuildIndex() {
+		if (rebuildOnStartup) {
+			issueSearchIndex.rebuild();
+		}
+	}
+
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleIssueCreated(IssueCreatedEvent event) {
+		reindex(event);
+	}
+
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleIssueUpdated(IssueUpdatedEvent event) {
+		reindex(event);
+	}
+
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleIssueStatusChanged(IssueStatusChangedEvent event) {
+		reindex(event);
+	}
+
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleIssueReviewRequested(IssueReviewRequestedEvent event) {
+		reindex(event);
+	}
+
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleIssuesStatusChanged(IssuesStatusChangedEvent event) {
+		issueRepository.findSearchDocumentsByIds(event.getIssueIds())
+			.forEach(issueSearchIndex::index);
+		log.debug("{} issues reindexed for search: {}", event.getChanges().size(), event.getWorkspaceCode());
+	}
+
+	/**
+	 * 이슈 가져오기의 배치 단위로 한 번에 조회해서 색인한다
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleIssuesBatchCreated(IssuesBatchCreatedEvent event) {
+		issueRepository.findSearchDocumentsByIds(event.issueIds())
+			.forEach(issueSearchIndex::index);
+		log.debug("{} imported issues indexed for search: {}", event.issueIds().size(), event.workspaceCode());
+	}
+
+	private void reindex(IssueEvent event) {
+		issueRepository.findSearchDocumentById(event.getIssueId())
+			.ifPresent(document -> {
+				issueSearchIndex.index(document);
+				log.debug("Issue reindexed for search: {}", event.getIssueKey());
+			});
+	}
+}
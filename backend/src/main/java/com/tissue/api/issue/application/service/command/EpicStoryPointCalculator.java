@@ -0,0 +1,44 @@
+package com.tissue.api.issue.application.service.command;
+
+import java.util.Objects;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tissue.api.issue.domain.model.enums.IssueType;
+import com.tissue.api.issue.domain.model.types.Epic;
+import com.tissue.api.issue.infrastructure.repository.IssueRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Epic의 스토리 포인트를 자식 이슈들의 합계(SUM 집계 쿼리)로 재계산한다
+ * - 언제 재계산할지는 EpicStoryPointRollup 구현체가 결정한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EpicStoryPointCalculator {
+
+	private final IssueRepository issueRepository;
+
+	/**
+	 * 자식 엔티티들을 로딩하지 않고, 집계 쿼리로 합계를 구한다(CLOSED 상태인 자식은 제외)
+	 */
+	@Transactional
+	public void recalculate(Long epicId) {
+		issueRepository.findById(epicId)
+			.filter(issue -> issue.getType() == IssueType.EPIC)
+			.map(issue -> (Epic)issue)
+			.ifPresent(epic -> {
+				Integer oldStoryPoint = epic.getStoryPoint();
+				Integer newStoryPoint = Math.toIntExact(issueRepository.sumStoryPointOfOpenChildren(epicId));
+
+				if (!Objects.equals(oldStoryPoint, newStoryPoint)) {
+					epic.updateStoryPoint(newStoryPoint);
+					log.info("Epic '{}' 스토리 포인트 업데이트: {} -> {}", epic.getIssueKey(), oldStoryPoint, newStoryPoint);
+				}
+			});
+	}
+}
@@ -13,6 +13,7 @@ import com.tissue.api.issue.domain.model.Issue;
 import com.tissue.api.issue.presentation.controller.dto.response.IssueAssigneeResponse;
 import com.tissue.api.workspacemember.domain.model.WorkspaceMember;
 import com.tissue.api.workspacemember.domain.model.enums.WorkspaceRole;
+import com.tissue.api.workspacemember.domain.model.vo.WorkspaceMembership;
 import com.tissue.api.workspacemember.application.service.command.WorkspaceMemberReader;
 
 import lombok.RequiredArgsConstructor;
@@ -62,12 +63,9 @@ public class IssueAssigneeCommandService {
 			workspaceCode
 		);
 
-		WorkspaceMember requester = workspaceMemberReader.findWorkspaceMember(
-			requesterMemberId,
-			workspaceCode
-		);
+		WorkspaceMembership requester = workspaceMemberReader.findMembership(requesterMemberId, workspaceCode);
 
-		if (requester.roleIsLowerThan(WorkspaceRole.MANAGER)) {
+		if (requester.isLowerThan(WorkspaceRole.MANAGER)) {
 			issue.validateIsAssignee(requesterMemberId);
 		}
 
@@ -20,8 +20,10 @@ import com.tissue.api.issue.presentation.controller.dto.request.update.UpdateIss
 import com.tissue.api.issue.presentation.controller.dto.response.IssueResponse;
 import com.tissue.api.workspace.domain.model.Workspace;
 import com.tissue.api.workspace.application.service.command.WorkspaceReader;
+import com.tissue.api.workspace.application.service.command.sequence.WorkspaceSequenceAllocator;
 import com.tissue.api.workspacemember.domain.model.WorkspaceMember;
 import com.tissue.api.workspacemember.application.service.command.WorkspaceMemberReader;
+import com.tissue.api.workspacemember.domain.model.vo.WorkspaceMembership;
 
 import lombok.RequiredArgsConstructor;
 
@@ -33,6 +35,7 @@ public class IssueCommandService {
 	private final WorkspaceReader workspaceReader;
 	private final WorkspaceMemberReader workspaceMemberReader;
 	private final IssueRepository issueRepository;
+	private final WorkspaceSequenceAllocator workspaceSequenceAllocator;
 
 	private final ApplicationEventPublisher eventPublisher;
 
@@ -42,7 +45,8 @@ public class IssueCommandService {
 		Long memberId,
 		CreateIssueRequest request
 	) {
-		Workspace workspace = workspaceReader.findWorkspace(workspaceCode);
+		Workspace workspace = workspaceReader.findWorkspaceReference(workspaceCode);
+		workspaceSequenceAllocator.reserveIssueNumber(workspace);
 
 		Issue issue = request.toIssue(workspace);
 		Issue savedIssue = issueRepository.save(issue);
@@ -64,13 +68,13 @@ public class IssueCommandService {
 		UpdateIssueRequest request
 	) {
 		Issue issue = issueReader.findIssue(issueKey, workspaceCode);
-		WorkspaceMember requester = workspaceMemberReader.findWorkspaceMember(memberId, workspaceCode);
+		WorkspaceMembership requester = workspaceMemberReader.findMembership(memberId, workspaceCode);
 
 		issue.validateIssueTypeMatch(request.getType());
 
 		// Todo: IssueAuthorizationService를 만들어서 권한 검사 로직 분리?
 		// TODO: IssueAuthorizationInterceptor에서 IssueAuthorizationService를 호출하는 형태로 구현?
-		// if (requester.roleIsLowerThan(WorkspaceRole.MANAGER)) {
+		// if (requester.isLowerThan(WorkspaceRole.MANAGER)) {
 		// 	issue.validateIsAssigneeOrAuthor(memberId);
 		// }
 
@@ -93,9 +97,9 @@ public class IssueCommandService {
 		UpdateIssueStatusRequest request
 	) {
 		Issue issue = issueReader.findIssue(issueKey, workspaceCode);
-		WorkspaceMember requester = workspaceMemberReader.findWorkspaceMember(memberId, workspaceCode);
+		WorkspaceMembership requester = workspaceMemberReader.findMembership(memberId, workspaceCode);
 
-		// if (requester.roleIsLowerThan(WorkspaceRole.MANAGER)) {
+		// if (requester.isLowerThan(WorkspaceRole.MANAGER)) {
 		// 	issue.validateIsAssigneeOrAuthor(memberId);
 		// }
 
@@ -119,9 +123,9 @@ public class IssueCommandService {
 	) {
 		Issue childIssue = issueReader.findIssue(issueKey, workspaceCode);
 		Issue parentIssue = issueReader.findIssue(request.parentIssueKey(), workspaceCode);
-		WorkspaceMember requester = workspaceMemberReader.findWorkspaceMember(memberId, workspaceCode);
+		WorkspaceMembership requester = workspaceMemberReader.findMembership(memberId, workspaceCode);
 
-		// if (requester.roleIsLowerThan(WorkspaceRole.MANAGER)) {
+		// if (requester.isLowerThan(WorkspaceRole.MANAGER)) {
 		// 	childIssue.validateIsAssigneeOrAuthor(memberId);
 		// }
 
@@ -143,9 +147,9 @@ public class IssueCommandService {
 		Long memberId
 	) {
 		Issue issue = issueReader.findIssue(issueKey, workspaceCode);
-		WorkspaceMember requester = workspaceMemberReader.findWorkspaceMember(memberId, workspaceCode);
+		WorkspaceMembership requester = workspaceMemberReader.findMembership(memberId, workspaceCode);
 
-		// if (requester.roleIsLowerThan(WorkspaceRole.MANAGER)) {
+		// if (requester.isLowerThan(WorkspaceRole.MANAGER)) {
 		// 	issue.validateIsAssigneeOrAuthor(memberId);
 		// }
 
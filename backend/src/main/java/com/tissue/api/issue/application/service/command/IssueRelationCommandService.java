@@ -1,9 +1,12 @@
 package com.tissue.api.issue.application.service.command;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.tissue.api.issue.application.service.reader.IssueReader;
+import com.tissue.api.issue.domain.event.IssueRelationCreatedEvent;
+import com.tissue.api.issue.domain.event.IssueRelationRemovedEvent;
 import com.tissue.api.issue.domain.model.Issue;
 import com.tissue.api.issue.domain.model.IssueRelation;
 import com.tissue.api.issue.domain.model.enums.IssueRelationType;
@@ -11,8 +14,9 @@ import com.tissue.api.issue.domain.service.validator.CircularDependencyValidator
 import com.tissue.api.issue.infrastructure.repository.IssueRelationRepository;
 import com.tissue.api.issue.presentation.controller.dto.request.CreateIssueRelationRequest;
 import com.tissue.api.issue.presentation.controller.dto.response.IssueRelationResponse;
+import com.tissue.api.workspace.application.service.command.WorkspaceReader;
 import com.tissue.api.workspacemember.application.service.command.WorkspaceMemberReader;
-import com.tissue.api.workspacemember.domain.model.WorkspaceMember;
+import com.tissue.api.workspacemember.domain.model.vo.WorkspaceMembership;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,9 +25,11 @@ import lombok.RequiredArgsConstructor;
 public class IssueRelationCommandService {
 
 	private final IssueReader issueReader;
+	private final WorkspaceReader workspaceReader;
 	private final WorkspaceMemberReader workspaceMemberReader;
 	private final IssueRelationRepository relationRepository;
 	private final CircularDependencyValidator circularDependencyValidator;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
 	public IssueRelationResponse createRelation(
@@ -33,14 +39,21 @@ public class IssueRelationCommandService {
 		Long memberId,
 		CreateIssueRelationRequest request
 	) {
+		if (isBlocking(request.relationType())) {
+			// 동시에 생성되는 BLOCKS 관계끼리 서로의 간선을 보지 못하고 순환을 만들지 않도록 워크스페이스 단위로 직렬화한다
+			// REPEATABLE READ에서는 트랜잭션의 첫 일반 조회 시점에 스냅샷이 고정되므로, 다른 조회보다 먼저 락을 잡아야
+			// 순환 검사가 앞서 커밋된 관계를 볼 수 있다
+			workspaceReader.findWorkspaceForUpdate(workspaceCode);
+		}
+
 		Issue sourceIssue = issueReader.findIssue(sourceIssueKey, workspaceCode);
 		Issue targetIssue = issueReader.findIssue(targetIssueKey, workspaceCode);
-		WorkspaceMember requester = workspaceMemberReader.findWorkspaceMember(memberId, workspaceCode);
+		WorkspaceMembership requester = workspaceMemberReader.findMembership(memberId, workspaceCode);
 
 		// TODO: IssueAuthorizationService로 로직 분리, 호출
 		// TODO: IssueAuthorizationInterceptor에서 IssueAuthorizationService를 호출하는 형태로 구현?
-		// if (requester.roleIsLowerThan(WorkspaceRole.MANAGER)) {
-		// 	sourceIssue.validateIsAssigneeOrAuthor(requester.getId());
+		// if (requester.isLowerThan(WorkspaceRole.MANAGER)) {
+		// 	sourceIssue.validateIsAssigneeOrAuthor(requester.workspaceMemberId());
 		// }
 
 		if (request.relationType() == IssueRelationType.BLOCKS) {
@@ -50,6 +63,10 @@ public class IssueRelationCommandService {
 		IssueRelation relation = IssueRelation.createRelation(sourceIssue, targetIssue, request.relationType());
 		relationRepository.save(relation);
 
+		eventPublisher.publishEvent(
+			IssueRelationCreatedEvent.createEvent(relation)
+		);
+
 		return IssueRelationResponse.from(sourceIssue, targetIssue, relation);
 	}
 
@@ -62,14 +79,22 @@ public class IssueRelationCommandService {
 	) {
 		Issue sourceIssue = issueReader.findIssue(sourceIssueKey, workspaceCode);
 		Issue targetIssue = issueReader.findIssue(targetIssueKey, workspaceCode);
-		WorkspaceMember requester = workspaceMemberReader.findWorkspaceMember(memberId, workspaceCode);
+		WorkspaceMembership requester = workspaceMemberReader.findMembership(memberId, workspaceCode);
 
 		// TODO: IssueAuthorizationService로 로직 분리, 호출
 		// TODO: IssueAuthorizationInterceptor에서 IssueAuthorizationService를 호출하는 형태로 구현?
-		// if (requester.roleIsLowerThan(WorkspaceRole.MANAGER)) {
-		// 	sourceIssue.validateIsAssigneeOrAuthor(requester.getId());
+		// if (requester.isLowerThan(WorkspaceRole.MANAGER)) {
+		// 	sourceIssue.validateIsAssigneeOrAuthor(requester.workspaceMemberId());
 		// }
 
 		IssueRelation.removeRelation(sourceIssue, targetIssue);
+
+		eventPublisher.publishEvent(
+			IssueRelationRemovedEvent.createEvent(sourceIssue, targetIssue)
+		);
+	}
+
+	private boolean isBlocking(IssueRelationType relationType) {
+		return relationType == IssueRelationType.BLOCKS || relationType == IssueRelationType.BLOCKED_BY;
 	}
 }
@@ -0,0 +1,162 @@
+package com.tissue.api.issue.application.service.command.bulk;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tissue.api.common.exception.type.InvalidOperationException;
+import com.tissue.api.common.exception.type.ResourceNotFoundException;
+import com.tissue.api.issue.domain.event.IssuesStatusChangedEvent;
+import com.tissue.api.issue.domain.event.IssuesStatusChangedEvent.IssueStatusChange;
+import com.tissue.api.issue.domain.model.Issue;
+import com.tissue.api.issue.domain.model.enums.IssueStatus;
+import com.tissue.api.issue.infrastructure.repository.IssueRepository;
+import com.tissue.api.issue.infrastructure.repository.IssueReviewerRepository;
+import com.tissue.api.issue.presentation.controller.dto.request.BulkUpdateIssueStatusRequest;
+import com.tissue.api.issue.presentation.controller.dto.response.BulkUpdateIssueStatusResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 여러 이슈의 상태를 한 트랜잭션에서 변경한다
+ * - 대상 이슈, 리뷰어(리뷰 포함), 들어오는 관계(BLOCKED_BY)를 집합 쿼리로 한 번에 조회한 뒤
+ *   Issue.updateStatus의 전이 규칙으로 메모리에서 검증한다
+ * - 하나라도 변경할 수 없으면 모두 롤백한다(부분 적용하지 않는다)
+ * - 이슈마다 IssueStatusChangedEvent를 발행하지 않고 IssuesStatusChangedEvent 하나로 묶는다
+ */
+@Service
+@RequiredArgsConstructor
+public class IssueBulkStatusCommandService {
+
+	private final IssueRepository issueRepository;
+	private final IssueReviewerRepository issueReviewerRepository;
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	@Transactional
+	public BulkUpdateIssueStatusResponse updateIssueStatuses(
+		String workspaceCode,
+		Long memberId,
+		BulkUpdateIssueStatusRequest request
+	) {
+		IssueStatus newStatus = request.status();
+		List<Issue> issues = findIssues(request.issueKeys(), workspaceCode);
+		fetchTransitionGraph(issues, newStatus);
+
+		List<Issue> unchanged = issues.stream()
+			.filter(issue -> issue.getStatus() == newStatus)
+			.toList();
+		List<Issue> pending = issues.stream()
+			.filter(issue -> issue.getStatus() != newStatus)
+			.toList();
+
+		List<IssueStatusChange> changes = applyStatus(pending, newStatus);
+
+		if (!changes.isEmpty()) {
+			eventPublisher.publishEvent(new IssuesStatusChangedEvent(workspaceCode, memberId, newStatus, changes));
+		}
+
+		return new BulkUpdateIssueStatusResponse(
+			workspaceCode,
+			newStatus,
+			changes.stream()
+				.map(IssueStatusChange::issueKey)
+				.toList(),
+			unchanged.stream()
+				.map(Issue::getIssueKey)
+				.toList()
+		);
+	}
+
+	/**
+	 * 요청 안의 다른 이슈에 막혀있는(BLOCKED_BY) 이슈는 선행 이슈가 먼저 변경되어야 통과하므로,
+	 * 요청 순서에 관계없도록 더 이상 변경되는 이슈가 없을 때까지 실패한 이슈를 다시 검증한다
+	 * - updateStatus는 검증을 통과한 경우에만 상태를 바꾸므로 실패한 이슈는 그대로 남는다
+	 */
+	private List<IssueStatusChange> applyStatus(List<Issue> pending, IssueStatus newStatus) {
+		List<IssueStatusChange> changes = new ArrayList<>();
+		Map<String, String> failures = new LinkedHashMap<>();
+
+		boolean progressed = true;
+		while (!pending.isEmpty() && progressed) {
+			progressed = false;
+			failures.clear();
+
+			List<Issue> failed = new ArrayList<>();
+			for (Issue issue : pending) {
+				IssueStatus oldStatus = issue.getStatus();
+				try {
+					issue.updateStatus(newStatus);
+					changes.add(IssueStatusChange.of(issue, oldStatus));
+					progressed = true;
+				} catch (InvalidOperationException e) {
+					failed.add(issue);
+					failures.put(issue.getIssueKey(), e.getMessage());
+				}
+			}
+			pending = failed;
+		}
+
+		if (!failures.isEmpty()) {
+			throw new InvalidOperationException(String.format(
+				"Cannot change status of some issues to %s. %s",
+				newStatus,
+				failures.entrySet().stream()
+					.map(failure -> failure.getKey() + ": " + failure.getValue())
+					.collect(Collectors.joining(" "))
+			));
+		}
+		return changes;
+	}
+
+	/**
+	 * @return 요청한 순서(중복 제거)의 이슈들
+	 */
+	private List<Issue> findIssues(List<String> issueKeys, String workspaceCode) {
+		List<String> distinctKeys = issueKeys.stream()
+			.distinct()
+			.toList();
+
+		Map<String, Issue> issuesByKey = issueRepository.findAllWithParentByIssueKeys(distinctKeys, workspaceCode)
+			.stream()
+			.collect(Collectors.toMap(Issue::getIssueKey, Function.identity()));
+
+		List<String> missingKeys = distinctKeys.stream()
+			.filter(issueKey -> !issuesByKey.containsKey(issueKey))
+			.toList();
+		if (!missingKeys.isEmpty()) {
+			throw new ResourceNotFoundException(
+				String.format("Issues not found: %s", String.join(", ", missingKeys))
+			);
+		}
+
+		return distinctKeys.stream()
+			.map(issuesByKey::get)
+			.toList();
+	}
+
+	/**
+	 * DONE으로 변경할 때만 현재 라운드의 리뷰 상태와 선행(BLOCKED_BY) 이슈를 검증하므로, 그 때만 함께 조회한다
+	 * - 이미 영속성 컨텍스트에 있는 이슈들의 컬렉션을 fetch join으로 초기화한다(이슈마다 지연 로딩하지 않는다)
+	 */
+	private void fetchTransitionGraph(List<Issue> issues, IssueStatus newStatus) {
+		if (newStatus != IssueStatus.DONE) {
+			return;
+		}
+
+		List<Long> issueIds = issues.stream()
+			.map(Issue::getId)
+			.toList();
+
+		issueRepository.fetchReviewersByIds(issueIds);
+		issueReviewerRepository.findAllWithReviewsByIssueIds(issueIds);
+		issueRepository.fetchIncomingRelationsByIds(issueIds);
+	}
+}
@@ -0,0 +1,207 @@
+package com.tissue.api.issue.application.service.command.bulk;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.tissue.api.issue.infrastructure.importer.IssueImportFormat;
+import com.tissue.api.issue.infrastructure.importer.IssueImportReader;
+import com.tissue.api.issue.infrastructure.importer.IssueImportReaderFactory;
+import com.tissue.api.issue.infrastructure.importer.IssueImportRecord;
+import com.tissue.api.issue.presentation.controller.dto.request.create.CreateIssueRequest;
+import com.tissue.api.issue.presentation.controller.dto.response.IssueImportResponse;
+import com.tissue.api.issue.presentation.controller.dto.response.IssueImportResponse.IssueImportError;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * CSV, NDJSON 본문을 스트리밍으로 읽어서 batchSize개씩 IssueImportWriter로 저장한다
+ * - 본문 전체를 메모리에 올리지 않고, 배치마다 트랜잭션을 커밋하므로 실패한 배치가 이전 배치를 롤백하지 않는다
+ * - 변환, 검증에 실패한 레코드는 건너뛰고 줄 번호와 함께 보고한다
+ * - 배치가 저장에 실패하면 해당 배치의 레코드를 모두 실패로 보고하고 다음 배치를 계속 처리한다
+ * - 진행 상황은 배치마다 로그와 메트릭(issue.import.records, issue.import.batch)으로 남긴다
+ */
+@Slf4j
+public class IssueImportService {
+
+	private final IssueImportReaderFactory readerFactory;
+	private final IssueImportWriter importWriter;
+	private final Validator validator;
+	private final int batchSize;
+	private final int maxReportedErrors;
+
+	private final Counter importedCounter;
+	private final Counter failedCounter;
+	private final Timer batchTimer;
+
+	public IssueImportService(
+		IssueImportReaderFactory readerFactory,
+		IssueImportWriter importWriter,
+		Validator validator,
+		int batchSize,
+		int maxReportedErrors,
+		MeterRegistry meterRegistry
+	) {
+		this.readerFactory = readerFactory;
+		this.importWriter = importWriter;
+		this.validator = validator;
+		this.batchSize = batchSize;
+		this.maxReportedErrors = maxReportedErrors;
+
+		this.importedCounter = meterRegistry.counter("issue.import.records", "result", "imported");
+		this.failedCounter = meterRegistry.counter("issue.import.records", "result", "failed");
+		this.batchTimer = Timer.builder("issue.import.batch").register(meterRegistry);
+	}
+
+	public IssueImportResponse importIssues(
+		String workspaceCode,
+		Long loginMemberId,
+		IssueImportFormat format,
+		InputStream body
+	) {
+		ImportProgress progress = new ImportProgress(workspaceCode);
+		List<IssueImportRecord> batch = new ArrayList<>(batchSize);
+
+		try (IssueImportReader reader = readerFactory.open(format, body)) {
+			IssueImportRecord record;
+			while ((record = reader.next()) != null) {
+				progress.totalRecords++;
+
+				String error = record.isParsed() ? validate(record.request()) : record.error();
+				if (error != null) {
+					progress.fail(record.lineNumber(), error);
+					continue;
+				}
+
+				batch.add(record);
+				if (batch.size() == batchSize) {
+					flush(workspaceCode, batch, progress);
+				}
+			}
+		} catch (IOException e) {
+			// 본문을 더 읽을 수 없으면 읽은 곳까지만 저장하고 중단한다
+			progress.completed = false;
+			progress.fail(progress.totalRecords + 1, "Failed to read import body: " + e.getMessage());
+		}
+		flush(workspaceCode, batch, progress);
+
+		if (progress.importedCount > 0) {
+			importWriter.publishImported(
+				workspaceCode,
+				loginMemberId,
+				progress.importedCount,
+				progress.failedCount
+			);
+		}
+
+		return progress.toResponse();
+	}
+
+	private String validate(CreateIssueRequest request) {
+		if (request.common() == null) {
+			return "common: must not be null";
+		}
+
+		Set<ConstraintViolation<CreateIssueRequest>> violations = validator.validate(request);
+		if (violations.isEmpty()) {
+			return null;
+		}
+		return violations.stream()
+			.map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+			.sorted()
+			.collect(Collectors.joining(", "));
+	}
+
+	private void flush(
+		String workspaceCode,
+		List<IssueImportRecord> batch,
+		ImportProgress progress
+	) {
+		if (batch.isEmpty()) {
+			return;
+		}
+
+		long startedAt = System.nanoTime();
+		try {
+			int created = importWriter.writeBatch(
+				workspaceCode,
+				batch.stream()
+					.map(IssueImportRecord::request)
+					.toList()
+			);
+			progress.importedCount += created;
+			importedCounter.increment(created);
+		} catch (RuntimeException e) {
+			log.warn("Issue import batch failed. workspaceCode={}, lines={}-{}",
+				workspaceCode, batch.get(0).lineNumber(), batch.get(batch.size() - 1).lineNumber(), e);
+
+			String error = "Batch failed: " + e.getMessage();
+			batch.forEach(record -> progress.fail(record.lineNumber(), error));
+		} finally {
+			batchTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+			progress.batchCount++;
+			batch.clear();
+		}
+
+		log.info("Issue import progress. workspaceCode={}, records={}, imported={}, failed={}, issuesPerSecond={}",
+			workspaceCode, progress.totalRecords, progress.importedCount, progress.failedCount,
+			String.format("%.1f", progress.issuesPerSecond()));
+	}
+
+	private class ImportProgress {
+
+		private final String workspaceCode;
+		private final long startedAt = System.nanoTime();
+		private final List<IssueImportError> errors = new ArrayList<>();
+
+		private int totalRecords;
+		private int importedCount;
+		private int failedCount;
+		private int batchCount;
+		private boolean completed = true;
+
+		private ImportProgress(String workspaceCode) {
+			this.workspaceCode = workspaceCode;
+		}
+
+		private void fail(long lineNumber, String message) {
+			failedCount++;
+			failedCounter.increment();
+			if (errors.size() < maxReportedErrors) {
+				errors.add(new IssueImportError(lineNumber, message));
+			}
+		}
+
+		private long elapsedMillis() {
+			return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+		}
+
+		private double issuesPerSecond() {
+			long elapsedNanos = Math.max(System.nanoTime() - startedAt, 1);
+			return importedCount * 1_000_000_000.0 / elapsedNanos;
+		}
+
+		private IssueImportResponse toResponse() {
+			return IssueImportResponse.builder()
+				.workspaceCode(workspaceCode)
+				.totalRecords(totalRecords)
+				.importedCount(importedCount)
+				.failedCount(failedCount)
+				.batchCount(batchCount)
+				.elapsedMillis(elapsedMillis())
+				.issuesPerSecond(issuesPerSecond())
+				.completed(completed)
+				.errors(List.copyOf(errors))
+				.build();
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package com.tissue.api.issue.application.service.command.bulk;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tissue.api.issue.domain.event.IssuesBatchCreatedEvent;
+import com.tissue.api.issue.domain.event.IssuesImportedEvent;
+import com.tissue.api.issue.domain.model.Issue;
+import com.tissue.api.issue.infrastructure.repository.IssueRepository;
+import com.tissue.api.issue.presentation.controller.dto.request.create.CreateIssueRequest;
+import com.tissue.api.workspace.application.service.command.WorkspaceReader;
+import com.tissue.api.workspace.application.service.command.sequence.WorkspaceSequenceAllocator;
+import com.tissue.api.workspace.domain.model.Workspace;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이슈 가져오기의 배치 하나를 하나의 트랜잭션으로 저장한다
+ * - 워크스페이스는 배치마다 한 번만 조회하고, 이슈 번호는 배치 크기만큼 한 번에 예약한다
+ *   (기본 모드에서는 예약한 workspace row의 락을 배치가 커밋될 때까지 가지므로, 그동안 같은 워크스페이스의 이슈 생성은 기다린다)
+ * - 이슈 생성 API와 달리 이슈마다 watchIssue(이슈, 멤버 재조회)와 IssueCreatedEvent(워크스페이스 전체 알림)를 실행하지 않는다
+ */
+@Component
+@RequiredArgsConstructor
+public class IssueImportWriter {
+
+	private final WorkspaceReader workspaceReader;
+	private final IssueRepository issueRepository;
+	private final WorkspaceSequenceAllocator workspaceSequenceAllocator;
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * @return 생성한 이슈 수
+	 */
+	@Transactional
+	public int writeBatch(
+		String workspaceCode,
+		List<CreateIssueRequest> requests
+	) {
+		Workspace workspace = workspaceReader.findWorkspace(workspaceCode);
+		int firstIssueNumber = workspaceSequenceAllocator.reserveIssueNumbers(workspace, requests.size());
+
+		List<Issue> issues = new ArrayList<>(requests.size());
+		for (int i = 0; i < requests.size(); i++) {
+			workspace.reserveIssueNumber(firstIssueNumber + i);
+			issues.add(requests.get(i).toIssue(workspace));
+		}
+		issueRepository.saveAll(issues);
+
+		eventPublisher.publishEvent(new IssuesBatchCreatedEvent(
+			workspaceCode,
+			issues.stream()
+				.map(Issue::getId)
+				.toList()
+		));
+
+		return issues.size();
+	}
+
+	/**
+	 * 커밋 이후 알림을 처리하는 리스너들이 받을 수 있도록 트랜잭션 안에서 발행한다
+	 */
+	@Transactional
+	public void publishImported(
+		String workspaceCode,
+		Long memberId,
+		int importedCount,
+		int failedCount
+	) {
+		eventPublisher.publishEvent(new IssuesImportedEvent(workspaceCode, memberId, importedCount, failedCount));
+	}
+}
@@ -0,0 +1,11 @@
+package com.tissue.api.issue.application.service.command.rollup;
+
+/**
+ * 자식 이슈 변경으로 인한 Epic 스토리 포인트 재계산 요청을 모아서 처리한다
+ * - api.issue.epic-rollup.mode=transactional(default): 요청한 트랜잭션의 커밋 직전에 Epic 별로 한 번 재계산
+ * - api.issue.epic-rollup.mode=debounced: 커밋 후 큐에 넣고, Epic 별로 일정 시간 동안 모아서 비동기로 한 번 재계산
+ */
+public interface EpicStoryPointRollup {
+
+	void requestRecalculation(Long epicId);
+}
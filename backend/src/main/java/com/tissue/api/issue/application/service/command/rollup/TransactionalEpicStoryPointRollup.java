@@ -0,0 +1,60 @@
+package com.tissue.api.issue.application.service.command.rollup;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.tissue.api.issue.application.service.command.EpicStoryPointCalculator;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 한 트랜잭션에서 여러 자식 이슈가 변경되어도, 커밋 직전에 Epic 별로 한 번만 재계산한다
+ */
+@RequiredArgsConstructor
+public class TransactionalEpicStoryPointRollup implements EpicStoryPointRollup {
+
+	private static final String PENDING_EPICS_KEY =
+		TransactionalEpicStoryPointRollup.class.getName() + ".PENDING_EPICS";
+
+	private final EpicStoryPointCalculator epicStoryPointCalculator;
+
+	@Override
+	public void requestRecalculation(Long epicId) {
+		if (epicId == null) {
+			return;
+		}
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			epicStoryPointCalculator.recalculate(epicId);
+			return;
+		}
+
+		pendingEpicsOfCurrentTransaction().add(epicId);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Set<Long> pendingEpicsOfCurrentTransaction() {
+		Set<Long> pendingEpics = (Set<Long>)TransactionSynchronizationManager.getResource(PENDING_EPICS_KEY);
+		if (pendingEpics != null) {
+			return pendingEpics;
+		}
+
+		Set<Long> newPendingEpics = new LinkedHashSet<>();
+		TransactionSynchronizationManager.bindResource(PENDING_EPICS_KEY, newPendingEpics);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void beforeCommit(boolean readOnly) {
+				newPendingEpics.forEach(epicStoryPointCalculator::recalculate);
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_EPICS_KEY);
+			}
+		});
+		return newPendingEpics;
+	}
+}
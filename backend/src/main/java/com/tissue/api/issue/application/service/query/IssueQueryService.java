@@ -0,0 +1,175 @@
+package com.tissue.api.issue.application.service.query;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tissue.api.issue.domain.service.search.IssueSearchIndex;
+import com.tissue.api.issue.exception.IssueNotFoundException;
+import com.tissue.api.issue.infrastructure.repository.IssueQueryRepository;
+import com.tissue.api.issue.infrastructure.repository.projection.ChildIssueRow;
+import com.tissue.api.issue.infrastructure.repository.projection.IssueMemberRow;
+import com.tissue.api.issue.infrastructure.repository.projection.IssueRelationRow;
+import com.tissue.api.issue.infrastructure.repository.projection.IssueRow;
+import com.tissue.api.issue.infrastructure.repository.projection.IssueSearchRow;
+import com.tissue.api.issue.infrastructure.repository.projection.IssueSprintRow;
+import com.tissue.api.issue.infrastructure.repository.projection.IssueSummaryRow;
+import com.tissue.api.issue.presentation.controller.dto.response.IssueDetail;
+import com.tissue.api.issue.presentation.controller.dto.response.IssueSearchDetail;
+import com.tissue.api.issue.presentation.controller.dto.response.IssueSummary;
+import com.tissue.api.issue.presentation.controller.dto.response.MultiGetIssuesResponse;
+import com.tissue.api.issue.presentation.controller.query.IssueSearchCondition;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class IssueQueryService {
+
+	/**
+	 * 이슈 키 IN 목록의 최대 크기(요청한 키가 더 많으면 나눠서 조회한다)
+	 */
+	private static final int ISSUE_KEY_CHUNK_SIZE = 50;
+
+	private final IssueSearchIndex issueSearchIndex;
+	private final IssueQueryRepository issueQueryRepository;
+
+	/**
+	 * 이슈 상세 조회
+	 * - 이슈 컬렉션을 지연 로딩하지 않고, 컬렉션 크기와 관계없이 고정된 개수(7개)의 쿼리로 조회한다
+	 */
+	@Transactional(readOnly = true)
+	public IssueDetail getIssueDetail(
+		String workspaceCode,
+		String issueKey
+	) {
+		IssueRow issue = issueQueryRepository.findIssueRow(issueKey, workspaceCode)
+			.orElseThrow(() -> new IssueNotFoundException(issueKey, workspaceCode));
+
+		return toDetails(workspaceCode, List.of(issue)).get(0);
+	}
+
+	/**
+	 * 검색 인덱스에서 조건에 맞는 이슈 id를 구하고, 요청한 페이지의 이슈만 DB에서 조회한다
+	 * - 페이지 조회는 필요한 컬럼만 projection으로 조회하고, 워크스페이스 코드로 한 번 더 거른다
+	 * - 정렬은 최신순(id 내림차순) 고정
+	 */
+	@Transactional(readOnly = true)
+	public Page<IssueSearchDetail> searchIssues(
+		String workspaceCode,
+		IssueSearchCondition searchCondition,
+		Pageable pageable
+	) {
+		List<Long> issueIds = issueSearchIndex.search(workspaceCode, searchCondition);
+
+		int fromIndex = (int)Math.min(pageable.getOffset(), issueIds.size());
+		int toIndex = Math.min(fromIndex + pageable.getPageSize(), issueIds.size());
+		List<Long> pageIssueIds = issueIds.subList(fromIndex, toIndex);
+
+		Map<Long, IssueSearchRow> issues = pageIssueIds.isEmpty()
+			? Map.of()
+			: issueQueryRepository.findIssueSearchRows(pageIssueIds, workspaceCode).stream()
+			.collect(Collectors.toMap(IssueSearchRow::id, Function.identity()));
+
+		List<IssueSearchDetail> content = pageIssueIds.stream()
+			.map(issues::get)
+			.filter(Objects::nonNull)
+			.map(IssueSearchDetail::from)
+			.toList();
+
+		return new PageImpl<>(content, pageable, issueIds.size());
+	}
+
+	/**
+	 * 이슈 여러 건을 요약으로 조회한다
+	 * - 중복된 키는 한 번만 조회하고, 요청한 키 순서대로 응답한다
+	 * - 존재하지 않는 이슈가 있어도 실패하지 않고 missingIssueKeys로 알려준다
+	 */
+	@Transactional(readOnly = true)
+	public MultiGetIssuesResponse getIssueSummaries(
+		String workspaceCode,
+		Collection<String> issueKeys
+	) {
+		List<String> distinctIssueKeys = issueKeys.stream()
+			.distinct()
+			.toList();
+
+		Map<String, IssueSummaryRow> rows = new HashMap<>();
+		for (int from = 0; from < distinctIssueKeys.size(); from += ISSUE_KEY_CHUNK_SIZE) {
+			List<String> chunk = distinctIssueKeys.subList(
+				from,
+				Math.min(from + ISSUE_KEY_CHUNK_SIZE, distinctIssueKeys.size())
+			);
+			issueQueryRepository.findIssueSummaryRows(chunk, workspaceCode)
+				.forEach(row -> rows.put(row.issueKey(), row));
+		}
+
+		List<IssueSummary> issues = distinctIssueKeys.stream()
+			.map(rows::get)
+			.filter(Objects::nonNull)
+			.map(IssueSummary::from)
+			.toList();
+
+		List<String> missingIssueKeys = distinctIssueKeys.stream()
+			.filter(issueKey -> !rows.containsKey(issueKey))
+			.toList();
+
+		return new MultiGetIssuesResponse(issues, missingIssueKeys);
+	}
+
+	/**
+	 * 조회한 이슈 전체에 대해 컬렉션마다 IN 쿼리 한 번씩 조회해서 조립한다
+	 */
+	private List<IssueDetail> toDetails(String workspaceCode, List<IssueRow> issues) {
+		if (issues.isEmpty()) {
+			return List.of();
+		}
+
+		List<Long> issueIds = issues.stream()
+			.map(IssueRow::id)
+			.toList();
+
+		Map<Long, List<IssueMemberRow>> assignees = groupByIssueId(
+			issueQueryRepository.findAssigneeRows(issueIds, workspaceCode), IssueMemberRow::issueId);
+		Map<Long, List<IssueMemberRow>> reviewers = groupByIssueId(
+			issueQueryRepository.findReviewerRows(issueIds, workspaceCode), IssueMemberRow::issueId);
+		Map<Long, List<IssueMemberRow>> watchers = groupByIssueId(
+			issueQueryRepository.findWatcherRows(issueIds, workspaceCode), IssueMemberRow::issueId);
+		Map<Long, List<IssueRelationRow>> relations = groupByIssueId(
+			issueQueryRepository.findRelationRows(issueIds), IssueRelationRow::sourceIssueId);
+		Map<Long, List<ChildIssueRow>> childIssues = groupByIssueId(
+			issueQueryRepository.findChildIssueRows(issueIds), ChildIssueRow::parentIssueId);
+		Map<Long, List<String>> sprintKeys = issueQueryRepository.findSprintRows(issueIds).stream()
+			.collect(Collectors.groupingBy(
+				IssueSprintRow::issueId,
+				Collectors.mapping(IssueSprintRow::sprintKey, Collectors.toList())
+			));
+
+		return issues.stream()
+			.map(issue -> IssueDetail.from(
+				issue,
+				assignees.getOrDefault(issue.id(), List.of()),
+				reviewers.getOrDefault(issue.id(), List.of()),
+				watchers.getOrDefault(issue.id(), List.of()),
+				relations.getOrDefault(issue.id(), List.of()),
+				childIssues.getOrDefault(issue.id(), List.of()),
+				sprintKeys.getOrDefault(issue.id(), List.of())
+			))
+			.toList();
+	}
+
+	private static <T> Map<Long, List<T>> groupByIssueId(List<T> rows, Function<T, Long> issueId) {
+		return rows.stream()
+			.collect(Collectors.groupingBy(issueId));
+	}
+}
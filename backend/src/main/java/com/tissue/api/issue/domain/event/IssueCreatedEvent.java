@@ -1,5 +1,7 @@
 package com.tissue.api.issue.domain.event;
 
+import java.io.Serial;
+
 import com.tissue.api.issue.domain.model.Issue;
 import com.tissue.api.issue.domain.model.enums.IssueType;
 import com.tissue.api.notification.domain.enums.NotificationType;
@@ -10,6 +12,9 @@ import lombok.Getter;
 @Getter
 public class IssueCreatedEvent extends IssueEvent {
 
+	@Serial
+	private static final long serialVersionUID = 1L;
+
 	public IssueCreatedEvent(
 		Long issueId,
 		String issueKey,
@@ -0,0 +1,42 @@
+package com.tissue.api.issue.domain.event;
+
+import com.tissue.api.issue.domain.model.IssueRelation;
+import com.tissue.api.issue.domain.model.enums.IssueRelationType;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이슈 관계 생성 이벤트
+ * - 알림 대상이 아닌 내부 이벤트이므로 DomainEvent를 구현하지 않는다
+ * - 순환 참조 검사용 인덱스, 캐시 등을 최신 상태로 유지하는데 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public class IssueRelationCreatedEvent {
+
+	private final String workspaceCode;
+	private final Long sourceIssueId;
+	private final String sourceIssueKey;
+	private final Long targetIssueId;
+	private final String targetIssueKey;
+	private final IssueRelationType relationType;
+
+	public static IssueRelationCreatedEvent createEvent(IssueRelation relation) {
+		return new IssueRelationCreatedEvent(
+			relation.getWorkspaceCode(),
+			relation.getSourceIssue().getId(),
+			relation.getSourceIssue().getIssueKey(),
+			relation.getTargetIssue().getId(),
+			relation.getTargetIssue().getIssueKey(),
+			relation.getRelationType()
+		);
+	}
+
+	/**
+	 * 생성된 관계가 BLOCKS 방향의 의존성(정방향 또는 역방향)을 만드는지 확인한다
+	 */
+	public boolean isBlockingRelation() {
+		return relationType == IssueRelationType.BLOCKS || relationType == IssueRelationType.BLOCKED_BY;
+	}
+}
@@ -0,0 +1,31 @@
+package com.tissue.api.issue.domain.event;
+
+import com.tissue.api.issue.domain.model.Issue;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이슈 관계 제거 이벤트
+ * - IssueRelation.removeRelation은 두 이슈 사이의 관계를 양방향 모두 제거한다
+ */
+@Getter
+@RequiredArgsConstructor
+public class IssueRelationRemovedEvent {
+
+	private final String workspaceCode;
+	private final Long sourceIssueId;
+	private final String sourceIssueKey;
+	private final Long targetIssueId;
+	private final String targetIssueKey;
+
+	public static IssueRelationRemovedEvent createEvent(Issue sourceIssue, Issue targetIssue) {
+		return new IssueRelationRemovedEvent(
+			sourceIssue.getWorkspaceCode(),
+			sourceIssue.getId(),
+			sourceIssue.getIssueKey(),
+			targetIssue.getId(),
+			targetIssue.getIssueKey()
+		);
+	}
+}
@@ -1,5 +1,7 @@
 package com.tissue.api.issue.domain.event;
 
+import java.io.Serial;
+
 import com.tissue.api.issue.domain.model.Issue;
 import com.tissue.api.issue.domain.model.enums.IssueStatus;
 import com.tissue.api.issue.domain.model.enums.IssueType;
@@ -15,6 +17,9 @@ import lombok.Getter;
 @Getter
 public class IssueStatusChangedEvent extends IssueEvent {
 
+	@Serial
+	private static final long serialVersionUID = 1L;
+
 	// 이슈 상태 변경 정보
 	private final IssueStatus oldStatus;
 	private final IssueStatus newStatus;
@@ -1,5 +1,6 @@
 package com.tissue.api.issue.domain.event;
 
+import java.io.Serial;
 import java.util.Objects;
 
 import com.tissue.api.issue.domain.model.Issue;
@@ -12,6 +13,9 @@ import lombok.Getter;
 @Getter
 public class IssueUpdatedEvent extends IssueEvent {
 
+	@Serial
+	private static final long serialVersionUID = 1L;
+
 	// 변경된 이슈 제목 (로깅 및 알림 목적)
 	private final String title;
 
@@ -0,0 +1,14 @@
+package com.tissue.api.issue.domain.event;
+
+import java.util.List;
+
+/**
+ * 이슈 가져오기에서 한 배치(트랜잭션)로 생성한 이슈들
+ * - 알림 대상 이벤트(DomainEvent)가 아니며, 검색 인덱스 등 내부 색인 갱신에만 사용한다
+ * - 알림은 가져오기가 끝난 후 IssuesImportedEvent로 한 번만 발행한다
+ */
+public record IssuesBatchCreatedEvent(
+	String workspaceCode,
+	List<Long> issueIds
+) {
+}
@@ -0,0 +1,40 @@
+package com.tissue.api.issue.domain.event;
+
+import java.io.Serial;
+
+import com.tissue.api.notification.domain.enums.NotificationType;
+import com.tissue.api.notification.domain.enums.ResourceType;
+import com.tissue.api.workspace.domain.event.WorkspaceEvent;
+
+import lombok.Getter;
+
+/**
+ * 이슈 가져오기 요약 이벤트
+ * - 가져온 이슈마다 IssueCreatedEvent(워크스페이스 전체 알림)를 발행하지 않고, 가져오기가 끝나면 한 번만 발행한다
+ */
+@Getter
+public class IssuesImportedEvent extends WorkspaceEvent {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private final int importedCount;
+	private final int failedCount;
+
+	public IssuesImportedEvent(
+		String workspaceCode,
+		Long actorMemberId,
+		int importedCount,
+		int failedCount
+	) {
+		super(
+			NotificationType.ISSUES_IMPORTED,
+			ResourceType.WORKSPACE,
+			workspaceCode,
+			actorMemberId
+		);
+
+		this.importedCount = importedCount;
+		this.failedCount = failedCount;
+	}
+}
@@ -0,0 +1,91 @@
+package com.tissue.api.issue.domain.event;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+import com.tissue.api.issue.domain.model.Issue;
+import com.tissue.api.issue.domain.model.enums.IssueStatus;
+import com.tissue.api.issue.domain.model.enums.IssueType;
+import com.tissue.api.notification.domain.enums.NotificationType;
+import com.tissue.api.notification.domain.enums.ResourceType;
+import com.tissue.api.workspace.domain.event.WorkspaceEvent;
+
+import lombok.Getter;
+
+/**
+ * 여러 이슈의 상태를 한 번에 변경한 이벤트
+ * - 이슈마다 IssueStatusChangedEvent를 발행하지 않고, 구독자마다 한 번만 알림을 보내기 위해 하나로 묶는다
+ */
+@Getter
+public class IssuesStatusChangedEvent extends WorkspaceEvent {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private final IssueStatus newStatus;
+	private final List<IssueStatusChange> changes;
+
+	public IssuesStatusChangedEvent(
+		String workspaceCode,
+		Long actorMemberId,
+		IssueStatus newStatus,
+		List<IssueStatusChange> changes
+	) {
+		super(
+			NotificationType.ISSUES_STATUS_CHANGED,
+			ResourceType.WORKSPACE,
+			workspaceCode,
+			actorMemberId
+		);
+		this.newStatus = newStatus;
+		this.changes = List.copyOf(changes);
+	}
+
+	public List<Long> getIssueIds() {
+		return changes.stream()
+			.map(IssueStatusChange::issueId)
+			.toList();
+	}
+
+	public List<String> getIssueKeys() {
+		return changes.stream()
+			.map(IssueStatusChange::issueKey)
+			.toList();
+	}
+
+	/**
+	 * 이슈 하나의 상태 변경 정보(IssueStatusChangedEvent와 같은 항목)
+	 */
+	public record IssueStatusChange(
+		Long issueId,
+		String issueKey,
+		IssueType issueType,
+		IssueStatus oldStatus,
+		Long parentIssueId,
+		String parentIssueKey,
+		IssueType parentIssueType
+	) implements Serializable {
+
+		@Serial
+		private static final long serialVersionUID = 1L;
+
+		public static IssueStatusChange of(Issue issue, IssueStatus oldStatus) {
+			Issue parentIssue = issue.hasParent() ? issue.getParentIssue() : null;
+
+			return new IssueStatusChange(
+				issue.getId(),
+				issue.getIssueKey(),
+				issue.getType(),
+				oldStatus,
+				parentIssue != null ? parentIssue.getId() : null,
+				parentIssue != null ? parentIssue.getIssueKey() : null,
+				parentIssue != null ? parentIssue.getType() : null
+			);
+		}
+
+		public boolean isChildOfEpic() {
+			return parentIssueType == IssueType.EPIC;
+		}
+	}
+}
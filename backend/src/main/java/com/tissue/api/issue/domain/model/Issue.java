@@ -44,10 +44,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 /**
- * Todo 3
- *  - 동시성 문제 해결을 위해서 이슈 생성에 spring-retry 적용
- *  - Workspace에서 issueKeyPrefix와 nextIssueNumber를 관리하기 때문에,
- *  Workspace에 Optimistic locking을 적용한다
  * Todo 4
  *  - 상태 업데이트는 도메인 이벤트(Domain Event) 발행으로 구현하는 것을 고려
  *  - 상태 변경과 관련된 부가 작업들(알림 발송, 감사 로그 기록 등)을 이벤트 핸들러에서 처리할 수 있어 확장성이 좋아짐
@@ -157,8 +153,7 @@ public abstract class Issue extends BaseEntity {
 		LocalDateTime dueAt,
 		Integer storyPoint
 	) {
-		this.issueKey = workspace.getIssueKey();
-		workspace.increaseNextIssueNumber();
+		this.issueKey = workspace.allocateIssueKey();
 
 		this.workspace = workspace;
 		this.workspaceCode = workspace.getCode();
@@ -0,0 +1,21 @@
+package com.tissue.api.issue.domain.service.search;
+
+import com.tissue.api.issue.domain.model.enums.IssuePriority;
+import com.tissue.api.issue.domain.model.enums.IssueStatus;
+import com.tissue.api.issue.domain.model.enums.IssueType;
+
+/**
+ * 검색 인덱스에 저장하는 이슈 정보
+ */
+public record IssueSearchDocument(
+	Long issueId,
+	String workspaceCode,
+	String issueKey,
+	IssueType type,
+	IssueStatus status,
+	IssuePriority priority,
+	String title,
+	String content,
+	String summary
+) {
+}
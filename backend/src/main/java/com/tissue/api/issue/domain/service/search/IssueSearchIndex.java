@@ -0,0 +1,28 @@
+package com.tissue.api.issue.domain.service.search;
+
+import java.util.List;
+
+import com.tissue.api.issue.presentation.controller.query.IssueSearchCondition;
+
+public interface IssueSearchIndex {
+	/**
+	 * Returns ids of the issues in the workspace matching the condition, newest first.
+	 * Status, type and priority filters and every keyword term must all match.
+	 */
+	List<Long> search(String workspaceCode, IssueSearchCondition condition);
+
+	/**
+	 * Adds the issue to the index, or replaces the previously indexed version of it.
+	 */
+	void index(IssueSearchDocument document);
+
+	/**
+	 * Drops the index of the workspace. It will be reloaded on next access.
+	 */
+	void evict(String workspaceCode);
+
+	/**
+	 * Reloads the index of every workspace that has issues.
+	 */
+	void rebuild();
+}
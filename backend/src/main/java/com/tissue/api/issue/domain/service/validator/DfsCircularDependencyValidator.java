@@ -1,5 +1,7 @@
 package com.tissue.api.issue.domain.service.validator;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -11,6 +13,11 @@ import com.tissue.api.issue.domain.service.validator.cache.IssueRelationDependen
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * source -> target 관계를 추가할 때, target에서 BLOCKS 관계로 도달 가능한 이슈에 source가 있으면 순환이 생긴다.
+ * - 이슈 별로 도달 가능한 이슈 키 집합을 캐시한다
+ * - 관계가 변경되면 IssueRelationDependencyCacheEventHandler가 영향을 받는 엔트리만 무효화한다
+ */
 @RequiredArgsConstructor
 public class DfsCircularDependencyValidator implements CircularDependencyValidator {
 
@@ -19,55 +26,43 @@ public class DfsCircularDependencyValidator implements CircularDependencyValidat
 	@Override
 	public void validateNoCircularDependency(Issue sourceIssue, Issue targetIssue) {
 		// 캐시 키 생성
-		String cacheKey = generateCacheKey(sourceIssue);
+		String cacheKey = IssueRelationDependencyCache.createKey(targetIssue.getWorkspaceCode(),
+			targetIssue.getIssueKey());
 
-		// 캐시 확인
-		Set<String> cachedDependencies = dependencyCache.get(cacheKey);
-		if (cachedDependencies != null && cachedDependencies.contains(targetIssue.getIssueKey())) {
-			throw new InvalidOperationException("Circular dependency detected in blocking chain.");
+		// 캐시 확인, 없으면 DFS로 도달 가능한 이슈 수집 후 캐시 업데이트
+		Set<String> reachableIssues = dependencyCache.get(cacheKey);
+		if (reachableIssues == null) {
+			reachableIssues = collectReachableIssues(targetIssue);
+			dependencyCache.put(cacheKey, reachableIssues);
 		}
 
-		// DFS로 순환 참조 검사 및 도달 가능한 이슈 수집
-		Set<String> reachableIssues = new HashSet<>();
-		Set<Issue> visited = new HashSet<>();
-		visited.add(sourceIssue);
-
-		try {
-			collectReachableIssues(targetIssue, visited, reachableIssues);
-			// 성공적으로 검사가 완료되면 캐시 업데이트
-			dependencyCache.put(cacheKey, reachableIssues);
-		} catch (InvalidOperationException e) {
-			// 예외가 발생해도 지금까지 수집된 정보는 캐시에 저장
-			dependencyCache.put(cacheKey, reachableIssues);
-			throw e;
+		if (reachableIssues.contains(sourceIssue.getIssueKey())) {
+			throw new InvalidOperationException("Circular dependency detected in blocking chain.");
 		}
 	}
 
 	/**
 	 * Collects all reachable issues using DFS.
 	 */
-	private void collectReachableIssues(Issue current, Set<Issue> visited, Set<String> reachableIssues) {
-		reachableIssues.add(current.getIssueKey());
+	private Set<String> collectReachableIssues(Issue startIssue) {
+		Set<String> reachableIssues = new HashSet<>();
+		Deque<Issue> stack = new ArrayDeque<>();
+		stack.push(startIssue);
 
-		for (IssueRelation relation : current.getOutgoingRelations()) {
-			if (relation.getRelationType() != IssueRelationType.BLOCKS) {
-				continue;
-			}
+		while (!stack.isEmpty()) {
+			Issue current = stack.pop();
 
-			Issue nextIssue = relation.getTargetIssue();
-			if (!visited.add(nextIssue)) {
-				throw new InvalidOperationException("Circular dependency detected in blocking chain.");
-			}
+			for (IssueRelation relation : current.getOutgoingRelations()) {
+				if (relation.getRelationType() != IssueRelationType.BLOCKS) {
+					continue;
+				}
 
-			collectReachableIssues(nextIssue, visited, reachableIssues);
-			visited.remove(nextIssue);
+				Issue nextIssue = relation.getTargetIssue();
+				if (reachableIssues.add(nextIssue.getIssueKey())) {
+					stack.push(nextIssue);
+				}
+			}
 		}
-	}
-
-	/**
-	 * Creates cache key.
-	 */
-	private String generateCacheKey(Issue issue) {
-		return issue.getWorkspaceCode() + ":" + issue.getIssueKey();
+		return reachableIssues;
 	}
 }
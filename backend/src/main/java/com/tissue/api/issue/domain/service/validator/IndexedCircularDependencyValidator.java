@@ -0,0 +1,31 @@
+package com.tissue.api.issue.domain.service.validator;
+
+import com.tissue.api.common.exception.type.InvalidOperationException;
+import com.tissue.api.issue.domain.model.Issue;
+import com.tissue.api.issue.domain.service.validator.index.BlockingRelationIndex;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 워크스페이스 단위의 BLOCKS 관계 인덱스를 사용해서 순환 참조를 검사한다.
+ * - source -> target 관계를 추가할 때, target에서 source로 이미 도달 가능하면 순환이 생긴다
+ * - 연관관계(Issue.getOutgoingRelations)를 따라가지 않으므로 지연 로딩 쿼리가 발생하지 않는다
+ */
+@RequiredArgsConstructor
+public class IndexedCircularDependencyValidator implements CircularDependencyValidator {
+
+	private final BlockingRelationIndex blockingRelationIndex;
+
+	@Override
+	public void validateNoCircularDependency(Issue sourceIssue, Issue targetIssue) {
+		boolean closesCycle = blockingRelationIndex.isReachable(
+			sourceIssue.getWorkspaceCode(),
+			targetIssue.getId(),
+			sourceIssue.getId()
+		);
+
+		if (closesCycle) {
+			throw new InvalidOperationException("Circular dependency detected in blocking chain.");
+		}
+	}
+}
@@ -3,6 +3,13 @@ package com.tissue.api.issue.domain.service.validator.cache;
 import java.util.Set;
 
 public interface IssueRelationDependencyCache {
+	/**
+	 * Creates the cache key of an issue.
+	 */
+	static String createKey(String workspaceCode, String issueKey) {
+		return workspaceCode + ":" + issueKey;
+	}
+
 	/**
 	 * Retrieves the list of dependencies associated with the given key.
 	 */
@@ -13,6 +20,14 @@ public interface IssueRelationDependencyCache {
 	 */
 	void put(String key, Set<String> dependencies);
 
+	/**
+	 * Evicts the entry of the given issue and every entry of the workspace
+	 * whose dependencies contain the issue (the issues that can reach it).
+	 * These are the only entries whose dependencies can change when
+	 * an outgoing BLOCKS relation of the issue is added or removed.
+	 */
+	void evictAncestorsOf(String workspaceCode, String issueKey);
+
 	/**
 	 * Clears the cache.
 	 */
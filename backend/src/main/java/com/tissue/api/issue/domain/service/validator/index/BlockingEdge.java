@@ -0,0 +1,10 @@
+package com.tissue.api.issue.domain.service.validator.index;
+
+/**
+ * BLOCKS 관계의 방향 간선(source가 target을 block)
+ */
+public record BlockingEdge(
+	Long sourceIssueId,
+	Long targetIssueId
+) {
+}
@@ -0,0 +1,24 @@
+package com.tissue.api.issue.domain.service.validator.index;
+
+public interface BlockingRelationIndex {
+	/**
+	 * Returns true if the target issue can be reached from the source issue
+	 * by following BLOCKS relations in the given workspace.
+	 */
+	boolean isReachable(String workspaceCode, Long fromIssueId, Long toIssueId);
+
+	/**
+	 * Adds a BLOCKS edge (blocking issue -> blocked issue) to the index.
+	 */
+	void addBlockingEdge(String workspaceCode, Long blockingIssueId, Long blockedIssueId);
+
+	/**
+	 * Removes every edge between the two issues, in both directions.
+	 */
+	void removeEdges(String workspaceCode, Long issueId, Long otherIssueId);
+
+	/**
+	 * Drops the index of the workspace. It will be reloaded on next access.
+	 */
+	void evict(String workspaceCode);
+}
@@ -1,5 +1,7 @@
 package com.tissue.api.issue.infrastructure.cache;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -7,15 +9,32 @@ import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.tissue.api.issue.domain.service.validator.cache.IssueRelationDependencyCache;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * hit/miss/eviction 통계는 cache.* 메트릭(cache=issueRelationDependency)으로 노출된다.
+ * 관계 변경으로 무효화된 엔트리 수는 issue.relation.dependency.cache.invalidations로 노출된다.
+ */
 public class CaffeineDependencyCache implements IssueRelationDependencyCache {
 
+	private static final String CACHE_NAME = "issueRelationDependency";
+
 	private final Cache<String, Set<String>> cache;
+	private final Counter invalidationCounter;
 
-	public CaffeineDependencyCache(int maximumSize, int expirationHours) {
+	public CaffeineDependencyCache(int maximumSize, int expirationHours, MeterRegistry meterRegistry) {
 		this.cache = Caffeine.newBuilder()
 			.maximumSize(maximumSize)
 			.expireAfterWrite(expirationHours, TimeUnit.HOURS)
+			.recordStats()
 			.build();
+
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+		this.invalidationCounter = Counter.builder("issue.relation.dependency.cache.invalidations")
+			.description("Entries evicted because a blocking relation changed")
+			.register(meterRegistry);
 	}
 
 	@Override
@@ -28,6 +47,25 @@ public class CaffeineDependencyCache implements IssueRelationDependencyCache {
 		cache.put(key, dependencies);
 	}
 
+	/**
+	 * 캐시된 엔트리를 순회하면서 영향을 받는 엔트리만 제거한다.
+	 * 캐시 크기(maximumSize)에 비례하는 비용이 들지만, DB 조회 없이 메모리 안에서 끝난다.
+	 */
+	@Override
+	public void evictAncestorsOf(String workspaceCode, String issueKey) {
+		String issueCacheKey = IssueRelationDependencyCache.createKey(workspaceCode, issueKey);
+		String workspacePrefix = IssueRelationDependencyCache.createKey(workspaceCode, "");
+
+		List<String> affectedKeys = cache.asMap().entrySet().stream()
+			.filter(entry -> entry.getKey().equals(issueCacheKey)
+				|| (entry.getKey().startsWith(workspacePrefix) && entry.getValue().contains(issueKey)))
+			.map(Map.Entry::getKey)
+			.toList();
+
+		cache.invalidateAll(affectedKeys);
+		invalidationCounter.increment(affectedKeys.size());
+	}
+
 	@Override
 	public void clear() {
 		cache.invalidateAll();
@@ -1,26 +1,53 @@
 package com.tissue.api.issue.infrastructure.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import com.tissue.api.issue.domain.service.validator.CircularDependencyValidator;
 import com.tissue.api.issue.domain.service.validator.DfsCircularDependencyValidator;
+import com.tissue.api.issue.domain.service.validator.IndexedCircularDependencyValidator;
 import com.tissue.api.issue.domain.service.validator.cache.IssueRelationDependencyCache;
+import com.tissue.api.issue.domain.service.validator.index.BlockingRelationIndex;
 import com.tissue.api.issue.infrastructure.cache.CaffeineDependencyCache;
+import com.tissue.api.issue.infrastructure.index.InMemoryBlockingRelationIndex;
+import com.tissue.api.issue.infrastructure.repository.IssueRelationRepository;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * api.issue.circular-dependency.strategy
+ *  - dfs(default): 연관관계를 따라가는 DFS + 도달 가능한 이슈 캐시
+ *  - index: 워크스페이스 단위의 인메모리 BLOCKS 관계 인덱스(단일 인스턴스 전용)
+ *    다른 노드에서 생성된 BLOCKS 관계를 알 수 없어 순환이 만들어질 수 있으므로, 여러 인스턴스로 운영할 때는 dfs를 사용한다
+ */
 @Configuration
 public class CircularDependencyConfig {
 
 	@Bean
 	public IssueRelationDependencyCache dependencyCache(
 		@Value("${api.issue.circular-dependency-cache.size:1000}") int cacheSize,
-		@Value("${api.issue.circular-dependency-cache.duration:24}") int expirationHours) {
-		return new CaffeineDependencyCache(cacheSize, expirationHours);
+		@Value("${api.issue.circular-dependency-cache.duration:24}") int expirationHours,
+		MeterRegistry meterRegistry) {
+		return new CaffeineDependencyCache(cacheSize, expirationHours, meterRegistry);
 	}
 
 	@Bean
+	@ConditionalOnProperty(name = "api.issue.circular-dependency.strategy", havingValue = "dfs", matchIfMissing = true)
 	public CircularDependencyValidator circularDependencyChecker(IssueRelationDependencyCache dependencyCache) {
 		return new DfsCircularDependencyValidator(dependencyCache);
 	}
+
+	@Bean
+	@ConditionalOnProperty(name = "api.issue.circular-dependency.strategy", havingValue = "index")
+	public BlockingRelationIndex blockingRelationIndex(IssueRelationRepository issueRelationRepository) {
+		return new InMemoryBlockingRelationIndex(issueRelationRepository);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "api.issue.circular-dependency.strategy", havingValue = "index")
+	public CircularDependencyValidator indexedCircularDependencyValidator(BlockingRelationIndex blockingRelationIndex) {
+		return new IndexedCircularDependencyValidator(blockingRelationIndex);
+	}
 }
@@ -0,0 +1,49 @@
+package com.tissue.api.issue.infrastructure.config;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.tissue.api.issue.application.service.command.EpicStoryPointCalculator;
+import com.tissue.api.issue.application.service.command.rollup.EpicStoryPointRollup;
+import com.tissue.api.issue.application.service.command.rollup.TransactionalEpicStoryPointRollup;
+import com.tissue.api.issue.infrastructure.rollup.DebouncedEpicStoryPointRollup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * api.issue.epic-rollup.mode
+ *  - transactional(default): 자식 이슈를 변경한 트랜잭션 안에서(커밋 직전) Epic 별로 한 번 재계산
+ *  - debounced: 커밋 후 Epic 별로 요청을 모아서 epicTaskExecutor에서 비동기로 재계산
+ */
+@Configuration
+public class EpicStoryPointRollupConfig {
+
+	@Bean
+	@ConditionalOnProperty(name = "api.issue.epic-rollup.mode", havingValue = "transactional", matchIfMissing = true)
+	public EpicStoryPointRollup transactionalEpicStoryPointRollup(EpicStoryPointCalculator epicStoryPointCalculator) {
+		return new TransactionalEpicStoryPointRollup(epicStoryPointCalculator);
+	}
+
+	@Bean(initMethod = "start", destroyMethod = "stop")
+	@ConditionalOnProperty(name = "api.issue.epic-rollup.mode", havingValue = "debounced")
+	public EpicStoryPointRollup debouncedEpicStoryPointRollup(
+		EpicStoryPointCalculator epicStoryPointCalculator,
+		@Qualifier("epicTaskExecutor") Executor epicTaskExecutor,
+		@Value("${api.issue.epic-rollup.quiet-period:500}") long quietPeriodMillis,
+		@Value("${api.issue.epic-rollup.max-delay:5000}") long maxDelayMillis,
+		MeterRegistry meterRegistry
+	) {
+		return new DebouncedEpicStoryPointRollup(
+			epicStoryPointCalculator,
+			epicTaskExecutor,
+			quietPeriodMillis,
+			maxDelayMillis,
+			meterRegistry
+		);
+	}
+}
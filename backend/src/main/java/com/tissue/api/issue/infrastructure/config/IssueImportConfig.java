@@ -0,0 +1,50 @@
+package com.tissue.api.issue.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.tissue.api.issue.application.service.command.bulk.IssueImportService;
+import com.tissue.api.issue.application.service.command.bulk.IssueImportWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tissue.api.issue.infrastructure.importer.IssueImportReaderFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.Validator;
+
+/**
+ * 이슈 가져오기
+ * - batch-size: 한 트랜잭션에서 저장하는 이슈 수(이슈 번호도 이 크기만큼 한 번에 예약한다)
+ * - max-reported-errors: 응답에 담는 실패 레코드 수(초과분은 failedCount에만 반영)
+ * - max-record-length: 레코드(CSV) 또는 줄(NDJSON)의 최대 문자 수(넘으면 그 레코드만 실패)
+ */
+@Configuration
+public class IssueImportConfig {
+
+	@Bean
+	public IssueImportReaderFactory issueImportReaderFactory(
+		ObjectMapper objectMapper,
+		@Value("${api.issue.import.max-record-length:32768}") int maxRecordLength
+	) {
+		return new IssueImportReaderFactory(objectMapper, maxRecordLength);
+	}
+
+	@Bean
+	public IssueImportService issueImportService(
+		IssueImportReaderFactory issueImportReaderFactory,
+		IssueImportWriter issueImportWriter,
+		Validator validator,
+		@Value("${api.issue.import.batch-size:500}") int batchSize,
+		@Value("${api.issue.import.max-reported-errors:100}") int maxReportedErrors,
+		MeterRegistry meterRegistry
+	) {
+		return new IssueImportService(
+			issueImportReaderFactory,
+			issueImportWriter,
+			validator,
+			batchSize,
+			maxReportedErrors,
+			meterRegistry
+		);
+	}
+}
@@ -0,0 +1,17 @@
+package com.tissue.api.issue.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.tissue.api.issue.domain.service.search.IssueSearchIndex;
+import com.tissue.api.issue.infrastructure.index.InMemoryIssueSearchIndex;
+import com.tissue.api.issue.infrastructure.repository.IssueRepository;
+
+@Configuration
+public class IssueSearchConfig {
+
+	@Bean
+	public IssueSearchIndex issueSearchIndex(IssueRepository issueRepository) {
+		return new InMemoryIssueSearchIndex(issueRepository);
+	}
+}
@@ -0,0 +1,116 @@
+package com.tissue.api.issue.infrastructure.importer;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.tissue.api.common.exception.type.InvalidRequestException;
+import com.tissue.api.issue.presentation.controller.dto.request.create.CreateIssueRequest;
+
+/**
+ * 첫 줄은 헤더이고, 헤더의 컬럼 이름은 CreateIssueRequest의 JSON 필드 이름을 사용한다
+ *  - ex. type,title,content,summary,priority,dueAt,storyPoint,businessGoal,severity,...
+ *  - 공통 필드(title, content, summary, priority, dueAt)는 common 객체로 옮겨서 이슈 생성 API와 같은 방식으로 변환한다
+ *  - 빈 값은 누락된 필드로 취급하고, 알 수 없는 컬럼은 무시한다
+ *  - 최대 길이를 넘은 레코드는 실패로 반환하고 다음 레코드를 계속 읽는다
+ */
+public class CsvIssueImportReader implements IssueImportReader {
+
+	private static final String TYPE_COLUMN = "type";
+	private static final Set<String> COMMON_FIELDS = Set.of("title", "content", "summary", "priority", "dueAt");
+
+	private final CsvRecordReader csvRecordReader;
+	private final ObjectMapper objectMapper;
+
+	private List<String> header;
+
+	public CsvIssueImportReader(CsvRecordReader csvRecordReader, ObjectMapper objectMapper) {
+		this.csvRecordReader = csvRecordReader;
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public IssueImportRecord next() throws IOException {
+		if (header == null && !readHeader()) {
+			return null;
+		}
+
+		while (true) {
+			List<String> values;
+			try {
+				values = csvRecordReader.readRecord();
+			} catch (CsvRecordTooLongException e) {
+				return IssueImportRecord.failed(csvRecordReader.getRecordLineNumber(), e.getMessage());
+			}
+
+			if (values == null) {
+				return null;
+			}
+			if (isBlank(values)) {
+				continue;
+			}
+
+			long lineNumber = csvRecordReader.getRecordLineNumber();
+			if (values.size() != header.size()) {
+				return IssueImportRecord.failed(lineNumber,
+					String.format("Expected %d columns but found %d", header.size(), values.size()));
+			}
+
+			try {
+				return IssueImportRecord.parsed(
+					lineNumber,
+					objectMapper.treeToValue(toJson(values), CreateIssueRequest.class)
+				);
+			} catch (JsonProcessingException e) {
+				return IssueImportRecord.failed(lineNumber, "Invalid value: " + e.getOriginalMessage());
+			} catch (IllegalArgumentException e) {
+				return IssueImportRecord.failed(lineNumber, "Invalid value: " + e.getMessage());
+			}
+		}
+	}
+
+	private boolean readHeader() throws IOException {
+		List<String> columns = csvRecordReader.readRecord();
+		if (columns == null) {
+			return false;
+		}
+
+		// 엑셀 등에서 저장한 UTF-8 BOM 제거
+		columns.set(0, columns.get(0).replace("\uFEFF", ""));
+		header = columns.stream()
+			.map(String::trim)
+			.toList();
+
+		if (!header.contains(TYPE_COLUMN)) {
+			throw new InvalidRequestException("CSV header must contain a 'type' column.");
+		}
+		return true;
+	}
+
+	private ObjectNode toJson(List<String> values) {
+		ObjectNode issue = objectMapper.createObjectNode();
+		ObjectNode common = issue.putObject("common");
+
+		for (int i = 0; i < header.size(); i++) {
+			String value = values.get(i);
+			if (value.isEmpty()) {
+				continue;
+			}
+			String column = header.get(i);
+			(COMMON_FIELDS.contains(column) ? common : issue).put(column, value);
+		}
+		return issue;
+	}
+
+	private boolean isBlank(List<String> values) {
+		return values.size() == 1 && values.get(0).isBlank();
+	}
+
+	@Override
+	public void close() throws IOException {
+		csvRecordReader.close();
+	}
+}
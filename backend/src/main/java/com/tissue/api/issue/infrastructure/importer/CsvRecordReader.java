@@ -0,0 +1,130 @@
+package com.tissue.api.issue.infrastructure.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * RFC 4180 CSV를 레코드 단위로 읽는다
+ * - 따옴표로 감싼 필드 안의 쉼표, 줄바꿈, 이스케이프된 따옴표("")를 지원한다
+ * - 레코드 구분은 CRLF, LF, CR 모두 허용한다
+ * - 닫히지 않은 따옴표는 나머지 본문 전체를 하나의 필드로 만들기 때문에 IOException으로 중단한다
+ * - 레코드가 maxRecordLength(문자 수)를 넘으면 더 이상 버퍼에 담지 않고 레코드 끝까지 건너뛴 뒤 CsvRecordTooLongException을 던진다
+ */
+public class CsvRecordReader implements Closeable {
+
+	private static final int EOF = -1;
+	private static final int NONE = -2;
+
+	private final Reader reader;
+	private final int maxRecordLength;
+
+	private int peeked = NONE;
+	private long lineNumber = 1;
+
+	/**
+	 * 마지막으로 읽은 레코드가 시작한 줄 번호
+	 */
+	@Getter
+	private long recordLineNumber;
+
+	public CsvRecordReader(Reader reader, int maxRecordLength) {
+		this.reader = reader;
+		this.maxRecordLength = maxRecordLength;
+	}
+
+	/**
+	 * @return 다음 레코드의 필드 목록, 더 이상 없으면 null
+	 * @throws CsvRecordTooLongException 레코드가 최대 길이를 넘은 경우(다음 호출은 그 다음 레코드를 읽는다)
+	 */
+	public List<String> readRecord() throws IOException {
+		int c = read();
+		if (c == EOF) {
+			return null;
+		}
+		recordLineNumber = lineNumber;
+
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		int fieldLength = 0;
+		int recordLength = 0;
+		boolean tooLong = false;
+
+		while (true) {
+			if (!tooLong && ++recordLength > maxRecordLength) {
+				// 레코드 구분을 찾을 때까지 따옴표 상태만 추적하고 값은 버린다
+				tooLong = true;
+				fields.clear();
+				field.setLength(0);
+			}
+
+			if (quoted) {
+				if (c == EOF) {
+					throw new IOException("Unterminated quoted field in record starting at line " + recordLineNumber);
+				}
+				if (c == '"') {
+					int next = read();
+					if (next != '"') {
+						quoted = false;
+						c = next;
+						continue;
+					}
+				} else if (c == '\n') {
+					lineNumber++;
+				}
+				append(field, c, tooLong);
+				fieldLength++;
+			} else if (c == '"' && fieldLength == 0) {
+				quoted = true;
+			} else if (c == ',') {
+				if (!tooLong) {
+					fields.add(field.toString());
+				}
+				field.setLength(0);
+				fieldLength = 0;
+			} else if (c == '\r' || c == '\n' || c == EOF) {
+				if (c == '\r') {
+					int next = read();
+					if (next != '\n') {
+						peeked = next;
+					}
+				}
+				lineNumber++;
+				if (tooLong) {
+					throw new CsvRecordTooLongException(recordLineNumber, maxRecordLength);
+				}
+				fields.add(field.toString());
+				return fields;
+			} else {
+				append(field, c, tooLong);
+				fieldLength++;
+			}
+			c = read();
+		}
+	}
+
+	private void append(StringBuilder field, int c, boolean tooLong) {
+		if (!tooLong) {
+			field.append((char)c);
+		}
+	}
+
+	private int read() throws IOException {
+		if (peeked != NONE) {
+			int c = peeked;
+			peeked = NONE;
+			return c;
+		}
+		return reader.read();
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+}
@@ -0,0 +1,13 @@
+package com.tissue.api.issue.infrastructure.importer;
+
+import java.io.IOException;
+
+/**
+ * 레코드가 최대 길이를 넘은 경우(레코드의 끝까지는 읽은 상태이므로 다음 레코드를 계속 읽을 수 있다)
+ */
+public class CsvRecordTooLongException extends IOException {
+
+	public CsvRecordTooLongException(long lineNumber, int maxRecordLength) {
+		super(String.format("Record starting at line %d exceeds %d characters", lineNumber, maxRecordLength));
+	}
+}
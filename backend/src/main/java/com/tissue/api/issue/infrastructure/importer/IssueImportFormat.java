@@ -0,0 +1,42 @@
+package com.tissue.api.issue.infrastructure.importer;
+
+import java.util.Arrays;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import com.tissue.api.common.exception.type.InvalidRequestException;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이슈 가져오기 요청 본문의 형식(Content-Type으로 구분한다)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum IssueImportFormat {
+
+	CSV("text/csv"),
+	NDJSON("application/x-ndjson");
+
+	private final String mediaType;
+
+	public static IssueImportFormat fromContentType(String contentType) {
+		try {
+			MediaType requested = MediaType.parseMediaType(contentType);
+			return Arrays.stream(values())
+				.filter(format -> MediaType.parseMediaType(format.mediaType).isCompatibleWith(requested))
+				.findFirst()
+				.orElseThrow(() -> unsupported(contentType));
+		} catch (InvalidMediaTypeException e) {
+			throw unsupported(contentType);
+		}
+	}
+
+	private static InvalidRequestException unsupported(String contentType) {
+		return new InvalidRequestException(
+			String.format("Unsupported import content type: %s (use text/csv or application/x-ndjson)", contentType)
+		);
+	}
+}
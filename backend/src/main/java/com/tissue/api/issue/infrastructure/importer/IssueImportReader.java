@@ -0,0 +1,17 @@
+package com.tissue.api.issue.infrastructure.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 가져오기 본문을 레코드 단위로 읽는다
+ * - 본문 전체를 메모리에 올리지 않고 요청 스트림에서 필요한 만큼만 읽는다
+ * - 형식이 잘못된 레코드는 예외를 던지지 않고 실패 레코드로 반환한다(다음 레코드부터 계속 읽을 수 있다)
+ */
+public interface IssueImportReader extends Closeable {
+
+	/**
+	 * @return 다음 레코드, 더 이상 없으면 null
+	 */
+	IssueImportRecord next() throws IOException;
+}
@@ -0,0 +1,37 @@
+package com.tissue.api.issue.infrastructure.importer;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tissue.api.issue.presentation.controller.dto.request.create.CreateIssueRequest;
+
+/**
+ * 이슈 생성 API와 같은 ObjectMapper(날짜, enum 변환 설정)로 가져오기 레코드를 변환한다
+ * - 레코드(CSV) 또는 줄(NDJSON)이 maxRecordLength(문자 수)를 넘으면 그 레코드만 실패로 처리한다
+ */
+public class IssueImportReaderFactory {
+
+	private final ObjectMapper objectMapper;
+	private final int maxRecordLength;
+
+	public IssueImportReaderFactory(ObjectMapper objectMapper, int maxRecordLength) {
+		this.objectMapper = objectMapper;
+		this.maxRecordLength = maxRecordLength;
+	}
+
+	public IssueImportReader open(IssueImportFormat format, InputStream body) {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+
+		return switch (format) {
+			case CSV -> new CsvIssueImportReader(new CsvRecordReader(reader, maxRecordLength), objectMapper);
+			case NDJSON -> new NdjsonIssueImportReader(
+				reader,
+				objectMapper.readerFor(CreateIssueRequest.class),
+				maxRecordLength
+			);
+		};
+	}
+}
@@ -0,0 +1,27 @@
+package com.tissue.api.issue.infrastructure.importer;
+
+import com.tissue.api.issue.presentation.controller.dto.request.create.CreateIssueRequest;
+
+/**
+ * 가져오기 본문에서 읽은 레코드 하나
+ * - 파싱에 실패한 레코드는 request 대신 error를 가진다
+ *
+ * @param lineNumber 레코드가 시작하는 줄 번호(1부터, CSV는 헤더 포함)
+ */
+public record IssueImportRecord(
+	long lineNumber,
+	CreateIssueRequest request,
+	String error
+) {
+	public static IssueImportRecord parsed(long lineNumber, CreateIssueRequest request) {
+		return new IssueImportRecord(lineNumber, request, null);
+	}
+
+	public static IssueImportRecord failed(long lineNumber, String error) {
+		return new IssueImportRecord(lineNumber, null, error);
+	}
+
+	public boolean isParsed() {
+		return error == null;
+	}
+}
@@ -0,0 +1,87 @@
+package com.tissue.api.issue.infrastructure.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * 한 줄에 CreateIssueRequest JSON 하나(이슈 생성 API의 요청 본문과 같은 형식)
+ * - 줄 단위로 파싱하므로 잘못된 줄이 있어도 다음 줄부터 계속 읽는다
+ * - 빈 줄은 건너뛴다
+ * - maxLineLength(문자 수)를 넘는 줄은 더 이상 버퍼에 담지 않고 줄 끝까지 건너뛴 뒤 실패로 반환한다
+ */
+public class NdjsonIssueImportReader implements IssueImportReader {
+
+	private static final int EOF = -1;
+
+	private final BufferedReader reader;
+	private final ObjectReader objectReader;
+	private final int maxLineLength;
+
+	private long lineNumber;
+	private boolean lineTooLong;
+
+	public NdjsonIssueImportReader(BufferedReader reader, ObjectReader objectReader, int maxLineLength) {
+		this.reader = reader;
+		this.objectReader = objectReader;
+		this.maxLineLength = maxLineLength;
+	}
+
+	@Override
+	public IssueImportRecord next() throws IOException {
+		String line;
+		while ((line = readLine()) != null) {
+			lineNumber++;
+			if (lineTooLong) {
+				return IssueImportRecord.failed(lineNumber,
+					String.format("Line exceeds %d characters", maxLineLength));
+			}
+			if (line.isBlank()) {
+				continue;
+			}
+			try {
+				return IssueImportRecord.parsed(lineNumber, objectReader.readValue(line));
+			} catch (JsonProcessingException e) {
+				return IssueImportRecord.failed(lineNumber, "Invalid JSON: " + e.getOriginalMessage());
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * BufferedReader.readLine과 같이 LF, CRLF, CR로 줄을 나누되, 최대 길이를 넘으면 나머지 문자는 버린다
+	 */
+	private String readLine() throws IOException {
+		lineTooLong = false;
+
+		int c = reader.read();
+		if (c == EOF) {
+			return null;
+		}
+
+		StringBuilder line = new StringBuilder();
+		while (c != EOF && c != '\n' && c != '\r') {
+			if (line.length() < maxLineLength) {
+				line.append((char)c);
+			} else {
+				lineTooLong = true;
+			}
+			c = reader.read();
+		}
+
+		if (c == '\r') {
+			reader.mark(1);
+			if (reader.read() != '\n') {
+				reader.reset();
+			}
+		}
+		return line.toString();
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+}
@@ -0,0 +1,67 @@
+package com.tissue.api.issue.infrastructure.index;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한 워크스페이스의 BLOCKS 관계를 이슈 id 기반의 인접 리스트로 보관한다.
+ * - 여러 요청 스레드에서 동시에 접근하므로 모든 연산을 동기화한다
+ */
+class BlockingGraph {
+
+	private final Map<Long, Set<Long>> successors = new HashMap<>();
+
+	synchronized void addEdge(Long from, Long to) {
+		successors.computeIfAbsent(from, key -> new HashSet<>()).add(to);
+	}
+
+	synchronized void removeEdge(Long from, Long to) {
+		Set<Long> targets = successors.get(from);
+		if (targets == null) {
+			return;
+		}
+		targets.remove(to);
+		if (targets.isEmpty()) {
+			successors.remove(from);
+		}
+	}
+
+	/**
+	 * BFS로 from에서 to까지 도달 가능한지 확인한다
+	 */
+	synchronized boolean isReachable(Long from, Long to) {
+		if (from.equals(to)) {
+			return true;
+		}
+
+		Set<Long> visited = new HashSet<>();
+		Deque<Long> queue = new ArrayDeque<>();
+		visited.add(from);
+		queue.add(from);
+
+		while (!queue.isEmpty()) {
+			Collection<Long> nextIssues = successors.getOrDefault(queue.poll(), Set.of());
+
+			for (Long next : nextIssues) {
+				if (next.equals(to)) {
+					return true;
+				}
+				if (visited.add(next)) {
+					queue.add(next);
+				}
+			}
+		}
+		return false;
+	}
+
+	synchronized int edgeCount() {
+		return successors.values().stream()
+			.mapToInt(Set::size)
+			.sum();
+	}
+}
@@ -0,0 +1,69 @@
+package com.tissue.api.issue.infrastructure.index;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.tissue.api.issue.domain.service.validator.index.BlockingEdge;
+import com.tissue.api.issue.domain.service.validator.index.BlockingRelationIndex;
+import com.tissue.api.issue.infrastructure.repository.IssueRelationRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 워크스페이스 별 BLOCKS 관계 그래프를 메모리에 보관하는 인덱스
+ * - 워크스페이스의 그래프는 처음 접근할 때 한 번의 쿼리로 적재한다
+ * - 이후에는 관계 생성/제거 이벤트로 간선을 추가/제거해서 최신 상태를 유지한다
+ * - 아직 적재되지 않은 워크스페이스에 대한 변경은 무시한다(다음 적재 시 DB에서 읽어온다)
+ * - 같은 노드의 동시 생성은 워크스페이스 잠금 + 커밋 직전 간선 추가로 직렬화되지만,
+ *   다른 노드에서 생성된 간선은 전파되지 않으므로 단일 인스턴스에서만 사용한다(CircularDependencyConfig 참고)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class InMemoryBlockingRelationIndex implements BlockingRelationIndex {
+
+	private final IssueRelationRepository issueRelationRepository;
+
+	private final Map<String, BlockingGraph> graphs = new ConcurrentHashMap<>();
+
+	@Override
+	public boolean isReachable(String workspaceCode, Long fromIssueId, Long toIssueId) {
+		return loadGraph(workspaceCode).isReachable(fromIssueId, toIssueId);
+	}
+
+	@Override
+	public void addBlockingEdge(String workspaceCode, Long blockingIssueId, Long blockedIssueId) {
+		// computeIfPresent는 같은 키의 computeIfAbsent(적재)가 끝날 때까지 대기한다
+		graphs.computeIfPresent(workspaceCode, (code, graph) -> {
+			graph.addEdge(blockingIssueId, blockedIssueId);
+			return graph;
+		});
+	}
+
+	@Override
+	public void removeEdges(String workspaceCode, Long issueId, Long otherIssueId) {
+		graphs.computeIfPresent(workspaceCode, (code, graph) -> {
+			graph.removeEdge(issueId, otherIssueId);
+			graph.removeEdge(otherIssueId, issueId);
+			return graph;
+		});
+	}
+
+	@Override
+	public void evict(String workspaceCode) {
+		graphs.remove(workspaceCode);
+	}
+
+	private BlockingGraph loadGraph(String workspaceCode) {
+		return graphs.computeIfAbsent(workspaceCode, code -> {
+			List<BlockingEdge> edges = issueRelationRepository.findBlockingEdgesByWorkspaceCode(code);
+
+			BlockingGraph graph = new BlockingGraph();
+			edges.forEach(edge -> graph.addEdge(edge.sourceIssueId(), edge.targetIssueId()));
+
+			log.debug("Blocking relation index loaded. workspaceCode: {}, edges: {}", code, graph.edgeCount());
+			return graph;
+		});
+	}
+}
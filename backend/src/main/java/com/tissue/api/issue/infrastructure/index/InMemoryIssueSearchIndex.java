@@ -0,0 +1,83 @@
+package com.tissue.api.issue.infrastructure.index;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.tissue.api.issue.domain.service.search.IssueSearchDocument;
+import com.tissue.api.issue.domain.service.search.IssueSearchIndex;
+import com.tissue.api.issue.infrastructure.repository.IssueRepository;
+import com.tissue.api.issue.presentation.controller.query.IssueSearchCondition;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 워크스페이스 별 이슈 역색인을 메모리에 보관하는 검색 인덱스
+ * - 워크스페이스의 인덱스는 처음 검색할 때(또는 시작 시 rebuild) 한 번의 쿼리로 적재한다
+ * - 이후에는 이슈 생성/수정/상태 변경 이벤트로 해당 이슈만 다시 색인한다
+ * - 아직 적재되지 않은 워크스페이스에 대한 변경은 무시한다(다음 적재 시 DB에서 읽어온다)
+ * - 다른 노드에서 수정된 이슈는 이 노드의 인덱스에 반영되지 않으므로 매칭 여부가 이전 내용 기준일 수 있다
+ *   (응답 필드는 IssueSearchRow로 DB에서 다시 읽으므로 최신 값이다)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class InMemoryIssueSearchIndex implements IssueSearchIndex {
+
+	private final IssueRepository issueRepository;
+
+	private final Map<String, IssueDocumentIndex> indexes = new ConcurrentHashMap<>();
+
+	@Override
+	public List<Long> search(String workspaceCode, IssueSearchCondition condition) {
+		Set<String> queryTerms = Set.of();
+		String keyword = null;
+		if (condition.hasKeyword()) {
+			queryTerms = IssueTextTokenizer.queryTerms(condition.keyword());
+			keyword = condition.keyword().trim().toLowerCase(Locale.ROOT);
+		}
+
+		return loadIndex(workspaceCode).search(
+			condition.statuses(),
+			condition.types(),
+			condition.priorities(),
+			queryTerms,
+			keyword
+		);
+	}
+
+	@Override
+	public void index(IssueSearchDocument document) {
+		// computeIfPresent는 같은 키의 적재(computeIfAbsent, compute)가 끝날 때까지 대기한다
+		indexes.computeIfPresent(document.workspaceCode(), (code, index) -> {
+			index.index(document);
+			return index;
+		});
+	}
+
+	@Override
+	public void evict(String workspaceCode) {
+		indexes.remove(workspaceCode);
+	}
+
+	@Override
+	public void rebuild() {
+		List<String> workspaceCodes = issueRepository.findDistinctWorkspaceCodes();
+		workspaceCodes.forEach(workspaceCode -> indexes.compute(workspaceCode, (code, previous) -> load(code)));
+		log.info("Issue search index rebuilt. workspaces: {}", workspaceCodes.size());
+	}
+
+	private IssueDocumentIndex loadIndex(String workspaceCode) {
+		return indexes.computeIfAbsent(workspaceCode, this::load);
+	}
+
+	private IssueDocumentIndex load(String workspaceCode) {
+		IssueDocumentIndex index = new IssueDocumentIndex();
+		issueRepository.findSearchDocumentsByWorkspaceCode(workspaceCode).forEach(index::index);
+
+		log.debug("Issue search index loaded. workspaceCode: {}, issues: {}", workspaceCode, index.size());
+		return index;
+	}
+}
@@ -0,0 +1,170 @@
+package com.tissue.api.issue.infrastructure.index;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.tissue.api.issue.domain.model.enums.IssuePriority;
+import com.tissue.api.issue.domain.model.enums.IssueStatus;
+import com.tissue.api.issue.domain.model.enums.IssueType;
+import com.tissue.api.issue.domain.service.search.IssueSearchDocument;
+
+/**
+ * 한 워크스페이스의 이슈 역색인
+ * - 이슈마다 워크스페이스 안에서만 쓰는 연속된 문서 번호(docId)를 부여하고, posting list를 BitSet으로 보관한다
+ * - 상태/타입/우선순위 필터와 검색어 term은 모두 BitSet의 교집합(and)으로 처리한다
+ * - 검색은 동시에 여러 스레드에서, 색인은 한 번에 한 스레드에서 하도록 ReadWriteLock을 사용한다
+ */
+class IssueDocumentIndex {
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final Map<Long, Integer> docIds = new HashMap<>();
+	private final List<IndexedDocument> documents = new ArrayList<>();
+
+	private final Map<String, BitSet> termPostings = new HashMap<>();
+	private final Map<IssueStatus, BitSet> statusPostings = new EnumMap<>(IssueStatus.class);
+	private final Map<IssueType, BitSet> typePostings = new EnumMap<>(IssueType.class);
+	private final Map<IssuePriority, BitSet> priorityPostings = new EnumMap<>(IssuePriority.class);
+
+	void index(IssueSearchDocument document) {
+		Set<String> terms = new LinkedHashSet<>();
+		terms.add(document.issueKey().toLowerCase(Locale.ROOT));
+		terms.addAll(IssueTextTokenizer.indexTerms(document.issueKey()));
+		terms.addAll(IssueTextTokenizer.indexTerms(document.title()));
+		terms.addAll(IssueTextTokenizer.indexTerms(document.content()));
+		terms.addAll(IssueTextTokenizer.indexTerms(document.summary()));
+
+		IndexedDocument indexed = new IndexedDocument(
+			document.issueId(),
+			terms,
+			document.status(),
+			document.type(),
+			document.priority()
+		);
+
+		lock.writeLock().lock();
+		try {
+			Integer docId = docIds.get(document.issueId());
+			if (docId == null) {
+				docId = documents.size();
+				docIds.put(document.issueId(), docId);
+				documents.add(indexed);
+			} else {
+				unpost(docId, documents.get(docId));
+				documents.set(docId, indexed);
+			}
+			post(docId, indexed);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * @param keyword 정규화(trim, 소문자)한 검색어, 없으면 null
+	 * - 검색어의 모든 term을 포함하거나, 검색어 전체가 이슈 키와 일치하는 이슈를 찾는다
+	 * @return 조건에 맞는 이슈 id(최신순)
+	 */
+	List<Long> search(
+		Collection<IssueStatus> statuses,
+		Collection<IssueType> types,
+		Collection<IssuePriority> priorities,
+		Set<String> queryTerms,
+		String keyword
+	) {
+		lock.readLock().lock();
+		try {
+			BitSet matches = new BitSet(documents.size());
+			matches.set(0, documents.size());
+
+			if (keyword != null) {
+				if (queryTerms.isEmpty()) {
+					matches.clear();
+				}
+				for (String term : queryTerms) {
+					matches.and(termPostings.getOrDefault(term, new BitSet()));
+				}
+				matches.or(termPostings.getOrDefault(keyword, new BitSet()));
+			}
+
+			intersect(matches, statusPostings, statuses);
+			intersect(matches, typePostings, types);
+			intersect(matches, priorityPostings, priorities);
+
+			List<Long> issueIds = new ArrayList<>(matches.cardinality());
+			matches.stream().forEach(docId -> issueIds.add(documents.get(docId).issueId()));
+			issueIds.sort(Comparator.reverseOrder());
+			return issueIds;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	int size() {
+		lock.readLock().lock();
+		try {
+			return documents.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 필터 값이 비어있으면 조건을 적용하지 않고, 값이 여러 개면 각 값의 posting list 합집합과 교집합을 구한다
+	 */
+	private static <E> void intersect(BitSet matches, Map<E, BitSet> postings, Collection<E> values) {
+		if (values == null || values.isEmpty()) {
+			return;
+		}
+		BitSet union = new BitSet();
+		for (E value : values) {
+			BitSet posting = postings.get(value);
+			if (posting != null) {
+				union.or(posting);
+			}
+		}
+		matches.and(union);
+	}
+
+	private void post(int docId, IndexedDocument document) {
+		document.terms().forEach(term -> termPostings.computeIfAbsent(term, key -> new BitSet()).set(docId));
+		statusPostings.computeIfAbsent(document.status(), key -> new BitSet()).set(docId);
+		typePostings.computeIfAbsent(document.type(), key -> new BitSet()).set(docId);
+		priorityPostings.computeIfAbsent(document.priority(), key -> new BitSet()).set(docId);
+	}
+
+	private void unpost(int docId, IndexedDocument document) {
+		for (String term : document.terms()) {
+			BitSet posting = termPostings.get(term);
+			posting.clear(docId);
+			if (posting.isEmpty()) {
+				termPostings.remove(term);
+			}
+		}
+		statusPostings.get(document.status()).clear(docId);
+		typePostings.get(document.type()).clear(docId);
+		priorityPostings.get(document.priority()).clear(docId);
+	}
+
+	/**
+	 * 재색인 시 이전 posting을 지우기 위해 색인한 term과 필터 값을 함께 보관한다
+	 */
+	private record IndexedDocument(
+		Long issueId,
+		Set<String> terms,
+		IssueStatus status,
+		IssueType type,
+		IssuePriority priority
+	) {
+	}
+}
@@ -0,0 +1,114 @@
+package com.tissue.api.issue.infrastructure.index;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 이슈 제목/내용/요약을 검색어 단위(term)로 나눈다
+ * - 글자/숫자가 아닌 문자를 구분자로 사용하고, 소문자로 정규화한다
+ * - 한글 구간은 형태소 분석 없이 부분 문자열 검색이 되도록 1-gram, 2-gram으로 나눈다
+ * - 그 외 단어는 앞부분만 입력해도 찾을 수 있도록 접두어(MIN_PREFIX_LENGTH ~ MAX_PREFIX_LENGTH)로 색인한다
+ */
+final class IssueTextTokenizer {
+
+	private static final int MIN_PREFIX_LENGTH = 2;
+	private static final int MAX_PREFIX_LENGTH = 20;
+
+	private IssueTextTokenizer() {
+	}
+
+	/**
+	 * 색인할 문서의 term
+	 */
+	static Set<String> indexTerms(String text) {
+		Set<String> terms = new LinkedHashSet<>();
+		forEachRun(text, (run, hangul) -> {
+			if (hangul) {
+				addNGrams(run, 1, terms);
+				addNGrams(run, 2, terms);
+			} else {
+				addPrefixes(run, terms);
+			}
+		});
+		return terms;
+	}
+
+	/**
+	 * 검색어의 term
+	 * - 한 글자 한글 구간은 1-gram, 그 외 한글 구간은 2-gram
+	 * - 그 외 단어는 MAX_PREFIX_LENGTH 까지 자른 단어 그대로(색인된 접두어와 비교)
+	 */
+	static Set<String> queryTerms(String text) {
+		Set<String> terms = new LinkedHashSet<>();
+		forEachRun(text, (run, hangul) -> {
+			if (hangul) {
+				addNGrams(run, run.length() == 1 ? 1 : 2, terms);
+			} else {
+				terms.add(run.length() > MAX_PREFIX_LENGTH ? run.substring(0, MAX_PREFIX_LENGTH) : run);
+			}
+		});
+		return terms;
+	}
+
+	private static void addNGrams(String run, int n, Set<String> terms) {
+		for (int i = 0; i + n <= run.length(); i++) {
+			terms.add(run.substring(i, i + n));
+		}
+	}
+
+	private static void addPrefixes(String run, Set<String> terms) {
+		if (run.length() < MIN_PREFIX_LENGTH) {
+			terms.add(run);
+			return;
+		}
+		int maxLength = Math.min(run.length(), MAX_PREFIX_LENGTH);
+		for (int length = MIN_PREFIX_LENGTH; length <= maxLength; length++) {
+			terms.add(run.substring(0, length));
+		}
+	}
+
+	/**
+	 * 텍스트를 한글 구간과 그 외 글자/숫자 구간으로 나눈다
+	 */
+	private static void forEachRun(String text, RunConsumer consumer) {
+		if (text == null || text.isBlank()) {
+			return;
+		}
+		String normalized = text.toLowerCase(Locale.ROOT);
+
+		StringBuilder run = new StringBuilder();
+		boolean runIsHangul = false;
+
+		for (int i = 0; i < normalized.length(); ) {
+			int codePoint = normalized.codePointAt(i);
+			i += Character.charCount(codePoint);
+
+			if (!Character.isLetterOrDigit(codePoint)) {
+				flush(run, runIsHangul, consumer);
+				continue;
+			}
+
+			boolean hangul = Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL;
+			if (!run.isEmpty() && hangul != runIsHangul) {
+				flush(run, runIsHangul, consumer);
+			}
+			runIsHangul = hangul;
+			run.appendCodePoint(codePoint);
+		}
+		flush(run, runIsHangul, consumer);
+	}
+
+	private static void flush(StringBuilder run, boolean hangul, RunConsumer consumer) {
+		if (run.isEmpty()) {
+			return;
+		}
+		consumer.accept(run.toString(), hangul);
+		run.setLength(0);
+	}
+
+	@FunctionalInterface
+	private interface RunConsumer {
+		void accept(String run, boolean hangul);
+	}
+}
@@ -0,0 +1,130 @@
+package com.tissue.api.issue.infrastructure.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.tissue.api.issue.domain.model.Issue;
+import com.tissue.api.issue.infrastructure.repository.projection.ChildIssueRow;
+import com.tissue.api.issue.infrastructure.repository.projection.IssueMemberRow;
+import com.tissue.api.issue.infrastructure.repository.projection.IssueRelationRow;
+import com.tissue.api.issue.infrastructure.repository.projection.IssueRow;
+import com.tissue.api.issue.infrastructure.repository.projection.IssueSearchRow;
+import com.tissue.api.issue.infrastructure.repository.projection.IssueSprintRow;
+import com.tissue.api.issue.infrastructure.repository.projection.IssueSummaryRow;
+
+/**
+ * 이슈 상세 조회 전용 쿼리
+ * - 응답 DTO에 필요한 컬럼만 constructor expression으로 조회한다
+ * - 컬렉션(담당자, 리뷰어, 구독자, 관계, 하위 이슈, 스프린트)은 fetch join으로 한 번에 묶지 않고(카테시안 곱 방지)
+ *   컬렉션마다 이슈 id IN 쿼리 한 번씩 조회한다
+ * - 담당자, 리뷰어, 구독자는 Member id를 저장하므로 WorkspaceMember는 (member id, workspaceCode)로 조인한다
+ */
+public interface IssueQueryRepository extends JpaRepository<Issue, Long> {
+
+	String SELECT_ISSUE_ROW = "SELECT new com.tissue.api.issue.infrastructure.repository.projection.IssueRow("
+		+ "i.id, i.issueKey, i.type, i.title, i.content, i.summary, i.status, i.priority, "
+		+ "i.startedAt, i.resolvedAt, i.reviewRequestedAt, i.dueAt, i.storyPoint, i.currentReviewRound, "
+		+ "p.issueKey, i.createdDate, i.createdBy, i.lastModifiedDate, i.lastModifiedBy) ";
+
+	String SELECT_MEMBER_ROW = "SELECT new com.tissue.api.issue.infrastructure.repository.projection.IssueMemberRow(";
+
+	@Query(SELECT_ISSUE_ROW
+		+ "FROM Issue i "
+		+ "LEFT JOIN i.parentIssue p "
+		+ "WHERE i.issueKey = :issueKey AND i.workspaceCode = :workspaceCode")
+	Optional<IssueRow> findIssueRow(
+		@Param("issueKey") String issueKey,
+		@Param("workspaceCode") String workspaceCode
+	);
+
+	/**
+	 * 존재하지 않는 이슈 키는 결과에서 빠진다(호출하는 쪽에서 IN 목록의 크기를 나눠서 호출한다)
+	 */
+	@Query("SELECT new com.tissue.api.issue.infrastructure.repository.projection.IssueSummaryRow("
+		+ "i.id, i.issueKey, i.type, i.title, i.status, i.priority, i.dueAt, i.storyPoint, "
+		+ "p.issueKey, i.createdDate, i.createdBy) "
+		+ "FROM Issue i "
+		+ "LEFT JOIN i.parentIssue p "
+		+ "WHERE i.issueKey IN :issueKeys AND i.workspaceCode = :workspaceCode")
+	List<IssueSummaryRow> findIssueSummaryRows(
+		@Param("issueKeys") Collection<String> issueKeys,
+		@Param("workspaceCode") String workspaceCode
+	);
+
+	/**
+	 * 검색 인덱스가 돌려준 id 중 이 워크스페이스의 이슈만 조회한다
+	 */
+	@Query("SELECT new com.tissue.api.issue.infrastructure.repository.projection.IssueSearchRow("
+		+ "i.id, i.issueKey, i.type, i.title, i.status, i.priority, i.createdDate, i.createdBy) "
+		+ "FROM Issue i "
+		+ "WHERE i.id IN :issueIds AND i.workspaceCode = :workspaceCode")
+	List<IssueSearchRow> findIssueSearchRows(
+		@Param("issueIds") Collection<Long> issueIds,
+		@Param("workspaceCode") String workspaceCode
+	);
+
+	@Query(SELECT_MEMBER_ROW
+		+ "a.issue.id, wm.member.id, wm.displayName, a.assignedAt) "
+		+ "FROM IssueAssignee a "
+		+ "JOIN WorkspaceMember wm ON wm.member.id = a.assigneeMemberId AND wm.workspaceCode = :workspaceCode "
+		+ "WHERE a.issue.id IN :issueIds "
+		+ "ORDER BY a.assignedAt, a.id")
+	List<IssueMemberRow> findAssigneeRows(
+		@Param("issueIds") Collection<Long> issueIds,
+		@Param("workspaceCode") String workspaceCode
+	);
+
+	@Query(SELECT_MEMBER_ROW
+		+ "r.issue.id, wm.member.id, wm.displayName, r.createdDate) "
+		+ "FROM IssueReviewer r "
+		+ "JOIN WorkspaceMember wm ON wm.member.id = r.reviewerMemberId AND wm.workspaceCode = :workspaceCode "
+		+ "WHERE r.issue.id IN :issueIds "
+		+ "ORDER BY r.id")
+	List<IssueMemberRow> findReviewerRows(
+		@Param("issueIds") Collection<Long> issueIds,
+		@Param("workspaceCode") String workspaceCode
+	);
+
+	/**
+	 * IssueWatcher는 이슈를 참조하지 않으므로(단방향 @OneToMany) 이슈에서 조인한다
+	 */
+	@Query(SELECT_MEMBER_ROW
+		+ "i.id, wm.member.id, wm.displayName, w.watchedAt) "
+		+ "FROM Issue i "
+		+ "JOIN i.watchers w "
+		+ "JOIN WorkspaceMember wm ON wm.member.id = w.watcherMemberId AND wm.workspaceCode = :workspaceCode "
+		+ "WHERE i.id IN :issueIds "
+		+ "ORDER BY w.watchedAt, w.id")
+	List<IssueMemberRow> findWatcherRows(
+		@Param("issueIds") Collection<Long> issueIds,
+		@Param("workspaceCode") String workspaceCode
+	);
+
+	@Query("SELECT new com.tissue.api.issue.infrastructure.repository.projection.IssueRelationRow("
+		+ "r.sourceIssue.id, r.id, r.relationType, t.issueKey, t.title, t.status) "
+		+ "FROM IssueRelation r "
+		+ "JOIN r.targetIssue t "
+		+ "WHERE r.sourceIssue.id IN :issueIds "
+		+ "ORDER BY r.id")
+	List<IssueRelationRow> findRelationRows(@Param("issueIds") Collection<Long> issueIds);
+
+	@Query("SELECT new com.tissue.api.issue.infrastructure.repository.projection.ChildIssueRow("
+		+ "c.parentIssue.id, c.issueKey, c.type, c.title, c.status) "
+		+ "FROM Issue c "
+		+ "WHERE c.parentIssue.id IN :issueIds "
+		+ "ORDER BY c.id")
+	List<ChildIssueRow> findChildIssueRows(@Param("issueIds") Collection<Long> issueIds);
+
+	@Query("SELECT new com.tissue.api.issue.infrastructure.repository.projection.IssueSprintRow("
+		+ "si.issue.id, s.sprintKey) "
+		+ "FROM SprintIssue si "
+		+ "JOIN si.sprint s "
+		+ "WHERE si.issue.id IN :issueIds "
+		+ "ORDER BY si.id")
+	List<IssueSprintRow> findSprintRows(@Param("issueIds") Collection<Long> issueIds);
+}
@@ -1,8 +1,24 @@
 package com.tissue.api.issue.infrastructure.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.tissue.api.issue.domain.model.IssueRelation;
+import com.tissue.api.issue.domain.service.validator.index.BlockingEdge;
 
 public interface IssueRelationRepository extends JpaRepository<IssueRelation, Long> {
+
+	/**
+	 * 워크스페이스의 모든 BLOCKS 관계를 (source id, target id) 형태로 조회합니다.
+	 * 엔티티를 로딩하지 않고 순환 참조 검사용 인덱스를 구성하는데 사용합니다.
+	 */
+	@Query("SELECT new com.tissue.api.issue.domain.service.validator.index.BlockingEdge("
+		+ "r.sourceIssue.id, r.targetIssue.id) "
+		+ "FROM IssueRelation r "
+		+ "WHERE r.sourceIssue.workspaceCode = :workspaceCode "
+		+ "AND r.relationType = com.tissue.api.issue.domain.model.enums.IssueRelationType.BLOCKS")
+	List<BlockingEdge> findBlockingEdgesByWorkspaceCode(@Param("workspaceCode") String workspaceCode);
 }
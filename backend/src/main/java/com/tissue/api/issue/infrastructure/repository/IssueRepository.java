@@ -11,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.tissue.api.issue.domain.model.Issue;
+import com.tissue.api.issue.domain.service.search.IssueSearchDocument;
 
 public interface IssueRepository extends JpaRepository<Issue, Long> {
 
@@ -43,6 +44,69 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
 
 	List<Issue> findByIssueKeyInAndWorkspaceCode(Collection<String> issueKeys, String workspaceCode);
 
+	/**
+	 * 여러 이슈의 상태를 한 번에 변경할 때 사용합니다.
+	 * 상태 변경 이벤트에 부모 이슈 정보가 필요하므로 부모 이슈를 함께 조회합니다.
+	 */
+	@Query("SELECT i FROM Issue i "
+		+ "LEFT JOIN FETCH i.parentIssue "
+		+ "WHERE i.workspaceCode = :workspaceCode "
+		+ "AND i.issueKey IN :issueKeys")
+	List<Issue> findAllWithParentByIssueKeys(
+		@Param("issueKeys") Collection<String> issueKeys,
+		@Param("workspaceCode") String workspaceCode
+	);
+
+	/**
+	 * 이미 조회한 이슈들의 리뷰어 컬렉션을 한 번에 초기화합니다.
+	 */
+	@Query("SELECT DISTINCT i FROM Issue i "
+		+ "LEFT JOIN FETCH i.reviewers "
+		+ "WHERE i.id IN :issueIds")
+	List<Issue> fetchReviewersByIds(@Param("issueIds") Collection<Long> issueIds);
+
+	/**
+	 * 이미 조회한 이슈들의 들어오는 관계(BLOCKED_BY 등)와 관계의 출발 이슈를 한 번에 초기화합니다.
+	 */
+	@Query("SELECT DISTINCT i FROM Issue i "
+		+ "LEFT JOIN FETCH i.incomingRelations r "
+		+ "LEFT JOIN FETCH r.sourceIssue "
+		+ "WHERE i.id IN :issueIds")
+	List<Issue> fetchIncomingRelationsByIds(@Param("issueIds") Collection<Long> issueIds);
+
+	/**
+	 * 부모 이슈(Epic)의 CLOSED가 아닌 자식 이슈들의 스토리 포인트 합계를 조회합니다.
+	 */
+	@Query("SELECT COALESCE(SUM(i.storyPoint), 0) FROM Issue i "
+		+ "WHERE i.parentIssue.id = :parentIssueId "
+		+ "AND i.status <> com.tissue.api.issue.domain.model.enums.IssueStatus.CLOSED")
+	Long sumStoryPointOfOpenChildren(@Param("parentIssueId") Long parentIssueId);
+
+	/**
+	 * 검색 인덱스 적재용으로 워크스페이스의 이슈들을 조회합니다.
+	 */
+	@Query("SELECT new com.tissue.api.issue.domain.service.search.IssueSearchDocument("
+		+ "i.id, i.workspaceCode, i.issueKey, i.type, i.status, i.priority, i.title, i.content, i.summary) "
+		+ "FROM Issue i "
+		+ "WHERE i.workspaceCode = :workspaceCode "
+		+ "ORDER BY i.id")
+	List<IssueSearchDocument> findSearchDocumentsByWorkspaceCode(@Param("workspaceCode") String workspaceCode);
+
+	@Query("SELECT new com.tissue.api.issue.domain.service.search.IssueSearchDocument("
+		+ "i.id, i.workspaceCode, i.issueKey, i.type, i.status, i.priority, i.title, i.content, i.summary) "
+		+ "FROM Issue i "
+		+ "WHERE i.id = :issueId")
+	Optional<IssueSearchDocument> findSearchDocumentById(@Param("issueId") Long issueId);
+
+	@Query("SELECT new com.tissue.api.issue.domain.service.search.IssueSearchDocument("
+		+ "i.id, i.workspaceCode, i.issueKey, i.type, i.status, i.priority, i.title, i.content, i.summary) "
+		+ "FROM Issue i "
+		+ "WHERE i.id IN :issueIds")
+	List<IssueSearchDocument> findSearchDocumentsByIds(@Param("issueIds") Collection<Long> issueIds);
+
+	@Query("SELECT DISTINCT i.workspaceCode FROM Issue i")
+	List<String> findDistinctWorkspaceCodes();
+
 	/**
 	 * 워크스페이스의 이슈들을 페이징하여 조회합니다.
 	 * 추후 이슈 목록 조회 기능 구현 시 사용할 수 있습니다.
@@ -1,5 +1,7 @@
 package com.tissue.api.issue.infrastructure.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -17,4 +19,12 @@ public interface IssueReviewerRepository extends JpaRepository<IssueReviewer, Lo
 		@Param("issueKey") String issueKey,
 		@Param("reviewerId") Long reviewerId
 	);
+
+	/**
+	 * 이슈들의 리뷰어와 각 리뷰어의 리뷰를 한 번에 조회합니다(DONE 전환 시 현재 라운드의 리뷰 상태 검증용).
+	 */
+	@Query("SELECT DISTINCT ir FROM IssueReviewer ir "
+		+ "LEFT JOIN FETCH ir.reviews "
+		+ "WHERE ir.issue.id IN :issueIds")
+	List<IssueReviewer> findAllWithReviewsByIssueIds(@Param("issueIds") Collection<Long> issueIds);
 }
@@ -0,0 +1,16 @@
+package com.tissue.api.issue.infrastructure.repository.projection;
+
+import com.tissue.api.issue.domain.model.enums.IssueStatus;
+import com.tissue.api.issue.domain.model.enums.IssueType;
+
+/**
+ * 하위 이슈 요약(여러 부모 이슈의 하위 이슈를 한 번에 조회할 때 사용)
+ */
+public record ChildIssueRow(
+	Long parentIssueId,
+	String issueKey,
+	IssueType type,
+	String title,
+	IssueStatus status
+) {
+}
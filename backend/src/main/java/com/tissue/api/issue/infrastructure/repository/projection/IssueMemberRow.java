@@ -0,0 +1,15 @@
+package com.tissue.api.issue.infrastructure.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이슈에 연결된 워크스페이스 멤버(담당자, 리뷰어, 구독자)
+ * - 여러 이슈의 멤버를 한 번에 조회할 때 사용한다
+ */
+public record IssueMemberRow(
+	Long issueId,
+	Long memberId,
+	String displayName,
+	LocalDateTime addedAt
+) {
+}
@@ -0,0 +1,17 @@
+package com.tissue.api.issue.infrastructure.repository.projection;
+
+import com.tissue.api.issue.domain.model.enums.IssueRelationType;
+import com.tissue.api.issue.domain.model.enums.IssueStatus;
+
+/**
+ * 이슈에서 나가는 관계(관계는 양방향 쌍으로 저장되므로 나가는 관계만으로 모든 관련 이슈를 알 수 있다)
+ */
+public record IssueRelationRow(
+	Long sourceIssueId,
+	Long relationId,
+	IssueRelationType relationType,
+	String targetIssueKey,
+	String targetTitle,
+	IssueStatus targetStatus
+) {
+}
@@ -0,0 +1,34 @@
+package com.tissue.api.issue.infrastructure.repository.projection;
+
+import java.time.LocalDateTime;
+
+import com.tissue.api.issue.domain.model.enums.IssuePriority;
+import com.tissue.api.issue.domain.model.enums.IssueStatus;
+import com.tissue.api.issue.domain.model.enums.IssueType;
+
+/**
+ * IssueDetail 응답에 필요한 이슈 컬럼만 조회하는 projection
+ * - 부모 이슈는 키만 조회한다
+ */
+public record IssueRow(
+	Long id,
+	String issueKey,
+	IssueType type,
+	String title,
+	String content,
+	String summary,
+	IssueStatus status,
+	IssuePriority priority,
+	LocalDateTime startedAt,
+	LocalDateTime resolvedAt,
+	LocalDateTime reviewRequestedAt,
+	LocalDateTime dueAt,
+	Integer storyPoint,
+	Integer currentReviewRound,
+	String parentIssueKey,
+	LocalDateTime createdDate,
+	Long createdBy,
+	LocalDateTime lastModifiedDate,
+	Long lastModifiedBy
+) {
+}
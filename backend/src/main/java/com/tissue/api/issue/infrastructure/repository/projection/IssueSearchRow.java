@@ -0,0 +1,23 @@
+package com.tissue.api.issue.infrastructure.repository.projection;
+
+import java.time.LocalDateTime;
+
+import com.tissue.api.issue.domain.model.enums.IssuePriority;
+import com.tissue.api.issue.domain.model.enums.IssueStatus;
+import com.tissue.api.issue.domain.model.enums.IssueType;
+
+/**
+ * 이슈 검색 결과 페이지를 조회할 때 사용하는 projection
+ * - @Lob 컬럼(content, summary)은 조회하지 않는다
+ */
+public record IssueSearchRow(
+	Long id,
+	String issueKey,
+	IssueType type,
+	String title,
+	IssueStatus status,
+	IssuePriority priority,
+	LocalDateTime createdDate,
+	Long createdBy
+) {
+}
@@ -0,0 +1,10 @@
+package com.tissue.api.issue.infrastructure.repository.projection;
+
+/**
+ * 이슈가 등록된 스프린트의 키(여러 이슈의 스프린트 키를 한 번에 조회할 때 사용)
+ */
+public record IssueSprintRow(
+	Long issueId,
+	String sprintKey
+) {
+}
@@ -0,0 +1,26 @@
+package com.tissue.api.issue.infrastructure.repository.projection;
+
+import java.time.LocalDateTime;
+
+import com.tissue.api.issue.domain.model.enums.IssuePriority;
+import com.tissue.api.issue.domain.model.enums.IssueStatus;
+import com.tissue.api.issue.domain.model.enums.IssueType;
+
+/**
+ * 이슈 여러 건을 한 번에 조회할 때 사용하는 요약 projection
+ * - @Lob 컬럼(content, summary)은 조회하지 않는다
+ */
+public record IssueSummaryRow(
+	Long id,
+	String issueKey,
+	IssueType type,
+	String title,
+	IssueStatus status,
+	IssuePriority priority,
+	LocalDateTime dueAt,
+	Integer storyPoint,
+	String parentIssueKey,
+	LocalDateTime createdDate,
+	Long createdBy
+) {
+}
@@ -0,0 +1,203 @@
+package com.tissue.api.issue.infrastructure.rollup;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.tissue.api.issue.application.service.command.EpicStoryPointCalculator;
+import com.tissue.api.issue.application.service.command.rollup.EpicStoryPointRollup;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 커밋된 재계산 요청을 Epic 별로 모아두고, 디바운스 후 epicTaskExecutor에서 한 번만 재계산한다
+ * - quiet-period 동안 같은 Epic에 대한 요청이 더 없으면 재계산한다
+ * - 요청이 계속 들어와도 첫 요청 후 max-delay가 지나면 재계산한다(staleness 상한)
+ * - 자식 이슈를 변경하는 요청 트랜잭션은 Epic row를 갱신하지 않는다
+ * - 같은 Epic은 한 번에 하나만 재계산한다(재계산 중에 다시 due가 된 요청은 끝난 뒤의 tick에서 처리한다)
+ *   동시에 실행하면 오래된 SUM을 읽은 쪽이 나중에 커밋해서 잘못된 합계를 남길 수 있다
+ */
+@Slf4j
+public class DebouncedEpicStoryPointRollup implements EpicStoryPointRollup {
+
+	private final EpicStoryPointCalculator epicStoryPointCalculator;
+	private final Executor epicTaskExecutor;
+	private final long quietPeriodMillis;
+	private final long maxDelayMillis;
+
+	private final Map<Long, PendingEpic> pendingEpics = new ConcurrentHashMap<>();
+	private final Set<Long> recalculatingEpics = ConcurrentHashMap.newKeySet();
+	private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(
+		runnable -> new Thread(runnable, "EpicRollup")
+	);
+
+	private final Counter requestCounter;
+	private final Counter recalculationCounter;
+	private final Timer stalenessTimer;
+
+	public DebouncedEpicStoryPointRollup(
+		EpicStoryPointCalculator epicStoryPointCalculator,
+		Executor epicTaskExecutor,
+		long quietPeriodMillis,
+		long maxDelayMillis,
+		MeterRegistry meterRegistry
+	) {
+		this.epicStoryPointCalculator = epicStoryPointCalculator;
+		this.epicTaskExecutor = epicTaskExecutor;
+		this.quietPeriodMillis = quietPeriodMillis;
+		this.maxDelayMillis = maxDelayMillis;
+
+		this.requestCounter = Counter.builder("epic.rollup.requests")
+			.description("Epic story point recalculation requests")
+			.register(meterRegistry);
+		this.recalculationCounter = Counter.builder("epic.rollup.recalculations")
+			.description("Epic story point recalculations actually executed")
+			.register(meterRegistry);
+		this.stalenessTimer = Timer.builder("epic.rollup.staleness")
+			.description("Time from the first request to the recalculation of an epic")
+			.register(meterRegistry);
+		Gauge.builder("epic.rollup.pending", pendingEpics, Map::size)
+			.register(meterRegistry);
+		Gauge.builder("epic.rollup.coalescing.ratio", this, rollup -> rollup.coalescingRatio())
+			.description("Requests per recalculation")
+			.register(meterRegistry);
+	}
+
+	public void start() {
+		long tickMillis = Math.max(10, Math.min(quietPeriodMillis, maxDelayMillis) / 2);
+		ticker.scheduleWithFixedDelay(this::flushDueSafely, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 종료 시에는 남아있는 Epic들을 바로 재계산한다
+	 */
+	public void stop() {
+		ticker.shutdown();
+		pendingEpics.keySet().forEach(epicId -> {
+			PendingEpic pending = pendingEpics.remove(epicId);
+			if (pending != null) {
+				recalculateExclusively(epicId, pending);
+			}
+		});
+	}
+
+	@Override
+	public void requestRecalculation(Long epicId) {
+		if (epicId == null) {
+			return;
+		}
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			enqueue(epicId);
+			return;
+		}
+
+		// 롤백된 변경으로 재계산하지 않도록 커밋 이후에 큐에 넣는다
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				enqueue(epicId);
+			}
+		});
+	}
+
+	public void flushDue() {
+		long now = System.currentTimeMillis();
+
+		pendingEpics.forEach((epicId, pending) -> {
+			if (!pending.isDue(now, quietPeriodMillis, maxDelayMillis)) {
+				return;
+			}
+			// 이전 재계산이 아직 실행 중이면 pending으로 남겨두고 다음 tick에서 다시 확인한다
+			if (!recalculatingEpics.add(epicId)) {
+				return;
+			}
+			// 확인한 뒤 새 요청이 들어왔으면(값이 바뀌었으면) 다음 tick으로 넘긴다
+			if (!pendingEpics.remove(epicId, pending)) {
+				recalculatingEpics.remove(epicId);
+				return;
+			}
+			try {
+				epicTaskExecutor.execute(() -> {
+					try {
+						recalculate(epicId, pending);
+					} finally {
+						recalculatingEpics.remove(epicId);
+					}
+				});
+			} catch (RuntimeException e) {
+				recalculatingEpics.remove(epicId);
+				pendingEpics.merge(epicId, pending, (existing, requeued) -> existing);
+				throw e;
+			}
+		});
+	}
+
+	private void enqueue(Long epicId) {
+		requestCounter.increment();
+		long now = System.currentTimeMillis();
+		pendingEpics.merge(
+			epicId,
+			new PendingEpic(now, now),
+			(existing, requested) -> new PendingEpic(existing.firstRequestedAt(), now)
+		);
+	}
+
+	/**
+	 * 종료 시 호출되므로, 실행 중인 재계산이 끝나기를 기다린 뒤 재계산한다
+	 */
+	private void recalculateExclusively(Long epicId, PendingEpic pending) {
+		while (!recalculatingEpics.add(epicId)) {
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+		}
+		try {
+			recalculate(epicId, pending);
+		} finally {
+			recalculatingEpics.remove(epicId);
+		}
+	}
+
+	private void recalculate(Long epicId, PendingEpic pending) {
+		try {
+			epicStoryPointCalculator.recalculate(epicId);
+			recalculationCounter.increment();
+			stalenessTimer.record(System.currentTimeMillis() - pending.firstRequestedAt(), TimeUnit.MILLISECONDS);
+		} catch (Exception e) {
+			log.error("Failed to recalculate epic story point: epicId={}", epicId, e);
+		}
+	}
+
+	private void flushDueSafely() {
+		try {
+			flushDue();
+		} catch (Exception e) {
+			log.error("Epic rollup flush failed", e);
+		}
+	}
+
+	private double coalescingRatio() {
+		double recalculations = recalculationCounter.count();
+		return recalculations == 0 ? 0 : requestCounter.count() / recalculations;
+	}
+
+	private record PendingEpic(
+		long firstRequestedAt,
+		long lastRequestedAt
+	) {
+		boolean isDue(long now, long quietPeriodMillis, long maxDelayMillis) {
+			return now - lastRequestedAt >= quietPeriodMillis || now - firstRequestedAt >= maxDelayMillis;
+		}
+	}
+}
@@ -1,21 +1,31 @@
 package com.tissue.api.issue.presentation.controller.command;
 
+import java.io.InputStream;
+
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.tissue.api.common.dto.ApiResponse;
 import com.tissue.api.issue.application.service.command.IssueCommandService;
+import com.tissue.api.issue.application.service.command.bulk.IssueBulkStatusCommandService;
+import com.tissue.api.issue.application.service.command.bulk.IssueImportService;
+import com.tissue.api.issue.infrastructure.importer.IssueImportFormat;
 import com.tissue.api.issue.presentation.controller.dto.request.AddParentIssueRequest;
+import com.tissue.api.issue.presentation.controller.dto.request.BulkUpdateIssueStatusRequest;
 import com.tissue.api.issue.presentation.controller.dto.request.UpdateIssueStatusRequest;
 import com.tissue.api.issue.presentation.controller.dto.request.create.CreateIssueRequest;
 import com.tissue.api.issue.presentation.controller.dto.request.update.UpdateIssueRequest;
+import com.tissue.api.issue.presentation.controller.dto.response.BulkUpdateIssueStatusResponse;
+import com.tissue.api.issue.presentation.controller.dto.response.IssueImportResponse;
 import com.tissue.api.issue.presentation.controller.dto.response.IssueResponse;
 import com.tissue.api.security.authentication.interceptor.LoginRequired;
 import com.tissue.api.security.authentication.resolver.ResolveLoginMember;
@@ -33,6 +43,8 @@ import lombok.extern.slf4j.Slf4j;
 public class IssueController {
 
 	private final IssueCommandService issueCommandService;
+	private final IssueImportService issueImportService;
+	private final IssueBulkStatusCommandService issueBulkStatusCommandService;
 
 	@LoginRequired
 	@RoleRequired(role = WorkspaceRole.MEMBER)
@@ -48,6 +60,29 @@ public class IssueController {
 		return ApiResponse.created("Issue created.", response);
 	}
 
+	/**
+	 * 본문(text/csv, application/x-ndjson)을 스트리밍으로 읽어서 배치 단위로 이슈를 생성한다
+	 * - 실패한 레코드는 건너뛰고 응답의 errors에 줄 번호와 함께 담는다
+	 */
+	@LoginRequired
+	@RoleRequired(role = WorkspaceRole.MANAGER)
+	@PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+	public ApiResponse<IssueImportResponse> importIssues(
+		@PathVariable String workspaceCode,
+		@ResolveLoginMember Long loginMemberId,
+		@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+		InputStream body
+	) {
+		IssueImportResponse response = issueImportService.importIssues(
+			workspaceCode,
+			loginMemberId,
+			IssueImportFormat.fromContentType(contentType),
+			body
+		);
+
+		return ApiResponse.ok("Issues imported.", response);
+	}
+
 	@LoginRequired
 	@RoleRequired(role = WorkspaceRole.MEMBER)
 	@PatchMapping("/{issueKey}/status")
@@ -67,6 +102,26 @@ public class IssueController {
 		return ApiResponse.ok("Issue status updated.", response);
 	}
 
+	/**
+	 * 여러 이슈의 상태를 한 번에 변경한다(하나라도 변경할 수 없으면 모두 변경하지 않는다)
+	 */
+	@LoginRequired
+	@RoleRequired(role = WorkspaceRole.MEMBER)
+	@PatchMapping("/bulk/status")
+	public ApiResponse<BulkUpdateIssueStatusResponse> updateIssueStatuses(
+		@PathVariable String workspaceCode,
+		@ResolveLoginMember Long loginMemberId,
+		@RequestBody @Valid BulkUpdateIssueStatusRequest request
+	) {
+		BulkUpdateIssueStatusResponse response = issueBulkStatusCommandService.updateIssueStatuses(
+			workspaceCode,
+			loginMemberId,
+			request
+		);
+
+		return ApiResponse.ok("Issue statuses updated.", response);
+	}
+
 	@LoginRequired
 	@RoleRequired(role = WorkspaceRole.MEMBER)
 	@PatchMapping("/{issueKey}")
@@ -0,0 +1,19 @@
+package com.tissue.api.issue.presentation.controller.dto.request;
+
+import java.util.List;
+
+import com.tissue.api.issue.domain.model.enums.IssueStatus;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record BulkUpdateIssueStatusRequest(
+	@NotEmpty(message = "{valid.notempty.issuekeys}")
+	@Size(max = 200, message = "{valid.size.bulk.issuekeys}")
+	List<String> issueKeys,
+
+	@NotNull(message = "{valid.notnull}")
+	IssueStatus status
+) {
+}
@@ -0,0 +1,17 @@
+package com.tissue.api.issue.presentation.controller.dto.response;
+
+import java.util.List;
+
+import com.tissue.api.issue.domain.model.enums.IssueStatus;
+
+/**
+ * @param updatedIssueKeys   상태가 변경된 이슈
+ * @param unchangedIssueKeys 이미 요청한 상태여서 변경하지 않은 이슈
+ */
+public record BulkUpdateIssueStatusResponse(
+	String workspaceCode,
+	IssueStatus status,
+	List<String> updatedIssueKeys,
+	List<String> unchangedIssueKeys
+) {
+}
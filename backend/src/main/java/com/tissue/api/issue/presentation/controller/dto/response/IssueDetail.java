@@ -0,0 +1,121 @@
+package com.tissue.api.issue.presentation.controller.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.tissue.api.issue.domain.model.enums.IssuePriority;
+import com.tissue.api.issue.domain.model.enums.IssueRelationType;
+import com.tissue.api.issue.domain.model.enums.IssueStatus;
+import com.tissue.api.issue.domain.model.enums.IssueType;
+import com.tissue.api.issue.infrastructure.repository.projection.ChildIssueRow;
+import com.tissue.api.issue.infrastructure.repository.projection.IssueMemberRow;
+import com.tissue.api.issue.infrastructure.repository.projection.IssueRelationRow;
+import com.tissue.api.issue.infrastructure.repository.projection.IssueRow;
+
+import lombok.Builder;
+
+@Builder
+public record IssueDetail(
+	Long issueId,
+	String issueKey,
+	IssueType type,
+	String title,
+	String content,
+	String summary,
+	IssueStatus status,
+	IssuePriority priority,
+	LocalDateTime startedAt,
+	LocalDateTime resolvedAt,
+	LocalDateTime reviewRequestedAt,
+	LocalDateTime dueAt,
+	Integer storyPoint,
+	int currentReviewRound,
+	String parentIssueKey,
+	List<IssueMember> assignees,
+	List<IssueMember> reviewers,
+	List<IssueMember> watchers,
+	List<RelatedIssue> relations,
+	List<ChildIssue> childIssues,
+	List<String> sprintKeys,
+	LocalDateTime createdAt,
+	Long createdBy,
+	LocalDateTime updatedAt,
+	Long updatedBy
+) {
+	public static IssueDetail from(
+		IssueRow row,
+		List<IssueMemberRow> assignees,
+		List<IssueMemberRow> reviewers,
+		List<IssueMemberRow> watchers,
+		List<IssueRelationRow> relations,
+		List<ChildIssueRow> childIssues,
+		List<String> sprintKeys
+	) {
+		return IssueDetail.builder()
+			.issueId(row.id())
+			.issueKey(row.issueKey())
+			.type(row.type())
+			.title(row.title())
+			.content(row.content())
+			.summary(row.summary())
+			.status(row.status())
+			.priority(row.priority())
+			.startedAt(row.startedAt())
+			.resolvedAt(row.resolvedAt())
+			.reviewRequestedAt(row.reviewRequestedAt())
+			.dueAt(row.dueAt())
+			.storyPoint(row.storyPoint())
+			.currentReviewRound(row.currentReviewRound())
+			.parentIssueKey(row.parentIssueKey())
+			.assignees(assignees.stream().map(IssueMember::from).toList())
+			.reviewers(reviewers.stream().map(IssueMember::from).toList())
+			.watchers(watchers.stream().map(IssueMember::from).toList())
+			.relations(relations.stream().map(RelatedIssue::from).toList())
+			.childIssues(childIssues.stream().map(ChildIssue::from).toList())
+			.sprintKeys(sprintKeys)
+			.createdAt(row.createdDate())
+			.createdBy(row.createdBy())
+			.updatedAt(row.lastModifiedDate())
+			.updatedBy(row.lastModifiedBy())
+			.build();
+	}
+
+	public record IssueMember(
+		Long memberId,
+		String displayName,
+		LocalDateTime addedAt
+	) {
+		static IssueMember from(IssueMemberRow row) {
+			return new IssueMember(row.memberId(), row.displayName(), row.addedAt());
+		}
+	}
+
+	public record RelatedIssue(
+		Long relationId,
+		IssueRelationType relationType,
+		String issueKey,
+		String title,
+		IssueStatus status
+	) {
+		static RelatedIssue from(IssueRelationRow row) {
+			return new RelatedIssue(
+				row.relationId(),
+				row.relationType(),
+				row.targetIssueKey(),
+				row.targetTitle(),
+				row.targetStatus()
+			);
+		}
+	}
+
+	public record ChildIssue(
+		String issueKey,
+		IssueType type,
+		String title,
+		IssueStatus status
+	) {
+		static ChildIssue from(ChildIssueRow row) {
+			return new ChildIssue(row.issueKey(), row.type(), row.title(), row.status());
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package com.tissue.api.issue.presentation.controller.dto.response;
+
+import java.util.List;
+
+import lombok.Builder;
+
+/**
+ * 이슈 가져오기 결과
+ * - errors는 앞에서부터 최대 api.issue.import.max-reported-errors개까지만 담는다(failedCount는 전체 개수)
+ */
+@Builder
+public record IssueImportResponse(
+	String workspaceCode,
+	int totalRecords,
+	int importedCount,
+	int failedCount,
+	int batchCount,
+	long elapsedMillis,
+	double issuesPerSecond,
+	boolean completed,
+	List<IssueImportError> errors
+) {
+	public record IssueImportError(
+		long lineNumber,
+		String message
+	) {
+	}
+}
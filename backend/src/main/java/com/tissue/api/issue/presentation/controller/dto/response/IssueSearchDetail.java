@@ -0,0 +1,35 @@
+package com.tissue.api.issue.presentation.controller.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.tissue.api.issue.domain.model.enums.IssuePriority;
+import com.tissue.api.issue.domain.model.enums.IssueStatus;
+import com.tissue.api.issue.domain.model.enums.IssueType;
+import com.tissue.api.issue.infrastructure.repository.projection.IssueSearchRow;
+
+import lombok.Builder;
+
+@Builder
+public record IssueSearchDetail(
+	Long issueId,
+	String issueKey,
+	IssueType type,
+	String title,
+	IssueStatus status,
+	IssuePriority priority,
+	LocalDateTime createdAt,
+	Long createdBy
+) {
+	public static IssueSearchDetail from(IssueSearchRow row) {
+		return IssueSearchDetail.builder()
+			.issueId(row.id())
+			.issueKey(row.issueKey())
+			.type(row.type())
+			.title(row.title())
+			.status(row.status())
+			.priority(row.priority())
+			.createdAt(row.createdDate())
+			.createdBy(row.createdBy())
+			.build();
+	}
+}
@@ -0,0 +1,41 @@
+package com.tissue.api.issue.presentation.controller.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.tissue.api.issue.domain.model.enums.IssuePriority;
+import com.tissue.api.issue.domain.model.enums.IssueStatus;
+import com.tissue.api.issue.domain.model.enums.IssueType;
+import com.tissue.api.issue.infrastructure.repository.projection.IssueSummaryRow;
+
+import lombok.Builder;
+
+@Builder
+public record IssueSummary(
+	Long issueId,
+	String issueKey,
+	IssueType type,
+	String title,
+	IssueStatus status,
+	IssuePriority priority,
+	LocalDateTime dueAt,
+	Integer storyPoint,
+	String parentIssueKey,
+	LocalDateTime createdAt,
+	Long createdBy
+) {
+	public static IssueSummary from(IssueSummaryRow row) {
+		return IssueSummary.builder()
+			.issueId(row.id())
+			.issueKey(row.issueKey())
+			.type(row.type())
+			.title(row.title())
+			.status(row.status())
+			.priority(row.priority())
+			.dueAt(row.dueAt())
+			.storyPoint(row.storyPoint())
+			.parentIssueKey(row.parentIssueKey())
+			.createdAt(row.createdDate())
+			.createdBy(row.createdBy())
+			.build();
+	}
+}
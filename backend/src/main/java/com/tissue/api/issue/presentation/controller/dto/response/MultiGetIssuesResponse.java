@@ -0,0 +1,12 @@
+package com.tissue.api.issue.presentation.controller.dto.response;
+
+import java.util.List;
+
+/**
+ * 요청한 이슈 키 순서대로 찾은 이슈 요약과, 워크스페이스에 존재하지 않는 이슈 키 목록
+ */
+public record MultiGetIssuesResponse(
+	List<IssueSummary> issues,
+	List<String> missingIssueKeys
+) {
+}
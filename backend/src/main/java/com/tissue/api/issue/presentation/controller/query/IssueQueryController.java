@@ -0,0 +1,78 @@
+package com.tissue.api.issue.presentation.controller.query;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.tissue.api.common.dto.ApiResponse;
+import com.tissue.api.common.dto.PageResponse;
+import com.tissue.api.issue.application.service.query.IssueQueryService;
+import com.tissue.api.issue.presentation.controller.dto.response.IssueDetail;
+import com.tissue.api.issue.presentation.controller.dto.response.IssueSearchDetail;
+import com.tissue.api.issue.presentation.controller.dto.response.MultiGetIssuesResponse;
+import com.tissue.api.security.authentication.interceptor.LoginRequired;
+import com.tissue.api.security.authorization.interceptor.RoleRequired;
+import com.tissue.api.workspacemember.domain.model.enums.WorkspaceRole;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/workspaces/{workspaceCode}/issues")
+public class IssueQueryController {
+
+	private final IssueQueryService issueQueryService;
+
+	/**
+	 * 워크스페이스 이슈 검색
+	 * - 결과는 최신순으로 정렬된다(pageable의 sort는 사용하지 않는다)
+	 */
+	@LoginRequired
+	@RoleRequired(role = WorkspaceRole.VIEWER)
+	@GetMapping
+	public ApiResponse<PageResponse<IssueSearchDetail>> searchIssues(
+		@PathVariable String workspaceCode,
+		@Valid IssueSearchCondition searchCondition,
+		Pageable pageable
+	) {
+		Page<IssueSearchDetail> page = issueQueryService.searchIssues(
+			workspaceCode,
+			searchCondition,
+			pageable
+		);
+		return ApiResponse.ok("Found issues.", PageResponse.of(page));
+	}
+
+	/**
+	 * 이슈 여러 건 요약 조회(ex. ?issueKeys=ISSUE-1,ISSUE-2)
+	 * - 존재하지 않는 이슈 키는 missingIssueKeys로 응답한다
+	 */
+	@LoginRequired
+	@RoleRequired(role = WorkspaceRole.VIEWER)
+	@GetMapping("/batch")
+	public ApiResponse<MultiGetIssuesResponse> getIssues(
+		@PathVariable String workspaceCode,
+		@Valid MultiGetIssuesCondition condition
+	) {
+		MultiGetIssuesResponse response = issueQueryService.getIssueSummaries(workspaceCode, condition.issueKeys());
+		return ApiResponse.ok("Found issues.", response);
+	}
+
+	/**
+	 * 이슈 상세 조회(담당자, 리뷰어, 구독자, 관계, 하위 이슈, 스프린트 포함)
+	 */
+	@LoginRequired
+	@RoleRequired(role = WorkspaceRole.VIEWER)
+	@GetMapping("/{issueKey}")
+	public ApiResponse<IssueDetail> getIssueDetail(
+		@PathVariable String workspaceCode,
+		@PathVariable String issueKey
+	) {
+		IssueDetail response = issueQueryService.getIssueDetail(workspaceCode, issueKey);
+		return ApiResponse.ok("Found issue.", response);
+	}
+}
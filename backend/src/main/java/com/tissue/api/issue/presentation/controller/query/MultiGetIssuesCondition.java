@@ -0,0 +1,13 @@
+package com.tissue.api.issue.presentation.controller.query;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record MultiGetIssuesCondition(
+	@NotEmpty(message = "{valid.notempty.issuekeys}")
+	@Size(max = 200, message = "{valid.size.multiget.issuekeys}")
+	List<String> issueKeys
+) {
+}
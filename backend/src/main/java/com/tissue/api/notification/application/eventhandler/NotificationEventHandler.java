@@ -4,14 +4,12 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 import com.tissue.api.comment.domain.event.IssueCommentAddedEvent;
 import com.tissue.api.comment.domain.event.ReviewCommentAddedEvent;
 import com.tissue.api.common.event.DomainEvent;
+import com.tissue.api.common.event.DomainEventHandler;
 import com.tissue.api.issue.domain.event.IssueAssignedEvent;
 import com.tissue.api.issue.domain.event.IssueCreatedEvent;
 import com.tissue.api.issue.domain.event.IssueParentAssignedEvent;
@@ -21,6 +19,8 @@ import com.tissue.api.issue.domain.event.IssueReviewerAddedEvent;
 import com.tissue.api.issue.domain.event.IssueStatusChangedEvent;
 import com.tissue.api.issue.domain.event.IssueUnassignedEvent;
 import com.tissue.api.issue.domain.event.IssueUpdatedEvent;
+import com.tissue.api.issue.domain.event.IssuesImportedEvent;
+import com.tissue.api.issue.domain.event.IssuesStatusChangedEvent;
 import com.tissue.api.notification.application.service.command.NotificationCommandService;
 import com.tissue.api.notification.application.service.command.NotificationProcessor;
 import com.tissue.api.notification.application.service.command.NotificationTargetService;
@@ -50,7 +50,7 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class NotificationEventHandler {
+public class NotificationEventHandler implements DomainEventHandler {
 
 	private final NotificationCommandService commandService;
 	private final NotificationProcessor notificationProcessor;
@@ -58,19 +58,70 @@ public class NotificationEventHandler {
 	private final NotificationMessageFactory notificationMessageFactory;
 	private final ActivityLogRepository activityLogRepository;
 
+	/**
+	 * 커밋된 이벤트를 타입 별 핸들러로 전달한다(InMemoryDomainEventRelay 또는 OutboxEventDispatcher에서 호출)
+	 */
+	@Override
+	public void handle(DomainEvent event) {
+		if (event instanceof IssueCreatedEvent issueCreated) {
+			handleIssueCreated(issueCreated);
+		} else if (event instanceof IssuesImportedEvent issuesImported) {
+			handleIssuesImported(issuesImported);
+		} else if (event instanceof IssueUpdatedEvent issueUpdated) {
+			handleIssueUpdated(issueUpdated);
+		} else if (event instanceof IssueAssignedEvent issueAssigned) {
+			handleIssueAssigned(issueAssigned);
+		} else if (event instanceof IssueUnassignedEvent issueUnassigned) {
+			handleIssueUnassigned(issueUnassigned);
+		} else if (event instanceof IssueStatusChangedEvent issueStatusChanged) {
+			handleIssueStatusChanged(issueStatusChanged);
+		} else if (event instanceof IssuesStatusChangedEvent issuesStatusChanged) {
+			handleIssuesStatusChanged(issuesStatusChanged);
+		} else if (event instanceof IssueParentAssignedEvent issueParentAssigned) {
+			handleIssueParentAssigned(issueParentAssigned);
+		} else if (event instanceof IssueParentRemovedEvent issueParentRemoved) {
+			handleIssueParentRemoved(issueParentRemoved);
+		} else if (event instanceof IssueReviewerAddedEvent reviewerAdded) {
+			handleReviewerAdded(reviewerAdded);
+		} else if (event instanceof IssueReviewRequestedEvent reviewRequested) {
+			handleReviewRequested(reviewRequested);
+		} else if (event instanceof ReviewSubmittedEvent reviewSubmitted) {
+			handleReviewSubmitted(reviewSubmitted);
+		} else if (event instanceof IssueCommentAddedEvent issueCommentAdded) {
+			handleIssueCommentCreated(issueCommentAdded);
+		} else if (event instanceof ReviewCommentAddedEvent reviewCommentAdded) {
+			handleReviewCommentCreated(reviewCommentAdded);
+		} else if (event instanceof SprintStartedEvent sprintStarted) {
+			handleSprintStarted(sprintStarted);
+		} else if (event instanceof SprintCompletedEvent sprintCompleted) {
+			handleSprintCompleted(sprintCompleted);
+		} else if (event instanceof MemberJoinedWorkspaceEvent memberJoined) {
+			handleMemberJoinedWorkspace(memberJoined);
+		} else if (event instanceof WorkspaceMemberRoleChangedEvent roleChanged) {
+			handleWorkspaceMemberRoleChanged(roleChanged);
+		} else {
+			log.debug("No notification handler for event: {}", event.getClass().getSimpleName());
+		}
+	}
+
 	/**
 	 * 이슈 생성 이벤트 처리 - 워크스페이스 전체 멤버에게 알림
 	 */
-	@Async("notificationTaskExecutor")
-	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
 	public void handleIssueCreated(IssueCreatedEvent event) {
 
 		List<WorkspaceMember> targets = targetResolver.getWorkspaceWideMemberTargets(event.getWorkspaceCode());
 		processNotifications(event, targets);
 	}
 
-	@Async("notificationTaskExecutor")
-	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	/**
+	 * 이슈 가져오기 요약 이벤트 처리 - 워크스페이스 전체 멤버에게 한 번만 알림
+	 */
+	public void handleIssuesImported(IssuesImportedEvent event) {
+
+		List<WorkspaceMember> targets = targetResolver.getWorkspaceWideMemberTargets(event.getWorkspaceCode());
+		processNotifications(event, targets);
+	}
+
 	public void handleIssueUpdated(IssueUpdatedEvent event) {
 
 		List<WorkspaceMember> targets = targetResolver.getIssueSubscriberTargets(
@@ -80,8 +131,6 @@ public class NotificationEventHandler {
 		processNotifications(event, targets);
 	}
 
-	@Async("notificationTaskExecutor")
-	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
 	public void handleIssueAssigned(IssueAssignedEvent event) {
 
 		Set<WorkspaceMember> targets = targetResolver.getSpecificMemberTarget(
@@ -91,8 +140,6 @@ public class NotificationEventHandler {
 		processNotifications(event, targets);
 	}
 
-	@Async("notificationTaskExecutor")
-	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
 	public void handleIssueUnassigned(IssueUnassignedEvent event) {
 
 		Set<WorkspaceMember> targets = targetResolver.getSpecificMemberTarget(
@@ -102,8 +149,6 @@ public class NotificationEventHandler {
 		processNotifications(event, targets);
 	}
 
-	@Async("notificationTaskExecutor")
-	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
 	public void handleIssueStatusChanged(IssueStatusChangedEvent event) {
 
 		List<WorkspaceMember> targets = targetResolver.getIssueSubscriberTargets(
@@ -113,8 +158,18 @@ public class NotificationEventHandler {
 		processNotifications(event, targets);
 	}
 
-	@Async("notificationTaskExecutor")
-	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	/**
+	 * 이슈 상태 일괄 변경 이벤트 처리 - 변경된 이슈들의 구독자마다 한 번만 알림
+	 */
+	public void handleIssuesStatusChanged(IssuesStatusChangedEvent event) {
+
+		List<WorkspaceMember> targets = targetResolver.getIssueSubscriberTargets(
+			event.getIssueKeys(),
+			event.getWorkspaceCode()
+		);
+		processNotifications(event, targets);
+	}
+
 	public void handleIssueParentAssigned(IssueParentAssignedEvent event) {
 
 		List<WorkspaceMember> targets = targetResolver.getIssueSubscriberTargets(
@@ -124,8 +179,6 @@ public class NotificationEventHandler {
 		processNotifications(event, targets);
 	}
 
-	@Async("notificationTaskExecutor")
-	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
 	public void handleIssueParentRemoved(IssueParentRemovedEvent event) {
 
 		List<WorkspaceMember> targets = targetResolver.getIssueSubscriberTargets(
@@ -135,8 +188,6 @@ public class NotificationEventHandler {
 		processNotifications(event, targets);
 	}
 
-	@Async("notificationTaskExecutor")
-	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
 	public void handleReviewerAdded(IssueReviewerAddedEvent event) {
 
 		List<WorkspaceMember> targets = targetResolver.getIssueSubscriberTargets(
@@ -146,8 +197,6 @@ public class NotificationEventHandler {
 		processNotifications(event, targets);
 	}
 
-	@Async("notificationTaskExecutor")
-	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
 	public void handleReviewRequested(IssueReviewRequestedEvent event) {
 
 		List<WorkspaceMember> targets = targetResolver.getIssueSubscriberTargets(
@@ -157,8 +206,6 @@ public class NotificationEventHandler {
 		processNotifications(event, targets);
 	}
 
-	@Async("notificationTaskExecutor")
-	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
 	public void handleReviewSubmitted(ReviewSubmittedEvent event) {
 
 		List<WorkspaceMember> targets = targetResolver.getIssueSubscriberTargets(
@@ -168,8 +215,6 @@ public class NotificationEventHandler {
 		processNotifications(event, targets);
 	}
 
-	@Async("notificationTaskExecutor")
-	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
 	public void handleIssueCommentCreated(IssueCommentAddedEvent event) {
 
 		List<WorkspaceMember> targets = targetResolver.getIssueSubscriberTargets(
@@ -179,8 +224,6 @@ public class NotificationEventHandler {
 		processNotifications(event, targets);
 	}
 
-	@Async("notificationTaskExecutor")
-	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
 	public void handleReviewCommentCreated(ReviewCommentAddedEvent event) {
 
 		List<WorkspaceMember> targets = targetResolver.getIssueSubscriberTargets(
@@ -190,32 +233,24 @@ public class NotificationEventHandler {
 		processNotifications(event, targets);
 	}
 
-	@Async("notificationTaskExecutor")
-	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
 	public void handleSprintStarted(SprintStartedEvent event) {
 
 		List<WorkspaceMember> targets = targetResolver.getWorkspaceWideMemberTargets(event.getWorkspaceCode());
 		processNotifications(event, targets);
 	}
 
-	@Async("notificationTaskExecutor")
-	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
 	public void handleSprintCompleted(SprintCompletedEvent event) {
 
 		List<WorkspaceMember> targets = targetResolver.getWorkspaceWideMemberTargets(event.getWorkspaceCode());
 		processNotifications(event, targets);
 	}
 
-	@Async("notificationTaskExecutor")
-	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
 	public void handleMemberJoinedWorkspace(MemberJoinedWorkspaceEvent event) {
 
 		List<WorkspaceMember> targets = targetResolver.getWorkspaceWideMemberTargets(event.getWorkspaceCode());
 		processNotifications(event, targets);
 	}
 
-	@Async("notificationTaskExecutor")
-	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
 	public void handleWorkspaceMemberRoleChanged(WorkspaceMemberRoleChangedEvent event) {
 
 		Set<WorkspaceMember> targets = targetResolver.getAdminAndSpecificMemberTargets(
@@ -235,9 +270,8 @@ public class NotificationEventHandler {
 			return;
 		}
 
-		for (WorkspaceMember target : targets) {
-			Notification notification = commandService.createNotification(event, target.getMember().getId(), message);
-			notificationProcessor.process(notification);
-		}
+		// 모든 알림을 한 번에 저장한 뒤 채널 별 발송
+		List<Notification> notifications = commandService.createNotifications(event, targets, message);
+		notificationProcessor.process(notifications);
 	}
 }
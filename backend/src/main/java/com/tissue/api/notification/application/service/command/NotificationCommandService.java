@@ -1,5 +1,6 @@
 package com.tissue.api.notification.application.service.command;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
@@ -55,6 +56,38 @@ public class NotificationCommandService {
 		return notificationRepository.save(notification);
 	}
 
+	/**
+	 * 하나의 이벤트에 대한 알림들을 한 번의 트랜잭션으로 생성합니다.
+	 * - 액터는 한 번만 조회하고, 수신자 정보는 이미 조회된 대상(WorkspaceMember)에서 꺼내서 사용합니다
+	 * - 알림 발송(NotificationProcessor)은 저장이 끝난 후 호출하는 쪽에서 수행합니다
+	 */
+	@Transactional
+	public List<Notification> createNotifications(
+		DomainEvent event,
+		Collection<WorkspaceMember> receivers,
+		NotificationMessage message
+	) {
+		WorkspaceMember actor = workspaceMemberReader.findWorkspaceMember(
+			event.getActorMemberId(),
+			event.getWorkspaceCode()
+		);
+
+		List<Notification> notifications = receivers.stream()
+			.map(receiver -> Notification.builder()
+				.eventId(event.getEventId())
+				.notificationType(event.getNotificationType())
+				.entityReference(event.createEntityReference())
+				.actorMemberId(event.getActorMemberId())
+				.actorDisplayName(actor.getDisplayName())
+				.message(message)
+				.receiverMemberId(receiver.getMember().getId())
+				.receiverEmail(receiver.getEmail())
+				.build())
+			.toList();
+
+		return notificationRepository.saveAll(notifications);
+	}
+
 	@Transactional
 	public void markAsRead(Long notificationId, Long receiverMemberId) {
 		Notification notification = notificationRepository.findByIdAndReceiverMemberId(
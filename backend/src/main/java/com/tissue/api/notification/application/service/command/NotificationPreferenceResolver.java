@@ -0,0 +1,112 @@
+package com.tissue.api.notification.application.service.command;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tissue.api.notification.domain.model.NotificationPreference;
+import com.tissue.api.notification.domain.model.vo.ReceiverPreferences;
+import com.tissue.api.notification.infrastructure.repository.NotificationPreferenceRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 수신자들의 알림 설정을 한 번에 조회하는 resolver
+ * - (memberId, workspaceCode) 단위로 수신자의 모든 설정을 캐시한다
+ * - 캐시에 없는 수신자들은 워크스페이스 별로 한 번의 쿼리로 조회한다
+ * - 설정이 변경되면 NotificationPreferenceService가 해당 수신자의 엔트리를 무효화한다
+ */
+public class NotificationPreferenceResolver {
+
+	private static final String CACHE_NAME = "notificationPreference";
+
+	private final NotificationPreferenceRepository preferenceRepository;
+	private final Cache<ReceiverKey, ReceiverPreferences> cache;
+
+	public NotificationPreferenceResolver(
+		NotificationPreferenceRepository preferenceRepository,
+		int maximumSize,
+		int expirationMinutes,
+		MeterRegistry meterRegistry
+	) {
+		this.preferenceRepository = preferenceRepository;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(expirationMinutes, TimeUnit.MINUTES)
+			.recordStats()
+			.build();
+
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+	}
+
+	/**
+	 * Resolves the preferences of every receiver in the workspace, keyed by receiver member id.
+	 */
+	public Map<Long, ReceiverPreferences> resolve(String workspaceCode, Collection<Long> receiverMemberIds) {
+		List<ReceiverKey> keys = receiverMemberIds.stream()
+			.distinct()
+			.map(memberId -> new ReceiverKey(memberId, workspaceCode))
+			.toList();
+
+		return cache.getAll(keys, this::loadAll).entrySet().stream()
+			.collect(Collectors.toMap(entry -> entry.getKey().memberId(), Map.Entry::getValue));
+	}
+
+	/**
+	 * 현재 트랜잭션 안의 이후 조회를 위해 즉시 무효화하고,
+	 * 커밋 전에 다른 스레드가 이전 값을 다시 캐시할 수 있으므로 커밋 후에 한 번 더 무효화한다
+	 */
+	public void evict(Long memberId, String workspaceCode) {
+		ReceiverKey key = new ReceiverKey(memberId, workspaceCode);
+		cache.invalidate(key);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					cache.invalidate(key);
+				}
+			});
+		}
+	}
+
+	private Map<ReceiverKey, ReceiverPreferences> loadAll(Set<? extends ReceiverKey> keys) {
+		Map<ReceiverKey, ReceiverPreferences> loaded = new HashMap<>();
+
+		Map<String, Set<Long>> memberIdsByWorkspace = keys.stream()
+			.collect(Collectors.groupingBy(
+				ReceiverKey::workspaceCode,
+				Collectors.mapping(ReceiverKey::memberId, Collectors.toSet())
+			));
+
+		memberIdsByWorkspace.forEach((workspaceCode, memberIds) -> {
+			Map<Long, List<NotificationPreference>> preferencesByMember = preferenceRepository
+				.findAllByWorkspaceCodeAndReceiverMemberIdIn(workspaceCode, memberIds).stream()
+				.collect(Collectors.groupingBy(NotificationPreference::getReceiverMemberId));
+
+			// 설정이 하나도 없는 수신자도 캐시해서 다시 조회하지 않도록 한다
+			memberIds.forEach(memberId -> loaded.put(
+				new ReceiverKey(memberId, workspaceCode),
+				ReceiverPreferences.from(preferencesByMember.getOrDefault(memberId, List.of()))
+			));
+		});
+
+		return loaded;
+	}
+
+	private record ReceiverKey(
+		Long memberId,
+		String workspaceCode
+	) {
+	}
+}
@@ -15,6 +15,7 @@ import lombok.RequiredArgsConstructor;
 public class NotificationPreferenceService {
 
 	private final NotificationPreferenceRepository repository;
+	private final NotificationPreferenceResolver preferenceResolver;
 
 	// TODO: 현재는 EMAIL로 채널이 하드코딩. 추후 채널이 늘어나면 request에서 꺼내서 사용하기.
 	@Transactional
@@ -39,5 +40,6 @@ public class NotificationPreferenceService {
 		pref.updateEnabled(request.enabled());
 
 		repository.save(pref);
+		preferenceResolver.evict(memberId, workspaceCode);
 	}
 }
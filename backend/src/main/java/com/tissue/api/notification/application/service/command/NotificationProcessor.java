@@ -1,14 +1,14 @@
 package com.tissue.api.notification.application.service.command;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
-import com.tissue.api.notification.domain.enums.NotificationChannel;
 import com.tissue.api.notification.domain.model.Notification;
-import com.tissue.api.notification.domain.model.NotificationPreference;
+import com.tissue.api.notification.domain.model.vo.ReceiverPreferences;
 import com.tissue.api.notification.domain.service.sender.NotificationSender;
-import com.tissue.api.notification.infrastructure.repository.NotificationPreferenceRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,24 +19,41 @@ import lombok.extern.slf4j.Slf4j;
 public class NotificationProcessor {
 
 	private final List<NotificationSender> senders;
-	private final NotificationPreferenceRepository preferenceRepository;
+	private final NotificationPreferenceResolver preferenceResolver;
 
 	public void process(Notification notification) {
+		process(List.of(notification));
+	}
+
+	/**
+	 * 수신자들의 알림 설정을 워크스페이스 별로 한 번에 조회한 뒤, 허용된 채널로 발송한다
+	 */
+	public void process(List<Notification> notifications) {
+		Map<String, List<Notification>> notificationsByWorkspace = notifications.stream()
+			.collect(Collectors.groupingBy(notification -> notification.getEntityReference().getWorkspaceCode()));
+
+		notificationsByWorkspace.forEach((workspaceCode, workspaceNotifications) -> {
+			List<Long> receiverMemberIds = workspaceNotifications.stream()
+				.map(Notification::getReceiverMemberId)
+				.toList();
+
+			Map<Long, ReceiverPreferences> preferences = preferenceResolver.resolve(workspaceCode, receiverMemberIds);
+
+			for (Notification notification : workspaceNotifications) {
+				ReceiverPreferences receiverPreferences = preferences.getOrDefault(
+					notification.getReceiverMemberId(),
+					ReceiverPreferences.empty() // 설정 없으면 수신 허용
+				);
+				send(notification, receiverPreferences);
+			}
+		});
+	}
+
+	private void send(Notification notification, ReceiverPreferences receiverPreferences) {
 		for (NotificationSender sender : senders) {
-			if (shouldSend(notification, sender.getChannel())) {
+			if (receiverPreferences.isEnabled(notification.getType(), sender.getChannel())) {
 				sender.send(notification);
 			}
 		}
 	}
-
-	private boolean shouldSend(Notification notification, NotificationChannel channel) {
-		return preferenceRepository.findByReceiver(
-				notification.getReceiverMemberId(),
-				notification.getEntityReference().getWorkspaceCode(),
-				notification.getType(),
-				channel
-			)
-			.map(NotificationPreference::isEnabled)
-			.orElse(true); // 설정 없으면 수신 허용
-	}
 }
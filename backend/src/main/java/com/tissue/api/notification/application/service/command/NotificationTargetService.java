@@ -1,10 +1,12 @@
 package com.tissue.api.notification.application.service.command;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.tissue.api.issue.application.service.reader.IssueReader;
 import com.tissue.api.issue.domain.model.Issue;
@@ -39,6 +41,21 @@ public class NotificationTargetService {
 		return workspaceMemberRepository.findAllByWorkspaceCodeAndMemberIdIn(workspaceCode, subscriberIds);
 	}
 
+	/**
+	 * Retrieve the union of the subscribers of the issues as notification targets.
+	 * Each member appears once, no matter how many of the issues they subscribe to.
+	 * Subscriber collections are loaded in batches (default_batch_fetch_size) within one read-only transaction.
+	 */
+	@Transactional(readOnly = true)
+	public List<WorkspaceMember> getIssueSubscriberTargets(Collection<String> issueKeys, String workspaceCode) {
+
+		Set<Long> subscriberIds = new HashSet<>();
+		issueReader.findIssues(issueKeys, workspaceCode)
+			.forEach(issue -> subscriberIds.addAll(issue.getSubscriberMemberIds()));
+
+		return workspaceMemberRepository.findAllByWorkspaceCodeAndMemberIdIn(workspaceCode, subscriberIds);
+	}
+
 	/**
 	 * Retrieve the reviewers of the issue as notification targets.
 	 */
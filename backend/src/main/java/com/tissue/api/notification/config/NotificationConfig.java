@@ -1,14 +1,18 @@
 package com.tissue.api.notification.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.tissue.api.notification.application.service.command.NotificationPreferenceResolver;
 import com.tissue.api.notification.domain.service.message.NotificationContentArgumentsFormatter;
 import com.tissue.api.notification.domain.service.message.NotificationMessageFactory;
 import com.tissue.api.notification.infrastructure.message.SimpleNotificationMessageFactory;
+import com.tissue.api.notification.infrastructure.repository.NotificationPreferenceRepository;
 import com.tissue.api.workspacemember.application.service.command.WorkspaceMemberReader;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -25,5 +29,15 @@ public class NotificationConfig {
 		return new SimpleNotificationMessageFactory(messageSource, workspaceMemberReader, argumentFormatter);
 	}
 
+	@Bean
+	public NotificationPreferenceResolver notificationPreferenceResolver(
+		NotificationPreferenceRepository preferenceRepository,
+		@Value("${api.notification.preference-cache.size:10000}") int cacheSize,
+		@Value("${api.notification.preference-cache.duration:10}") int expirationMinutes,
+		MeterRegistry meterRegistry
+	) {
+		return new NotificationPreferenceResolver(preferenceRepository, cacheSize, expirationMinutes, meterRegistry);
+	}
+
 	// TODO(고민중): 사용할 EmailClient 구현체 선택? notification 도메인은 별도의 모듈로 분리 예정?
 }
@@ -2,10 +2,12 @@ package com.tissue.api.notification.domain.enums;
 
 public enum NotificationType {
 	ISSUE_CREATED,
+	ISSUES_IMPORTED,
 	ISSUE_PARENT_ASSIGNED,
 	ISSUE_PARENT_REMOVED,
 	ISSUE_UPDATED,
 	ISSUE_STATUS_CHANGED,
+	ISSUES_STATUS_CHANGED,
 	ISSUE_COMMENT_ADDED,
 	ISSUE_ASSIGNED,
 	ISSUE_UNASSIGNED,
@@ -0,0 +1,39 @@
+package com.tissue.api.notification.domain.model.vo;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.tissue.api.notification.domain.enums.NotificationChannel;
+import com.tissue.api.notification.domain.enums.NotificationType;
+import com.tissue.api.notification.domain.model.NotificationPreference;
+
+/**
+ * 한 워크스페이스에서 수신자가 꺼둔 (알림 타입, 채널) 목록
+ * - 설정이 없는 조합은 수신 허용으로 취급한다
+ */
+public record ReceiverPreferences(
+	Map<NotificationType, Set<NotificationChannel>> disabledChannels
+) {
+	public static ReceiverPreferences empty() {
+		return new ReceiverPreferences(Map.of());
+	}
+
+	public static ReceiverPreferences from(Collection<NotificationPreference> preferences) {
+		Map<NotificationType, Set<NotificationChannel>> disabledChannels = new EnumMap<>(NotificationType.class);
+
+		preferences.stream()
+			.filter(preference -> !preference.isEnabled())
+			.forEach(preference -> disabledChannels
+				.computeIfAbsent(preference.getType(), type -> EnumSet.noneOf(NotificationChannel.class))
+				.add(preference.getChannel()));
+
+		return new ReceiverPreferences(disabledChannels);
+	}
+
+	public boolean isEnabled(NotificationType type, NotificationChannel channel) {
+		return !disabledChannels.getOrDefault(type, Set.of()).contains(channel);
+	}
+}
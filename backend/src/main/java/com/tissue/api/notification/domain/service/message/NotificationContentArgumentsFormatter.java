@@ -8,6 +8,8 @@ import com.tissue.api.issue.domain.event.IssueParentAssignedEvent;
 import com.tissue.api.issue.domain.event.IssueParentRemovedEvent;
 import com.tissue.api.issue.domain.event.IssueReviewerAddedEvent;
 import com.tissue.api.issue.domain.event.IssueStatusChangedEvent;
+import com.tissue.api.issue.domain.event.IssuesImportedEvent;
+import com.tissue.api.issue.domain.event.IssuesStatusChangedEvent;
 import com.tissue.api.review.domain.event.ReviewSubmittedEvent;
 import com.tissue.api.sprint.domain.event.SprintCompletedEvent;
 import com.tissue.api.workspace.domain.event.MemberJoinedWorkspaceEvent;
@@ -26,6 +28,14 @@ public class NotificationContentArgumentsFormatter {
 		return new Object[] {actorNickname, entityKey};
 	}
 
+	public Object[] createIssuesImportedArgs(DomainEvent event, String actorNickname) {
+		IssuesImportedEvent issuesImportedEvent = (IssuesImportedEvent)event;
+		return new Object[] {
+			actorNickname,
+			issuesImportedEvent.getImportedCount()
+		};
+	}
+
 	public Object[] createIssueStatusChangeArgs(DomainEvent event, String actorNickname) {
 		IssueStatusChangedEvent statusChangedEvent = (IssueStatusChangedEvent)event;
 		return new Object[] {
@@ -36,6 +46,15 @@ public class NotificationContentArgumentsFormatter {
 		};
 	}
 
+	public Object[] createIssuesStatusChangedArgs(DomainEvent event, String actorNickname) {
+		IssuesStatusChangedEvent statusChangedEvent = (IssuesStatusChangedEvent)event;
+		return new Object[] {
+			actorNickname,
+			statusChangedEvent.getChanges().size(),
+			statusChangedEvent.getNewStatus().toString()
+		};
+	}
+
 	public Object[] createIssueParentAssignedArgs(DomainEvent event, String actorNickname) {
 		IssueParentAssignedEvent parentAssignedEvent = (IssueParentAssignedEvent)event;
 		return new Object[] {
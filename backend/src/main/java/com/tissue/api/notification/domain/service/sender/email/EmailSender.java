@@ -2,7 +2,8 @@ package com.tissue.api.notification.domain.service.sender.email;
 
 import org.springframework.stereotype.Component;
 
-import com.tissue.api.email.domain.EmailClient;
+import com.tissue.api.email.domain.EmailDelivery;
+import com.tissue.api.email.domain.EmailMessage;
 import com.tissue.api.notification.domain.enums.NotificationChannel;
 import com.tissue.api.notification.domain.model.Notification;
 import com.tissue.api.notification.domain.service.sender.NotificationSender;
@@ -15,7 +16,7 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class EmailSender implements NotificationSender {
 
-	private final EmailClient emailClient;
+	private final EmailDelivery emailDelivery;
 
 	@Override
 	public NotificationChannel getChannel() {
@@ -24,7 +25,6 @@ public class EmailSender implements NotificationSender {
 
 	@Override
 	public void send(Notification notification) {
-		// TODO: EmailClient를 사용한 실제 알림 이메일 전송 작업
 		// TODO: try-catch로 예외 잡고 로깅
 		// TODO: 수신자(receiver)의 이메일 필드를 Notification에 추가하는게 좋읗 듯(여기서 조회하기 싫음)
 		// TODO: 최선 노력 방식(best effort)이어도 Exception을 잡는게 좋은 방식인가?
@@ -34,7 +34,7 @@ public class EmailSender implements NotificationSender {
 			String subject = notification.getTitle();
 			String body = notification.getContent();
 
-			emailClient.send(to, subject, body);
+			emailDelivery.deliver(new EmailMessage(to, subject, body));
 		} catch (Exception e) {
 			log.warn("failed to send email notification: receiver member id={}, title={}, cause={}",
 				notification.getReceiverMemberId(),
@@ -68,8 +68,12 @@ public class SimpleNotificationMessageFactory implements NotificationMessageFact
 				ISSUE_ASSIGNED, ISSUE_UNASSIGNED, ISSUE_REVIEW_REQUESTED ->
 				argumentFormatter.createStandardArgs(actorNickname, event.getEntityKey());
 
+			case ISSUES_IMPORTED -> argumentFormatter.createIssuesImportedArgs(event, actorNickname);
+
 			case ISSUE_STATUS_CHANGED -> argumentFormatter.createIssueStatusChangeArgs(event, actorNickname);
 
+			case ISSUES_STATUS_CHANGED -> argumentFormatter.createIssuesStatusChangedArgs(event, actorNickname);
+
 			case ISSUE_PARENT_ASSIGNED -> argumentFormatter.createIssueParentAssignedArgs(event, actorNickname);
 
 			case ISSUE_PARENT_REMOVED -> argumentFormatter.createIssueParentRemovedArgs(event, actorNickname);
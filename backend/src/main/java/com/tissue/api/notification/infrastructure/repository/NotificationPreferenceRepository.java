@@ -1,5 +1,7 @@
 package com.tissue.api.notification.infrastructure.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -24,4 +26,9 @@ public interface NotificationPreferenceRepository extends JpaRepository<Notifica
 		@Param("type") NotificationType type,
 		@Param("channel") NotificationChannel channel
 	);
+
+	List<NotificationPreference> findAllByWorkspaceCodeAndReceiverMemberIdIn(
+		String workspaceCode,
+		Collection<Long> receiverMemberIds
+	);
 }
@@ -0,0 +1,26 @@
+package com.tissue.api.outbox.application.eventhandler;
+
+import org.springframework.context.event.EventListener;
+
+import com.tissue.api.common.event.DomainEvent;
+import com.tissue.api.outbox.domain.model.OutboxEvent;
+import com.tissue.api.outbox.infrastructure.repository.OutboxEventRepository;
+import com.tissue.api.outbox.infrastructure.serializer.OutboxPayloadSerializer;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 발행된 DomainEvent를 발행한 커맨드와 같은 트랜잭션에서 outbox 테이블에 저장한다
+ * - 커맨드가 롤백되면 이벤트도 함께 롤백된다
+ */
+@RequiredArgsConstructor
+public class OutboxEventRecorder {
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final OutboxPayloadSerializer serializer;
+
+	@EventListener
+	public void record(DomainEvent event) {
+		outboxEventRepository.save(OutboxEvent.of(event, serializer.serialize(event)));
+	}
+}
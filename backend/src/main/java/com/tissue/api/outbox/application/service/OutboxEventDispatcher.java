@@ -0,0 +1,103 @@
+package com.tissue.api.outbox.application.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.tissue.api.outbox.domain.enums.OutboxEventStatus;
+import com.tissue.api.outbox.infrastructure.repository.OutboxEventRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * outbox 테이블의 처리할 수 있는 이벤트(재시도 시각이 지난 PENDING, 선점이 만료된 PROCESSING)를 배치 단위로 꺼내서 핸들러들에게 전달한다
+ * - 배치 내 이벤트들은 outboxDispatchExecutor에서 동시에 처리되며, 배치가 끝나야 다음 폴링을 한다
+ * - 이벤트 간의 처리 순서는 보장하지 않는다
+ */
+@Slf4j
+public class OutboxEventDispatcher {
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final OutboxEventProcessor outboxEventProcessor;
+	private final Executor dispatchExecutor;
+	private final int batchSize;
+	private final int maxAttempts;
+	private final Duration claimTimeout;
+
+	private final AtomicLong backlog = new AtomicLong();
+	private final AtomicLong lagSeconds = new AtomicLong();
+	private final Counter publishedCounter;
+	private final Counter failedCounter;
+
+	public OutboxEventDispatcher(
+		OutboxEventRepository outboxEventRepository,
+		OutboxEventProcessor outboxEventProcessor,
+		Executor dispatchExecutor,
+		int batchSize,
+		int maxAttempts,
+		Duration claimTimeout,
+		MeterRegistry meterRegistry
+	) {
+		this.outboxEventRepository = outboxEventRepository;
+		this.outboxEventProcessor = outboxEventProcessor;
+		this.dispatchExecutor = dispatchExecutor;
+		this.batchSize = batchSize;
+		this.maxAttempts = maxAttempts;
+		this.claimTimeout = claimTimeout;
+
+		Gauge.builder("outbox.events.backlog", backlog, AtomicLong::get)
+			.description("Number of outbox events waiting to be dispatched")
+			.register(meterRegistry);
+		Gauge.builder("outbox.events.lag", lagSeconds, AtomicLong::get)
+			.description("Age of the oldest pending outbox event")
+			.baseUnit("seconds")
+			.register(meterRegistry);
+		this.publishedCounter = Counter.builder("outbox.events.published").register(meterRegistry);
+		this.failedCounter = Counter.builder("outbox.events.failed").register(meterRegistry);
+	}
+
+	@Scheduled(fixedDelayString = "${api.event.outbox.poll-interval:1000}")
+	public void dispatchPending() {
+		LocalDateTime now = LocalDateTime.now();
+		List<Long> pendingIds = outboxEventRepository.findDispatchableIds(
+			now,
+			now.minus(claimTimeout),
+			PageRequest.of(0, batchSize)
+		);
+
+		CompletableFuture.allOf(pendingIds.stream()
+			.map(id -> CompletableFuture.runAsync(() -> dispatch(id), dispatchExecutor))
+			.toArray(CompletableFuture[]::new)
+		).join();
+
+		updateBacklogMetrics();
+	}
+
+	private void dispatch(Long outboxEventId) {
+		try {
+			if (outboxEventProcessor.process(outboxEventId)) {
+				publishedCounter.increment();
+			}
+		} catch (Exception e) {
+			log.warn("Failed to dispatch outbox event: id={}", outboxEventId, e);
+			failedCounter.increment();
+			outboxEventProcessor.recordFailure(outboxEventId, e.getMessage(), maxAttempts);
+		}
+	}
+
+	private void updateBacklogMetrics() {
+		backlog.set(outboxEventRepository.countByStatus(OutboxEventStatus.PENDING));
+		lagSeconds.set(outboxEventRepository.findFirstByStatusOrderByIdAsc(OutboxEventStatus.PENDING)
+			.map(oldest -> Duration.between(oldest.getOccurredAt(), LocalDateTime.now()).toSeconds())
+			.orElse(0L));
+	}
+}
@@ -0,0 +1,95 @@
+package com.tissue.api.outbox.application.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+
+import com.tissue.api.common.event.DomainEvent;
+import com.tissue.api.common.event.DomainEventHandler;
+import com.tissue.api.outbox.domain.model.OutboxDelivery;
+import com.tissue.api.outbox.domain.model.OutboxEvent;
+import com.tissue.api.outbox.infrastructure.repository.OutboxDeliveryRepository;
+import com.tissue.api.outbox.infrastructure.repository.OutboxEventRepository;
+import com.tissue.api.outbox.infrastructure.serializer.OutboxPayloadSerializer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * outbox 이벤트 한 건을 선점하고 핸들러들에게 전달한다
+ * - 선점(PROCESSING)은 먼저 커밋하므로 핸들러를 실행하는 동안 outbox row의 락을 잡지 않는다
+ * - 핸들러마다 별도의 트랜잭션에서 실행하고, 같은 트랜잭션에서 OutboxDelivery를 저장한다
+ * - 재시도할 때는 OutboxDelivery가 있는 핸들러를 건너뛰므로, 한 핸들러의 실패로 다른 핸들러(알림, 이메일)가 다시 실행되지 않는다
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class OutboxEventProcessor {
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final OutboxDeliveryRepository outboxDeliveryRepository;
+	private final OutboxPayloadSerializer serializer;
+	private final List<DomainEventHandler> handlers;
+	private final TransactionTemplate transactionTemplate;
+	private final Duration claimTimeout;
+	private final Duration retryBackoff;
+
+	/**
+	 * @return 이 호출에서 이벤트를 처리했는지 여부(다른 디스패처가 이미 선점했으면 false)
+	 */
+	public boolean process(Long outboxEventId) {
+		LocalDateTime now = LocalDateTime.now();
+		Integer claimed = transactionTemplate.execute(
+			status -> outboxEventRepository.claim(outboxEventId, now, now.minus(claimTimeout)));
+		if (claimed == null || claimed == 0) {
+			return false;
+		}
+
+		OutboxEvent outboxEvent = transactionTemplate.execute(status -> outboxEventRepository.findById(outboxEventId)
+			.orElseThrow(() -> new IllegalStateException("Outbox event not found: " + outboxEventId)));
+		Set<String> deliveredHandlers = transactionTemplate.execute(
+			status -> outboxDeliveryRepository.findHandlersByOutboxEventId(outboxEventId));
+
+		DomainEvent event = serializer.deserialize(outboxEvent.getPayload());
+		RuntimeException failure = null;
+
+		for (DomainEventHandler handler : handlers) {
+			String handlerName = ClassUtils.getUserClass(handler).getName();
+			if (deliveredHandlers.contains(handlerName)) {
+				continue;
+			}
+
+			try {
+				transactionTemplate.executeWithoutResult(status -> {
+					handler.handle(event);
+					outboxDeliveryRepository.save(OutboxDelivery.of(outboxEventId, handlerName));
+				});
+			} catch (RuntimeException e) {
+				log.warn("Outbox event handler failed: id={}, handler={}", outboxEventId, handlerName, e);
+				if (failure == null) {
+					failure = e;
+				} else {
+					failure.addSuppressed(e);
+				}
+			}
+		}
+
+		if (failure != null) {
+			throw failure;
+		}
+
+		transactionTemplate.executeWithoutResult(status -> outboxEventRepository.findById(outboxEventId)
+			.ifPresent(OutboxEvent::markPublished));
+
+		log.debug("Outbox event published: eventId={}, type={}", outboxEvent.getEventId(), outboxEvent.getEventType());
+		return true;
+	}
+
+	public void recordFailure(Long outboxEventId, String error, int maxAttempts) {
+		transactionTemplate.executeWithoutResult(status -> outboxEventRepository.findById(outboxEventId)
+			.ifPresent(outboxEvent -> outboxEvent.recordFailure(error, maxAttempts, retryBackoff)));
+	}
+}
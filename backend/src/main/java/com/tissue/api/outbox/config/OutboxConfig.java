@@ -0,0 +1,114 @@
+package com.tissue.api.outbox.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tissue.api.common.event.DomainEventHandler;
+import com.tissue.api.outbox.application.eventhandler.OutboxEventRecorder;
+import com.tissue.api.outbox.application.service.OutboxEventDispatcher;
+import com.tissue.api.outbox.application.service.OutboxEventProcessor;
+import com.tissue.api.outbox.infrastructure.repository.OutboxDeliveryRepository;
+import com.tissue.api.outbox.infrastructure.repository.OutboxEventRepository;
+import com.tissue.api.outbox.infrastructure.serializer.OutboxPayloadSerializer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * api.event.outbox.enabled=true 인 경우 DomainEvent를 outbox 테이블을 통해 전달한다
+ *  - 커맨드 트랜잭션에서 이벤트 저장(OutboxEventRecorder)
+ *  - poll-interval 마다 batch-size 만큼 꺼내서 concurrency 개의 스레드로 처리(OutboxEventDispatcher)
+ *  - 핸들러마다 별도의 트랜잭션에서 실행하고, 실패하면 retry-backoff 부터 두 배씩 늘어나는 간격으로 재시도한다
+ *  - max-attempts 번 실패한 이벤트는 FAILED 상태로 남긴다
+ *  - claim-timeout 동안 PROCESSING으로 남은 이벤트(디스패처 종료 등)는 다시 선점할 수 있다
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "api.event.outbox.enabled", havingValue = "true")
+public class OutboxConfig {
+
+	@Bean
+	public OutboxPayloadSerializer outboxPayloadSerializer() {
+		return new OutboxPayloadSerializer();
+	}
+
+	@Bean
+	public OutboxEventRecorder outboxEventRecorder(
+		OutboxEventRepository outboxEventRepository,
+		OutboxPayloadSerializer outboxPayloadSerializer
+	) {
+		return new OutboxEventRecorder(outboxEventRepository, outboxPayloadSerializer);
+	}
+
+	@Bean
+	public OutboxEventProcessor outboxEventProcessor(
+		OutboxEventRepository outboxEventRepository,
+		OutboxDeliveryRepository outboxDeliveryRepository,
+		OutboxPayloadSerializer outboxPayloadSerializer,
+		List<DomainEventHandler> handlers,
+		PlatformTransactionManager transactionManager,
+		@Value("${api.event.outbox.claim-timeout:300000}") long claimTimeoutMillis,
+		@Value("${api.event.outbox.retry-backoff:1000}") long retryBackoffMillis
+	) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		return new OutboxEventProcessor(
+			outboxEventRepository,
+			outboxDeliveryRepository,
+			outboxPayloadSerializer,
+			handlers,
+			transactionTemplate,
+			Duration.ofMillis(claimTimeoutMillis),
+			Duration.ofMillis(retryBackoffMillis)
+		);
+	}
+
+	@Bean(name = "outboxDispatchExecutor")
+	public Executor outboxDispatchExecutor(
+		@Value("${api.event.outbox.concurrency:4}") int concurrency,
+		@Value("${api.event.outbox.batch-size:100}") int batchSize
+	) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(concurrency);
+		executor.setMaxPoolSize(concurrency);
+		executor.setQueueCapacity(batchSize);
+		executor.setThreadNamePrefix("Outbox-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.initialize();
+		return executor;
+	}
+
+	@Bean
+	public OutboxEventDispatcher outboxEventDispatcher(
+		OutboxEventRepository outboxEventRepository,
+		OutboxEventProcessor outboxEventProcessor,
+		@Qualifier("outboxDispatchExecutor") Executor outboxDispatchExecutor,
+		@Value("${api.event.outbox.batch-size:100}") int batchSize,
+		@Value("${api.event.outbox.max-attempts:5}") int maxAttempts,
+		@Value("${api.event.outbox.claim-timeout:300000}") long claimTimeoutMillis,
+		MeterRegistry meterRegistry
+	) {
+		return new OutboxEventDispatcher(
+			outboxEventRepository,
+			outboxEventProcessor,
+			outboxDispatchExecutor,
+			batchSize,
+			maxAttempts,
+			Duration.ofMillis(claimTimeoutMillis),
+			meterRegistry
+		);
+	}
+}
@@ -0,0 +1,8 @@
+package com.tissue.api.outbox.domain.enums;
+
+public enum OutboxEventStatus {
+	PENDING,
+	PROCESSING,
+	PUBLISHED,
+	FAILED
+}
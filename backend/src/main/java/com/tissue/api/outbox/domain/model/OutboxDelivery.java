@@ -0,0 +1,54 @@
+package com.tissue.api.outbox.domain.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * outbox 이벤트를 처리한 핸들러 기록
+ * - 핸들러의 작업과 같은 트랜잭션에서 저장되므로, 재시도할 때 이미 처리한 핸들러는 다시 실행하지 않는다
+ */
+@Entity
+@Getter
+@Table(
+	uniqueConstraints = {
+		@UniqueConstraint(
+			name = "UK_OUTBOX_DELIVERY_HANDLER",
+			columnNames = {"outboxEventId", "handler"})
+	}
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxDelivery {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false)
+	private Long outboxEventId;
+
+	@Column(nullable = false)
+	private String handler;
+
+	@Column(nullable = false)
+	private LocalDateTime deliveredAt;
+
+	private OutboxDelivery(Long outboxEventId, String handler) {
+		this.outboxEventId = outboxEventId;
+		this.handler = handler;
+		this.deliveredAt = LocalDateTime.now();
+	}
+
+	public static OutboxDelivery of(Long outboxEventId, String handler) {
+		return new OutboxDelivery(outboxEventId, handler);
+	}
+}
@@ -0,0 +1,124 @@
+package com.tissue.api.outbox.domain.model;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.tissue.api.common.entity.BaseDateEntity;
+import com.tissue.api.common.event.DomainEvent;
+import com.tissue.api.outbox.domain.enums.OutboxEventStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커맨드와 같은 트랜잭션에서 저장되는 DomainEvent
+ * - eventId(DomainEvent.getEventId)는 유일하며, 디스패처는 PENDING 상태인 이벤트를 PROCESSING으로 선점한 뒤 처리한다
+ * - 처리에 실패하면 nextAttemptAt까지 기다렸다가(지수 백오프) 다시 처리한다
+ */
+@Entity
+@Getter
+@Table(
+	uniqueConstraints = {
+		@UniqueConstraint(
+			name = "UK_OUTBOX_EVENT_ID",
+			columnNames = {"eventId"})
+	},
+	indexes = {
+		@Index(name = "IDX_OUTBOX_STATUS", columnList = "status, id")
+	}
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent extends BaseDateEntity {
+
+	private static final int MAX_ERROR_LENGTH = 1000;
+	private static final int MAX_BACKOFF_EXPONENT = 10;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false)
+	private UUID eventId;
+
+	@Column(nullable = false)
+	private String eventType;
+
+	private String workspaceCode;
+
+	@Lob
+	@Column(nullable = false)
+	private byte[] payload;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private OutboxEventStatus status;
+
+	@Column(nullable = false)
+	private int attempts;
+
+	@Column(length = MAX_ERROR_LENGTH)
+	private String lastError;
+
+	@Column(nullable = false)
+	private LocalDateTime occurredAt;
+
+	@Column(nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	private LocalDateTime claimedAt;
+
+	private LocalDateTime publishedAt;
+
+	private OutboxEvent(DomainEvent event, byte[] payload) {
+		this.eventId = event.getEventId();
+		this.eventType = event.getClass().getName();
+		this.workspaceCode = event.getWorkspaceCode();
+		this.payload = payload;
+		this.status = OutboxEventStatus.PENDING;
+		this.attempts = 0;
+		this.occurredAt = event.getOccurredAt();
+		this.nextAttemptAt = LocalDateTime.now();
+	}
+
+	public static OutboxEvent of(DomainEvent event, byte[] payload) {
+		return new OutboxEvent(event, payload);
+	}
+
+	public void markPublished() {
+		this.status = OutboxEventStatus.PUBLISHED;
+		this.publishedAt = LocalDateTime.now();
+	}
+
+	/**
+	 * 처리 실패를 기록하고, 최대 시도 횟수에 도달하면 더 이상 디스패치하지 않는다
+	 * - 그 전까지는 retryBackoff * 2^(attempts - 1) 만큼 기다린 뒤 다시 디스패치한다
+	 */
+	public void recordFailure(String error, int maxAttempts, Duration retryBackoff) {
+		this.attempts++;
+		this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+			? error.substring(0, MAX_ERROR_LENGTH)
+			: error;
+
+		if (attempts >= maxAttempts) {
+			this.status = OutboxEventStatus.FAILED;
+			return;
+		}
+
+		this.status = OutboxEventStatus.PENDING;
+		this.nextAttemptAt = LocalDateTime.now()
+			.plus(retryBackoff.multipliedBy(1L << Math.min(attempts - 1, MAX_BACKOFF_EXPONENT)));
+	}
+}
@@ -0,0 +1,15 @@
+package com.tissue.api.outbox.infrastructure.repository;
+
+import java.util.Set;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.tissue.api.outbox.domain.model.OutboxDelivery;
+
+public interface OutboxDeliveryRepository extends JpaRepository<OutboxDelivery, Long> {
+
+	@Query("SELECT d.handler FROM OutboxDelivery d WHERE d.outboxEventId = :outboxEventId")
+	Set<String> findHandlersByOutboxEventId(@Param("outboxEventId") Long outboxEventId);
+}
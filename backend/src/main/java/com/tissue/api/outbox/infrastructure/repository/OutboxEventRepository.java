@@ -0,0 +1,57 @@
+package com.tissue.api.outbox.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.tissue.api.outbox.domain.enums.OutboxEventStatus;
+import com.tissue.api.outbox.domain.model.OutboxEvent;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+	/**
+	 * 처리할 수 있는 이벤트 id를 조회한다
+	 * - 재시도 대기 시간이 지난 PENDING 이벤트
+	 * - 선점한 디스패처가 중간에 종료되어 staleBefore 이전부터 PROCESSING으로 남아 있는 이벤트
+	 */
+	@Query("SELECT o.id FROM OutboxEvent o"
+		+ " WHERE (o.status = com.tissue.api.outbox.domain.enums.OutboxEventStatus.PENDING"
+		+ " AND o.nextAttemptAt <= :now)"
+		+ " OR (o.status = com.tissue.api.outbox.domain.enums.OutboxEventStatus.PROCESSING"
+		+ " AND o.claimedAt < :staleBefore)"
+		+ " ORDER BY o.id")
+	List<Long> findDispatchableIds(
+		@Param("now") LocalDateTime now,
+		@Param("staleBefore") LocalDateTime staleBefore,
+		Pageable pageable
+	);
+
+	/**
+	 * 처리할 수 있는 이벤트를 PROCESSING으로 선점한다.
+	 * 갱신된 row가 0이면 다른 디스패처(인스턴스)가 이미 선점한 이벤트이다.
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE OutboxEvent o"
+		+ " SET o.status = com.tissue.api.outbox.domain.enums.OutboxEventStatus.PROCESSING,"
+		+ " o.claimedAt = :now"
+		+ " WHERE o.id = :id"
+		+ " AND ((o.status = com.tissue.api.outbox.domain.enums.OutboxEventStatus.PENDING"
+		+ " AND o.nextAttemptAt <= :now)"
+		+ " OR (o.status = com.tissue.api.outbox.domain.enums.OutboxEventStatus.PROCESSING"
+		+ " AND o.claimedAt < :staleBefore))")
+	int claim(
+		@Param("id") Long id,
+		@Param("now") LocalDateTime now,
+		@Param("staleBefore") LocalDateTime staleBefore
+	);
+
+	long countByStatus(OutboxEventStatus status);
+
+	Optional<OutboxEvent> findFirstByStatusOrderByIdAsc(OutboxEventStatus status);
+}
@@ -0,0 +1,42 @@
+package com.tissue.api.outbox.infrastructure.serializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import com.tissue.api.common.event.DomainEvent;
+
+/**
+ * DomainEvent를 outbox payload로 직렬화한다
+ * - 이벤트들은 final 필드와 생성 시점에 만들어지는 eventId를 가지므로, 생성자를 거치지 않는 Java 직렬화를 사용한다
+ * - 역직렬화는 애플리케이션 클래스와 java.base 타입만 허용한다
+ * - 배포 전에 저장된 payload도 읽을 수 있도록 이벤트 클래스는 serialVersionUID를 명시한다(DomainEvent 참고)
+ */
+public class OutboxPayloadSerializer {
+
+	private static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter(
+		"com.tissue.api.**;java.base/*;!*"
+	);
+
+	public byte[] serialize(DomainEvent event) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(event);
+		} catch (IOException e) {
+			throw new IllegalStateException("Failed to serialize event: " + event.getEventId(), e);
+		}
+		return bytes.toByteArray();
+	}
+
+	public DomainEvent deserialize(byte[] payload) {
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(payload))) {
+			in.setObjectInputFilter(FILTER);
+			return (DomainEvent)in.readObject();
+		} catch (IOException | ClassNotFoundException e) {
+			throw new IllegalStateException("Failed to deserialize outbox payload", e);
+		}
+	}
+}
@@ -1,5 +1,7 @@
 package com.tissue.api.review.domain.event;
 
+import java.io.Serial;
+
 import com.tissue.api.issue.domain.model.Issue;
 import com.tissue.api.issue.domain.model.enums.IssueType;
 import com.tissue.api.issue.domain.event.IssueEvent;
@@ -14,6 +16,9 @@ import lombok.Getter;
 @Getter
 public class ReviewSubmittedEvent extends IssueEvent {
 
+	@Serial
+	private static final long serialVersionUID = 1L;
+
 	private final Long reviewId;
 	private final ReviewStatus reviewStatus;
 
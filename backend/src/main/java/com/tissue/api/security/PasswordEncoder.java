@@ -3,15 +3,26 @@ package com.tissue.api.security;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import com.tissue.api.security.password.PasswordHashingExecutor;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * BCrypt 검증은 요청 스레드가 아닌 PasswordHashingExecutor의 전용 풀에서 실행한다
+ * - 풀이 포화되면 matches에서 TooManyRequestsException(429)이 발생한다
+ * - encode는 호출 스레드에서 실행한다
+ */
 @Component
+@RequiredArgsConstructor
 public class PasswordEncoder {
 	private final BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder();
+	private final PasswordHashingExecutor passwordHashingExecutor;
 
 	public String encode(String rawPassword) {
 		if (rawPassword == null) {
 			return null;
 		}
-		return bCryptPasswordEncoder.encode(rawPassword);
+		return passwordHashingExecutor.encode(() -> bCryptPasswordEncoder.encode(rawPassword));
 	}
 
 	public boolean matches(String rawPassword, String encodedPassword) {
@@ -20,6 +31,6 @@ public class PasswordEncoder {
 		// 	return true;
 		// }
 
-		return bCryptPasswordEncoder.matches(rawPassword, encodedPassword);
+		return passwordHashingExecutor.matches(() -> bCryptPasswordEncoder.matches(rawPassword, encodedPassword));
 	}
 }
@@ -10,7 +10,7 @@ import com.tissue.api.security.authentication.interceptor.LoginRequired;
 import com.tissue.api.security.authentication.presentation.dto.request.LoginRequest;
 import com.tissue.api.security.authentication.presentation.dto.response.LoginResponse;
 import com.tissue.api.security.authentication.application.service.AuthenticationService;
-import com.tissue.api.security.session.SessionManager;
+import com.tissue.api.security.authentication.strategy.AuthenticationStrategy;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -22,7 +22,7 @@ import lombok.RequiredArgsConstructor;
 public class AuthenticationController {
 
 	private final AuthenticationService authenticationService;
-	private final SessionManager sessionManager;
+	private final AuthenticationStrategy authenticationStrategy;
 
 	@PostMapping("/login")
 	public ApiResponse<LoginResponse> login(
@@ -31,10 +31,10 @@ public class AuthenticationController {
 	) {
 
 		LoginResponse loginResponse = authenticationService.login(loginRequest);
-		sessionManager.createLoginSession(
-			request.getSession(),
-			loginResponse
-		);
+		loginResponse = authenticationStrategy.login(request, loginResponse)
+			.map(loginResponse::withAccessToken)
+			.orElse(loginResponse);
+
 		return ApiResponse.ok("Login successful.", loginResponse);
 	}
 
@@ -42,7 +42,7 @@ public class AuthenticationController {
 	@PostMapping("/logout")
 	public ApiResponse<Void> logout(HttpServletRequest request) {
 
-		sessionManager.invalidateSession(request);
+		authenticationStrategy.logout(request);
 
 		return ApiResponse.okWithNoContent("Logout successful.");
 	}
@@ -9,7 +9,8 @@ public record LoginResponse(
 	Long memberId,
 	String loginId,
 	String email,
-	String username
+	String username,
+	String accessToken
 ) {
 	public static LoginResponse from(Member member) {
 		return LoginResponse.builder()
@@ -19,4 +20,11 @@ public record LoginResponse(
 			.username(member.getUsername())
 			.build();
 	}
+
+	/**
+	 * token 인증 모드에서 발급한 access token을 응답에 담는다(session 모드에서는 null)
+	 */
+	public LoginResponse withAccessToken(String accessToken) {
+		return new LoginResponse(memberId, loginId, email, username, accessToken);
+	}
 }
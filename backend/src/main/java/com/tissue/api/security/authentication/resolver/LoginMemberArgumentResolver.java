@@ -8,9 +8,9 @@ import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
 import com.tissue.api.common.exception.type.AuthenticationFailedException;
-import com.tissue.api.security.session.SessionManager;
+import com.tissue.api.security.authentication.strategy.AuthenticationStrategy;
 
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -19,7 +19,7 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class LoginMemberArgumentResolver implements HandlerMethodArgumentResolver {
 
-	private final SessionManager sessionManager;
+	private final AuthenticationStrategy authenticationStrategy;
 
 	/**
 	 * 컨트롤러 메서드의 파라미터가 LoginMember 타입이 아니거나
@@ -35,7 +35,7 @@ public class LoginMemberArgumentResolver implements HandlerMethodArgumentResolve
 	}
 
 	/**
-	 * 세션의 존재 여부와 로그인 정보의 유효성을 검증한다.
+	 * 인증 방식(세션 또는 토큰)에 따라 로그인 정보의 유효성을 검증한다.
 	 * 유효한 세션과 로그인 정보인 경우 LoginMember로 변환해서 리턴한다.
 	 *
 	 * @param parameter - LoginMember를 받을 파라미터.
@@ -50,8 +50,8 @@ public class LoginMemberArgumentResolver implements HandlerMethodArgumentResolve
 		NativeWebRequest webRequest,
 		WebDataBinderFactory binderFactory
 	) {
-		HttpSession session = sessionManager.getSession(webRequest);
-		return sessionManager.getOptionalLoginMemberId(session)
+		HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+		return authenticationStrategy.findLoginMemberId(request)
 			.orElseThrow(() -> new AuthenticationFailedException("Login is required to access."));
 	}
 
@@ -0,0 +1,26 @@
+package com.tissue.api.security.authentication.strategy;
+
+import java.util.Optional;
+
+import com.tissue.api.security.authentication.presentation.dto.response.LoginResponse;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 로그인 상태를 유지하는 방식(api.auth.mode)
+ * - session: 서블릿 세션(또는 SessionStore)에 로그인 멤버를 저장한다
+ * - token: 서명된 토큰을 발급하고, 요청마다 저장소 조회 없이 서명과 만료 시각만 검증한다
+ */
+public interface AuthenticationStrategy {
+
+	/**
+	 * 로그인에 성공한 멤버의 인증 정보를 만든다
+	 *
+	 * @return 클라이언트에 전달할 access token(세션 방식은 empty)
+	 */
+	Optional<String> login(HttpServletRequest request, LoginResponse loginResponse);
+
+	void logout(HttpServletRequest request);
+
+	Optional<Long> findLoginMemberId(HttpServletRequest request);
+}
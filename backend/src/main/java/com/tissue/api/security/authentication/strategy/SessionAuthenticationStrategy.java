@@ -0,0 +1,36 @@
+package com.tissue.api.security.authentication.strategy;
+
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.tissue.api.security.authentication.presentation.dto.response.LoginResponse;
+import com.tissue.api.security.session.SessionManager;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@ConditionalOnProperty(name = "api.auth.mode", havingValue = "session", matchIfMissing = true)
+@RequiredArgsConstructor
+public class SessionAuthenticationStrategy implements AuthenticationStrategy {
+
+	private final SessionManager sessionManager;
+
+	@Override
+	public Optional<String> login(HttpServletRequest request, LoginResponse loginResponse) {
+		sessionManager.createLoginSession(request.getSession(), loginResponse);
+		return Optional.empty();
+	}
+
+	@Override
+	public void logout(HttpServletRequest request) {
+		sessionManager.invalidateSession(request);
+	}
+
+	@Override
+	public Optional<Long> findLoginMemberId(HttpServletRequest request) {
+		return sessionManager.getOptionalLoginMemberId(request.getSession(false));
+	}
+}
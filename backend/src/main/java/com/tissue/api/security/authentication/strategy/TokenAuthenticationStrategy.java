@@ -0,0 +1,111 @@
+package com.tissue.api.security.authentication.strategy;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.springframework.http.HttpHeaders;
+
+import com.tissue.api.security.authentication.presentation.dto.response.LoginResponse;
+import com.tissue.api.security.authentication.token.AuthToken;
+import com.tissue.api.security.authentication.token.AuthTokenCodec;
+import com.tissue.api.security.authentication.token.TokenRevocationList;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Authorization: Bearer {token} 헤더로 로그인 멤버를 식별한다
+ * - 서명, 만료 시각, 로컬 폐기 목록만 확인하므로 요청 처리 중 저장소(세션, DB, Redis)를 조회하지 않는다
+ * - 같은 요청 안에서는 검증 결과를 request attribute에 저장해서 재사용한다(인터셉터, argument resolver)
+ * - 로그아웃한 토큰은 폐기 목록에 등록하고, revocationBroadcaster로 다른 노드에도 알린다
+ */
+@Slf4j
+public class TokenAuthenticationStrategy implements AuthenticationStrategy {
+
+	private static final String BEARER_PREFIX = "Bearer ";
+	private static final String REQUEST_ATTRIBUTE = TokenAuthenticationStrategy.class.getName() + ".loginMemberId";
+
+	private final AuthTokenCodec tokenCodec;
+	private final TokenRevocationList revocationList;
+	private final Duration tokenTtl;
+	private final Consumer<String> revocationBroadcaster;
+
+	public TokenAuthenticationStrategy(
+		AuthTokenCodec tokenCodec,
+		TokenRevocationList revocationList,
+		Duration tokenTtl,
+		Consumer<String> revocationBroadcaster
+	) {
+		this.tokenCodec = tokenCodec;
+		this.revocationList = revocationList;
+		this.tokenTtl = tokenTtl;
+		this.revocationBroadcaster = revocationBroadcaster;
+	}
+
+	@Override
+	public Optional<String> login(HttpServletRequest request, LoginResponse loginResponse) {
+		long expiresAt = Instant.now().plus(tokenTtl).getEpochSecond();
+		AuthToken token = tokenCodec.newToken(loginResponse.memberId(), expiresAt);
+
+		return Optional.of(tokenCodec.encode(token));
+	}
+
+	@Override
+	public void logout(HttpServletRequest request) {
+		readToken(request).ifPresent(token -> {
+			revocationList.revoke(token.memberId(), token.tokenId(), token.expiresAt());
+			revocationBroadcaster.accept(token.tokenId() + ":" + token.expiresAt());
+			log.info("Auth token revoked. memberId: {}", token.memberId());
+		});
+		request.setAttribute(REQUEST_ATTRIBUTE, Optional.empty());
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Optional<Long> findLoginMemberId(HttpServletRequest request) {
+		Object verified = request.getAttribute(REQUEST_ATTRIBUTE);
+		if (verified != null) {
+			return (Optional<Long>)verified;
+		}
+
+		long now = Instant.now().getEpochSecond();
+		Optional<Long> loginMemberId = readToken(request)
+			.filter(token -> !token.isExpired(now))
+			.filter(token -> !revocationList.isRevoked(token.tokenId()))
+			.map(AuthToken::memberId);
+
+		request.setAttribute(REQUEST_ATTRIBUTE, loginMemberId);
+		return loginMemberId;
+	}
+
+	/**
+	 * 다른 노드에서 폐기한 토큰({tokenId}:{expiresAt})을 로컬 폐기 목록에 반영한다
+	 * - 형식이 잘못된 메시지는 무시한다(예외를 던지면 리스너 컨테이너의 다른 메시지 처리에도 영향을 준다)
+	 */
+	public void onRevocationBroadcast(String payload) {
+		int separator = payload.indexOf(':');
+		if (separator < 0) {
+			return;
+		}
+
+		try {
+			revocationList.restore(
+				Long.parseLong(payload.substring(0, separator)),
+				Long.parseLong(payload.substring(separator + 1))
+			);
+		} catch (NumberFormatException e) {
+			log.warn("Ignored malformed token revocation message. payload: {}", payload);
+		}
+	}
+
+	private Optional<AuthToken> readToken(HttpServletRequest request) {
+		String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+		if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+			return Optional.empty();
+		}
+		return tokenCodec.decode(authorization.substring(BEARER_PREFIX.length()));
+	}
+}
@@ -0,0 +1,17 @@
+package com.tissue.api.security.authentication.token;
+
+/**
+ * 서명된 access token의 내용
+ *
+ * @param tokenId   로그아웃 시 폐기 목록에 등록하는 토큰 식별자
+ * @param expiresAt 만료 시각(epoch seconds)
+ */
+public record AuthToken(
+	Long memberId,
+	long tokenId,
+	long expiresAt
+) {
+	public boolean isExpired(long nowEpochSecond) {
+		return nowEpochSecond >= expiresAt;
+	}
+}
@@ -0,0 +1,98 @@
+package com.tissue.api.security.authentication.token;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Optional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * HMAC-SHA256으로 서명한 compact access token
+ * - 형식: base64url(memberId | tokenId | expiresAt) + "." + base64url(HMAC(payload))
+ * - payload는 고정 길이 24 bytes이므로 토큰은 76자다
+ */
+public class AuthTokenCodec {
+
+	private static final String ALGORITHM = "HmacSHA256";
+	private static final int PAYLOAD_LENGTH = Long.BYTES * 3;
+	private static final int MIN_SECRET_LENGTH = 32;
+
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	private final SecretKeySpec key;
+	private final SecureRandom random = new SecureRandom();
+	private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+
+	public AuthTokenCodec(String secret) {
+		byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+		if (secretBytes.length < MIN_SECRET_LENGTH) {
+			throw new IllegalArgumentException(
+				String.format("Token secret must be at least %d bytes.", MIN_SECRET_LENGTH));
+		}
+		this.key = new SecretKeySpec(secretBytes, ALGORITHM);
+	}
+
+	public AuthToken newToken(Long memberId, long expiresAt) {
+		return new AuthToken(memberId, random.nextLong(), expiresAt);
+	}
+
+	public String encode(AuthToken token) {
+		byte[] payload = ByteBuffer.allocate(PAYLOAD_LENGTH)
+			.putLong(token.memberId())
+			.putLong(token.tokenId())
+			.putLong(token.expiresAt())
+			.array();
+
+		return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(sign(payload));
+	}
+
+	/**
+	 * 형식이 잘못되었거나 서명이 맞지 않으면 empty(만료 여부는 호출하는 쪽에서 확인한다)
+	 */
+	public Optional<AuthToken> decode(String encoded) {
+		int separator = encoded.indexOf('.');
+		if (separator < 0) {
+			return Optional.empty();
+		}
+
+		byte[] payload;
+		byte[] signature;
+		try {
+			payload = DECODER.decode(encoded.substring(0, separator));
+			signature = DECODER.decode(encoded.substring(separator + 1));
+		} catch (IllegalArgumentException e) {
+			return Optional.empty();
+		}
+
+		if (payload.length != PAYLOAD_LENGTH || !MessageDigest.isEqual(sign(payload), signature)) {
+			return Optional.empty();
+		}
+
+		ByteBuffer buffer = ByteBuffer.wrap(payload);
+		return Optional.of(new AuthToken(buffer.getLong(), buffer.getLong(), buffer.getLong()));
+	}
+
+	/**
+	 * Mac은 thread-safe 하지 않으므로 스레드마다 하나씩 만들어 재사용한다(doFinal 이후 자동으로 reset 된다)
+	 */
+	private byte[] sign(byte[] payload) {
+		return macs.get().doFinal(payload);
+	}
+
+	private Mac newMac() {
+		try {
+			Mac mac = Mac.getInstance(ALGORITHM);
+			mac.init(key);
+			return mac;
+		} catch (NoSuchAlgorithmException | InvalidKeyException e) {
+			throw new IllegalStateException("Failed to initialize auth token signer.", e);
+		}
+	}
+}
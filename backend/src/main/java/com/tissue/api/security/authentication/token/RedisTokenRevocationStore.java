@@ -0,0 +1,46 @@
+package com.tissue.api.security.authentication.token;
+
+import java.time.Instant;
+import java.util.Set;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+/**
+ * 폐기 목록을 재시작 후에도 유지하기 위한 Redis 저장소
+ * - key: auth-token:revoked (sorted set, member: tokenId, score: 토큰 만료 시각)
+ * - 요청 처리 중에는 조회하지 않고, 시작할 때 한 번 읽어서 로컬 폐기 목록에 복원한다
+ */
+public class RedisTokenRevocationStore {
+
+	private static final String KEY = "auth-token:revoked";
+
+	private final StringRedisTemplate redisTemplate;
+
+	public RedisTokenRevocationStore(StringRedisTemplate redisTemplate) {
+		this.redisTemplate = redisTemplate;
+	}
+
+	public void save(long tokenId, long expiresAt) {
+		redisTemplate.opsForZSet().add(KEY, String.valueOf(tokenId), expiresAt);
+	}
+
+	/**
+	 * 만료된 엔트리를 정리하고, 남은 엔트리를 폐기 목록에 복원한다
+	 */
+	public void restoreInto(TokenRevocationList revocationList) {
+		long now = Instant.now().getEpochSecond();
+		redisTemplate.opsForZSet().removeRangeByScore(KEY, Double.NEGATIVE_INFINITY, now);
+
+		Set<TypedTuple<String>> revoked = redisTemplate.opsForZSet()
+			.rangeByScoreWithScores(KEY, now, Double.POSITIVE_INFINITY);
+		if (revoked == null) {
+			return;
+		}
+
+		revoked.forEach(entry -> revocationList.restore(
+			Long.parseLong(entry.getValue()),
+			entry.getScore().longValue()
+		));
+	}
+}
@@ -0,0 +1,115 @@
+package com.tissue.api.security.authentication.token;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.tissue.api.common.exception.type.TooManyRequestsException;
+
+/**
+ * 로그아웃한 토큰의 폐기 목록
+ * - 토큰이 만료되면 더 이상 검사할 필요가 없으므로 각 엔트리는 토큰의 만료 시각에만 제거된다(크기로 제거하지 않는다)
+ * - 전체 크기로 거부하면 한 멤버가 목록을 채워서 모든 멤버의 로그아웃을 막을 수 있으므로,
+ *   멤버별로 만료되지 않은 폐기 토큰 수만 제한한다(넘으면 그 멤버의 로그아웃만 거부한다)
+ * - 로그아웃으로 추가한 엔트리는 persister로 저장하고(재시작 후 restore로 복원), 다른 노드나 저장소에서 받은 엔트리는 제한 없이 반영한다
+ *   (멤버별 수는 이 노드에서 로그아웃한 엔트리로만 센다)
+ */
+public class TokenRevocationList {
+
+	private static final long UNKNOWN_MEMBER = -1L;
+
+	private final int maximumPerMember;
+	private final BiConsumer<Long, Long> persister;
+	private final Cache<Long, RevokedToken> revokedTokens;
+	private final Map<Long, Integer> revokedCountByMember = new ConcurrentHashMap<>();
+
+	public TokenRevocationList(int maximumPerMember) {
+		this(maximumPerMember, (tokenId, expiresAt) -> {
+		});
+	}
+
+	public TokenRevocationList(int maximumPerMember, BiConsumer<Long, Long> persister) {
+		this.maximumPerMember = maximumPerMember;
+		this.persister = persister;
+		this.revokedTokens = Caffeine.newBuilder()
+			.expireAfter(new Expiry<Long, RevokedToken>() {
+				@Override
+				public long expireAfterCreate(Long tokenId, RevokedToken token, long currentTime) {
+					long remainingSeconds = Math.max(0, token.expiresAt() - Instant.now().getEpochSecond());
+					return TimeUnit.SECONDS.toNanos(remainingSeconds);
+				}
+
+				@Override
+				public long expireAfterUpdate(Long tokenId, RevokedToken token, long currentTime, long currentDuration) {
+					return expireAfterCreate(tokenId, token, currentTime);
+				}
+
+				@Override
+				public long expireAfterRead(Long tokenId, RevokedToken token, long currentTime, long currentDuration) {
+					return currentDuration;
+				}
+			})
+			.evictionListener((Long tokenId, RevokedToken token, RemovalCause cause) -> release(token))
+			.build();
+	}
+
+	/**
+	 * 이 노드에서 로그아웃한 토큰을 폐기한다(이미 폐기된 토큰이면 무시한다)
+	 */
+	public void revoke(long memberId, long tokenId, long expiresAt) {
+		if (isRevoked(tokenId)) {
+			return;
+		}
+		if (revokedCount(memberId) >= maximumPerMember) {
+			// 만료된 엔트리를 정리한 뒤에도 가득 차 있으면 거부한다
+			revokedTokens.cleanUp();
+		}
+
+		revokedCountByMember.compute(memberId, (id, count) -> {
+			int current = count != null ? count : 0;
+			if (current >= maximumPerMember) {
+				throw new TooManyRequestsException("Too many revoked tokens. Please try again later.");
+			}
+			return current + 1;
+		});
+
+		if (revokedTokens.asMap().putIfAbsent(tokenId, new RevokedToken(memberId, expiresAt)) != null) {
+			release(new RevokedToken(memberId, expiresAt));
+			return;
+		}
+		persister.accept(tokenId, expiresAt);
+	}
+
+	/**
+	 * 다른 노드에서 전파되었거나 저장소에서 읽은 폐기 엔트리를 반영한다
+	 */
+	public void restore(long tokenId, long expiresAt) {
+		if (expiresAt > Instant.now().getEpochSecond()) {
+			revokedTokens.asMap().putIfAbsent(tokenId, new RevokedToken(UNKNOWN_MEMBER, expiresAt));
+		}
+	}
+
+	public boolean isRevoked(long tokenId) {
+		return revokedTokens.getIfPresent(tokenId) != null;
+	}
+
+	private int revokedCount(long memberId) {
+		return revokedCountByMember.getOrDefault(memberId, 0);
+	}
+
+	private void release(RevokedToken token) {
+		if (token == null || token.memberId() == UNKNOWN_MEMBER) {
+			return;
+		}
+		revokedCountByMember.computeIfPresent(token.memberId(), (id, count) -> count > 1 ? count - 1 : null);
+	}
+
+	private record RevokedToken(long memberId, long expiresAt) {
+	}
+}
@@ -12,9 +12,8 @@ import com.tissue.api.common.exception.type.AuthenticationFailedException;
 import com.tissue.api.common.exception.type.ForbiddenOperationException;
 import com.tissue.api.common.exception.type.InvalidRequestException;
 import com.tissue.api.security.session.SessionManager;
-import com.tissue.api.workspacemember.domain.model.WorkspaceMember;
-import com.tissue.api.workspacemember.infrastructure.repository.WorkspaceMemberRepository;
-import com.tissue.api.workspacemember.exception.WorkspaceMemberNotFoundException;
+import com.tissue.api.workspacemember.application.service.command.WorkspaceMembershipResolver;
+import com.tissue.api.workspacemember.domain.model.vo.WorkspaceMembership;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -27,7 +26,7 @@ import lombok.extern.slf4j.Slf4j;
 public class RoleRequiredInterceptor implements HandlerInterceptor {
 
 	private final SessionManager sessionManager;
-	private final WorkspaceMemberRepository workspaceMemberRepository;
+	private final WorkspaceMembershipResolver workspaceMembershipResolver;
 
 	private static boolean isNotHandlerMethod(Object handler) {
 		return !(handler instanceof HandlerMethod);
@@ -61,12 +60,9 @@ public class RoleRequiredInterceptor implements HandlerInterceptor {
 
 		log.debug("Extracted workspace code from URI: {}", workspaceCode);
 
-		// TODO: Reader 사용
-		WorkspaceMember workspaceMember = workspaceMemberRepository
-			.findByMemberIdAndWorkspaceCode(memberId, workspaceCode)
-			.orElseThrow(() -> new WorkspaceMemberNotFoundException(memberId, workspaceCode));
+		WorkspaceMembership membership = workspaceMembershipResolver.resolve(memberId, workspaceCode);
 
-		validateRole(workspaceMember, roleRequired);
+		validateRole(membership, roleRequired);
 
 		return true;
 	}
@@ -77,14 +73,14 @@ public class RoleRequiredInterceptor implements HandlerInterceptor {
 	}
 
 	private void validateRole(
-		WorkspaceMember workspaceMember,
+		WorkspaceMembership membership,
 		RoleRequired roleRequired
 	) {
-		boolean isLowerThanRequiredRole = workspaceMember.getRole().isLowerThan(roleRequired.role());
+		boolean isLowerThanRequiredRole = membership.isLowerThan(roleRequired.role());
 
 		if (isLowerThanRequiredRole) {
 			throw new ForbiddenOperationException(String.format("Workspace role must be at least %s. Current role: %s",
-				roleRequired.role(), workspaceMember.getRole()));
+				roleRequired.role(), membership.role()));
 		}
 	}
 
@@ -13,8 +13,8 @@ import com.tissue.api.common.exception.type.AuthenticationFailedException;
 import com.tissue.api.common.exception.type.ForbiddenOperationException;
 import com.tissue.api.common.exception.type.InvalidRequestException;
 import com.tissue.api.security.session.SessionManager;
-import com.tissue.api.workspacemember.domain.model.WorkspaceMember;
-import com.tissue.api.workspacemember.application.service.command.WorkspaceMemberReader;
+import com.tissue.api.workspacemember.application.service.command.WorkspaceMembershipResolver;
+import com.tissue.api.workspacemember.domain.model.vo.WorkspaceMembership;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -27,7 +27,7 @@ import lombok.extern.slf4j.Slf4j;
 public class SelfOrRoleRequiredInterceptor implements HandlerInterceptor {
 
 	private final SessionManager sessionManager;
-	private final WorkspaceMemberReader workspaceMemberReader;
+	private final WorkspaceMembershipResolver workspaceMembershipResolver;
 
 	private static boolean isNotHandlerMethod(Object handler) {
 		return !(handler instanceof HandlerMethod);
@@ -73,22 +73,22 @@ public class SelfOrRoleRequiredInterceptor implements HandlerInterceptor {
 		}
 
 		// --- 최소 Role 이상인지 확인 ---
-		WorkspaceMember workspaceMember = workspaceMemberReader.findWorkspaceMember(loginMemberId, workspaceCode);
-		validateRole(workspaceMember, annotation);
+		WorkspaceMembership membership = workspaceMembershipResolver.resolve(loginMemberId, workspaceCode);
+		validateRole(membership, annotation);
 
 		return true;
 	}
 
 	private void validateRole(
-		WorkspaceMember workspaceMember,
+		WorkspaceMembership membership,
 		SelfOrRoleRequired annotation
 	) {
-		boolean isLowerThanRequiredRole = workspaceMember.getRole().isLowerThan(annotation.role());
+		boolean isLowerThanRequiredRole = membership.isLowerThan(annotation.role());
 
 		if (isLowerThanRequiredRole) {
 			throw new ForbiddenOperationException(String.format(
 				"Workspace role must be at least %s. Current role: %s",
-				annotation.role(), workspaceMember.getRole()));
+				annotation.role(), membership.role()));
 		}
 	}
 }
@@ -0,0 +1,56 @@
+package com.tissue.api.security.interceptor;
+
+import org.springframework.web.method.HandlerMethod;
+
+import com.tissue.api.security.authentication.interceptor.LoginRequired;
+import com.tissue.api.security.authorization.interceptor.RoleRequired;
+import com.tissue.api.security.authorization.interceptor.SelfOrRoleRequired;
+import com.tissue.api.workspacemember.domain.model.enums.WorkspaceRole;
+
+/**
+ * 핸들러 메서드의 보안 애노테이션(@LoginRequired, @RoleRequired, @SelfOrRoleRequired)을 미리 읽어둔 결과
+ *
+ * @param loginRequired  로그인 세션 검증 여부
+ * @param requiredRole   @RoleRequired의 최소 Role(없으면 null)
+ * @param selfOrRole     @SelfOrRoleRequired의 최소 Role(없으면 null)
+ * @param memberIdParam  @SelfOrRoleRequired의 대상 멤버 경로 변수 이름(없으면 null)
+ */
+public record HandlerSecurityDescriptor(
+	boolean loginRequired,
+	WorkspaceRole requiredRole,
+	WorkspaceRole selfOrRole,
+	String memberIdParam
+) {
+	public static final String WORKSPACE_CODE_PARAM = "workspaceCode";
+
+	public static final HandlerSecurityDescriptor NONE = new HandlerSecurityDescriptor(false, null, null, null);
+
+	public static HandlerSecurityDescriptor from(HandlerMethod handlerMethod) {
+		LoginRequired loginRequired = handlerMethod.getMethodAnnotation(LoginRequired.class);
+		RoleRequired roleRequired = handlerMethod.getMethodAnnotation(RoleRequired.class);
+		SelfOrRoleRequired selfOrRoleRequired = handlerMethod.getMethodAnnotation(SelfOrRoleRequired.class);
+
+		if (loginRequired == null && roleRequired == null && selfOrRoleRequired == null) {
+			return NONE;
+		}
+
+		return new HandlerSecurityDescriptor(
+			loginRequired != null,
+			roleRequired != null ? roleRequired.role() : null,
+			selfOrRoleRequired != null ? selfOrRoleRequired.role() : null,
+			selfOrRoleRequired != null ? selfOrRoleRequired.memberIdParam() : null
+		);
+	}
+
+	public boolean isUnrestricted() {
+		return this == NONE;
+	}
+
+	public boolean isRoleRequired() {
+		return requiredRole != null;
+	}
+
+	public boolean isSelfOrRoleRequired() {
+		return selfOrRole != null;
+	}
+}
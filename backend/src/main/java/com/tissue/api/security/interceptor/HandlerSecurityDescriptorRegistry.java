@@ -0,0 +1,45 @@
+package com.tissue.api.security.interceptor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 핸들러 메서드 별 HandlerSecurityDescriptor 저장소
+ * - 컨텍스트가 초기화되면 등록된 모든 핸들러 메서드의 descriptor를 미리 만들어 둔다
+ * - 요청마다 생성되는 HandlerMethod 인스턴스가 다를 수 있으므로 Method를 키로 사용한다
+ * - 미리 만들지 못한 핸들러(테스트 등)는 첫 요청에서 만들어 저장한다
+ */
+@Slf4j
+@Component
+public class HandlerSecurityDescriptorRegistry {
+
+	private final Map<Method, HandlerSecurityDescriptor> descriptors = new ConcurrentHashMap<>();
+
+	/**
+	 * RequestMappingHandlerMapping은 인터셉터 등록 과정에서 생성되므로
+	 * 생성자 주입 대신 컨텍스트 초기화 이후에 조회한다(순환 참조 방지)
+	 */
+	@EventListener
+	public void precompute(ContextRefreshedEvent event) {
+		ApplicationContext context = event.getApplicationContext();
+
+		context.getBeansOfType(RequestMappingHandlerMapping.class).values()
+			.forEach(mapping -> mapping.getHandlerMethods().values().forEach(this::get));
+
+		log.info("Handler security descriptors precomputed. handlers: {}", descriptors.size());
+	}
+
+	public HandlerSecurityDescriptor get(HandlerMethod handlerMethod) {
+		return descriptors.computeIfAbsent(handlerMethod.getMethod(), method -> HandlerSecurityDescriptor.from(handlerMethod));
+	}
+}
@@ -0,0 +1,107 @@
+package com.tissue.api.security.interceptor;
+
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.tissue.api.common.exception.type.AuthenticationFailedException;
+import com.tissue.api.common.exception.type.ForbiddenOperationException;
+import com.tissue.api.common.exception.type.InvalidRequestException;
+import com.tissue.api.security.authentication.strategy.AuthenticationStrategy;
+import com.tissue.api.workspacemember.application.service.command.WorkspaceMembershipResolver;
+import com.tissue.api.workspacemember.domain.model.enums.WorkspaceRole;
+import com.tissue.api.workspacemember.domain.model.vo.WorkspaceMembership;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AuthenticationInterceptor, RoleRequiredInterceptor, SelfOrRoleRequiredInterceptor를 하나로 합친 인터셉터
+ * - 애노테이션은 HandlerSecurityDescriptorRegistry가 미리 읽어둔 descriptor로 판단한다
+ * - 검사 순서와 예외는 기존 인터셉터 체인과 같다(로그인 -> @RoleRequired -> @SelfOrRoleRequired)
+ * - 로그인 멤버는 AuthenticationStrategy(session 또는 token 모드)로 식별한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HandlerSecurityInterceptor implements HandlerInterceptor {
+
+	private final HandlerSecurityDescriptorRegistry descriptorRegistry;
+	private final AuthenticationStrategy authenticationStrategy;
+	private final WorkspaceMembershipResolver workspaceMembershipResolver;
+
+	@Override
+	public boolean preHandle(
+		HttpServletRequest request,
+		HttpServletResponse response,
+		Object handler
+	) {
+		if (!(handler instanceof HandlerMethod handlerMethod)) {
+			return true;
+		}
+
+		HandlerSecurityDescriptor descriptor = descriptorRegistry.get(handlerMethod);
+
+		if (descriptor.isUnrestricted()) {
+			return true;
+		}
+
+		if (descriptor.loginRequired()) {
+			getLoginMemberId(request, "Login is required to access.");
+		}
+
+		if (descriptor.isRoleRequired()) {
+			Long memberId = getLoginMemberId(request, "Login is required to access.");
+			String workspaceCode = getPathVariable(request, HandlerSecurityDescriptor.WORKSPACE_CODE_PARAM,
+				"workspaceCode path variable is required.");
+
+			validateRole(workspaceMembershipResolver.resolve(memberId, workspaceCode), descriptor.requiredRole());
+		}
+
+		if (descriptor.isSelfOrRoleRequired()) {
+			Long loginMemberId = getLoginMemberId(request, "Login is required.");
+			String workspaceCode = getPathVariable(request, HandlerSecurityDescriptor.WORKSPACE_CODE_PARAM,
+				"{workspaceCode} path variable is required.");
+			Long targetMemberId = Long.parseLong(getPathVariable(request, descriptor.memberIdParam(),
+				"{" + descriptor.memberIdParam() + "} path variable is required."));
+
+			boolean isSelf = Objects.equals(loginMemberId, targetMemberId);
+
+			if (!isSelf) {
+				validateRole(workspaceMembershipResolver.resolve(loginMemberId, workspaceCode), descriptor.selfOrRole());
+			}
+		}
+
+		return true;
+	}
+
+	private Long getLoginMemberId(HttpServletRequest request, String message) {
+		return authenticationStrategy.findLoginMemberId(request)
+			.orElseThrow(() -> new AuthenticationFailedException(message));
+	}
+
+	@SuppressWarnings("unchecked")
+	private String getPathVariable(HttpServletRequest request, String name, String message) {
+		Map<String, String> pathVariables =
+			(Map<String, String>)request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+
+		String value = pathVariables != null ? pathVariables.get(name) : null;
+		if (value == null) {
+			throw new InvalidRequestException(message);
+		}
+		return value;
+	}
+
+	private void validateRole(WorkspaceMembership membership, WorkspaceRole requiredRole) {
+		if (membership.isLowerThan(requiredRole)) {
+			throw new ForbiddenOperationException(String.format("Workspace role must be at least %s. Current role: %s",
+				requiredRole, membership.role()));
+		}
+	}
+}
@@ -0,0 +1,118 @@
+package com.tissue.api.security.password;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.tissue.api.common.exception.type.TooManyRequestsException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * BCrypt 검증 전용 스레드 풀
+ * - 로그인/권한 확인처럼 요청이 몰리는 matches만 CPU 코어 수 정도의 스레드로 제한해서 실행한다
+ * - 큐가 가득 차거나 대기 시간이 timeout을 넘으면 바로 TooManyRequestsException(429)으로 거절한다
+ * - BCrypt는 인터럽트에 반응하지 않으므로 이미 시작된 검증은 timeout 후에도 끝까지 실행된다
+ *   (큐에서 아직 시작하지 않은 작업만 취소되며, 낭비되는 CPU는 스레드 수로 제한된다)
+ * - encode(회원 가입, 비밀번호 변경)는 429로 거절하지 않도록 호출 스레드에서 실행하고 실행 시간만 기록한다
+ * - 메트릭: password.hash.duration(실행 시간), password.hash.queue.wait(큐 대기 시간), password.hash.rejected
+ */
+@Slf4j
+public class PasswordHashingExecutor {
+
+	private static final String REJECTED_MESSAGE = "Too many authentication requests. Please try again later.";
+
+	private final ThreadPoolExecutor executor;
+	private final long timeoutMillis;
+	private final Timer encodeTimer;
+	private final Timer matchesTimer;
+	private final Timer queueWaitTimer;
+	private final Counter rejectedCounter;
+
+	public PasswordHashingExecutor(int threads, int queueCapacity, long timeoutMillis, MeterRegistry meterRegistry) {
+		this.executor = new ThreadPoolExecutor(
+			threads,
+			threads,
+			0L,
+			TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity),
+			threadFactory(),
+			new ThreadPoolExecutor.AbortPolicy()
+		);
+		this.timeoutMillis = timeoutMillis;
+		this.encodeTimer = hashTimer("encode", meterRegistry);
+		this.matchesTimer = hashTimer("matches", meterRegistry);
+		this.queueWaitTimer = Timer.builder("password.hash.queue.wait").register(meterRegistry);
+		this.rejectedCounter = Counter.builder("password.hash.rejected").register(meterRegistry);
+
+		ExecutorServiceMetrics.monitor(meterRegistry, executor, "passwordHash");
+	}
+
+	public String encode(Supplier<String> task) {
+		return encodeTimer.record(task);
+	}
+
+	public boolean matches(Supplier<Boolean> task) {
+		long submittedAt = System.nanoTime();
+
+		Future<Boolean> future;
+		try {
+			future = executor.submit(() -> {
+				queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+				return matchesTimer.record(task);
+			});
+		} catch (RejectedExecutionException e) {
+			rejectedCounter.increment();
+			throw new TooManyRequestsException(REJECTED_MESSAGE);
+		}
+
+		try {
+			return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			// 아직 큐에 있는 작업은 실행되지 않고, 이미 실행 중인 BCrypt는 끝까지 실행된다
+			future.cancel(false);
+			rejectedCounter.increment();
+			log.warn("Password matching timed out. timeout: {}ms", timeoutMillis);
+			throw new TooManyRequestsException(REJECTED_MESSAGE);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException("Password matching failed.", e.getCause());
+		} catch (InterruptedException e) {
+			future.cancel(false);
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for password matching.", e);
+		}
+	}
+
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	private static Timer hashTimer(String operation, MeterRegistry meterRegistry) {
+		return Timer.builder("password.hash.duration")
+			.tag("operation", operation)
+			.register(meterRegistry);
+	}
+
+	private static ThreadFactory threadFactory() {
+		AtomicInteger sequence = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, "PasswordHash-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+}
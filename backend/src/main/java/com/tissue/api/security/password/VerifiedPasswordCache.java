@@ -0,0 +1,73 @@
+package com.tissue.api.security.password;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 최근에 검증에 성공한 (평문 비밀번호, 저장된 해시) 조합을 짧게 기억해서 같은 비밀번호의 반복 BCrypt 검증을 생략한다
+ * - 키는 노드마다 임의로 만든 secret으로 계산한 HMAC(저장된 해시, 평문)이므로 평문이나 평문의 단순 해시를 메모리에 남기지 않는다
+ * - 저장된 해시가 키에 포함되므로 비밀번호가 바뀌면 이전 엔트리는 더 이상 일치하지 않는다
+ * - 검증에 실패한 조합은 캐시하지 않는다
+ */
+public class VerifiedPasswordCache {
+
+	private static final String CACHE_NAME = "verifiedPassword";
+	private static final String ALGORITHM = "HmacSHA256";
+	private static final int SECRET_LENGTH = 32;
+
+	private final SecretKeySpec key;
+	private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+	private final Cache<String, Boolean> cache;
+
+	public VerifiedPasswordCache(int maximumSize, int expirationSeconds, MeterRegistry meterRegistry) {
+		byte[] secret = new byte[SECRET_LENGTH];
+		new SecureRandom().nextBytes(secret);
+
+		this.key = new SecretKeySpec(secret, ALGORITHM);
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(expirationSeconds, TimeUnit.SECONDS)
+			.recordStats()
+			.build();
+
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+	}
+
+	public boolean isVerified(String rawPassword, String encodedPassword) {
+		return cache.getIfPresent(keyOf(rawPassword, encodedPassword)) != null;
+	}
+
+	public void markVerified(String rawPassword, String encodedPassword) {
+		cache.put(keyOf(rawPassword, encodedPassword), Boolean.TRUE);
+	}
+
+	private String keyOf(String rawPassword, String encodedPassword) {
+		Mac mac = macs.get();
+		mac.update(encodedPassword.getBytes(StandardCharsets.UTF_8));
+		mac.update((byte)0);
+		return Base64.getEncoder().encodeToString(mac.doFinal(rawPassword.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private Mac newMac() {
+		try {
+			Mac mac = Mac.getInstance(ALGORITHM);
+			mac.init(key);
+			return mac;
+		} catch (NoSuchAlgorithmException | InvalidKeyException e) {
+			throw new IllegalStateException("Failed to initialize verified password cache.", e);
+		}
+	}
+}
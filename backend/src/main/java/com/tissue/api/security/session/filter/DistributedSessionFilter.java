@@ -0,0 +1,46 @@
+package com.tissue.api.security.session.filter;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.tissue.api.security.session.store.SessionStore;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 서블릿 컨테이너의 HttpSession 대신 SessionStore 기반 세션을 사용하게 하는 필터
+ * - SessionManager 등은 기존처럼 HttpSession API만 사용한다
+ * - 세션은 응답이 클라이언트로 나가기 전에 저장한다(응답을 받은 클라이언트의 다음 요청이 세션을 찾지 못하는 일이 없도록)
+ */
+public class DistributedSessionFilter extends OncePerRequestFilter {
+
+	private final SessionStore sessionStore;
+	private final DistributedSessionProperties properties;
+
+	public DistributedSessionFilter(SessionStore sessionStore, DistributedSessionProperties properties) {
+		this.sessionStore = sessionStore;
+		this.properties = properties;
+	}
+
+	@Override
+	protected void doFilterInternal(
+		HttpServletRequest request,
+		HttpServletResponse response,
+		FilterChain filterChain
+	) throws ServletException, IOException {
+		DistributedSessionRequestWrapper wrappedRequest =
+			new DistributedSessionRequestWrapper(request, response, sessionStore, properties);
+		SessionCommittingResponseWrapper wrappedResponse =
+			new SessionCommittingResponseWrapper(response, wrappedRequest::commit);
+
+		try {
+			filterChain.doFilter(wrappedRequest, wrappedResponse);
+		} finally {
+			wrappedRequest.commit();
+		}
+	}
+}
@@ -0,0 +1,13 @@
+package com.tissue.api.security.session.filter;
+
+/**
+ * @param cookieName                 세션 id를 담는 쿠키 이름
+ * @param maxInactiveIntervalSeconds 새 세션의 유지 시간(저장소 TTL)
+ * @param touchIntervalSeconds       속성 변경이 없을 때 만료 시간을 연장하는 최소 간격
+ */
+public record DistributedSessionProperties(
+	String cookieName,
+	int maxInactiveIntervalSeconds,
+	int touchIntervalSeconds
+) {
+}
@@ -0,0 +1,173 @@
+package com.tissue.api.security.session.filter;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.tissue.api.security.session.store.SessionSnapshot;
+import com.tissue.api.security.session.store.SessionStore;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * getSession()을 SessionStore 기반 세션으로 바꾸는 요청 래퍼
+ * - 세션 id는 쿠키로 주고받는다
+ * - 응답이 커밋되기 직전(또는 요청이 끝날 때) commit()에서 변경된 세션만 저장하고,
+ *   변경이 없으면 touchInterval 마다 만료 시간만 연장한다
+ */
+class DistributedSessionRequestWrapper extends HttpServletRequestWrapper {
+
+	private final HttpServletResponse response;
+	private final SessionStore sessionStore;
+	private final DistributedSessionProperties properties;
+
+	private StoreBackedHttpSession currentSession;
+	private boolean requestedSessionLoaded;
+	private boolean committed;
+
+	DistributedSessionRequestWrapper(
+		HttpServletRequest request,
+		HttpServletResponse response,
+		SessionStore sessionStore,
+		DistributedSessionProperties properties
+	) {
+		super(request);
+		this.response = response;
+		this.sessionStore = sessionStore;
+		this.properties = properties;
+	}
+
+	@Override
+	public HttpSession getSession() {
+		return getSession(true);
+	}
+
+	@Override
+	public HttpSession getSession(boolean create) {
+		if (currentSession != null && !currentSession.isInvalidated()) {
+			return currentSession;
+		}
+
+		if (!requestedSessionLoaded) {
+			requestedSessionLoaded = true;
+			currentSession = loadRequestedSession().orElse(null);
+			if (currentSession != null) {
+				return currentSession;
+			}
+		}
+
+		if (!create) {
+			return null;
+		}
+
+		long now = System.currentTimeMillis();
+		SessionSnapshot snapshot = new SessionSnapshot(
+			newSessionId(), now, now, properties.maxInactiveIntervalSeconds(), Map.of()
+		);
+		currentSession = new StoreBackedHttpSession(snapshot, true, getServletContext(), this::onInvalidate);
+		writeCookie(currentSession.getId(), -1);
+
+		return currentSession;
+	}
+
+	@Override
+	public String changeSessionId() {
+		HttpSession session = getSession(false);
+		if (session == null) {
+			throw new IllegalStateException("Cannot change session id. There is no session associated with request.");
+		}
+
+		String oldId = currentSession.getId();
+		currentSession.changeId(newSessionId());
+		sessionStore.delete(oldId);
+		writeCookie(currentSession.getId(), -1);
+
+		return currentSession.getId();
+	}
+
+	@Override
+	public String getRequestedSessionId() {
+		return readCookie().orElse(null);
+	}
+
+	@Override
+	public boolean isRequestedSessionIdValid() {
+		return getSession(false) != null && !currentSession.isNew();
+	}
+
+	/**
+	 * 응답이 커밋되기 직전과 요청 처리가 끝난 뒤 호출된다(처음 한 번만 저장한다)
+	 * - 클라이언트가 응답을 받은 직후 보낸 다음 요청(로그인 직후 첫 요청 등)도 저장된 세션을 읽을 수 있다
+	 * - 요청 도중 다른 요청이 무효화한 세션은 다시 저장하지 않는다
+	 */
+	void commit() {
+		if (committed) {
+			return;
+		}
+		committed = true;
+
+		if (currentSession == null || currentSession.isInvalidated()) {
+			return;
+		}
+
+		long now = System.currentTimeMillis();
+		if (!currentSession.isStored()) {
+			sessionStore.create(currentSession.toSnapshot(now));
+			currentSession.markSaved();
+			return;
+		}
+		if (currentSession.isDirty()) {
+			sessionStore.save(currentSession.toSnapshot(now));
+			currentSession.markSaved();
+			return;
+		}
+
+		boolean touchIntervalElapsed =
+			now - currentSession.getLastAccessedTime() >= properties.touchIntervalSeconds() * 1000L;
+		if (touchIntervalElapsed) {
+			sessionStore.touch(currentSession.toSnapshot(now));
+		}
+	}
+
+	private Optional<StoreBackedHttpSession> loadRequestedSession() {
+		return readCookie()
+			.flatMap(sessionStore::find)
+			.map(snapshot -> new StoreBackedHttpSession(snapshot, false, getServletContext(), this::onInvalidate));
+	}
+
+	private void onInvalidate(StoreBackedHttpSession session) {
+		sessionStore.delete(session.getId());
+		writeCookie("", 0);
+	}
+
+	private Optional<String> readCookie() {
+		Cookie[] cookies = getCookies();
+		if (cookies == null) {
+			return Optional.empty();
+		}
+
+		for (Cookie cookie : cookies) {
+			if (properties.cookieName().equals(cookie.getName()) && !cookie.getValue().isEmpty()) {
+				return Optional.of(cookie.getValue());
+			}
+		}
+		return Optional.empty();
+	}
+
+	private void writeCookie(String value, int maxAge) {
+		Cookie cookie = new Cookie(properties.cookieName(), value);
+		cookie.setPath("/");
+		cookie.setHttpOnly(true);
+		cookie.setSecure(isSecure());
+		cookie.setMaxAge(maxAge);
+		response.addCookie(cookie);
+	}
+
+	private String newSessionId() {
+		return UUID.randomUUID().toString();
+	}
+}
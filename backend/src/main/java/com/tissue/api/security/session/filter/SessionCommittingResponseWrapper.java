@@ -0,0 +1,193 @@
+package com.tissue.api.security.session.filter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * 응답이 커밋되기 직전에 onCommit을 한 번 실행하는 응답 래퍼(Spring Session의 OnCommittedResponseWrapper와 같은 방식)
+ * - sendError, sendRedirect, flushBuffer, 출력 스트림/Writer의 flush, close
+ * - 쓰려는 본문이 Content-Length 또는 버퍼 크기에 도달해서 컨테이너가 응답을 커밋하게 되는 경우
+ */
+class SessionCommittingResponseWrapper extends HttpServletResponseWrapper {
+
+	private final Runnable onCommit;
+
+	private boolean onCommitInvoked;
+	private long contentLength = -1;
+	private long contentWritten;
+
+	private ServletOutputStream outputStream;
+	private PrintWriter writer;
+
+	SessionCommittingResponseWrapper(HttpServletResponse response, Runnable onCommit) {
+		super(response);
+		this.onCommit = onCommit;
+	}
+
+	@Override
+	public void setContentLength(int len) {
+		setContentLengthLong(len);
+	}
+
+	@Override
+	public void setContentLengthLong(long len) {
+		this.contentLength = len;
+		super.setContentLengthLong(len);
+	}
+
+	@Override
+	public void setHeader(String name, String value) {
+		if ("Content-Length".equalsIgnoreCase(name) && value != null) {
+			this.contentLength = Long.parseLong(value);
+		}
+		super.setHeader(name, value);
+	}
+
+	@Override
+	public void sendError(int sc) throws IOException {
+		invokeOnCommit();
+		super.sendError(sc);
+	}
+
+	@Override
+	public void sendError(int sc, String msg) throws IOException {
+		invokeOnCommit();
+		super.sendError(sc, msg);
+	}
+
+	@Override
+	public void sendRedirect(String location) throws IOException {
+		invokeOnCommit();
+		super.sendRedirect(location);
+	}
+
+	@Override
+	public void flushBuffer() throws IOException {
+		invokeOnCommit();
+		super.flushBuffer();
+	}
+
+	@Override
+	public ServletOutputStream getOutputStream() throws IOException {
+		if (outputStream == null) {
+			outputStream = new CommittingOutputStream(super.getOutputStream());
+		}
+		return outputStream;
+	}
+
+	@Override
+	public PrintWriter getWriter() throws IOException {
+		if (writer == null) {
+			writer = new CommittingPrintWriter(super.getWriter());
+		}
+		return writer;
+	}
+
+	private void beforeWrite(long length) {
+		contentWritten += length;
+		boolean contentLengthReached = contentLength > 0 && contentWritten >= contentLength;
+		boolean bufferFull = getBufferSize() > 0 && contentWritten >= getBufferSize();
+		if (contentLengthReached || bufferFull) {
+			invokeOnCommit();
+		}
+	}
+
+	private void invokeOnCommit() {
+		if (onCommitInvoked) {
+			return;
+		}
+		onCommitInvoked = true;
+		onCommit.run();
+	}
+
+	private class CommittingOutputStream extends ServletOutputStream {
+
+		private final ServletOutputStream delegate;
+
+		CommittingOutputStream(ServletOutputStream delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			beforeWrite(1);
+			delegate.write(b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			beforeWrite(len);
+			delegate.write(b, off, len);
+		}
+
+		@Override
+		public void flush() throws IOException {
+			invokeOnCommit();
+			delegate.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			invokeOnCommit();
+			delegate.close();
+		}
+
+		@Override
+		public boolean isReady() {
+			return delegate.isReady();
+		}
+
+		@Override
+		public void setWriteListener(WriteListener writeListener) {
+			delegate.setWriteListener(writeListener);
+		}
+	}
+
+	/**
+	 * 문자 수로 계산하므로 멀티바이트 문자는 실제보다 적게 센다(flush/close 시점에는 항상 실행된다)
+	 */
+	private class CommittingPrintWriter extends PrintWriter {
+
+		private final PrintWriter delegate;
+
+		CommittingPrintWriter(PrintWriter delegate) {
+			super(delegate);
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void write(int c) {
+			beforeWrite(1);
+			delegate.write(c);
+		}
+
+		@Override
+		public void write(char[] buf, int off, int len) {
+			beforeWrite(len);
+			delegate.write(buf, off, len);
+		}
+
+		@Override
+		public void write(String s, int off, int len) {
+			beforeWrite(len);
+			delegate.write(s, off, len);
+		}
+
+		@Override
+		public void flush() {
+			invokeOnCommit();
+			delegate.flush();
+		}
+
+		@Override
+		public void close() {
+			invokeOnCommit();
+			delegate.close();
+		}
+	}
+}
@@ -0,0 +1,163 @@
+package com.tissue.api.security.session.filter;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import com.tissue.api.security.session.store.SessionSnapshot;
+
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpSession;
+
+/**
+ * SessionStore의 스냅샷으로 만든 요청 단위 HttpSession
+ * - 속성 변경은 요청이 끝날 때 DistributedSessionRequestWrapper가 한 번에 저장한다
+ */
+class StoreBackedHttpSession implements HttpSession {
+
+	private String id;
+	private final long creationTime;
+	private final long lastAccessedTime;
+	private int maxInactiveIntervalSeconds;
+	private final Map<String, Object> attributes;
+	private final ServletContext servletContext;
+	private final Consumer<StoreBackedHttpSession> onInvalidate;
+
+	private final boolean isNew;
+	private boolean stored;
+	private boolean dirty;
+	private boolean invalidated;
+
+	StoreBackedHttpSession(
+		SessionSnapshot snapshot,
+		boolean isNew,
+		ServletContext servletContext,
+		Consumer<StoreBackedHttpSession> onInvalidate
+	) {
+		this.id = snapshot.id();
+		this.creationTime = snapshot.creationTime();
+		this.lastAccessedTime = snapshot.lastAccessedTime();
+		this.maxInactiveIntervalSeconds = snapshot.maxInactiveIntervalSeconds();
+		this.attributes = new ConcurrentHashMap<>(snapshot.attributes());
+		this.isNew = isNew;
+		this.stored = !isNew;
+		this.dirty = isNew;
+		this.servletContext = servletContext;
+		this.onInvalidate = onInvalidate;
+	}
+
+	SessionSnapshot toSnapshot(long accessedAt) {
+		return new SessionSnapshot(id, creationTime, accessedAt, maxInactiveIntervalSeconds, attributes);
+	}
+
+	void changeId(String newId) {
+		this.id = newId;
+		this.stored = false;
+		this.dirty = true;
+	}
+
+	/**
+	 * 현재 id로 저장소에 저장된 적이 있는지(없으면 새로 만들고, 있으면 남아 있을 때만 갱신한다)
+	 */
+	boolean isStored() {
+		return stored;
+	}
+
+	void markSaved() {
+		this.stored = true;
+		this.dirty = false;
+	}
+
+	boolean isDirty() {
+		return dirty;
+	}
+
+	boolean isInvalidated() {
+		return invalidated;
+	}
+
+	@Override
+	public long getCreationTime() {
+		checkValid();
+		return creationTime;
+	}
+
+	@Override
+	public String getId() {
+		return id;
+	}
+
+	@Override
+	public long getLastAccessedTime() {
+		checkValid();
+		return lastAccessedTime;
+	}
+
+	@Override
+	public ServletContext getServletContext() {
+		return servletContext;
+	}
+
+	@Override
+	public void setMaxInactiveInterval(int interval) {
+		this.maxInactiveIntervalSeconds = interval;
+		this.dirty = true;
+	}
+
+	@Override
+	public int getMaxInactiveInterval() {
+		return maxInactiveIntervalSeconds;
+	}
+
+	@Override
+	public Object getAttribute(String name) {
+		checkValid();
+		return attributes.get(name);
+	}
+
+	@Override
+	public Enumeration<String> getAttributeNames() {
+		checkValid();
+		return Collections.enumeration(attributes.keySet());
+	}
+
+	@Override
+	public void setAttribute(String name, Object value) {
+		checkValid();
+		if (value == null) {
+			removeAttribute(name);
+			return;
+		}
+		attributes.put(name, value);
+		dirty = true;
+	}
+
+	@Override
+	public void removeAttribute(String name) {
+		checkValid();
+		if (attributes.remove(name) != null) {
+			dirty = true;
+		}
+	}
+
+	@Override
+	public void invalidate() {
+		checkValid();
+		invalidated = true;
+		onInvalidate.accept(this);
+	}
+
+	@Override
+	public boolean isNew() {
+		checkValid();
+		return isNew;
+	}
+
+	private void checkValid() {
+		if (invalidated) {
+			throw new IllegalStateException("Session has already been invalidated.");
+		}
+	}
+}
@@ -0,0 +1,76 @@
+package com.tissue.api.security.session.store;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * 단일 노드/테스트용 세션 저장소(Redis 대용)
+ * - Redis와 같이 인코딩된 byte[]와 만료 시각을 저장하므로 직렬화 비용과 TTL 동작이 같다
+ */
+public class InMemorySessionStore implements SessionStore {
+
+	private final Map<String, Entry> sessions = new ConcurrentHashMap<>();
+	private final SessionSnapshotCodec codec;
+
+	public InMemorySessionStore(SessionSnapshotCodec codec) {
+		this.codec = codec;
+	}
+
+	@Override
+	public Optional<SessionSnapshot> find(String sessionId) {
+		Entry entry = sessions.get(sessionId);
+
+		if (entry == null) {
+			return Optional.empty();
+		}
+		if (entry.isExpired(System.currentTimeMillis())) {
+			sessions.remove(sessionId, entry);
+			return Optional.empty();
+		}
+
+		return Optional.of(codec.decode(entry.encoded()));
+	}
+
+	@Override
+	public void create(SessionSnapshot snapshot) {
+		sessions.put(snapshot.id(), new Entry(codec.encode(snapshot), expiresAt(snapshot)));
+	}
+
+	@Override
+	public boolean save(SessionSnapshot snapshot) {
+		byte[] encoded = codec.encode(snapshot);
+		return replaceIfPresent(snapshot.id(), entry -> new Entry(encoded, expiresAt(snapshot)));
+	}
+
+	@Override
+	public boolean touch(SessionSnapshot snapshot) {
+		return replaceIfPresent(snapshot.id(), entry -> new Entry(entry.encoded(), expiresAt(snapshot)));
+	}
+
+	@Override
+	public void delete(String sessionId) {
+		sessions.remove(sessionId);
+	}
+
+	private boolean replaceIfPresent(String sessionId, UnaryOperator<Entry> replacement) {
+		long now = System.currentTimeMillis();
+		Entry replaced = sessions.computeIfPresent(sessionId,
+			(id, entry) -> entry.isExpired(now) ? null : replacement.apply(entry));
+		return replaced != null;
+	}
+
+	private long expiresAt(SessionSnapshot snapshot) {
+		return System.currentTimeMillis() + snapshot.maxInactiveIntervalSeconds() * 1000L;
+	}
+
+	private record Entry(
+		byte[] encoded,
+		long expiresAt
+	) {
+		boolean isExpired(long now) {
+			return now >= expiresAt;
+		}
+	}
+}
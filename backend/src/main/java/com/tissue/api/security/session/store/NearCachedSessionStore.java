@@ -0,0 +1,95 @@
+package com.tissue.api.security.session.store;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 원격 세션 저장소 앞에 두는 노드 별 near-cache
+ * - 같은 세션의 연속 요청은 원격 조회 없이 처리된다(TTL은 수 초로 짧게 둔다)
+ * - 속성 변경(save)과 삭제(로그아웃, invalidate)는 로컬에서 즉시 반영하고, 다른 노드에는 broadcaster로 알린다
+ * - 원격 저장소에서 이미 사라진 세션은 갱신/연장에 실패하므로 로컬에서도 제거한다
+ * - 다른 노드가 보낸 무효화는 evictLocal로 반영한다
+ */
+public class NearCachedSessionStore implements SessionStore {
+
+	private static final String CACHE_NAME = "sessionNearCache";
+
+	private final SessionStore delegate;
+	private final SessionInvalidationBroadcaster broadcaster;
+	private final Cache<String, SessionSnapshot> cache;
+
+	public NearCachedSessionStore(
+		SessionStore delegate,
+		SessionInvalidationBroadcaster broadcaster,
+		int maximumSize,
+		int expirationSeconds,
+		MeterRegistry meterRegistry
+	) {
+		this.delegate = delegate;
+		this.broadcaster = broadcaster;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(expirationSeconds, TimeUnit.SECONDS)
+			.recordStats()
+			.build();
+
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+	}
+
+	@Override
+	public Optional<SessionSnapshot> find(String sessionId) {
+		SessionSnapshot cached = cache.getIfPresent(sessionId);
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+
+		Optional<SessionSnapshot> loaded = delegate.find(sessionId);
+		loaded.ifPresent(snapshot -> cache.put(sessionId, snapshot));
+		return loaded;
+	}
+
+	@Override
+	public void create(SessionSnapshot snapshot) {
+		delegate.create(snapshot);
+		cache.put(snapshot.id(), snapshot);
+	}
+
+	@Override
+	public boolean save(SessionSnapshot snapshot) {
+		if (!delegate.save(snapshot)) {
+			cache.invalidate(snapshot.id());
+			return false;
+		}
+		cache.put(snapshot.id(), snapshot);
+		broadcaster.broadcast(snapshot.id());
+		return true;
+	}
+
+	@Override
+	public boolean touch(SessionSnapshot snapshot) {
+		if (!delegate.touch(snapshot)) {
+			cache.invalidate(snapshot.id());
+			return false;
+		}
+		// 원격에는 만료 시간만 연장되므로, 마지막 접근 시각은 이 노드의 near-cache에만 반영된다(touch 간격 계산용)
+		cache.put(snapshot.id(), snapshot);
+		return true;
+	}
+
+	@Override
+	public void delete(String sessionId) {
+		delegate.delete(sessionId);
+		cache.invalidate(sessionId);
+		broadcaster.broadcast(sessionId);
+	}
+
+	public void evictLocal(String sessionId) {
+		cache.invalidate(sessionId);
+	}
+}
@@ -0,0 +1,57 @@
+package com.tissue.api.security.session.store;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * Redis에 세션을 저장한다
+ * - key: session:{sessionId}, value: SessionSnapshotCodec으로 인코딩한 byte[]
+ * - TTL은 세션의 maxInactiveInterval(변경이 없어도 touchInterval 마다 touch로 연장)
+ * - 기존 세션 갱신은 SET XX, 연장은 EXPIRE로 처리해서 다른 요청이 삭제한 세션을 다시 만들지 않는다
+ */
+public class RedisSessionStore implements SessionStore {
+
+	private static final String PREFIX = "session:";
+
+	private final RedisTemplate<String, byte[]> redisTemplate;
+	private final SessionSnapshotCodec codec;
+
+	public RedisSessionStore(RedisTemplate<String, byte[]> redisTemplate, SessionSnapshotCodec codec) {
+		this.redisTemplate = redisTemplate;
+		this.codec = codec;
+	}
+
+	@Override
+	public Optional<SessionSnapshot> find(String sessionId) {
+		return Optional.ofNullable(redisTemplate.opsForValue().get(PREFIX + sessionId))
+			.map(codec::decode);
+	}
+
+	@Override
+	public void create(SessionSnapshot snapshot) {
+		redisTemplate.opsForValue().set(PREFIX + snapshot.id(), codec.encode(snapshot), ttl(snapshot));
+	}
+
+	@Override
+	public boolean save(SessionSnapshot snapshot) {
+		return Boolean.TRUE.equals(
+			redisTemplate.opsForValue().setIfPresent(PREFIX + snapshot.id(), codec.encode(snapshot), ttl(snapshot))
+		);
+	}
+
+	@Override
+	public boolean touch(SessionSnapshot snapshot) {
+		return Boolean.TRUE.equals(redisTemplate.expire(PREFIX + snapshot.id(), ttl(snapshot)));
+	}
+
+	@Override
+	public void delete(String sessionId) {
+		redisTemplate.delete(PREFIX + sessionId);
+	}
+
+	private Duration ttl(SessionSnapshot snapshot) {
+		return Duration.ofSeconds(snapshot.maxInactiveIntervalSeconds());
+	}
+}
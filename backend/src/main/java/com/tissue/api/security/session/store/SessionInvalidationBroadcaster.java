@@ -0,0 +1,12 @@
+package com.tissue.api.security.session.store;
+
+/**
+ * 한 노드에서 변경/삭제된 세션을 다른 노드의 near-cache에서 제거하도록 알린다
+ */
+public interface SessionInvalidationBroadcaster {
+
+	SessionInvalidationBroadcaster NONE = sessionId -> {
+	};
+
+	void broadcast(String sessionId);
+}
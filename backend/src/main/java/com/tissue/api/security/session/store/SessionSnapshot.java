@@ -0,0 +1,20 @@
+package com.tissue.api.security.session.store;
+
+import java.util.Map;
+
+/**
+ * 저장소에 보관하는 세션의 불변 스냅샷
+ *
+ * @param maxInactiveIntervalSeconds 마지막 접근 이후 세션이 유지되는 시간(저장소의 TTL로 사용)
+ */
+public record SessionSnapshot(
+	String id,
+	long creationTime,
+	long lastAccessedTime,
+	int maxInactiveIntervalSeconds,
+	Map<String, Object> attributes
+) {
+	public SessionSnapshot {
+		attributes = Map.copyOf(attributes);
+	}
+}
@@ -0,0 +1,180 @@
+package com.tissue.api.security.session.store;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SessionSnapshot <-> byte[] 변환
+ * - 세션에 저장하는 값(로그인 정보, 임시 권한)은 대부분 String, Long, Boolean, enum, LocalDateTime 이므로
+ *   타입 태그 + 값만 기록한다(JDK 직렬화 대비 크기가 작고 클래스 메타데이터가 없다)
+ * - 그 외 타입은 JDK 직렬화로 기록한다
+ * - Redis에 저장된 값을 신뢰하지 않으므로, 복원하는 클래스는 애플리케이션 클래스와 java.base 타입만 허용한다
+ */
+public class SessionSnapshotCodec {
+
+	private static final byte VERSION = 1;
+
+	private static final byte STRING = 0;
+	private static final byte LONG = 1;
+	private static final byte INTEGER = 2;
+	private static final byte BOOLEAN = 3;
+	private static final byte LOCAL_DATE_TIME = 4;
+	private static final byte ENUM = 5;
+	private static final byte SERIALIZABLE = 9;
+
+	private static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter(
+		"com.tissue.api.**;java.base/*;!*"
+	);
+	private static final String ALLOWED_ENUM_PACKAGE = "com.tissue.api.";
+
+	public byte[] encode(SessionSnapshot snapshot) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeByte(VERSION);
+			out.writeUTF(snapshot.id());
+			out.writeLong(snapshot.creationTime());
+			out.writeLong(snapshot.lastAccessedTime());
+			out.writeInt(snapshot.maxInactiveIntervalSeconds());
+			out.writeShort(snapshot.attributes().size());
+
+			for (Map.Entry<String, Object> attribute : snapshot.attributes().entrySet()) {
+				out.writeUTF(attribute.getKey());
+				writeValue(out, attribute.getValue());
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to encode session.", e);
+		}
+
+		return bytes.toByteArray();
+	}
+
+	public SessionSnapshot decode(byte[] encoded) {
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(encoded))) {
+			byte version = in.readByte();
+			if (version != VERSION) {
+				throw new IllegalStateException("Unsupported session encoding version: " + version);
+			}
+
+			String id = in.readUTF();
+			long creationTime = in.readLong();
+			long lastAccessedTime = in.readLong();
+			int maxInactiveIntervalSeconds = in.readInt();
+			int size = in.readShort();
+
+			Map<String, Object> attributes = new HashMap<>(size * 2);
+			for (int i = 0; i < size; i++) {
+				attributes.put(in.readUTF(), readValue(in));
+			}
+
+			return new SessionSnapshot(id, creationTime, lastAccessedTime, maxInactiveIntervalSeconds, attributes);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to decode session.", e);
+		}
+	}
+
+	private void writeValue(DataOutputStream out, Object value) throws IOException {
+		if (value instanceof String string) {
+			out.writeByte(STRING);
+			out.writeUTF(string);
+		} else if (value instanceof Long number) {
+			out.writeByte(LONG);
+			out.writeLong(number);
+		} else if (value instanceof Integer number) {
+			out.writeByte(INTEGER);
+			out.writeInt(number);
+		} else if (value instanceof Boolean bool) {
+			out.writeByte(BOOLEAN);
+			out.writeBoolean(bool);
+		} else if (value instanceof LocalDateTime dateTime) {
+			out.writeByte(LOCAL_DATE_TIME);
+			out.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+			out.writeInt(dateTime.getNano());
+		} else if (value instanceof Enum<?> constant) {
+			out.writeByte(ENUM);
+			out.writeUTF(constant.getDeclaringClass().getName());
+			out.writeUTF(constant.name());
+		} else if (value instanceof Serializable serializable) {
+			byte[] serialized = serialize(serializable);
+			out.writeByte(SERIALIZABLE);
+			out.writeInt(serialized.length);
+			out.write(serialized);
+		} else {
+			throw new IllegalArgumentException("Session attribute is not serializable: " + value.getClass());
+		}
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private Object readValue(DataInputStream in) throws IOException {
+		byte type = in.readByte();
+
+		return switch (type) {
+			case STRING -> in.readUTF();
+			case LONG -> in.readLong();
+			case INTEGER -> in.readInt();
+			case BOOLEAN -> in.readBoolean();
+			case LOCAL_DATE_TIME -> LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+			case ENUM -> {
+				String className = in.readUTF();
+				String name = in.readUTF();
+				yield Enum.valueOf((Class<Enum>)loadEnumClass(className), name);
+			}
+			case SERIALIZABLE -> {
+				byte[] serialized = new byte[in.readInt()];
+				in.readFully(serialized);
+				yield deserialize(serialized);
+			}
+			default -> throw new IllegalStateException("Unknown session attribute type: " + type);
+		};
+	}
+
+	private byte[] serialize(Serializable value) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(value);
+		}
+		return bytes.toByteArray();
+	}
+
+	private Object deserialize(byte[] serialized) throws IOException {
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+			in.setObjectInputFilter(FILTER);
+			return in.readObject();
+		} catch (ClassNotFoundException e) {
+			throw new IllegalStateException("Session attribute class not found.", e);
+		}
+	}
+
+	/**
+	 * 애플리케이션 패키지의 enum만 로드한다(초기화하지 않고 로드한 뒤 enum인지 확인한다)
+	 */
+	private Class<?> loadEnumClass(String className) {
+		if (!className.startsWith(ALLOWED_ENUM_PACKAGE)) {
+			throw new IllegalStateException("Session attribute enum is not allowed: " + className);
+		}
+
+		Class<?> enumClass;
+		try {
+			enumClass = Class.forName(className, false, SessionSnapshotCodec.class.getClassLoader());
+		} catch (ClassNotFoundException e) {
+			throw new IllegalStateException("Session attribute class not found: " + className, e);
+		}
+
+		if (!enumClass.isEnum()) {
+			throw new IllegalStateException("Session attribute class is not an enum: " + className);
+		}
+		return enumClass;
+	}
+}
@@ -0,0 +1,34 @@
+package com.tissue.api.security.session.store;
+
+import java.util.Optional;
+
+/**
+ * HttpSession 내용을 서블릿 컨테이너 밖에 저장하는 저장소
+ * - 여러 인스턴스가 같은 세션을 읽을 수 있도록 한다(노드 고정 없이 로드 밸런싱)
+ * - 이미 저장된 세션은 저장소에 남아 있을 때만 갱신한다(요청 도중 로그아웃으로 삭제된 세션을 되살리지 않는다)
+ */
+public interface SessionStore {
+
+	Optional<SessionSnapshot> find(String sessionId);
+
+	/**
+	 * 새 세션(또는 id가 바뀐 세션)을 저장한다
+	 */
+	void create(SessionSnapshot snapshot);
+
+	/**
+	 * 속성이 변경된 세션을 저장한다(만료 시간도 갱신된다)
+	 *
+	 * @return 세션이 저장소에 없어서(만료, 삭제) 저장하지 않았으면 false
+	 */
+	boolean save(SessionSnapshot snapshot);
+
+	/**
+	 * 속성 변경 없이 만료 시간만 연장한다(저장된 내용은 다시 쓰지 않고, 다른 노드에 변경을 알리지 않는다)
+	 *
+	 * @return 세션이 저장소에 없으면 false
+	 */
+	boolean touch(SessionSnapshot snapshot);
+
+	void delete(String sessionId);
+}
@@ -22,6 +22,7 @@ import com.tissue.api.sprint.presentation.dto.request.UpdateSprintStatusRequest;
 import com.tissue.api.sprint.presentation.dto.response.SprintResponse;
 import com.tissue.api.workspace.domain.model.Workspace;
 import com.tissue.api.workspace.application.service.command.WorkspaceReader;
+import com.tissue.api.workspace.application.service.command.sequence.WorkspaceSequenceAllocator;
 
 import lombok.RequiredArgsConstructor;
 
@@ -33,6 +34,7 @@ public class SprintCommandService {
 	private final SprintRepository sprintRepository;
 	private final WorkspaceReader workspaceReader;
 	private final IssueReader issueReader;
+	private final WorkspaceSequenceAllocator workspaceSequenceAllocator;
 	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
@@ -41,6 +43,7 @@ public class SprintCommandService {
 		CreateSprintRequest request
 	) {
 		Workspace workspace = workspaceReader.findWorkspace(workspaceCode);
+		workspaceSequenceAllocator.reserveSprintNumber(workspace);
 
 		Sprint sprint = Sprint.builder()
 			.title(request.title())
@@ -1,13 +1,23 @@
 package com.tissue.api.sprint.application.service.query;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.tissue.api.common.dto.Cursor;
+import com.tissue.api.common.dto.CursorRequest;
+import com.tissue.api.common.dto.CursorResponse;
 import com.tissue.api.common.exception.type.ResourceNotFoundException;
-import com.tissue.api.sprint.domain.model.Sprint;
 import com.tissue.api.sprint.infrastructure.repository.SprintQueryRepository;
+import com.tissue.api.sprint.infrastructure.repository.projection.SprintIssueKeyRow;
+import com.tissue.api.sprint.infrastructure.repository.projection.SprintIssueRow;
+import com.tissue.api.sprint.infrastructure.repository.projection.SprintRow;
 import com.tissue.api.sprint.presentation.condition.SprintIssueSearchCondition;
 import com.tissue.api.sprint.presentation.condition.SprintSearchCondition;
 import com.tissue.api.sprint.presentation.dto.response.SprintDetail;
@@ -15,6 +25,11 @@ import com.tissue.api.sprint.presentation.dto.response.SprintIssueDetail;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 스프린트 조회 서비스
+ * - 엔티티 그래프(Sprint -> SprintIssue -> Issue)를 영속성 컨텍스트에 올리지 않고, 응답에 필요한 컬럼만 projection으로 조회한다
+ * - 스프린트 목록의 이슈 키는 페이지 단위로 한 번에 조회한다(스프린트마다 지연 로딩하지 않는다)
+ */
 @Service
 @RequiredArgsConstructor
 public class SprintQueryService {
@@ -26,13 +41,13 @@ public class SprintQueryService {
 		String workspaceCode,
 		String sprintKey
 	) {
-		Sprint sprint = sprintQueryRepository.findBySprintKeyAndWorkspaceCodeWithIssues(sprintKey, workspaceCode)
+		SprintRow sprint = sprintQueryRepository.findSprintRow(sprintKey, workspaceCode)
 			.orElseThrow(() -> new ResourceNotFoundException(
 				String.format("Sprint was not found with sprint key(%s) and workspace code(%s)",
 					sprintKey, workspaceCode))
 			);
 
-		return SprintDetail.from(sprint);
+		return SprintDetail.from(sprint, findIssueKeys(List.of(sprint)).getOrDefault(sprint.id(), List.of()));
 	}
 
 	@Transactional(readOnly = true)
@@ -52,8 +67,7 @@ public class SprintQueryService {
 		// 			sprintKey, workspaceCode))
 		// 	);
 
-		return sprintQueryRepository.findIssuesInSprint(sprintKey, workspaceCode, searchCondition, pageable)
-			.map(SprintIssueDetail::from);
+		return sprintQueryRepository.findIssuesInSprint(sprintKey, workspaceCode, searchCondition, pageable);
 	}
 
 	@Transactional(readOnly = true)
@@ -62,7 +76,98 @@ public class SprintQueryService {
 		SprintSearchCondition searchCondition,
 		Pageable pageable
 	) {
-		return sprintQueryRepository.findSprintPageByWorkspaceCode(workspaceCode, searchCondition, pageable)
-			.map(SprintDetail::from);
+		Page<SprintRow> sprints = sprintQueryRepository.findSprintPageByWorkspaceCode(
+			workspaceCode,
+			searchCondition,
+			pageable
+		);
+		Map<Long, List<String>> issueKeys = findIssueKeys(sprints.getContent());
+
+		return sprints.map(row -> SprintDetail.from(row, issueKeys.getOrDefault(row.id(), List.of())));
+	}
+
+	/**
+	 * 커서 기반 페이징(createdDate, id 역순)
+	 * - 전체 개수는 요청한 경우에만 별도의 COUNT 쿼리로 조회한다
+	 */
+	@Transactional(readOnly = true)
+	public CursorResponse<SprintDetail> getSprints(
+		String workspaceCode,
+		SprintSearchCondition searchCondition,
+		CursorRequest cursorRequest
+	) {
+		List<SprintRow> sprints = sprintQueryRepository.findSprintSliceByWorkspaceCode(
+			workspaceCode,
+			searchCondition,
+			cursorRequest.cursorCreatedDate(),
+			cursorRequest.cursorId(),
+			cursorRequest.fetchLimit()
+		);
+
+		Long totalElements = cursorRequest.withCount()
+			? sprintQueryRepository.countSprintsByWorkspaceCode(workspaceCode, searchCondition)
+			: null;
+
+		Map<Long, List<String>> issueKeys = findIssueKeys(sprints);
+
+		return CursorResponse.of(
+			sprints,
+			cursorRequest,
+			sprint -> new Cursor(sprint.createdDate(), sprint.id()),
+			sprint -> SprintDetail.from(sprint, issueKeys.getOrDefault(sprint.id(), List.of())),
+			totalElements
+		);
+	}
+
+	/**
+	 * 커서 기반 페이징(스프린트에 추가된 순서의 역순)
+	 * - 전체 개수는 요청한 경우에만 별도의 COUNT 쿼리로 조회한다
+	 */
+	@Transactional(readOnly = true)
+	public CursorResponse<SprintIssueDetail> getSprintIssues(
+		String workspaceCode,
+		String sprintKey,
+		SprintIssueSearchCondition searchCondition,
+		CursorRequest cursorRequest
+	) {
+		List<SprintIssueRow> sprintIssues = sprintQueryRepository.findSprintIssueSliceInSprint(
+			sprintKey,
+			workspaceCode,
+			searchCondition,
+			cursorRequest.cursorCreatedDate(),
+			cursorRequest.cursorId(),
+			cursorRequest.fetchLimit()
+		);
+
+		Long totalElements = cursorRequest.withCount()
+			? sprintQueryRepository.countIssuesInSprint(sprintKey, workspaceCode, searchCondition)
+			: null;
+
+		return CursorResponse.of(
+			sprintIssues,
+			cursorRequest,
+			sprintIssue -> new Cursor(sprintIssue.addedAt(), sprintIssue.sprintIssueId()),
+			SprintIssueRow::toDetail,
+			totalElements
+		);
+	}
+
+	/**
+	 * 스프린트 id 별 이슈 키 목록(조회한 스프린트 전체에 대해 IN 쿼리 한 번)
+	 */
+	private Map<Long, List<String>> findIssueKeys(Collection<SprintRow> sprints) {
+		if (sprints.isEmpty()) {
+			return Map.of();
+		}
+
+		List<Long> sprintIds = sprints.stream()
+			.map(SprintRow::id)
+			.toList();
+
+		return sprintQueryRepository.findIssueKeysBySprintIds(sprintIds).stream()
+			.collect(Collectors.groupingBy(
+				SprintIssueKeyRow::sprintId,
+				Collectors.mapping(SprintIssueKeyRow::issueKey, Collectors.toList())
+			));
 	}
 }
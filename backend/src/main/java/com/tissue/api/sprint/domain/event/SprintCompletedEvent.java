@@ -1,5 +1,6 @@
 package com.tissue.api.sprint.domain.event;
 
+import java.io.Serial;
 import java.time.LocalDateTime;
 
 import com.tissue.api.notification.domain.enums.NotificationType;
@@ -11,6 +12,9 @@ import lombok.Getter;
 @Getter
 public class SprintCompletedEvent extends SprintEvent {
 
+	@Serial
+	private static final long serialVersionUID = 1L;
+
 	private final LocalDateTime sprintStartedAt;
 	private final LocalDateTime sprintCompletedAt;
 
@@ -1,5 +1,7 @@
 package com.tissue.api.sprint.domain.event;
 
+import java.io.Serial;
+
 import com.tissue.api.notification.domain.enums.NotificationType;
 import com.tissue.api.notification.domain.enums.ResourceType;
 import com.tissue.api.sprint.domain.model.Sprint;
@@ -22,6 +24,9 @@ import lombok.Getter;
 @Getter
 public class SprintDDayCountdownEvent extends SprintEvent {
 
+	@Serial
+	private static final long serialVersionUID = 1L;
+
 	private final int dDay;
 
 	public SprintDDayCountdownEvent(
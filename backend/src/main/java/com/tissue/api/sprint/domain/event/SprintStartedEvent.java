@@ -1,5 +1,7 @@
 package com.tissue.api.sprint.domain.event;
 
+import java.io.Serial;
+
 import com.tissue.api.notification.domain.enums.NotificationType;
 import com.tissue.api.notification.domain.enums.ResourceType;
 import com.tissue.api.sprint.domain.model.Sprint;
@@ -9,6 +11,9 @@ import lombok.Getter;
 @Getter
 public class SprintStartedEvent extends SprintEvent {
 
+	@Serial
+	private static final long serialVersionUID = 1L;
+
 	public SprintStartedEvent(
 		Long sprintId,
 		String sprintKey,
@@ -19,9 +19,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -29,6 +31,11 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
+@Table(
+	indexes = {
+		@Index(name = "IDX_SPRINT_WORKSPACE_CREATED", columnList = "WORKSPACE_CODE, createdDate, id")
+	}
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Sprint extends BaseEntity {
 
@@ -81,9 +88,8 @@ public class Sprint extends BaseEntity {
 	) {
 		validateDates(plannedStartDate, plannedEndDate);
 
-		this.number = workspace.getNextSprintNumber();
+		this.number = workspace.allocateSprintNumber();
 		this.sprintKey = String.format("SPRINT-%d", this.number);
-		workspace.increaseNextSprintNumber();
 
 		this.title = title;
 		this.goal = goal;
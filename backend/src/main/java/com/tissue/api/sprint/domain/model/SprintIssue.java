@@ -8,14 +8,21 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
+@Table(
+	indexes = {
+		@Index(name = "IDX_SPRINT_ISSUE_SPRINT_CREATED", columnList = "SPRINT_ID, createdDate, id")
+	}
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class SprintIssue extends BaseEntity {
 
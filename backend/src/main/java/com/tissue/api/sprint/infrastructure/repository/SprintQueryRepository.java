@@ -1,61 +1,158 @@
 package com.tissue.api.sprint.infrastructure.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import com.tissue.api.issue.domain.model.Issue;
 import com.tissue.api.sprint.domain.model.Sprint;
+import com.tissue.api.sprint.infrastructure.repository.projection.SprintIssueKeyRow;
+import com.tissue.api.sprint.infrastructure.repository.projection.SprintIssueRow;
+import com.tissue.api.sprint.infrastructure.repository.projection.SprintRow;
 import com.tissue.api.sprint.presentation.condition.SprintIssueSearchCondition;
 import com.tissue.api.sprint.presentation.condition.SprintSearchCondition;
+import com.tissue.api.sprint.presentation.dto.response.SprintIssueDetail;
 
+/**
+ * 조회 전용 쿼리
+ * - 응답 DTO에 필요한 컬럼만 constructor expression으로 조회한다(엔티티, @Lob 컬럼을 읽지 않는다)
+ */
 public interface SprintQueryRepository extends JpaRepository<Sprint, Long> {
 
-	@Query("SELECT s FROM Sprint s "
-		+ "LEFT JOIN FETCH s.sprintIssues si "
-		+ "LEFT JOIN FETCH si.issue "
-		+ "WHERE s.sprintKey = :sprintKey AND s.workspaceCode = :workspaceCode")
-	Optional<Sprint> findBySprintKeyAndWorkspaceCodeWithIssues(
-		@Param("sprintKey") String sprintKey,
-		@Param("workspaceCode") String workspaceCode
-	);
+	String SELECT_SPRINT_ROW = "SELECT new com.tissue.api.sprint.infrastructure.repository.projection.SprintRow("
+		+ "s.id, s.sprintKey, s.title, s.goal, s.plannedStartDate, s.plannedEndDate, s.status, "
+		+ "s.createdDate, s.createdBy) ";
 
-	@Query("SELECT s FROM Sprint s "
-		+ "WHERE s.workspaceCode = :workspaceCode "
+	String SPRINT_CONDITION = "WHERE s.workspaceCode = :workspaceCode "
 		+ "AND (:#{#condition.statuses == null || #condition.statuses.isEmpty()} = true "
 		+ "     OR s.status IN :#{#condition.statuses}) "
 		+ "AND (:#{#condition.keyword} IS NULL "
 		+ "     OR LOWER(s.sprintKey) LIKE LOWER(CONCAT('%', :#{#condition.keyword}, '%')) "
 		+ "     OR LOWER(s.title) LIKE LOWER(CONCAT('%', :#{#condition.keyword}, '%')) "
-		+ "     OR LOWER(s.goal) LIKE LOWER(CONCAT('%', :#{#condition.keyword}, '%')))")
-	Page<Sprint> findSprintPageByWorkspaceCode(
-		@Param("workspaceCode") String workspaceCode,
-		@Param("condition") SprintSearchCondition condition,
-		Pageable pageable
-	);
+		+ "     OR LOWER(s.goal) LIKE LOWER(CONCAT('%', :#{#condition.keyword}, '%'))) ";
 
-	@Query("SELECT si.issue FROM Sprint s "
-		+ "JOIN s.sprintIssues si "
-		+ "WHERE s.sprintKey = :sprintKey "
+	String SPRINT_ISSUE_CONDITION = "WHERE s.sprintKey = :sprintKey "
 		+ "AND s.workspaceCode = :workspaceCode "
 		+ "AND (:#{#condition.statuses == null || #condition.statuses.isEmpty()} = true"
-		+ " OR si.issue.status IN :#{#condition.statuses}) "
+		+ " OR i.status IN :#{#condition.statuses}) "
 		+ "AND (:#{#condition.types == null || #condition.types.isEmpty()} = true"
-		+ " OR si.issue.type IN :#{#condition.types}) "
+		+ " OR i.type IN :#{#condition.types}) "
 		+ "AND (:#{#condition.priorities == null || #condition.priorities.isEmpty()} = true"
-		+ " OR si.issue.priority IN :#{#condition.priorities}) "
+		+ " OR i.priority IN :#{#condition.priorities}) "
 		+ "AND (:#{#condition.keyword} IS NULL "
-		+ "    OR LOWER(si.issue.issueKey) LIKE LOWER(CONCAT('%', :#{#condition.keyword}, '%')) "
-		+ "    OR LOWER(si.issue.title) LIKE LOWER(CONCAT('%', :#{#condition.keyword}, '%')) "
-		+ "    OR LOWER(FUNCTION('TO_CHAR', si.issue.content)) LIKE LOWER(CONCAT('%', :#{#condition.keyword}, '%')))")
-	Page<Issue> findIssuesInSprint(
+		+ "    OR LOWER(i.issueKey) LIKE LOWER(CONCAT('%', :#{#condition.keyword}, '%')) "
+		+ "    OR LOWER(i.title) LIKE LOWER(CONCAT('%', :#{#condition.keyword}, '%')) "
+		+ "    OR LOWER(FUNCTION('TO_CHAR', i.content)) LIKE LOWER(CONCAT('%', :#{#condition.keyword}, '%'))) ";
+
+	@Query(SELECT_SPRINT_ROW
+		+ "FROM Sprint s "
+		+ "WHERE s.sprintKey = :sprintKey AND s.workspaceCode = :workspaceCode")
+	Optional<SprintRow> findSprintRow(
+		@Param("sprintKey") String sprintKey,
+		@Param("workspaceCode") String workspaceCode
+	);
+
+	/**
+	 * 여러 스프린트에 등록된 이슈 키를 한 번에 조회한다(스프린트 목록 조회 시 N+1 방지)
+	 */
+	@Query("SELECT new com.tissue.api.sprint.infrastructure.repository.projection.SprintIssueKeyRow("
+		+ "si.sprint.id, i.issueKey) "
+		+ "FROM SprintIssue si "
+		+ "JOIN si.issue i "
+		+ "WHERE si.sprint.id IN :sprintIds")
+	List<SprintIssueKeyRow> findIssueKeysBySprintIds(@Param("sprintIds") Collection<Long> sprintIds);
+
+	@Query(value = SELECT_SPRINT_ROW
+		+ "FROM Sprint s "
+		+ SPRINT_CONDITION,
+		countQuery = "SELECT COUNT(s) FROM Sprint s "
+			+ SPRINT_CONDITION)
+	Page<SprintRow> findSprintPageByWorkspaceCode(
+		@Param("workspaceCode") String workspaceCode,
+		@Param("condition") SprintSearchCondition condition,
+		Pageable pageable
+	);
+
+	@Query("SELECT COUNT(s) FROM Sprint s "
+		+ SPRINT_CONDITION)
+	long countSprintsByWorkspaceCode(
+		@Param("workspaceCode") String workspaceCode,
+		@Param("condition") SprintSearchCondition condition
+	);
+
+	/**
+	 * 커서 기반 페이징: (createdDate, id)가 커서보다 작은 행부터 limit 만큼 조회한다
+	 */
+	@Query(SELECT_SPRINT_ROW
+		+ "FROM Sprint s "
+		+ SPRINT_CONDITION
+		+ "AND (:cursorCreatedDate IS NULL "
+		+ "     OR s.createdDate < :cursorCreatedDate "
+		+ "     OR (s.createdDate = :cursorCreatedDate AND s.id < :cursorId)) "
+		+ "ORDER BY s.createdDate DESC, s.id DESC")
+	List<SprintRow> findSprintSliceByWorkspaceCode(
+		@Param("workspaceCode") String workspaceCode,
+		@Param("condition") SprintSearchCondition condition,
+		@Param("cursorCreatedDate") LocalDateTime cursorCreatedDate,
+		@Param("cursorId") Long cursorId,
+		Limit limit
+	);
+
+	@Query(value = "SELECT new com.tissue.api.sprint.presentation.dto.response.SprintIssueDetail("
+		+ "i.id, i.issueKey, i.type, i.title, i.status, i.priority, i.createdDate, i.createdBy) "
+		+ "FROM Sprint s "
+		+ "JOIN s.sprintIssues si "
+		+ "JOIN si.issue i "
+		+ SPRINT_ISSUE_CONDITION,
+		countQuery = "SELECT COUNT(si) FROM Sprint s "
+			+ "JOIN s.sprintIssues si "
+			+ "JOIN si.issue i "
+			+ SPRINT_ISSUE_CONDITION)
+	Page<SprintIssueDetail> findIssuesInSprint(
 		@Param("sprintKey") String sprintKey,
 		@Param("workspaceCode") String workspaceCode,
 		@Param("condition") SprintIssueSearchCondition condition,
 		Pageable pageable
 	);
+
+	@Query("SELECT COUNT(si) FROM SprintIssue si "
+		+ "JOIN si.issue i "
+		+ "JOIN si.sprint s "
+		+ SPRINT_ISSUE_CONDITION)
+	long countIssuesInSprint(
+		@Param("sprintKey") String sprintKey,
+		@Param("workspaceCode") String workspaceCode,
+		@Param("condition") SprintIssueSearchCondition condition
+	);
+
+	/**
+	 * 커서 기반 페이징: 스프린트에 이슈가 추가된 순서(SprintIssue의 createdDate, id) 역순으로 조회한다
+	 * - 정렬 키가 sprint_issue 테이블에 있으므로 (SPRINT_ID, createdDate, id) 인덱스로 바로 위치를 찾을 수 있다
+	 */
+	@Query("SELECT new com.tissue.api.sprint.infrastructure.repository.projection.SprintIssueRow("
+		+ "si.id, si.createdDate, i.id, i.issueKey, i.type, i.title, i.status, i.priority, "
+		+ "i.createdDate, i.createdBy) "
+		+ "FROM SprintIssue si "
+		+ "JOIN si.issue i "
+		+ "JOIN si.sprint s "
+		+ SPRINT_ISSUE_CONDITION
+		+ "AND (:cursorCreatedDate IS NULL "
+		+ "     OR si.createdDate < :cursorCreatedDate "
+		+ "     OR (si.createdDate = :cursorCreatedDate AND si.id < :cursorId)) "
+		+ "ORDER BY si.createdDate DESC, si.id DESC")
+	List<SprintIssueRow> findSprintIssueSliceInSprint(
+		@Param("sprintKey") String sprintKey,
+		@Param("workspaceCode") String workspaceCode,
+		@Param("condition") SprintIssueSearchCondition condition,
+		@Param("cursorCreatedDate") LocalDateTime cursorCreatedDate,
+		@Param("cursorId") Long cursorId,
+		Limit limit
+	);
 }
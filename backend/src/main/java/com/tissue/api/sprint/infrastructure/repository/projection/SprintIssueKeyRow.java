@@ -0,0 +1,10 @@
+package com.tissue.api.sprint.infrastructure.repository.projection;
+
+/**
+ * 스프린트에 등록된 이슈의 키(여러 스프린트의 이슈 키를 한 번에 조회할 때 사용)
+ */
+public record SprintIssueKeyRow(
+	Long sprintId,
+	String issueKey
+) {
+}
@@ -0,0 +1,29 @@
+package com.tissue.api.sprint.infrastructure.repository.projection;
+
+import java.time.LocalDateTime;
+
+import com.tissue.api.issue.domain.model.enums.IssuePriority;
+import com.tissue.api.issue.domain.model.enums.IssueStatus;
+import com.tissue.api.issue.domain.model.enums.IssueType;
+import com.tissue.api.sprint.presentation.dto.response.SprintIssueDetail;
+
+/**
+ * 커서 기반 조회용 스프린트 이슈 projection
+ * - 커서를 만들기 위해 SprintIssue의 정렬 키(addedAt, sprintIssueId)를 함께 조회한다
+ */
+public record SprintIssueRow(
+	Long sprintIssueId,
+	LocalDateTime addedAt,
+	Long issueId,
+	String issueKey,
+	IssueType type,
+	String title,
+	IssueStatus status,
+	IssuePriority priority,
+	LocalDateTime createdAt,
+	Long createdBy
+) {
+	public SprintIssueDetail toDetail() {
+		return new SprintIssueDetail(issueId, issueKey, type, title, status, priority, createdAt, createdBy);
+	}
+}
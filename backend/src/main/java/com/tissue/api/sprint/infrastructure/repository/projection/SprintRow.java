@@ -0,0 +1,21 @@
+package com.tissue.api.sprint.infrastructure.repository.projection;
+
+import java.time.LocalDateTime;
+
+import com.tissue.api.sprint.domain.model.enums.SprintStatus;
+
+/**
+ * SprintDetail 응답에 필요한 스프린트 컬럼만 조회하는 projection
+ */
+public record SprintRow(
+	Long id,
+	String sprintKey,
+	String title,
+	String goal,
+	LocalDateTime plannedStartDate,
+	LocalDateTime plannedEndDate,
+	SprintStatus status,
+	LocalDateTime createdDate,
+	Long createdBy
+) {
+}
@@ -16,6 +16,8 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.tissue.api.common.dto.ApiResponse;
+import com.tissue.api.common.dto.CursorRequest;
+import com.tissue.api.common.dto.CursorResponse;
 import com.tissue.api.common.dto.PageResponse;
 import com.tissue.api.security.authentication.interceptor.LoginRequired;
 import com.tissue.api.security.authentication.resolver.ResolveLoginMember;
@@ -147,6 +149,25 @@ public class SprintController {
 		return ApiResponse.ok("Found sprints.", PageResponse.of(page));
 	}
 
+	/**
+	 * cursor 파라미터가 있으면(첫 페이지는 빈 값) 커서 기반으로 조회한다
+	 */
+	@LoginRequired
+	@RoleRequired(role = WorkspaceRole.VIEWER)
+	@GetMapping(params = "cursor")
+	public ApiResponse<CursorResponse<SprintDetail>> getSprintsByCursor(
+		@PathVariable String workspaceCode,
+		SprintSearchCondition sprintSearchCondition,
+		CursorRequest cursorRequest
+	) {
+		CursorResponse<SprintDetail> response = sprintQueryService.getSprints(
+			workspaceCode,
+			sprintSearchCondition,
+			cursorRequest
+		);
+		return ApiResponse.ok("Found sprints.", response);
+	}
+
 	@LoginRequired
 	@RoleRequired(role = WorkspaceRole.VIEWER)
 	@GetMapping("/{sprintKey}")
@@ -178,4 +199,22 @@ public class SprintController {
 		);
 		return ApiResponse.ok("Found issues in sprint.", PageResponse.of(page));
 	}
+
+	@LoginRequired
+	@RoleRequired(role = WorkspaceRole.VIEWER)
+	@GetMapping(value = "/{sprintKey}/issues", params = "cursor")
+	public ApiResponse<CursorResponse<SprintIssueDetail>> getSprintIssuesByCursor(
+		@PathVariable String workspaceCode,
+		@PathVariable String sprintKey,
+		SprintIssueSearchCondition searchCondition,
+		CursorRequest cursorRequest
+	) {
+		CursorResponse<SprintIssueDetail> response = sprintQueryService.getSprintIssues(
+			workspaceCode,
+			sprintKey,
+			searchCondition,
+			cursorRequest
+		);
+		return ApiResponse.ok("Found issues in sprint.", response);
+	}
 }
@@ -5,6 +5,7 @@ import java.util.List;
 
 import com.tissue.api.sprint.domain.model.Sprint;
 import com.tissue.api.sprint.domain.model.enums.SprintStatus;
+import com.tissue.api.sprint.infrastructure.repository.projection.SprintRow;
 
 import lombok.Builder;
 
@@ -38,4 +39,21 @@ public record SprintDetail(
 			.createdBy(sprint.getCreatedBy())
 			.build();
 	}
+
+	public static SprintDetail from(SprintRow row, List<String> issueKeys) {
+		return SprintDetail.builder()
+			.id(row.id())
+			.sprintKey(row.sprintKey())
+			.title(row.title())
+			.goal(row.goal())
+			.plannedStartDate(row.plannedStartDate())
+			.plannedEndDate(row.plannedEndDate())
+			.status(row.status())
+			.issueKeys(issueKeys.stream()
+				.sorted()
+				.toList())
+			.createdAt(row.createdDate())
+			.createdBy(row.createdBy())
+			.build();
+	}
 }
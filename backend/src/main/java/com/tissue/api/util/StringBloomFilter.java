@@ -0,0 +1,87 @@
+package com.tissue.api.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 집합을 위한 thread-safe Bloom filter
+ * - mightContain이 false이면 추가된 적이 없는 값이다(true이면 fpp 확률로 오탐일 수 있다)
+ * - 인덱스는 64비트 해시 두 개를 조합해서 계산한다(h1 + i * h2)
+ * - 원소를 제거할 수 없다
+ */
+public class StringBloomFilter {
+
+	private final AtomicLongArray bits;
+	private final long bitSize;
+	private final int hashFunctions;
+
+	public StringBloomFilter(long expectedInsertions, double falsePositiveProbability) {
+		long optimalBits = (long)Math.ceil(
+			-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+		int words = (int)Math.max(1, (optimalBits + Long.SIZE - 1) / Long.SIZE);
+
+		this.bits = new AtomicLongArray(words);
+		this.bitSize = (long)words * Long.SIZE;
+		this.hashFunctions = Math.max(1, (int)Math.round((double)bitSize / expectedInsertions * Math.log(2)));
+	}
+
+	public void put(String value) {
+		long h1 = hash(value);
+		long h2 = mix(h1) | 1;
+
+		for (int i = 0; i < hashFunctions; i++) {
+			setBit(index(h1 + i * h2));
+		}
+	}
+
+	public boolean mightContain(String value) {
+		long h1 = hash(value);
+		long h2 = mix(h1) | 1;
+
+		for (int i = 0; i < hashFunctions; i++) {
+			long index = index(h1 + i * h2);
+			if ((bits.get((int)(index >>> 6)) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void setBit(long index) {
+		int word = (int)(index >>> 6);
+		long mask = 1L << index;
+
+		long current;
+		do {
+			current = bits.get(word);
+			if ((current & mask) != 0) {
+				return;
+			}
+		} while (!bits.compareAndSet(word, current, current | mask));
+	}
+
+	private long index(long combinedHash) {
+		return Long.remainderUnsigned(combinedHash, bitSize);
+	}
+
+	/**
+	 * FNV-1a 64비트 해시에 mix를 적용해서 비트를 고르게 분산시킨다
+	 */
+	private static long hash(String value) {
+		long hash = 0xcbf29ce484222325L;
+		for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b;
+			hash *= 0x100000001b3L;
+		}
+		return mix(hash);
+	}
+
+	/**
+	 * SplitMix64 finalizer
+	 */
+	private static long mix(long value) {
+		value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+		value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+		return value ^ (value >>> 31);
+	}
+}
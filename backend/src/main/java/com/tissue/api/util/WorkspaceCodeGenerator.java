@@ -1,41 +1,39 @@
 package com.tissue.api.util;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.util.UUID;
+import java.security.SecureRandom;
 
 import org.springframework.stereotype.Component;
 
 @Component
 public class WorkspaceCodeGenerator {
 
-	/**
-	 * Todo
-	 *  - 상수 정리하기
-	 *  - 해시 알고리즘 변경(보안은 낮은 우선순위), 더 빠른 알고리즘 고려
-	 */
 	private static final int WORKSPACE_CODE_LENGTH = 8;
-	private static final String HASH_ALGORITHM = "SHA-256";
+	private static final char[] BASE62_ALPHABET =
+		"ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789".toCharArray();
 
 	/**
-	 * UUID를 해시 함수의 입력으로 주고 Base62 인코딩한다.
-	 * 해당 Base62 문자열의 앞 8자리를 truncate해서 반환한다.
+	 * 62^8, 8자리 Base62 코드로 표현할 수 있는 값의 수(약 2^47.6)
 	 */
-	public String generateWorkspaceCode() {
-		byte[] hash = hashFunction(UUID.randomUUID().toString());
-		String base62Encoded = Base62Encoder.encode(hash);
-		return base62Encoded.substring(0, WORKSPACE_CODE_LENGTH);
-	}
+	private static final long CODE_SPACE = 218_340_105_584_896L;
+	private static final long RANDOM_BITS_MASK = (1L << 48) - 1;
+
+	private final SecureRandom random = new SecureRandom();
 
 	/**
-	 * String을 입력으로 받아서 SHA-256 방식으로 해시값을 생성한다.
+	 * SecureRandom에서 뽑은 48비트 값을 8자리 Base62 문자열로 바꾼다.
+	 * 62^8 이상의 값은 버리고 다시 뽑아서(약 22%) 모든 코드가 같은 확률로 생성되도록 한다.
 	 */
-	private byte[] hashFunction(String inputString) {
-		try {
-			MessageDigest md = MessageDigest.getInstance(HASH_ALGORITHM);
-			return md.digest(inputString.getBytes());
-		} catch (NoSuchAlgorithmException e) {
-			throw new RuntimeException(e);
+	public String generateWorkspaceCode() {
+		long value;
+		do {
+			value = random.nextLong() & RANDOM_BITS_MASK;
+		} while (value >= CODE_SPACE);
+
+		char[] code = new char[WORKSPACE_CODE_LENGTH];
+		for (int i = WORKSPACE_CODE_LENGTH - 1; i >= 0; i--) {
+			code[i] = BASE62_ALPHABET[(int)(value % BASE62_ALPHABET.length)];
+			value /= BASE62_ALPHABET.length;
 		}
+		return new String(code);
 	}
 }
@@ -15,6 +15,7 @@ import com.tissue.api.workspace.presentation.dto.request.UpdateWorkspaceInfoRequ
 import com.tissue.api.workspace.presentation.dto.request.UpdateWorkspacePasswordRequest;
 import com.tissue.api.workspace.presentation.dto.response.WorkspaceResponse;
 import com.tissue.api.workspace.domain.service.validator.WorkspaceValidator;
+import com.tissue.api.workspacemember.application.service.command.WorkspaceMembershipResolver;
 
 import lombok.RequiredArgsConstructor;
 
@@ -27,6 +28,8 @@ public class WorkspaceCommandService {
 	private final WorkspaceRepository workspaceRepository;
 	private final PasswordEncoder passwordEncoder;
 	private final WorkspaceValidator workspaceValidator;
+	private final WorkspaceSnapshotCache workspaceSnapshotCache;
+	private final WorkspaceMembershipResolver workspaceMembershipResolver;
 
 	@Transactional
 	public WorkspaceResponse updateWorkspaceInfo(
@@ -36,6 +39,7 @@ public class WorkspaceCommandService {
 		Workspace workspace = workspaceReader.findWorkspace(workspaceCode);
 
 		updateWorkspaceInfoIfPresent(request, workspace);
+		workspaceSnapshotCache.evict(workspaceCode);
 
 		return WorkspaceResponse.from(workspace);
 	}
@@ -49,6 +53,7 @@ public class WorkspaceCommandService {
 
 		String encodedUpdatePassword = encodePasswordIfPresent(request.newPassword());
 		workspace.updatePassword(encodedUpdatePassword);
+		workspaceSnapshotCache.evict(workspaceCode);
 
 		return WorkspaceResponse.from(workspace);
 	}
@@ -74,6 +79,8 @@ public class WorkspaceCommandService {
 		member.decreaseMyWorkspaceCount();
 
 		workspaceRepository.delete(workspace);
+		workspaceSnapshotCache.evict(workspaceCode);
+		workspaceMembershipResolver.evictWorkspace(workspaceCode);
 	}
 
 	@Transactional
@@ -85,6 +92,7 @@ public class WorkspaceCommandService {
 
 		workspaceValidator.validateIssueKeyPrefix(request.issueKeyPrefix());
 		workspace.updateIssueKeyPrefix(request.issueKeyPrefix());
+		workspaceSnapshotCache.evict(workspaceCode);
 
 		return WorkspaceResponse.from(workspace);
 	}
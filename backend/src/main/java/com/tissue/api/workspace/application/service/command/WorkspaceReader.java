@@ -3,6 +3,7 @@ package com.tissue.api.workspace.application.service.command;
 import org.springframework.stereotype.Service;
 
 import com.tissue.api.workspace.domain.model.Workspace;
+import com.tissue.api.workspace.domain.model.vo.WorkspaceSnapshot;
 import com.tissue.api.workspace.infrastructure.repository.WorkspaceRepository;
 import com.tissue.api.workspace.exception.WorkspaceNotFoundException;
 
@@ -15,9 +16,40 @@ import lombok.extern.slf4j.Slf4j;
 public class WorkspaceReader {
 
 	private final WorkspaceRepository workspaceRepository;
+	private final WorkspaceSnapshotCache workspaceSnapshotCache;
 
+	/**
+	 * 영속성 컨텍스트에 관리되는 엔티티를 DB에서 조회한다
+	 * - 엔티티의 컬럼이나 컬렉션을 변경하는 경우 사용한다
+	 */
 	public Workspace findWorkspace(String workspaceCode) {
 		return workspaceRepository.findByCode(workspaceCode)
 			.orElseThrow(() -> new WorkspaceNotFoundException(workspaceCode));
 	}
+
+	/**
+	 * 워크스페이스 행에 쓰기 잠금(SELECT ... FOR UPDATE)을 걸고 조회한다
+	 * - 워크스페이스 단위로 직렬화해야 하는 작업(BLOCKS 관계 생성 등)에 사용하며, 잠금은 트랜잭션이 끝날 때 해제된다
+	 */
+	public Workspace findWorkspaceForUpdate(String workspaceCode) {
+		return workspaceRepository.findByCodeForUpdate(workspaceCode)
+			.orElseThrow(() -> new WorkspaceNotFoundException(workspaceCode));
+	}
+
+	/**
+	 * 캐시된 워크스페이스 메타데이터를 조회한다(읽기 전용 검사에 사용)
+	 */
+	public WorkspaceSnapshot findWorkspaceSnapshot(String workspaceCode) {
+		return workspaceSnapshotCache.find(workspaceCode)
+			.orElseThrow(() -> new WorkspaceNotFoundException(workspaceCode));
+	}
+
+	/**
+	 * 캐시된 메타데이터로 만든 준영속 참조를 반환한다(캐시 hit이면 DB를 조회하지 않는다)
+	 * - 새 엔티티를 워크스페이스에 연결하기만 하는 경로(이슈 생성, 참여, 초대)에서 사용한다
+	 * - 워크스페이스의 컬럼이나 컬렉션을 변경해야 하면 findWorkspace를 사용한다
+	 */
+	public Workspace findWorkspaceReference(String workspaceCode) {
+		return Workspace.reference(findWorkspaceSnapshot(workspaceCode));
+	}
 }
@@ -0,0 +1,88 @@
+package com.tissue.api.workspace.application.service.command;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tissue.api.workspace.domain.model.vo.WorkspaceSnapshot;
+import com.tissue.api.workspace.infrastructure.repository.WorkspaceRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * workspaceCode -> WorkspaceSnapshot read-through 캐시
+ * - 스냅샷의 컬럼(이름, 키 prefix, 비밀번호, 멤버 수)을 변경하거나 워크스페이스를 삭제하는 서비스가 evict를 호출한다
+ * - 다른 노드의 캐시는 커밋 후 invalidationBroadcaster로 전파해서 무효화한다(전파하지 않으면 TTL까지 남을 수 있다)
+ * - 존재하지 않는 워크스페이스는 캐시하지 않는다
+ */
+public class WorkspaceSnapshotCache {
+
+	private static final String CACHE_NAME = "workspaceSnapshot";
+
+	private final WorkspaceRepository workspaceRepository;
+	private final Consumer<String> invalidationBroadcaster;
+	private final Cache<String, WorkspaceSnapshot> cache;
+
+	public WorkspaceSnapshotCache(
+		WorkspaceRepository workspaceRepository,
+		Consumer<String> invalidationBroadcaster,
+		int maximumSize,
+		int expirationSeconds,
+		MeterRegistry meterRegistry
+	) {
+		this.workspaceRepository = workspaceRepository;
+		this.invalidationBroadcaster = invalidationBroadcaster;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(expirationSeconds, TimeUnit.SECONDS)
+			.recordStats()
+			.build();
+
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+	}
+
+	public Optional<WorkspaceSnapshot> find(String workspaceCode) {
+		return Optional.ofNullable(cache.get(workspaceCode, this::load));
+	}
+
+	/**
+	 * 현재 트랜잭션 안의 이후 조회를 위해 즉시 무효화하고,
+	 * 트랜잭션이 끝나기 전에 커밋되지 않은 값이나 이전 값이 다시 캐시될 수 있으므로 종료 후에 한 번 더 무효화한다
+	 * - 다른 노드에는 커밋된 경우에만 전파한다
+	 */
+	public void evict(String workspaceCode) {
+		cache.invalidate(workspaceCode);
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			invalidationBroadcaster.accept(workspaceCode);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				cache.invalidate(workspaceCode);
+				if (status == STATUS_COMMITTED) {
+					invalidationBroadcaster.accept(workspaceCode);
+				}
+			}
+		});
+	}
+
+	/**
+	 * 다른 노드에서 전파된 무효화 메시지를 반영한다
+	 */
+	public void evictLocal(String workspaceCode) {
+		cache.invalidate(workspaceCode);
+	}
+
+	private WorkspaceSnapshot load(String workspaceCode) {
+		return workspaceRepository.findSnapshotByCode(workspaceCode).orElse(null);
+	}
+}
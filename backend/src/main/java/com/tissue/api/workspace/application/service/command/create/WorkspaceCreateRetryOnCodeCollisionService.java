@@ -18,6 +18,7 @@ import com.tissue.api.member.domain.model.Member;
 import com.tissue.api.security.PasswordEncoder;
 import com.tissue.api.util.WorkspaceCodeGenerator;
 import com.tissue.api.workspace.domain.model.Workspace;
+import com.tissue.api.workspace.infrastructure.code.WorkspaceCodeFilter;
 import com.tissue.api.workspace.infrastructure.repository.WorkspaceRepository;
 import com.tissue.api.workspace.presentation.dto.request.CreateWorkspaceRequest;
 import com.tissue.api.workspace.presentation.dto.response.WorkspaceResponse;
@@ -29,17 +30,20 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * DB에서 발생하는 예외를 서비스 계층에서 잡아서 핸들링 로직(워크스페이스 코드 재생성) 수행
+ * - 트랜잭션 재시도 전에 WorkspaceCodeFilter로 사용 중일 수 있는 코드를 미리 걸러낸다
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class WorkspaceCreateRetryOnCodeCollisionService implements WorkspaceCreateService {
 	private static final int MAX_RETRIES = 5;
+	private static final int MAX_CODE_PRECHECKS = 3;
 
 	private final MemberReader memberReader;
 	private final WorkspaceRepository workspaceRepository;
 	private final WorkspaceMemberRepository workspaceMemberRepository;
 	private final WorkspaceCodeGenerator workspaceCodeGenerator;
+	private final WorkspaceCodeFilter workspaceCodeFilter;
 	private final PasswordEncoder passwordEncoder;
 	private final WorkspaceValidator workspaceValidator;
 
@@ -63,6 +67,7 @@ public class WorkspaceCreateRetryOnCodeCollisionService implements WorkspaceCrea
 		setIssueKeyPrefix(request, workspace);
 
 		Workspace savedWorkspace = workspaceRepository.saveAndFlush(workspace);
+		workspaceCodeFilter.register(savedWorkspace.getCode());
 
 		workspaceMemberRepository.save(addOwnerWorkspaceMember(
 			member,
@@ -90,8 +95,18 @@ public class WorkspaceCreateRetryOnCodeCollisionService implements WorkspaceCrea
 		workspace.updateIssueKeyPrefix(request.issueKeyPrefix());
 	}
 
+	/**
+	 * Bloom filter에 없는 코드는 사용된 적이 없으므로 바로 사용한다
+	 * 사용 중일 수 있는 코드(오탐 포함)는 MAX_CODE_PRECHECKS 까지 다시 생성하고, 그래도 걸리면 DB 유니크 제약에 맡긴다
+	 */
 	private void setGeneratedWorkspaceCode(Workspace workspace) {
 		String generatedCode = workspaceCodeGenerator.generateWorkspaceCode();
+		int attempts = 1;
+
+		while (attempts < MAX_CODE_PRECHECKS && workspaceCodeFilter.mightContain(generatedCode)) {
+			generatedCode = workspaceCodeGenerator.generateWorkspaceCode();
+			attempts++;
+		}
 		workspace.setCode(generatedCode);
 	}
 
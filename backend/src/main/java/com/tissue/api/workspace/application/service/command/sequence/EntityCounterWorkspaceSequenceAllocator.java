@@ -0,0 +1,44 @@
+package com.tissue.api.workspace.application.service.command.sequence;
+
+import com.tissue.api.workspace.domain.model.Workspace;
+import com.tissue.api.workspace.infrastructure.repository.WorkspaceRepository;
+
+/**
+ * 기본 모드
+ *  - 이슈/스프린트를 생성하는 트랜잭션에서 workspace의 카운터를 UPDATE ... + count로 원자적으로 증가시키고,
+ *  증가시키기 전의 번호를 예약한다
+ *  - 트랜잭션 시작 시 읽은 엔티티의 카운터 값을 사용하지 않으므로, 오래된 값으로 다른 트랜잭션이 증가시킨 카운터를 되돌리지 않는다
+ *  - 증가시킨 row의 락은 트랜잭션이 끝날 때까지 유지되므로, 같은 워크스페이스의 생성(대량 가져오기의 배치 포함)은 서로를 기다린다
+ */
+public class EntityCounterWorkspaceSequenceAllocator implements WorkspaceSequenceAllocator {
+
+	private final WorkspaceRepository workspaceRepository;
+
+	public EntityCounterWorkspaceSequenceAllocator(WorkspaceRepository workspaceRepository) {
+		this.workspaceRepository = workspaceRepository;
+	}
+
+	@Override
+	public void reserveIssueNumber(Workspace workspace) {
+		workspace.reserveIssueNumber(reserveIssueNumbers(workspace, 1));
+	}
+
+	@Override
+	public int reserveIssueNumbers(Workspace workspace, int count) {
+		if (count < 1) {
+			throw new IllegalArgumentException("Count must be positive.");
+		}
+		workspaceRepository.increaseNextIssueNumber(workspace.getId(), count);
+		int nextIssueNumber = workspaceRepository.findNextIssueNumber(workspace.getId());
+		workspace.syncNextIssueNumber(nextIssueNumber);
+		return nextIssueNumber - count;
+	}
+
+	@Override
+	public void reserveSprintNumber(Workspace workspace) {
+		workspaceRepository.increaseNextSprintNumber(workspace.getId(), 1);
+		int nextSprintNumber = workspaceRepository.findNextSprintNumber(workspace.getId());
+		workspace.syncNextSprintNumber(nextSprintNumber);
+		workspace.reserveSprintNumber(nextSprintNumber - 1);
+	}
+}
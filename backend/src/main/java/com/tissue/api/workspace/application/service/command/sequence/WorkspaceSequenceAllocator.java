@@ -0,0 +1,24 @@
+package com.tissue.api.workspace.application.service.command.sequence;
+
+import com.tissue.api.workspace.domain.model.Workspace;
+
+/**
+ * 워크스페이스 단위 이슈 번호, 스프린트 번호 할당
+ *  - 이슈/스프린트 엔티티를 생성하기 직전에 호출해서 workspace에 번호를 예약한다
+ *  - 예약된 번호는 Issue, Sprint 생성자에서 Workspace.allocateIssueKey(), allocateSprintNumber()로 소비된다
+ *  - 번호는 유일함만 보장한다(롤백, 재시작 등으로 번호가 비는 것은 허용)
+ */
+public interface WorkspaceSequenceAllocator {
+
+	void reserveIssueNumber(Workspace workspace);
+
+	/**
+	 * 이슈를 대량으로 생성할 때 이슈 번호 count개를 한 번에 예약한다
+	 *  - 반환한 [first, first + count) 범위의 번호를 이슈를 생성하기 직전마다 Workspace.reserveIssueNumber()로 넘겨서 사용한다
+	 *
+	 * @return 예약한 범위의 첫 번호
+	 */
+	int reserveIssueNumbers(Workspace workspace, int count);
+
+	void reserveSprintNumber(Workspace workspace);
+}
@@ -0,0 +1,24 @@
+package com.tissue.api.workspace.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.tissue.api.workspace.infrastructure.code.WorkspaceCodeFilter;
+import com.tissue.api.workspace.infrastructure.repository.WorkspaceRepository;
+
+/**
+ * expected-insertions를 넘어서 코드가 늘어나면 오탐률이 올라간다(재생성 횟수만 늘어나고 정확성에는 영향 없음)
+ */
+@Configuration
+public class WorkspaceCodeFilterConfig {
+
+	@Bean
+	public WorkspaceCodeFilter workspaceCodeFilter(
+		WorkspaceRepository workspaceRepository,
+		@Value("${api.workspace.code-filter.expected-insertions:1000000}") long expectedInsertions,
+		@Value("${api.workspace.code-filter.false-positive-probability:0.01}") double falsePositiveProbability
+	) {
+		return new WorkspaceCodeFilter(workspaceRepository, expectedInsertions, falsePositiveProbability);
+	}
+}
@@ -6,6 +6,7 @@ import org.springframework.context.annotation.Configuration;
 import com.tissue.api.member.application.service.command.MemberReader;
 import com.tissue.api.security.PasswordEncoder;
 import com.tissue.api.util.WorkspaceCodeGenerator;
+import com.tissue.api.workspace.infrastructure.code.WorkspaceCodeFilter;
 import com.tissue.api.workspace.infrastructure.repository.WorkspaceRepository;
 import com.tissue.api.workspace.application.service.command.create.WorkspaceCreateRetryOnCodeCollisionService;
 import com.tissue.api.workspace.application.service.command.create.WorkspaceCreateService;
@@ -25,6 +26,7 @@ public class WorkspaceConfig {
 	private final WorkspaceRepository workspaceRepository;
 	private final WorkspaceMemberRepository workspaceMemberRepository;
 	private final WorkspaceCodeGenerator workspaceCodeGenerator;
+	private final WorkspaceCodeFilter workspaceCodeFilter;
 	private final PasswordEncoder passwordEncoder;
 	private final WorkspaceValidator workspaceValidator;
 
@@ -39,6 +41,7 @@ public class WorkspaceConfig {
 			workspaceRepository,
 			workspaceMemberRepository,
 			workspaceCodeGenerator,
+			workspaceCodeFilter,
 			passwordEncoder,
 			workspaceValidator
 		);
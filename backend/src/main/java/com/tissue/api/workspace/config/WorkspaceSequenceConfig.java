@@ -0,0 +1,66 @@
+package com.tissue.api.workspace.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.tissue.api.workspace.application.service.command.sequence.EntityCounterWorkspaceSequenceAllocator;
+import com.tissue.api.workspace.application.service.command.sequence.WorkspaceSequenceAllocator;
+import com.tissue.api.workspace.infrastructure.repository.WorkspaceRepository;
+import com.tissue.api.workspace.infrastructure.sequence.BlockLeaseWorkspaceSequenceAllocator;
+import com.tissue.api.workspace.infrastructure.sequence.WorkspaceSequenceLeaser;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * api.workspace.sequence.mode
+ *  - entity(default): 이슈/스프린트 생성 트랜잭션에서 workspace의 카운터를 원자적으로 증가(트랜잭션이 끝날 때까지 row 락 유지)
+ *  - block: 전용 커넥션 풀의 별도 트랜잭션에서 카운터를 블록 단위로 lease 하고, 블록 안의 번호는 메모리에서 할당
+ */
+@Configuration
+public class WorkspaceSequenceConfig {
+
+	@Bean
+	@ConditionalOnProperty(name = "api.workspace.sequence.mode", havingValue = "entity", matchIfMissing = true)
+	public WorkspaceSequenceAllocator entityCounterWorkspaceSequenceAllocator(WorkspaceRepository workspaceRepository) {
+		return new EntityCounterWorkspaceSequenceAllocator(workspaceRepository);
+	}
+
+	/**
+	 * lease 전용 커넥션 풀(메인 DataSource와 같은 접속 정보)
+	 * - DataSource 빈으로 등록하면 메인 DataSource 자동 구성이 꺼지므로, leaser 안에서만 사용하고 함께 종료한다
+	 */
+	@Bean(destroyMethod = "close")
+	@ConditionalOnProperty(name = "api.workspace.sequence.mode", havingValue = "block")
+	public WorkspaceSequenceLeaser workspaceSequenceLeaser(
+		DataSourceProperties dataSourceProperties,
+		@Value("${api.workspace.sequence.lease-pool-size:2}") int leasePoolSize
+	) {
+		HikariDataSource leaseDataSource = dataSourceProperties.initializeDataSourceBuilder()
+			.type(HikariDataSource.class)
+			.build();
+		leaseDataSource.setPoolName("WorkspaceSequenceLease");
+		leaseDataSource.setMaximumPoolSize(leasePoolSize);
+
+		return new WorkspaceSequenceLeaser(leaseDataSource);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "api.workspace.sequence.mode", havingValue = "block")
+	public WorkspaceSequenceAllocator blockLeaseWorkspaceSequenceAllocator(
+		WorkspaceSequenceLeaser workspaceSequenceLeaser,
+		@Value("${api.workspace.sequence.issue-block-size:50}") int issueBlockSize,
+		@Value("${api.workspace.sequence.sprint-block-size:1}") int sprintBlockSize,
+		MeterRegistry meterRegistry
+	) {
+		return new BlockLeaseWorkspaceSequenceAllocator(
+			workspaceSequenceLeaser,
+			issueBlockSize,
+			sprintBlockSize,
+			meterRegistry
+		);
+	}
+}
@@ -0,0 +1,75 @@
+package com.tissue.api.workspace.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.tissue.api.global.redis.RedisBroadcastChannel;
+import com.tissue.api.workspace.application.service.command.WorkspaceSnapshotCache;
+import com.tissue.api.workspace.infrastructure.repository.WorkspaceRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 워크스페이스 메타데이터 캐시
+ * - 무효화는 기본으로 Redis pub/sub으로 다른 노드에 전파한다(변경된 비밀번호, 키 prefix가 다른 노드에서 TTL까지 남지 않도록)
+ * - api.workspace.snapshot-cache.broadcast-invalidation=false 는 단일 인스턴스로 운영할 때만 사용한다
+ */
+@Configuration
+public class WorkspaceSnapshotCacheConfig {
+
+	private static final String BROADCAST_PROPERTY = "api.workspace.snapshot-cache.broadcast-invalidation";
+	private static final String INVALIDATION_CHANNEL = "workspace:invalidated";
+
+	@Bean
+	@ConditionalOnProperty(name = BROADCAST_PROPERTY, havingValue = "true", matchIfMissing = true)
+	public RedisBroadcastChannel workspaceInvalidationChannel(StringRedisTemplate stringRedisTemplate) {
+		return new RedisBroadcastChannel(INVALIDATION_CHANNEL, stringRedisTemplate);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = BROADCAST_PROPERTY, havingValue = "true", matchIfMissing = true)
+	public RedisMessageListenerContainer workspaceInvalidationListenerContainer(
+		RedisConnectionFactory connectionFactory,
+		RedisBroadcastChannel workspaceInvalidationChannel
+	) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.addMessageListener(
+			workspaceInvalidationChannel,
+			new ChannelTopic(workspaceInvalidationChannel.getChannel())
+		);
+		return container;
+	}
+
+	@Bean
+	public WorkspaceSnapshotCache workspaceSnapshotCache(
+		WorkspaceRepository workspaceRepository,
+		@Qualifier("workspaceInvalidationChannel") ObjectProvider<RedisBroadcastChannel> workspaceInvalidationChannel,
+		@Value("${api.workspace.snapshot-cache.size:10000}") int cacheSize,
+		@Value("${api.workspace.snapshot-cache.duration:60}") int expirationSeconds,
+		MeterRegistry meterRegistry
+	) {
+		RedisBroadcastChannel channel = workspaceInvalidationChannel.getIfAvailable();
+
+		WorkspaceSnapshotCache cache = new WorkspaceSnapshotCache(
+			workspaceRepository,
+			channel != null ? channel::publish : workspaceCode -> {
+			},
+			cacheSize,
+			expirationSeconds,
+			meterRegistry
+		);
+		if (channel != null) {
+			channel.subscribe(cache::evictLocal);
+		}
+		return cache;
+	}
+}
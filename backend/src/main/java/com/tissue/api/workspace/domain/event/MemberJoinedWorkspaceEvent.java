@@ -1,5 +1,7 @@
 package com.tissue.api.workspace.domain.event;
 
+import java.io.Serial;
+
 import com.tissue.api.notification.domain.enums.NotificationType;
 import com.tissue.api.notification.domain.enums.ResourceType;
 import com.tissue.api.notification.domain.model.vo.EntityReference;
@@ -11,6 +13,9 @@ import lombok.Getter;
 @Getter
 public class MemberJoinedWorkspaceEvent extends WorkspaceEvent {
 
+	@Serial
+	private static final long serialVersionUID = 1L;
+
 	private final String nickname;
 	private final WorkspaceRole workspaceRole;
 
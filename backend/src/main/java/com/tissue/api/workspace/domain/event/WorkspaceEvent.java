@@ -1,5 +1,6 @@
 package com.tissue.api.workspace.domain.event;
 
+import java.io.Serial;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -15,6 +16,9 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public abstract class WorkspaceEvent implements DomainEvent {
 
+	@Serial
+	private static final long serialVersionUID = 1L;
+
 	private final UUID eventId = UUID.randomUUID();
 	private final LocalDateTime occurredAt = LocalDateTime.now();
 
@@ -3,12 +3,15 @@ package com.tissue.api.workspace.domain.model;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import com.tissue.api.common.entity.BaseEntity;
 import com.tissue.api.common.exception.type.InvalidOperationException;
 import com.tissue.api.invitation.domain.model.Invitation;
 import com.tissue.api.issue.domain.model.Issue;
 import com.tissue.api.sprint.domain.model.Sprint;
 import com.tissue.api.sprint.domain.model.enums.SprintStatus;
+import com.tissue.api.workspace.domain.model.vo.WorkspaceSnapshot;
 import com.tissue.api.workspacemember.domain.model.WorkspaceMember;
 
 import jakarta.persistence.CascadeType;
@@ -18,13 +21,21 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * nextIssueNumber, nextSprintNumber
+ *  - WorkspaceSequenceAllocator가 UPDATE 쿼리로 증가시키고(기본 모드는 생성 트랜잭션에서, 블록 할당 모드는 별도 트랜잭션에서
+ *  블록 단위로), 엔티티에는 예약 번호(reserved*)만 전달된다
+ *  - 오래된 스냅샷으로 카운터를 덮어쓰지 않도록 @DynamicUpdate로 변경된 컬럼만 UPDATE 한다
+ */
 @Entity
 @Getter
+@DynamicUpdate
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Workspace extends BaseEntity {
 
@@ -32,7 +43,7 @@ public class Workspace extends BaseEntity {
 	// @Version
 	// private Long version;
 
-	private static final int MAX_MEMBER_COUNT = 500;
+	public static final int MAX_MEMBER_COUNT = 500;
 	private static final String DEFAULT_KEY_PREFIX = "ISSUE";
 
 	@Id
@@ -62,6 +73,12 @@ public class Workspace extends BaseEntity {
 	@Column(nullable = false)
 	private Integer nextSprintNumber = 1;
 
+	@Transient
+	private Integer reservedIssueNumber;
+
+	@Transient
+	private Integer reservedSprintNumber;
+
 	@OneToMany(mappedBy = "workspace", cascade = CascadeType.ALL, orphanRemoval = true)
 	private List<WorkspaceMember> workspaceMembers = new ArrayList<>();
 
@@ -89,6 +106,23 @@ public class Workspace extends BaseEntity {
 		this.issueKeyPrefix = toUpperCaseOrDefault(issueKeyPrefix);
 	}
 
+	/**
+	 * 캐시된 스냅샷으로 만든 준영속(detached) 워크스페이스(DB를 조회하지 않는다)
+	 * - 새 엔티티(이슈, 초대, 워크스페이스 멤버)의 연관관계(FK), 워크스페이스 코드, 이슈 키 계산에만 사용한다
+	 * - 컬렉션은 비어 있고 변경 내용은 저장되지 않는다. 번호는 WorkspaceSequenceAllocator,
+	 *   멤버 수는 WorkspaceRepository.increaseMemberCountWithinLimit로 DB에서 변경한다
+	 */
+	public static Workspace reference(WorkspaceSnapshot snapshot) {
+		Workspace workspace = new Workspace();
+		workspace.id = snapshot.id();
+		workspace.code = snapshot.code();
+		workspace.name = snapshot.name();
+		workspace.issueKeyPrefix = snapshot.issueKeyPrefix();
+		workspace.password = snapshot.password();
+		workspace.memberCount = snapshot.memberCount();
+		return workspace;
+	}
+
 	public void setCode(String code) {
 		this.code = code;
 	}
@@ -109,21 +143,39 @@ public class Workspace extends BaseEntity {
 		this.description = description;
 	}
 
-	/*
-	 * Todo
-	 *  - Workspace의 책임인가?
-	 *  - 그냥 Issue에서 workspace.getKeyPrefix + workspace.getNextIssueNumber로 처리하면 안되나?
+	public void reserveIssueNumber(int issueNumber) {
+		this.reservedIssueNumber = issueNumber;
+	}
+
+	public void reserveSprintNumber(int sprintNumber) {
+		this.reservedSprintNumber = sprintNumber;
+	}
+
+	/**
+	 * 생성 트랜잭션에서 UPDATE 쿼리로 증가시킨 카운터 값을 엔티티에도 맞춘다
+	 * - 증가시킨 트랜잭션이 row 락을 가지고 있으므로, 커밋 시 이 값을 UPDATE 해도 다른 트랜잭션의 증가분을 덮어쓰지 않는다
 	 */
-	public String getIssueKey() {
-		return String.format("%s-%d", issueKeyPrefix, nextIssueNumber);
+	public void syncNextIssueNumber(int nextIssueNumber) {
+		this.nextIssueNumber = nextIssueNumber;
 	}
 
-	public void increaseNextIssueNumber() {
-		this.nextIssueNumber++;
+	public void syncNextSprintNumber(int nextSprintNumber) {
+		this.nextSprintNumber = nextSprintNumber;
+	}
+
+	/**
+	 * 예약된 번호가 있으면 사용하고, 없으면 nextIssueNumber를 증가시킨다
+	 */
+	public String allocateIssueKey() {
+		int issueNumber = reservedIssueNumber != null ? reservedIssueNumber : nextIssueNumber++;
+		this.reservedIssueNumber = null;
+		return String.format("%s-%d", issueKeyPrefix, issueNumber);
 	}
 
-	public void increaseNextSprintNumber() {
-		this.nextSprintNumber++;
+	public int allocateSprintNumber() {
+		int sprintNumber = reservedSprintNumber != null ? reservedSprintNumber : nextSprintNumber++;
+		this.reservedSprintNumber = null;
+		return sprintNumber;
 	}
 
 	public void increaseMemberCount() {
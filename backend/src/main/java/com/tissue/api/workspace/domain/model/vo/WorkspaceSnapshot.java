@@ -0,0 +1,19 @@
+package com.tissue.api.workspace.domain.model.vo;
+
+/**
+ * 워크스페이스 조회 경로(비밀번호 검사, 이슈 생성, 참여, 초대)에서 엔티티 대신 캐시하는 메타데이터
+ * - 이 컬럼들을 변경하는 곳(정보/키 prefix/비밀번호 변경, 멤버 수 변경, 삭제)에서 WorkspaceSnapshotCache.evict를 호출한다
+ * - 번호 카운터(nextIssueNumber 등)는 담지 않는다. 번호는 WorkspaceSequenceAllocator가 DB에서 원자적으로 할당한다
+ */
+public record WorkspaceSnapshot(
+	Long id,
+	String code,
+	String name,
+	String issueKeyPrefix,
+	String password,
+	int memberCount
+) {
+	public boolean hasPassword() {
+		return password != null;
+	}
+}
@@ -5,7 +5,8 @@ import org.springframework.util.StringUtils;
 
 import com.tissue.api.common.exception.type.AuthenticationFailedException;
 import com.tissue.api.security.PasswordEncoder;
-import com.tissue.api.workspace.domain.model.Workspace;
+import com.tissue.api.security.password.VerifiedPasswordCache;
+import com.tissue.api.workspace.domain.model.vo.WorkspaceSnapshot;
 import com.tissue.api.workspace.application.service.command.WorkspaceReader;
 
 import lombok.RequiredArgsConstructor;
@@ -16,20 +17,35 @@ public class WorkspaceAuthenticationService {
 
 	private final WorkspaceReader workspaceReader;
 	private final PasswordEncoder passwordEncoder;
+	private final VerifiedPasswordCache verifiedPasswordCache;
 
 	public void authenticate(String rawPassword, String workspaceCode) {
 
-		Workspace workspace = workspaceReader.findWorkspace(workspaceCode);
+		WorkspaceSnapshot workspace = workspaceReader.findWorkspaceSnapshot(workspaceCode);
 
-		if (workspace.getPassword() == null) {
+		if (!workspace.hasPassword()) {
 			return;
 		}
 		if (rawPassword == null) {
 			throw new AuthenticationFailedException("Workspace password is invalid.");
 		}
-		if (!StringUtils.hasText(rawPassword) || !passwordEncoder.matches(rawPassword, workspace.getPassword())) {
+		if (!StringUtils.hasText(rawPassword) || !matches(rawPassword, workspace.password())) {
 			throw new AuthenticationFailedException("Invalid workspace password.");
 		}
 	}
 
+	/**
+	 * 같은 워크스페이스 비밀번호를 반복해서 검증하는 경우(참여 후 설정 변경 등) 최근 검증 결과를 재사용한다
+	 */
+	private boolean matches(String rawPassword, String encodedPassword) {
+		if (verifiedPasswordCache.isVerified(rawPassword, encodedPassword)) {
+			return true;
+		}
+
+		boolean matches = passwordEncoder.matches(rawPassword, encodedPassword);
+		if (matches) {
+			verifiedPasswordCache.markVerified(rawPassword, encodedPassword);
+		}
+		return matches;
+	}
 }
@@ -0,0 +1,54 @@
+package com.tissue.api.workspace.infrastructure.code;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tissue.api.util.StringBloomFilter;
+import com.tissue.api.workspace.infrastructure.repository.WorkspaceRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이미 사용 중인 워크스페이스 코드의 Bloom filter
+ * - 애플리케이션이 시작되면 DB의 코드를 모두 적재하고, 이후 이 노드에서 생성한 코드를 추가한다
+ * - 코드 생성 시 DB 유니크 제약에 걸려 트랜잭션 전체를 재시도하기 전에, 사용 중일 수 있는 코드를 미리 걸러낸다
+ * - 다른 노드에서 생성한 코드는 재시작 전까지 포함되지 않으므로 최종 중복 검사는 여전히 DB 유니크 제약이 담당한다
+ */
+@Slf4j
+public class WorkspaceCodeFilter {
+
+	private final WorkspaceRepository workspaceRepository;
+	private final StringBloomFilter bloomFilter;
+	private final AtomicLong registeredCount = new AtomicLong();
+
+	public WorkspaceCodeFilter(
+		WorkspaceRepository workspaceRepository,
+		long expectedInsertions,
+		double falsePositiveProbability
+	) {
+		this.workspaceRepository = workspaceRepository;
+		this.bloomFilter = new StringBloomFilter(expectedInsertions, falsePositiveProbability);
+	}
+
+	@Transactional(readOnly = true)
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadExistingCodes() {
+		try (Stream<String> codes = workspaceRepository.streamAllCodes()) {
+			codes.forEach(this::register);
+		}
+		log.info("Workspace code filter loaded. codes: {}", registeredCount.get());
+	}
+
+	public boolean mightContain(String workspaceCode) {
+		return bloomFilter.mightContain(workspaceCode);
+	}
+
+	public void register(String workspaceCode) {
+		bloomFilter.put(workspaceCode);
+		registeredCount.incrementAndGet();
+	}
+}
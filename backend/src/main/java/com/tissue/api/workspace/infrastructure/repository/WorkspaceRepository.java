@@ -1,14 +1,60 @@
 package com.tissue.api.workspace.infrastructure.repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.tissue.api.workspace.domain.model.Workspace;
+import com.tissue.api.workspace.domain.model.vo.WorkspaceSnapshot;
+
+import jakarta.persistence.LockModeType;
 
 public interface WorkspaceRepository extends JpaRepository<Workspace, Long> {
 
 	Optional<Workspace> findByCode(String code);
 
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT w FROM Workspace w WHERE w.code = :code")
+	Optional<Workspace> findByCodeForUpdate(@Param("code") String code);
+
 	boolean existsByCode(String code);
+
+	/**
+	 * 카운터를 원자적으로 증가시킨다(증가한 값은 같은 트랜잭션의 findNextIssueNumber로 읽는다)
+	 * - row 락은 트랜잭션이 끝날 때까지 유지되므로, 같은 워크스페이스의 번호 할당은 커밋 순서대로 직렬화된다
+	 */
+	@Modifying
+	@Query("UPDATE Workspace w SET w.nextIssueNumber = w.nextIssueNumber + :count WHERE w.id = :id")
+	int increaseNextIssueNumber(@Param("id") Long id, @Param("count") int count);
+
+	@Query("SELECT w.nextIssueNumber FROM Workspace w WHERE w.id = :id")
+	int findNextIssueNumber(@Param("id") Long id);
+
+	@Modifying
+	@Query("UPDATE Workspace w SET w.nextSprintNumber = w.nextSprintNumber + :count WHERE w.id = :id")
+	int increaseNextSprintNumber(@Param("id") Long id, @Param("count") int count);
+
+	@Query("SELECT w.nextSprintNumber FROM Workspace w WHERE w.id = :id")
+	int findNextSprintNumber(@Param("id") Long id);
+
+	/**
+	 * 멤버 수가 limit 미만일 때만 원자적으로 증가시킨다(0을 반환하면 제한에 도달한 것)
+	 */
+	@Modifying
+	@Query("UPDATE Workspace w SET w.memberCount = w.memberCount + 1 WHERE w.id = :id AND w.memberCount < :limit")
+	int increaseMemberCountWithinLimit(@Param("id") Long id, @Param("limit") int limit);
+
+	@Query("SELECT w.code FROM Workspace w")
+	Stream<String> streamAllCodes();
+
+	@Query("SELECT new com.tissue.api.workspace.domain.model.vo.WorkspaceSnapshot("
+		+ "w.id, w.code, w.name, w.issueKeyPrefix, w.password, w.memberCount) "
+		+ "FROM Workspace w WHERE w.code = :code")
+	Optional<WorkspaceSnapshot> findSnapshotByCode(@Param("code") String code);
+
 }
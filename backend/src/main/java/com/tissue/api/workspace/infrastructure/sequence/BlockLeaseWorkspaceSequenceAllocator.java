@@ -0,0 +1,156 @@
+package com.tissue.api.workspace.infrastructure.sequence;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntSupplier;
+
+import com.tissue.api.workspace.application.service.command.sequence.WorkspaceSequenceAllocator;
+import com.tissue.api.workspace.domain.model.Workspace;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * hi/lo 방식의 블록 할당
+ *  - workspace의 next_issue_number, next_sprint_number 컬럼을 hi 값으로 사용한다
+ *  - 블록을 모두 소진했을 때만 WorkspaceSequenceLeaser가 전용 커넥션 풀에서 카운터를 blockSize 만큼 원자적으로 증가시키고(lease),
+ *  블록 안의 번호는 메모리에서 나눠준다
+ *  - workspace row 락은 lease 트랜잭션 동안만 잡히므로, 이슈 생성 트랜잭션끼리는 경합하지 않는다
+ *  - 여러 노드가 서로 다른 블록을 lease 하므로 유일성은 보장되지만, 노드 간 번호 순서는 보장하지 않는다
+ *  - 사용하지 못한 블록의 나머지 번호(재시작, 롤백)는 버려진다
+ */
+public class BlockLeaseWorkspaceSequenceAllocator implements WorkspaceSequenceAllocator {
+
+	private final WorkspaceSequenceLeaser leaser;
+	private final int issueBlockSize;
+	private final int sprintBlockSize;
+
+	private final Map<String, NumberBlock> issueBlocks = new ConcurrentHashMap<>();
+	private final Map<String, NumberBlock> sprintBlocks = new ConcurrentHashMap<>();
+
+	private final Counter issueLeaseCounter;
+	private final Counter sprintLeaseCounter;
+
+	public BlockLeaseWorkspaceSequenceAllocator(
+		WorkspaceSequenceLeaser leaser,
+		int issueBlockSize,
+		int sprintBlockSize,
+		MeterRegistry meterRegistry
+	) {
+		if (issueBlockSize < 1 || sprintBlockSize < 1) {
+			throw new IllegalArgumentException("Block size must be positive.");
+		}
+		this.leaser = leaser;
+		this.issueBlockSize = issueBlockSize;
+		this.sprintBlockSize = sprintBlockSize;
+		this.issueLeaseCounter = meterRegistry.counter("workspace.sequence.leases", "type", "issue");
+		this.sprintLeaseCounter = meterRegistry.counter("workspace.sequence.leases", "type", "sprint");
+	}
+
+	@Override
+	public void reserveIssueNumber(Workspace workspace) {
+		NumberBlock block = issueBlocks.computeIfAbsent(workspace.getCode(), code -> new NumberBlock(issueBlockSize));
+		workspace.reserveIssueNumber(block.next(() -> leaseIssueNumbers(workspace.getCode(), issueBlockSize)));
+	}
+
+	/**
+	 * 대량 생성은 메모리의 블록을 거치지 않고, 요청한 개수만큼 바로 lease 한다
+	 */
+	@Override
+	public int reserveIssueNumbers(Workspace workspace, int count) {
+		if (count < 1) {
+			throw new IllegalArgumentException("Count must be positive.");
+		}
+		return leaseIssueNumbers(workspace.getCode(), count);
+	}
+
+	@Override
+	public void reserveSprintNumber(Workspace workspace) {
+		NumberBlock block = sprintBlocks.computeIfAbsent(workspace.getCode(), code -> new NumberBlock(sprintBlockSize));
+		workspace.reserveSprintNumber(block.next(() -> leaseSprintBlock(workspace.getCode())));
+	}
+
+	private int leaseIssueNumbers(String workspaceCode, int amount) {
+		int firstIssueNumber = leaser.leaseIssueNumbers(workspaceCode, amount);
+		issueLeaseCounter.increment();
+		return firstIssueNumber;
+	}
+
+	private int leaseSprintBlock(String workspaceCode) {
+		int firstSprintNumber = leaser.leaseSprintNumbers(workspaceCode, sprintBlockSize);
+		sprintLeaseCounter.increment();
+		return firstSprintNumber;
+	}
+
+	/**
+	 * [next, end) 범위의 번호 블록
+	 *  - 같은 워크스페이스의 요청만 이 블록의 모니터를 공유하고, 모니터 안에서는 메모리의 번호만 다룬다
+	 *  - 블록을 소진하면 한 스레드만 모니터 밖에서 lease 하고, 나머지 스레드는 그 lease가 끝나기를 기다린다
+	 */
+	private static final class NumberBlock {
+
+		private final int size;
+		private int next;
+		private int end;
+		private CompletableFuture<Void> pendingLease;
+
+		private NumberBlock(int size) {
+			this.size = size;
+		}
+
+		int next(IntSupplier leaser) {
+			while (true) {
+				CompletableFuture<Void> lease;
+				boolean leasing = false;
+
+				synchronized (this) {
+					if (next < end) {
+						return next++;
+					}
+					if (pendingLease == null) {
+						pendingLease = new CompletableFuture<>();
+						leasing = true;
+					}
+					lease = pendingLease;
+				}
+
+				if (leasing) {
+					refill(leaser, lease);
+				} else {
+					awaitLease(lease);
+				}
+			}
+		}
+
+		private void refill(IntSupplier leaser, CompletableFuture<Void> lease) {
+			try {
+				int start = leaser.getAsInt();
+				synchronized (this) {
+					next = start;
+					end = start + size;
+					pendingLease = null;
+				}
+				lease.complete(null);
+			} catch (RuntimeException e) {
+				synchronized (this) {
+					pendingLease = null;
+				}
+				lease.completeExceptionally(e);
+				throw e;
+			}
+		}
+
+		private static void awaitLease(CompletableFuture<Void> lease) {
+			try {
+				lease.join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof RuntimeException cause) {
+					throw cause;
+				}
+				throw e;
+			}
+		}
+	}
+}
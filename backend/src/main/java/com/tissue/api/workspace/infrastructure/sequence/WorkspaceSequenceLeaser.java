@@ -0,0 +1,65 @@
+package com.tissue.api.workspace.infrastructure.sequence;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tissue.api.workspace.exception.WorkspaceNotFoundException;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * workspace의 next_issue_number, next_sprint_number 카운터를 원자적으로 증가시킨다(lease)
+ *  - lease는 이슈/스프린트 생성 트랜잭션 안에서 호출되므로, 메인 커넥션 풀에서 커넥션을 하나 더 얻으면
+ *  풀이 소진되었을 때 모든 요청이 서로의 커넥션 반납을 기다리게 된다
+ *  - 그래서 메인 풀과 분리된 작은 전용 풀에서 자체 트랜잭션으로 실행한다
+ */
+public class WorkspaceSequenceLeaser implements AutoCloseable {
+
+	private static final String INCREASE_NEXT_ISSUE_NUMBER =
+		"UPDATE workspace SET next_issue_number = next_issue_number + ? WHERE code = ?";
+	private static final String SELECT_NEXT_ISSUE_NUMBER =
+		"SELECT next_issue_number FROM workspace WHERE code = ?";
+	private static final String INCREASE_NEXT_SPRINT_NUMBER =
+		"UPDATE workspace SET next_sprint_number = next_sprint_number + ? WHERE code = ?";
+	private static final String SELECT_NEXT_SPRINT_NUMBER =
+		"SELECT next_sprint_number FROM workspace WHERE code = ?";
+
+	private final HikariDataSource leaseDataSource;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+
+	public WorkspaceSequenceLeaser(HikariDataSource leaseDataSource) {
+		this.leaseDataSource = leaseDataSource;
+		this.jdbcTemplate = new JdbcTemplate(leaseDataSource);
+		this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(leaseDataSource));
+	}
+
+	/**
+	 * @return lease 한 범위의 첫 번호
+	 */
+	public int leaseIssueNumbers(String workspaceCode, int amount) {
+		return lease(INCREASE_NEXT_ISSUE_NUMBER, SELECT_NEXT_ISSUE_NUMBER, workspaceCode, amount);
+	}
+
+	/**
+	 * @return lease 한 범위의 첫 번호
+	 */
+	public int leaseSprintNumbers(String workspaceCode, int amount) {
+		return lease(INCREASE_NEXT_SPRINT_NUMBER, SELECT_NEXT_SPRINT_NUMBER, workspaceCode, amount);
+	}
+
+	private int lease(String increaseSql, String selectSql, String workspaceCode, int amount) {
+		Integer nextNumber = transactionTemplate.execute(status -> {
+			if (jdbcTemplate.update(increaseSql, amount, workspaceCode) == 0) {
+				throw new WorkspaceNotFoundException(workspaceCode);
+			}
+			return jdbcTemplate.queryForObject(selectSql, Integer.class, workspaceCode);
+		});
+		return nextNumber - amount;
+	}
+
+	@Override
+	public void close() {
+		leaseDataSource.close();
+	}
+}
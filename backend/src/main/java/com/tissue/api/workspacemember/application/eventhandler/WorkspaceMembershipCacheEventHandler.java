@@ -0,0 +1,28 @@
+package com.tissue.api.workspacemember.application.eventhandler;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.tissue.api.workspacemember.application.service.command.WorkspaceMembershipResolver;
+import com.tissue.api.workspacemember.domain.event.WorkspaceMemberRoleChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 역할이 변경되면 멤버십 캐시를 무효화한다(커밋 후 재무효화는 resolver가 등록한다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkspaceMembershipCacheEventHandler {
+
+	private final WorkspaceMembershipResolver workspaceMembershipResolver;
+
+	@EventListener
+	public void evictOnRoleChanged(WorkspaceMemberRoleChangedEvent event) {
+		workspaceMembershipResolver.evict(event.getTargetMemberId(), event.getWorkspaceCode());
+		log.debug("Workspace membership cache evicted. memberId: {}, workspaceCode: {}",
+			event.getTargetMemberId(), event.getWorkspaceCode());
+	}
+}
@@ -8,6 +8,7 @@ import com.tissue.api.position.domain.model.Position;
 import com.tissue.api.position.application.service.command.PositionReader;
 import com.tissue.api.team.domain.model.Team;
 import com.tissue.api.team.application.service.command.TeamReader;
+import com.tissue.api.workspace.application.service.command.WorkspaceSnapshotCache;
 import com.tissue.api.workspacemember.domain.model.WorkspaceMember;
 import com.tissue.api.workspacemember.domain.model.enums.WorkspaceRole;
 import com.tissue.api.workspacemember.domain.event.WorkspaceMemberRoleChangedEvent;
@@ -31,6 +32,8 @@ public class WorkspaceMemberCommandService {
 	private final TeamReader teamReader;
 	private final WorkspaceMemberRepository workspaceMemberRepository;
 	private final WorkspaceMemberPermissionValidator workspaceMemberPermissionValidator;
+	private final WorkspaceMembershipResolver workspaceMembershipResolver;
+	private final WorkspaceSnapshotCache workspaceSnapshotCache;
 	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
@@ -137,6 +140,9 @@ public class WorkspaceMemberCommandService {
 		requester.updateRoleToAdmin();
 		target.updateRoleToOwner();
 
+		workspaceMembershipResolver.evict(requesterMemberId, workspaceCode);
+		workspaceMembershipResolver.evict(targetMemberId, workspaceCode);
+
 		return TransferOwnershipResponse.from(requester, target);
 	}
 
@@ -152,5 +158,8 @@ public class WorkspaceMemberCommandService {
 		workspaceMemberPermissionValidator.validateCanRemoveWorkspaceMember(requester, target);
 
 		target.remove();
+
+		workspaceMembershipResolver.evict(targetMemberId, workspaceCode);
+		workspaceSnapshotCache.evict(workspaceCode);
 	}
 }
@@ -32,7 +32,7 @@ public class WorkspaceMemberInviteService {
 		InviteMembersRequest request
 	) {
 
-		Workspace workspace = workspaceReader.findWorkspace(workspaceCode);
+		Workspace workspace = workspaceReader.findWorkspaceReference(workspaceCode);
 
 		// 초대 가능한 멤버 필터링
 		List<Member> members = filterInvitableMembers(workspaceCode, request.memberIdentifiers());
@@ -4,6 +4,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.tissue.api.workspacemember.domain.model.WorkspaceMember;
+import com.tissue.api.workspacemember.domain.model.vo.WorkspaceMembership;
 import com.tissue.api.workspacemember.exception.WorkspaceMemberNotFoundException;
 import com.tissue.api.workspacemember.infrastructure.repository.WorkspaceMemberRepository;
 
@@ -14,6 +15,7 @@ import lombok.RequiredArgsConstructor;
 public class WorkspaceMemberReader {
 
 	private final WorkspaceMemberRepository workspaceMemberRepository;
+	private final WorkspaceMembershipResolver workspaceMembershipResolver;
 
 	@Transactional(readOnly = true)
 	public WorkspaceMember findWorkspaceMember(Long id) {
@@ -26,4 +28,20 @@ public class WorkspaceMemberReader {
 		return workspaceMemberRepository.findByMemberIdAndWorkspaceCode(memberId, code)
 			.orElseThrow(() -> new WorkspaceMemberNotFoundException(memberId, code));
 	}
+
+	/**
+	 * 권한 인터셉터가 이미 확인한 멤버십(workspaceMemberId, role)을 재사용한다
+	 * - 같은 요청 안에서는 쿼리 없이 request attribute에서 읽는다
+	 * - 엔티티의 상태를 바꾸지 않고 역할만 확인하는 경우에 사용한다
+	 */
+	public WorkspaceMembership findMembership(Long memberId, String code) {
+		return workspaceMembershipResolver.resolve(memberId, code);
+	}
+
+	/**
+	 * 연관관계(FK)만 필요한 경우 멤버십의 id로 프록시를 반환한다(엔티티를 다시 조회하지 않는다)
+	 */
+	public WorkspaceMember getReference(Long memberId, String code) {
+		return workspaceMemberRepository.getReferenceById(findMembership(memberId, code).workspaceMemberId());
+	}
 }
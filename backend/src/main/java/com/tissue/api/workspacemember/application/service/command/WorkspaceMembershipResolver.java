@@ -0,0 +1,178 @@
+package com.tissue.api.workspacemember.application.service.command;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tissue.api.workspacemember.domain.model.vo.WorkspaceMembership;
+import com.tissue.api.workspacemember.exception.WorkspaceMemberNotFoundException;
+import com.tissue.api.workspacemember.infrastructure.repository.WorkspaceMemberRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * (memberId, workspaceCode)의 멤버십(workspaceMemberId, role)을 조회하는 resolver
+ * - 같은 요청 안에서는 request attribute에 저장한 값을 재사용한다(인터셉터가 여러 번 조회해도 쿼리는 한 번)
+ * - 요청 간에는 짧은 TTL의 공유 캐시를 사용한다
+ * - 역할 변경, 탈퇴, 추방, 소유권 이전 시 해당 엔트리를, 워크스페이스 삭제 시 그 워크스페이스의 엔트리를 모두 무효화한다
+ * - 다른 노드의 캐시는 커밋 후 invalidationBroadcaster로 전파해서 무효화한다
+ *   (메시지: {memberId}:{workspaceCode}, 워크스페이스 전체는 *:{workspaceCode})
+ * - 멤버가 아닌 경우는 캐시하지 않는다(가입 직후 바로 접근할 수 있어야 한다)
+ */
+public class WorkspaceMembershipResolver {
+
+	private static final String CACHE_NAME = "workspaceMembership";
+	private static final String REQUEST_ATTRIBUTE = WorkspaceMembershipResolver.class.getName() + ".resolved";
+	private static final String ALL_MEMBERS = "*";
+
+	private final WorkspaceMemberRepository workspaceMemberRepository;
+	private final Consumer<String> invalidationBroadcaster;
+	private final Cache<MembershipKey, WorkspaceMembership> cache;
+
+	public WorkspaceMembershipResolver(
+		WorkspaceMemberRepository workspaceMemberRepository,
+		int maximumSize,
+		int expirationSeconds,
+		MeterRegistry meterRegistry
+	) {
+		this(workspaceMemberRepository, payload -> {
+		}, maximumSize, expirationSeconds, meterRegistry);
+	}
+
+	public WorkspaceMembershipResolver(
+		WorkspaceMemberRepository workspaceMemberRepository,
+		Consumer<String> invalidationBroadcaster,
+		int maximumSize,
+		int expirationSeconds,
+		MeterRegistry meterRegistry
+	) {
+		this.workspaceMemberRepository = workspaceMemberRepository;
+		this.invalidationBroadcaster = invalidationBroadcaster;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(expirationSeconds, TimeUnit.SECONDS)
+			.recordStats()
+			.build();
+
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+	}
+
+	public WorkspaceMembership resolve(Long memberId, String workspaceCode) {
+		MembershipKey key = new MembershipKey(memberId, workspaceCode);
+		Map<MembershipKey, WorkspaceMembership> resolvedInRequest = resolvedInCurrentRequest();
+
+		WorkspaceMembership membership = resolvedInRequest.get(key);
+		if (membership == null) {
+			membership = cache.get(key, this::load);
+		}
+		if (membership == null) {
+			throw new WorkspaceMemberNotFoundException(memberId, workspaceCode);
+		}
+
+		resolvedInRequest.put(key, membership);
+		return membership;
+	}
+
+	/**
+	 * 현재 트랜잭션 안의 이후 조회를 위해 즉시 무효화하고,
+	 * 커밋 전에 다른 스레드가 이전 값을 다시 캐시할 수 있으므로 커밋 후에 한 번 더 무효화한다
+	 * - 다른 노드에는 커밋된 경우에만 전파한다
+	 */
+	public void evict(Long memberId, String workspaceCode) {
+		MembershipKey key = new MembershipKey(memberId, workspaceCode);
+		resolvedInCurrentRequest().remove(key);
+
+		evictAndBroadcast(() -> cache.invalidate(key), memberId + ":" + workspaceCode);
+	}
+
+	/**
+	 * 워크스페이스가 삭제되면 그 워크스페이스의 멤버십을 모두 무효화한다
+	 */
+	public void evictWorkspace(String workspaceCode) {
+		resolvedInCurrentRequest().keySet().removeIf(key -> key.workspaceCode().equals(workspaceCode));
+
+		evictAndBroadcast(() -> invalidateWorkspace(workspaceCode), ALL_MEMBERS + ":" + workspaceCode);
+	}
+
+	/**
+	 * 다른 노드에서 전파된 무효화 메시지를 반영한다(형식이 잘못된 메시지는 무시한다)
+	 */
+	public void evictLocal(String payload) {
+		int separator = payload.indexOf(':');
+		if (separator < 0) {
+			return;
+		}
+
+		String memberId = payload.substring(0, separator);
+		String workspaceCode = payload.substring(separator + 1);
+		if (ALL_MEMBERS.equals(memberId)) {
+			invalidateWorkspace(workspaceCode);
+			return;
+		}
+
+		try {
+			cache.invalidate(new MembershipKey(Long.parseLong(memberId), workspaceCode));
+		} catch (NumberFormatException e) {
+			// 다른 형식의 메시지
+		}
+	}
+
+	private void evictAndBroadcast(Runnable invalidation, String payload) {
+		invalidation.run();
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			invalidationBroadcaster.accept(payload);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				invalidation.run();
+				invalidationBroadcaster.accept(payload);
+			}
+		});
+	}
+
+	private void invalidateWorkspace(String workspaceCode) {
+		cache.asMap().keySet().removeIf(key -> key.workspaceCode().equals(workspaceCode));
+	}
+
+	private WorkspaceMembership load(MembershipKey key) {
+		return workspaceMemberRepository.findMembershipByMemberIdAndWorkspaceCode(key.memberId(), key.workspaceCode())
+			.orElse(null);
+	}
+
+	/**
+	 * 요청 스레드가 아닌 경우(비동기 작업 등)에는 저장하지 않는 빈 Map을 반환한다
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<MembershipKey, WorkspaceMembership> resolvedInCurrentRequest() {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (attributes == null) {
+			return new HashMap<>();
+		}
+
+		Object resolved = attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+		if (resolved == null) {
+			resolved = new HashMap<MembershipKey, WorkspaceMembership>();
+			attributes.setAttribute(REQUEST_ATTRIBUTE, resolved, RequestAttributes.SCOPE_REQUEST);
+		}
+		return (Map<MembershipKey, WorkspaceMembership>)resolved;
+	}
+
+	private record MembershipKey(
+		Long memberId,
+		String workspaceCode
+	) {
+	}
+}
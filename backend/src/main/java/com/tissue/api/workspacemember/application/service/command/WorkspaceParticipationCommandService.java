@@ -12,6 +12,8 @@ import com.tissue.api.member.domain.model.Member;
 import com.tissue.api.workspace.domain.model.Workspace;
 import com.tissue.api.workspace.domain.event.MemberJoinedWorkspaceEvent;
 import com.tissue.api.workspace.application.service.command.WorkspaceReader;
+import com.tissue.api.workspace.application.service.command.WorkspaceSnapshotCache;
+import com.tissue.api.workspace.infrastructure.repository.WorkspaceRepository;
 import com.tissue.api.workspacemember.domain.model.WorkspaceMember;
 import com.tissue.api.workspacemember.infrastructure.repository.WorkspaceMemberRepository;
 import com.tissue.api.workspacemember.domain.service.WorkspaceMemberPermissionValidator;
@@ -27,16 +29,20 @@ public class WorkspaceParticipationCommandService {
 	 *  - leaveWorkspace: 워크스페이스 떠나기(현재 OWNER 상태면 불가능)
 	 */
 	private final WorkspaceReader workspaceReader;
+	private final WorkspaceRepository workspaceRepository;
+	private final WorkspaceSnapshotCache workspaceSnapshotCache;
 	private final MemberReader memberReader;
 	private final WorkspaceMemberReader workspaceMemberReader;
 	private final WorkspaceMemberRepository workspaceMemberRepository;
 	private final WorkspaceMemberPermissionValidator workspaceMemberPermissionValidator;
+	private final WorkspaceMembershipResolver workspaceMembershipResolver;
 
 	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 참여할 워크스페이스의 코드를 통해
 	 * 참여를 요청한 로그인 멤버를 해당 워크스페이스에 참여시킨다.
+	 * - 워크스페이스는 캐시된 참조를 사용하고, 멤버 수는 UPDATE 쿼리로 제한 안에서만 증가시킨다
 	 *
 	 * @param workspaceCode     - 워크스페이스의 고유 코드
 	 * @param memberId - 세션에서 꺼낸 멤버 id(PK)
@@ -47,7 +53,7 @@ public class WorkspaceParticipationCommandService {
 		String workspaceCode,
 		Long memberId
 	) {
-		Workspace workspace = workspaceReader.findWorkspace(workspaceCode);
+		Workspace workspace = workspaceReader.findWorkspaceReference(workspaceCode);
 		Member member = memberReader.findMember(memberId);
 
 		if (workspaceMemberRepository.existsByMemberIdAndWorkspaceCode(memberId, workspaceCode)) {
@@ -58,6 +64,7 @@ public class WorkspaceParticipationCommandService {
 		}
 
 		WorkspaceMember workspaceMember = addWorkspaceMember(member, workspace);
+		increaseMemberCount(workspace);
 		workspaceMemberRepository.save(workspaceMember);
 
 		eventPublisher.publishEvent(
@@ -77,5 +84,21 @@ public class WorkspaceParticipationCommandService {
 		workspaceMember.validateCanLeaveWorkspace();
 
 		workspaceMember.remove();
+
+		workspaceMembershipResolver.evict(memberId, workspaceCode);
+		workspaceSnapshotCache.evict(workspaceCode);
+	}
+
+	/**
+	 * addWorkspaceMember는 캐시된 멤버 수로 먼저 검사하고(참조의 변경은 저장되지 않는다), 실제 증가는 DB에서 원자적으로 한다
+	 */
+	private void increaseMemberCount(Workspace workspace) {
+		int updated = workspaceRepository.increaseMemberCountWithinLimit(workspace.getId(), Workspace.MAX_MEMBER_COUNT);
+		if (updated == 0) {
+			throw new InvalidOperationException(String.format(
+				"Maximum number of workspace members reached. Workspace member limit: %d",
+				Workspace.MAX_MEMBER_COUNT));
+		}
+		workspaceSnapshotCache.evict(workspace.getCode());
 	}
 }
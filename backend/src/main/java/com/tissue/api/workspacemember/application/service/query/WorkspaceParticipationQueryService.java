@@ -1,11 +1,17 @@
 package com.tissue.api.workspacemember.application.service.query;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.tissue.api.common.dto.Cursor;
+import com.tissue.api.common.dto.CursorRequest;
+import com.tissue.api.common.dto.CursorResponse;
 import com.tissue.api.workspace.presentation.dto.WorkspaceDetail;
+import com.tissue.api.workspacemember.domain.model.WorkspaceMember;
 import com.tissue.api.workspacemember.infrastructure.repository.WorkspaceMemberRepository;
 import com.tissue.api.workspacemember.presentation.dto.response.GetWorkspacesResponse;
 
@@ -26,4 +32,29 @@ public class WorkspaceParticipationQueryService {
 
 		return GetWorkspacesResponse.from(workspaceDetails.getContent(), workspaceDetails.getTotalElements());
 	}
+
+	/**
+	 * 커서 기반 페이징(참여한 순서의 역순)
+	 */
+	@Transactional(readOnly = true)
+	public CursorResponse<WorkspaceDetail> getWorkspaces(Long memberId, CursorRequest cursorRequest) {
+		List<WorkspaceMember> workspaceMembers = workspaceMemberRepository.findSliceByMemberId(
+			memberId,
+			cursorRequest.cursorCreatedDate(),
+			cursorRequest.cursorId(),
+			cursorRequest.fetchLimit()
+		);
+
+		Long totalElements = cursorRequest.withCount()
+			? workspaceMemberRepository.countByMemberId(memberId)
+			: null;
+
+		return CursorResponse.of(
+			workspaceMembers,
+			cursorRequest,
+			workspaceMember -> new Cursor(workspaceMember.getCreatedDate(), workspaceMember.getId()),
+			workspaceMember -> WorkspaceDetail.from(workspaceMember.getWorkspace()),
+			totalElements
+		);
+	}
 }
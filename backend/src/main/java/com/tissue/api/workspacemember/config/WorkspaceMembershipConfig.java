@@ -0,0 +1,75 @@
+package com.tissue.api.workspacemember.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.tissue.api.global.redis.RedisBroadcastChannel;
+import com.tissue.api.workspacemember.application.service.command.WorkspaceMembershipResolver;
+import com.tissue.api.workspacemember.infrastructure.repository.WorkspaceMemberRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 워크스페이스 멤버십 캐시
+ * - 무효화는 기본으로 Redis pub/sub으로 다른 노드에 전파한다(역할 변경, 추방이 다른 노드에서 TTL까지 남지 않도록)
+ * - api.workspace-member.membership-cache.broadcast-invalidation=false 는 단일 인스턴스로 운영할 때만 사용한다
+ */
+@Configuration
+public class WorkspaceMembershipConfig {
+
+	private static final String BROADCAST_PROPERTY = "api.workspace-member.membership-cache.broadcast-invalidation";
+	private static final String INVALIDATION_CHANNEL = "workspace-membership:invalidated";
+
+	@Bean
+	@ConditionalOnProperty(name = BROADCAST_PROPERTY, havingValue = "true", matchIfMissing = true)
+	public RedisBroadcastChannel membershipInvalidationChannel(StringRedisTemplate stringRedisTemplate) {
+		return new RedisBroadcastChannel(INVALIDATION_CHANNEL, stringRedisTemplate);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = BROADCAST_PROPERTY, havingValue = "true", matchIfMissing = true)
+	public RedisMessageListenerContainer membershipInvalidationListenerContainer(
+		RedisConnectionFactory connectionFactory,
+		@Qualifier("membershipInvalidationChannel") RedisBroadcastChannel membershipInvalidationChannel
+	) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.addMessageListener(
+			membershipInvalidationChannel,
+			new ChannelTopic(membershipInvalidationChannel.getChannel())
+		);
+		return container;
+	}
+
+	@Bean
+	public WorkspaceMembershipResolver workspaceMembershipResolver(
+		WorkspaceMemberRepository workspaceMemberRepository,
+		@Qualifier("membershipInvalidationChannel") ObjectProvider<RedisBroadcastChannel> membershipInvalidationChannel,
+		@Value("${api.workspace-member.membership-cache.size:10000}") int cacheSize,
+		@Value("${api.workspace-member.membership-cache.duration:30}") int expirationSeconds,
+		MeterRegistry meterRegistry
+	) {
+		RedisBroadcastChannel channel = membershipInvalidationChannel.getIfAvailable();
+
+		WorkspaceMembershipResolver resolver = new WorkspaceMembershipResolver(
+			workspaceMemberRepository,
+			channel != null ? channel::publish : payload -> {
+			},
+			cacheSize,
+			expirationSeconds,
+			meterRegistry
+		);
+		if (channel != null) {
+			channel.subscribe(resolver::evictLocal);
+		}
+		return resolver;
+	}
+}
@@ -1,5 +1,7 @@
 package com.tissue.api.workspacemember.domain.event;
 
+import java.io.Serial;
+
 import com.tissue.api.notification.domain.enums.NotificationType;
 import com.tissue.api.notification.domain.enums.ResourceType;
 import com.tissue.api.notification.domain.model.vo.EntityReference;
@@ -12,6 +14,9 @@ import lombok.Getter;
 @Getter
 public class WorkspaceMemberRoleChangedEvent extends WorkspaceEvent {
 
+	@Serial
+	private static final long serialVersionUID = 1L;
+
 	private final Long targetMemberId;
 	private final String targetNickname;
 	private final WorkspaceRole oldRole;
@@ -22,9 +22,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -32,6 +34,11 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
+@Table(
+	indexes = {
+		@Index(name = "IDX_WORKSPACE_MEMBER_MEMBER_CREATED", columnList = "MEMBER_ID, createdDate, id")
+	}
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class WorkspaceMember extends BaseEntity {
 
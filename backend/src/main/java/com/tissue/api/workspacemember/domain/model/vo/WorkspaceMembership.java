@@ -0,0 +1,15 @@
+package com.tissue.api.workspacemember.domain.model.vo;
+
+import com.tissue.api.workspacemember.domain.model.enums.WorkspaceRole;
+
+/**
+ * 권한 검사에 필요한 워크스페이스 멤버십 정보(엔티티 대신 캐시한다)
+ */
+public record WorkspaceMembership(
+	Long workspaceMemberId,
+	WorkspaceRole role
+) {
+	public boolean isLowerThan(WorkspaceRole requiredRole) {
+		return role.isLowerThan(requiredRole);
+	}
+}
@@ -1,9 +1,11 @@
 package com.tissue.api.workspacemember.infrastructure.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -12,13 +14,41 @@ import org.springframework.data.repository.query.Param;
 
 import com.tissue.api.workspacemember.domain.model.WorkspaceMember;
 import com.tissue.api.workspacemember.domain.model.enums.WorkspaceRole;
+import com.tissue.api.workspacemember.domain.model.vo.WorkspaceMembership;
 
 public interface WorkspaceMemberRepository extends JpaRepository<WorkspaceMember, Long> {
 
 	Page<WorkspaceMember> findByMemberId(Long memberId, Pageable pageable);
 
+	/**
+	 * 커서 기반 페이징: (createdDate, id)가 커서보다 작은 행부터 limit 만큼 조회한다
+	 */
+	@Query("SELECT wm FROM WorkspaceMember wm "
+		+ "JOIN FETCH wm.workspace "
+		+ "WHERE wm.member.id = :memberId "
+		+ "AND (:cursorCreatedDate IS NULL "
+		+ "     OR wm.createdDate < :cursorCreatedDate "
+		+ "     OR (wm.createdDate = :cursorCreatedDate AND wm.id < :cursorId)) "
+		+ "ORDER BY wm.createdDate DESC, wm.id DESC")
+	List<WorkspaceMember> findSliceByMemberId(
+		@Param("memberId") Long memberId,
+		@Param("cursorCreatedDate") LocalDateTime cursorCreatedDate,
+		@Param("cursorId") Long cursorId,
+		Limit limit
+	);
+
+	long countByMemberId(Long memberId);
+
 	Optional<WorkspaceMember> findByMemberIdAndWorkspaceCode(Long memberId, String workspaceCode);
 
+	@Query("SELECT new com.tissue.api.workspacemember.domain.model.vo.WorkspaceMembership(wm.id, wm.role) "
+		+ "FROM WorkspaceMember wm "
+		+ "WHERE wm.member.id = :memberId AND wm.workspaceCode = :workspaceCode")
+	Optional<WorkspaceMembership> findMembershipByMemberIdAndWorkspaceCode(
+		@Param("memberId") Long memberId,
+		@Param("workspaceCode") String workspaceCode
+	);
+
 	Optional<WorkspaceMember> findByMemberIdAndWorkspaceId(Long memberId, Long workspaceId);
 
 	Optional<WorkspaceMember> findByIdAndWorkspaceCode(Long workspaceMemberId, String workspaceCode);
@@ -12,10 +12,13 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.tissue.api.common.dto.ApiResponse;
+import com.tissue.api.common.dto.CursorRequest;
+import com.tissue.api.common.dto.CursorResponse;
 import com.tissue.api.security.authentication.interceptor.LoginRequired;
 import com.tissue.api.security.authentication.resolver.ResolveLoginMember;
 import com.tissue.api.security.authorization.interceptor.RoleRequired;
 import com.tissue.api.workspace.domain.service.WorkspaceAuthenticationService;
+import com.tissue.api.workspace.presentation.dto.WorkspaceDetail;
 import com.tissue.api.workspacemember.domain.model.enums.WorkspaceRole;
 import com.tissue.api.workspacemember.presentation.dto.request.JoinWorkspaceRequest;
 import com.tissue.api.workspacemember.presentation.dto.response.GetWorkspacesResponse;
@@ -91,4 +94,21 @@ public class WorkspaceParticipationController {
 
 		return ApiResponse.ok("Currently joined workspaces found.", response);
 	}
+
+	/**
+	 * cursor 파라미터가 있으면(첫 페이지는 빈 값) 커서 기반으로 조회한다
+	 */
+	@LoginRequired
+	@GetMapping(params = "cursor")
+	public ApiResponse<CursorResponse<WorkspaceDetail>> getWorkspacesByCursor(
+		@ResolveLoginMember Long loginMemberId,
+		CursorRequest cursorRequest
+	) {
+		CursorResponse<WorkspaceDetail> response = workspaceParticipationQueryService.getWorkspaces(
+			loginMemberId,
+			cursorRequest
+		);
+
+		return ApiResponse.ok("Currently joined workspaces found.", response);
+	}
 }
@@ -0,0 +1,62 @@
+package com.tissue.api.common.dto;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.tissue.api.common.exception.type.InvalidRequestException;
+
+class CursorResponseTest {
+
+	@Test
+	@DisplayName("커서는 인코딩 후 디코딩하면 같은 정렬 키와 id를 가진다")
+	void cursor_roundTrip() {
+		// given
+		Cursor cursor = new Cursor(LocalDateTime.of(2025, 1, 2, 3, 4, 5, 123_456_000), 42L);
+
+		// when
+		Cursor decoded = Cursor.decode(cursor.encode());
+
+		// then
+		assertThat(decoded).isEqualTo(cursor);
+		assertThat(Cursor.decode("")).isNull();
+		assertThatThrownBy(() -> Cursor.decode("not-a-cursor"))
+			.isInstanceOf(InvalidRequestException.class);
+	}
+
+	@Test
+	@DisplayName("size보다 한 건 더 조회된 경우 마지막 행의 커서를 다음 커서로 반환한다")
+	void of_returnsNextCursor_WhenMoreRowsExist() {
+		// given
+		LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+		List<Cursor> rows = List.of(new Cursor(now, 3L), new Cursor(now, 2L), new Cursor(now, 1L));
+		CursorRequest request = new CursorRequest(null, 2, false);
+
+		// when
+		CursorResponse<Long> response = CursorResponse.of(rows, request, row -> row, Cursor::id, null);
+
+		// then
+		assertThat(response.content()).containsExactly(3L, 2L);
+		assertThat(response.hasNext()).isTrue();
+		assertThat(Cursor.decode(response.nextCursor())).isEqualTo(new Cursor(now, 2L));
+	}
+
+	@Test
+	@DisplayName("마지막 페이지에서는 다음 커서가 없다")
+	void of_returnsNoCursor_OnLastPage() {
+		// given
+		List<Cursor> rows = List.of(new Cursor(LocalDateTime.of(2025, 1, 1, 0, 0), 1L));
+
+		// when
+		CursorResponse<Long> response = CursorResponse.of(rows, new CursorRequest(null, 2, false), row -> row,
+			Cursor::id, null);
+
+		// then
+		assertThat(response.hasNext()).isFalse();
+		assertThat(response.nextCursor()).isNull();
+	}
+}
@@ -0,0 +1,147 @@
+package com.tissue.api.email.infrastructure.delivery;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.tissue.api.email.domain.EmailClient;
+import com.tissue.api.email.domain.EmailDeadLetter;
+import com.tissue.api.email.domain.EmailMessage;
+import com.tissue.api.email.infrastructure.repository.EmailDeadLetterRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class QueuedEmailDeliveryTest {
+
+	@Mock
+	private EmailClient emailClient;
+
+	@Mock
+	private EmailDeadLetterRepository deadLetterRepository;
+
+	private QueuedEmailDelivery delivery;
+
+	@BeforeEach
+	void setUp() {
+		// retry-backoff 0: 실패한 메일은 다음 flush에서 바로 재시도
+		delivery = new QueuedEmailDelivery(
+			emailClient,
+			deadLetterRepository,
+			100,
+			1000,
+			100,
+			2,
+			0,
+			new SimpleMeterRegistry()
+		);
+	}
+
+	@Test
+	@DisplayName("같은 수신자에게 가는 메일들은 하나로 합쳐서 한 번에 전송한다")
+	void flush_ShouldDigestMessagesPerReceiver() {
+		// given
+		when(emailClient.sendAll(anyList())).thenReturn(List.of());
+
+		delivery.deliver(new EmailMessage("a@test.com", "title1", "body1"));
+		delivery.deliver(new EmailMessage("a@test.com", "title2", "body2"));
+		delivery.deliver(new EmailMessage("b@test.com", "title3", "body3"));
+
+		// when
+		delivery.flush();
+
+		// then
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<EmailMessage>> captor = ArgumentCaptor.forClass(List.class);
+		verify(emailClient, times(1)).sendAll(captor.capture());
+
+		List<EmailMessage> sent = captor.getValue();
+		assertThat(sent).hasSize(2);
+		assertThat(sent).extracting(EmailMessage::to).containsExactlyInAnyOrder("a@test.com", "b@test.com");
+
+		EmailMessage digest = sent.stream().filter(message -> message.to().equals("a@test.com")).findFirst().get();
+		assertThat(digest.subject()).isEqualTo("title1 (+1)");
+		assertThat(digest.body()).contains("body1", "body2");
+	}
+
+	@Test
+	@DisplayName("전송에 실패한 메일은 재시도하고, 최대 시도 횟수를 넘으면 dead letter로 저장한다")
+	void flush_ShouldRetryAndDeadLetter_WhenSendFails() {
+		// given
+		when(emailClient.sendAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+		delivery.deliver(new EmailMessage("a@test.com", "title", "body"));
+
+		// when
+		delivery.flush(); // 1st attempt
+		delivery.flush(); // 2nd attempt -> max attempts(2)
+		delivery.flush(); // nothing left
+
+		// then
+		verify(emailClient, times(2)).sendAll(anyList());
+		verify(deadLetterRepository).save(any(EmailDeadLetter.class));
+	}
+
+	@Test
+	@DisplayName("한 번의 flush에서 digest-window 동안 채워진 만큼(rate * window) 전송할 수 있다")
+	void flush_ShouldSendUpToRateTimesWindow() {
+		// given
+		delivery = new QueuedEmailDelivery(emailClient, deadLetterRepository, 100, 5000, 2, 2, 0,
+			new SimpleMeterRegistry());
+		when(emailClient.sendAll(anyList())).thenReturn(List.of());
+		for (int i = 0; i < 10; i++) {
+			delivery.deliver(new EmailMessage("user" + i + "@test.com", "title", "body"));
+		}
+
+		// when
+		delivery.flush();
+
+		// then
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<EmailMessage>> captor = ArgumentCaptor.forClass(List.class);
+		verify(emailClient).sendAll(captor.capture());
+		assertThat(captor.getValue()).hasSize(10);
+	}
+
+	@Test
+	@DisplayName("rate limit으로 미룬 메일은 큐로 돌아가서 큐 용량을 차지하고, 큐가 가득 차면 dead letter로 저장한다")
+	void flush_ShouldRequeueRateLimitedMessages_IntoBoundedQueue() {
+		// given
+		delivery = new QueuedEmailDelivery(emailClient, deadLetterRepository, 2, 1000, 1, 2, 0,
+			new SimpleMeterRegistry());
+		when(emailClient.sendAll(anyList())).thenReturn(List.of());
+		delivery.deliver(new EmailMessage("a@test.com", "title", "body"));
+		delivery.deliver(new EmailMessage("b@test.com", "title", "body"));
+
+		// when
+		delivery.flush(); // 1개 전송, 1개는 큐로 돌아간다
+		delivery.deliver(new EmailMessage("c@test.com", "title", "body"));
+		delivery.deliver(new EmailMessage("d@test.com", "title", "body")); // 큐 용량(2) 초과
+
+		// then
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<EmailMessage>> captor = ArgumentCaptor.forClass(List.class);
+		verify(emailClient).sendAll(captor.capture());
+		assertThat(captor.getValue()).hasSize(1);
+		verify(deadLetterRepository, times(1)).save(any(EmailDeadLetter.class));
+	}
+
+	@Test
+	@DisplayName("큐가 비어있으면 전송하지 않는다")
+	void flush_ShouldDoNothing_WhenQueueIsEmpty() {
+		// when
+		delivery.flush();
+
+		// then
+		verifyNoInteractions(emailClient);
+	}
+}
@@ -0,0 +1,70 @@
+package com.tissue.api.global.concurrency;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ConcurrencyLimitedDataSourceTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private DataSource target;
+	private ConcurrencyLimitedDataSource dataSource;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		target = mock(DataSource.class);
+		when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+
+		ConcurrencyLimiter limiter = new ConcurrencyLimiter("database", 1, meterRegistry);
+		dataSource = new ConcurrencyLimitedDataSource(
+			target,
+			new StaticListableBeanFactory(Map.of("databaseConcurrencyLimiter", limiter))
+				.getBeanProvider(ConcurrencyLimiter.class)
+		);
+	}
+
+	@Test
+	@DisplayName("limited 작업은 커넥션을 잡고 있는 동안에만 permit을 사용한다")
+	void getConnection_holdsPermitUntilConnectionIsClosed() {
+		// when & then
+		ConcurrencyLimitedDataSource.limited(() -> {
+			try {
+				Connection connection = dataSource.getConnection();
+				assertThat(availablePermits()).isZero();
+
+				connection.close();
+				connection.close(); // 두 번 닫아도 한 번만 반환한다
+				assertThat(availablePermits()).isEqualTo(1);
+			} catch (SQLException e) {
+				throw new IllegalStateException(e);
+			}
+		}).run();
+	}
+
+	@Test
+	@DisplayName("limited로 감싸지 않은 작업의 커넥션은 permit을 사용하지 않는다")
+	void getConnection_doesNotLimit_outsideLimitedTask() throws SQLException {
+		// when
+		dataSource.getConnection();
+
+		// then
+		assertThat(availablePermits()).isEqualTo(1);
+	}
+
+	private double availablePermits() {
+		return meterRegistry.get("concurrency.limiter.available").gauge().value();
+	}
+}
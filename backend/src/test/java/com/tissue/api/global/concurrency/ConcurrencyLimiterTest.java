@@ -0,0 +1,71 @@
+package com.tissue.api.global.concurrency;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ConcurrencyLimiterTest {
+
+	@Test
+	@DisplayName("동시에 실행되는 작업 수는 permit 수를 넘지 않는다")
+	void run_ShouldNotExceedPermits() throws InterruptedException {
+		// given
+		int permits = 2;
+		int tasks = 10;
+		ConcurrencyLimiter limiter = new ConcurrencyLimiter("test", permits, new SimpleMeterRegistry());
+
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		CountDownLatch done = new CountDownLatch(tasks);
+		ExecutorService executor = Executors.newFixedThreadPool(tasks);
+
+		// when
+		for (int i = 0; i < tasks; i++) {
+			executor.execute(() -> {
+				limiter.run(() -> {
+					maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+					sleep(20);
+					running.decrementAndGet();
+				});
+				done.countDown();
+			});
+		}
+
+		// then
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(maxRunning.get()).isLessThanOrEqualTo(permits);
+		executor.shutdown();
+	}
+
+	@Test
+	@DisplayName("작업이 예외를 던져도 permit은 반환된다")
+	void call_ShouldReleasePermit_WhenTaskThrows() {
+		// given
+		ConcurrencyLimiter limiter = new ConcurrencyLimiter("test", 1, new SimpleMeterRegistry());
+
+		// when
+		assertThatThrownBy(() -> limiter.run(() -> {
+			throw new IllegalStateException("fail");
+		})).isInstanceOf(IllegalStateException.class);
+
+		// then
+		assertThat(limiter.call(() -> "ok")).isEqualTo("ok");
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
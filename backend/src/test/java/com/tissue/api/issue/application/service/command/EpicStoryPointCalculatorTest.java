@@ -0,0 +1,44 @@
+package com.tissue.api.issue.application.service.command;
+
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.tissue.api.issue.domain.model.enums.IssueType;
+import com.tissue.api.issue.domain.model.types.Epic;
+import com.tissue.api.issue.infrastructure.repository.IssueRepository;
+
+@ExtendWith(MockitoExtension.class)
+class EpicStoryPointCalculatorTest {
+
+	@Mock
+	private IssueRepository issueRepository;
+
+	@InjectMocks
+	private EpicStoryPointCalculator epicStoryPointCalculator;
+
+	@Test
+	@DisplayName("Epic 스토리 포인트는 자식 이슈들의 합계 쿼리 결과로 갱신된다")
+	void recalculate_ShouldUseAggregateSum() {
+		// given
+		Epic epic = mock(Epic.class);
+		when(epic.getType()).thenReturn(IssueType.EPIC);
+		when(epic.getStoryPoint()).thenReturn(0);
+
+		when(issueRepository.findById(1L)).thenReturn(Optional.of(epic));
+		when(issueRepository.sumStoryPointOfOpenChildren(1L)).thenReturn(7L);
+
+		// when
+		epicStoryPointCalculator.recalculate(1L);
+
+		// then
+		verify(epic).updateStoryPoint(7);
+	}
+}
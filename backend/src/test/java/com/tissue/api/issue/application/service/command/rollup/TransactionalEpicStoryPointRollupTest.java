@@ -0,0 +1,64 @@
+package com.tissue.api.issue.application.service.command.rollup;
+
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.tissue.api.issue.application.service.command.EpicStoryPointCalculator;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionalEpicStoryPointRollupTest {
+
+	@Mock
+	private EpicStoryPointCalculator epicStoryPointCalculator;
+
+	@InjectMocks
+	private TransactionalEpicStoryPointRollup rollup;
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.getSynchronizations()
+				.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	@DisplayName("한 트랜잭션 안에서 같은 Epic에 대한 여러 요청은 커밋 직전에 한 번만 재계산된다")
+	void requestRecalculation_ShouldCoalesceWithinTransaction() {
+		// given
+		TransactionSynchronizationManager.initSynchronization();
+
+		// when
+		rollup.requestRecalculation(1L);
+		rollup.requestRecalculation(1L);
+		rollup.requestRecalculation(2L);
+
+		verify(epicStoryPointCalculator, never()).recalculate(any());
+		TransactionSynchronizationManager.getSynchronizations()
+			.forEach(synchronization -> synchronization.beforeCommit(false));
+
+		// then
+		verify(epicStoryPointCalculator, times(1)).recalculate(1L);
+		verify(epicStoryPointCalculator, times(1)).recalculate(2L);
+	}
+
+	@Test
+	@DisplayName("트랜잭션이 없으면 즉시 재계산한다")
+	void requestRecalculation_ShouldRecalculateImmediately_WithoutTransaction() {
+		// when
+		rollup.requestRecalculation(1L);
+
+		// then
+		verify(epicStoryPointCalculator).recalculate(1L);
+	}
+}
@@ -0,0 +1,66 @@
+package com.tissue.api.issue.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.tissue.api.issue.domain.service.validator.cache.IssueRelationDependencyCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CaffeineDependencyCacheTest {
+
+	private static final String WORKSPACE_CODE = "TESTCODE";
+
+	private SimpleMeterRegistry meterRegistry;
+	private CaffeineDependencyCache cache;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		cache = new CaffeineDependencyCache(100, 1, meterRegistry);
+	}
+
+	@Test
+	@DisplayName("이슈에 도달할 수 있는 엔트리와 이슈 자신의 엔트리만 무효화된다")
+	void evictAncestorsOf_evictsOnlyAffectedEntries() {
+		// given - A -> B -> C, D -> E
+		cache.put(key("ISSUE-A"), Set.of("ISSUE-B", "ISSUE-C"));
+		cache.put(key("ISSUE-B"), Set.of("ISSUE-C"));
+		cache.put(key("ISSUE-C"), Set.of());
+		cache.put(key("ISSUE-D"), Set.of("ISSUE-E"));
+
+		// when - B에서 나가는 관계가 변경됨
+		cache.evictAncestorsOf(WORKSPACE_CODE, "ISSUE-B");
+
+		// then
+		assertThat(cache.get(key("ISSUE-A"))).isNull();
+		assertThat(cache.get(key("ISSUE-B"))).isNull();
+		assertThat(cache.get(key("ISSUE-C"))).containsExactly();
+		assertThat(cache.get(key("ISSUE-D"))).containsExactly("ISSUE-E");
+		assertThat(meterRegistry.counter("issue.relation.dependency.cache.invalidations").count())
+			.isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("다른 워크스페이스의 엔트리는 무효화되지 않는다")
+	void evictAncestorsOf_doesNotTouchOtherWorkspaces() {
+		// given
+		String otherKey = IssueRelationDependencyCache.createKey("OTHERCODE", "ISSUE-A");
+		cache.put(otherKey, Set.of("ISSUE-B"));
+
+		// when
+		cache.evictAncestorsOf(WORKSPACE_CODE, "ISSUE-B");
+
+		// then
+		assertThat(cache.get(otherKey)).containsExactly("ISSUE-B");
+	}
+
+	private String key(String issueKey) {
+		return IssueRelationDependencyCache.createKey(WORKSPACE_CODE, issueKey);
+	}
+}
@@ -0,0 +1,138 @@
+package com.tissue.api.issue.infrastructure.importer;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tissue.api.common.exception.type.InvalidRequestException;
+import com.tissue.api.issue.domain.model.enums.IssuePriority;
+import com.tissue.api.issue.presentation.controller.dto.request.create.CreateStoryRequest;
+import com.tissue.api.issue.presentation.controller.dto.request.create.CreateTaskRequest;
+
+class CsvIssueImportReaderTest {
+
+	private static final String HEADER = "type,title,content,priority,dueAt,storyPoint,userStory\n";
+	private static final int MAX_RECORD_LENGTH = 200;
+
+	// Spring Boot의 ObjectMapper와 같이 알 수 없는 필드는 무시한다
+	private final ObjectMapper objectMapper = new ObjectMapper()
+		.findAndRegisterModules()
+		.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+	@Test
+	@DisplayName("공통 필드는 common으로 옮기고, 나머지 컬럼은 이슈 타입의 필드로 변환한다")
+	void next_MapsColumnsToCreateIssueRequest() throws IOException {
+		// given
+		CsvIssueImportReader reader = reader(HEADER
+			+ "STORY,story title,story content,HIGH,2026-12-31T00:00:00,3,as a user\n");
+
+		// when
+		IssueImportRecord record = reader.next();
+
+		// then
+		assertThat(record.isParsed()).isTrue();
+		assertThat(record.lineNumber()).isEqualTo(2);
+		assertThat(record.request()).isInstanceOf(CreateStoryRequest.class);
+
+		CreateStoryRequest request = (CreateStoryRequest)record.request();
+		assertThat(request.common().title()).isEqualTo("story title");
+		assertThat(request.common().priority()).isEqualTo(IssuePriority.HIGH);
+		assertThat(request.common().dueAt()).isEqualTo(LocalDateTime.of(2026, 12, 31, 0, 0));
+		assertThat(request.storyPoint()).isEqualTo(3);
+		assertThat(reader.next()).isNull();
+	}
+
+	@Test
+	@DisplayName("따옴표로 감싼 필드의 쉼표, 줄바꿈, 이스케이프된 따옴표를 값으로 읽고, 이후 레코드의 줄 번호를 유지한다")
+	void next_ReadsQuotedFields() throws IOException {
+		// given
+		CsvIssueImportReader reader = reader(HEADER
+			+ "TASK,\"title, with comma\",\"line1\nline2 \"\"quoted\"\"\",,2026-12-31T00:00:00,,\n"
+			+ "TASK,second,content,,2026-12-31T00:00:00,,\n");
+
+		// when
+		IssueImportRecord first = reader.next();
+		IssueImportRecord second = reader.next();
+
+		// then
+		CreateTaskRequest request = (CreateTaskRequest)first.request();
+		assertThat(request.common().title()).isEqualTo("title, with comma");
+		assertThat(request.common().content()).isEqualTo("line1\nline2 \"quoted\"");
+		assertThat(second.lineNumber()).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("컬럼 수가 헤더와 다르거나 값을 변환할 수 없는 레코드는 실패로 반환하고 다음 레코드를 계속 읽는다")
+	void next_ReturnsFailedRecordAndContinues() throws IOException {
+		// given
+		CsvIssueImportReader reader = reader(HEADER
+			+ "TASK,missing columns\n"
+			+ "UNKNOWN,title,content,,2026-12-31T00:00:00,,\n"
+			+ "TASK,title,content,,2026-12-31T00:00:00,,\n");
+
+		// when
+		IssueImportRecord columnMismatch = reader.next();
+		IssueImportRecord unknownType = reader.next();
+		IssueImportRecord valid = reader.next();
+
+		// then
+		assertThat(columnMismatch.isParsed()).isFalse();
+		assertThat(columnMismatch.error()).isEqualTo("Expected 7 columns but found 2");
+		assertThat(unknownType.isParsed()).isFalse();
+		assertThat(unknownType.lineNumber()).isEqualTo(3);
+		assertThat(valid.isParsed()).isTrue();
+	}
+
+	@Test
+	@DisplayName("헤더에 type 컬럼이 없으면 InvalidRequestException이 발생한다")
+	void next_ThrowsWhenHeaderHasNoTypeColumn() {
+		// given
+		CsvIssueImportReader reader = reader("title,content\nfoo,bar\n");
+
+		// when & then
+		assertThatThrownBy(reader::next).isInstanceOf(InvalidRequestException.class);
+	}
+
+	@Test
+	@DisplayName("닫히지 않은 따옴표가 있으면 IOException으로 중단한다")
+	void next_ThrowsWhenQuoteIsNotClosed() {
+		// given
+		CsvIssueImportReader reader = reader(HEADER + "TASK,\"unterminated,content,,,,\n");
+
+		// when & then
+		assertThatThrownBy(reader::next).isInstanceOf(IOException.class);
+	}
+
+	@Test
+	@DisplayName("최대 길이를 넘는 레코드는 실패로 반환하고, 따옴표 안의 줄바꿈을 포함해 레코드 끝까지 건너뛴 뒤 계속 읽는다")
+	void next_ReturnsFailedRecordWhenRecordIsTooLong() throws IOException {
+		// given
+		String longContent = "x".repeat(MAX_RECORD_LENGTH) + "\n,\"\"" + "x".repeat(MAX_RECORD_LENGTH);
+		CsvIssueImportReader reader = reader(HEADER
+			+ "TASK,too long,\"" + longContent + "\",,2026-12-31T00:00:00,,\n"
+			+ "TASK,title,content,,2026-12-31T00:00:00,,\n");
+
+		// when
+		IssueImportRecord tooLong = reader.next();
+		IssueImportRecord valid = reader.next();
+
+		// then
+		assertThat(tooLong.isParsed()).isFalse();
+		assertThat(tooLong.lineNumber()).isEqualTo(2);
+		assertThat(tooLong.error()).isEqualTo("Record starting at line 2 exceeds 200 characters");
+		assertThat(valid.isParsed()).isTrue();
+		assertThat(valid.lineNumber()).isEqualTo(4);
+		assertThat(reader.next()).isNull();
+	}
+
+	private CsvIssueImportReader reader(String body) {
+		return new CsvIssueImportReader(new CsvRecordReader(new StringReader(body), MAX_RECORD_LENGTH), objectMapper);
+	}
+}
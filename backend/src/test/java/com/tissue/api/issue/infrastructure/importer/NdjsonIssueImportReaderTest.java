@@ -0,0 +1,70 @@
+package com.tissue.api.issue.infrastructure.importer;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tissue.api.issue.presentation.controller.dto.request.create.CreateIssueRequest;
+import com.tissue.api.issue.presentation.controller.dto.request.create.CreateTaskRequest;
+
+class NdjsonIssueImportReaderTest {
+
+	private static final int MAX_LINE_LENGTH = 200;
+	private static final String TASK = "{\"type\":\"TASK\",\"common\":{\"title\":\"title\",\"content\":\"content\"}}";
+
+	private final ObjectMapper objectMapper = new ObjectMapper()
+		.findAndRegisterModules()
+		.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+	@Test
+	@DisplayName("빈 줄은 건너뛰고, CRLF로 끝나는 줄도 줄 번호를 유지하며 읽는다")
+	void next_SkipsBlankLinesAndKeepsLineNumbers() throws IOException {
+		// given
+		NdjsonIssueImportReader reader = reader(TASK + "\r\n\r\n" + TASK + "\n");
+
+		// when
+		IssueImportRecord first = reader.next();
+		IssueImportRecord second = reader.next();
+
+		// then
+		assertThat(first.request()).isInstanceOf(CreateTaskRequest.class);
+		assertThat(first.lineNumber()).isEqualTo(1);
+		assertThat(second.lineNumber()).isEqualTo(3);
+		assertThat(reader.next()).isNull();
+	}
+
+	@Test
+	@DisplayName("최대 길이를 넘는 줄은 실패로 반환하고 다음 줄부터 계속 읽는다")
+	void next_ReturnsFailedRecordWhenLineIsTooLong() throws IOException {
+		// given
+		String tooLong = "{\"type\":\"TASK\",\"common\":{\"content\":\"" + "x".repeat(MAX_LINE_LENGTH) + "\"}}";
+		NdjsonIssueImportReader reader = reader(tooLong + "\n" + TASK);
+
+		// when
+		IssueImportRecord failed = reader.next();
+		IssueImportRecord valid = reader.next();
+
+		// then
+		assertThat(failed.isParsed()).isFalse();
+		assertThat(failed.lineNumber()).isEqualTo(1);
+		assertThat(failed.error()).isEqualTo("Line exceeds 200 characters");
+		assertThat(valid.isParsed()).isTrue();
+		assertThat(valid.lineNumber()).isEqualTo(2);
+		assertThat(reader.next()).isNull();
+	}
+
+	private NdjsonIssueImportReader reader(String body) {
+		return new NdjsonIssueImportReader(
+			new BufferedReader(new StringReader(body)),
+			objectMapper.readerFor(CreateIssueRequest.class),
+			MAX_LINE_LENGTH
+		);
+	}
+}
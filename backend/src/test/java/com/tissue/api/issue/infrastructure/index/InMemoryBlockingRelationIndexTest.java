@@ -0,0 +1,92 @@
+package com.tissue.api.issue.infrastructure.index;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.tissue.api.issue.domain.service.validator.index.BlockingEdge;
+import com.tissue.api.issue.infrastructure.repository.IssueRelationRepository;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryBlockingRelationIndexTest {
+
+	private static final String WORKSPACE_CODE = "TESTCODE";
+
+	@Mock
+	private IssueRelationRepository issueRelationRepository;
+
+	private InMemoryBlockingRelationIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new InMemoryBlockingRelationIndex(issueRelationRepository);
+	}
+
+	@Test
+	@DisplayName("BLOCKS 관계를 따라 간접적으로 연결된 이슈에 도달할 수 있다")
+	void isReachable_returnsTrue_forTransitiveChain() {
+		// given - 1 -> 2 -> 3
+		when(issueRelationRepository.findBlockingEdgesByWorkspaceCode(WORKSPACE_CODE))
+			.thenReturn(List.of(new BlockingEdge(1L, 2L), new BlockingEdge(2L, 3L)));
+
+		// when & then
+		assertThat(index.isReachable(WORKSPACE_CODE, 1L, 3L)).isTrue();
+		assertThat(index.isReachable(WORKSPACE_CODE, 3L, 1L)).isFalse();
+	}
+
+	@Test
+	@DisplayName("워크스페이스의 관계는 처음 접근할 때 한 번만 조회한다")
+	void isReachable_loadsWorkspaceOnlyOnce() {
+		// given
+		when(issueRelationRepository.findBlockingEdgesByWorkspaceCode(WORKSPACE_CODE))
+			.thenReturn(List.of(new BlockingEdge(1L, 2L)));
+
+		// when
+		index.isReachable(WORKSPACE_CODE, 1L, 2L);
+		index.isReachable(WORKSPACE_CODE, 2L, 1L);
+
+		// then
+		verify(issueRelationRepository, times(1)).findBlockingEdgesByWorkspaceCode(WORKSPACE_CODE);
+	}
+
+	@Test
+	@DisplayName("추가된 간선과 제거된 간선이 도달 가능 여부에 반영된다")
+	void addAndRemoveEdges_areReflected() {
+		// given
+		when(issueRelationRepository.findBlockingEdgesByWorkspaceCode(WORKSPACE_CODE))
+			.thenReturn(List.of(new BlockingEdge(1L, 2L)));
+		index.isReachable(WORKSPACE_CODE, 1L, 2L);
+
+		// when
+		index.addBlockingEdge(WORKSPACE_CODE, 2L, 3L);
+
+		// then
+		assertThat(index.isReachable(WORKSPACE_CODE, 1L, 3L)).isTrue();
+
+		// when
+		index.removeEdges(WORKSPACE_CODE, 3L, 2L);
+
+		// then
+		assertThat(index.isReachable(WORKSPACE_CODE, 1L, 3L)).isFalse();
+	}
+
+	@Test
+	@DisplayName("적재되지 않은 워크스페이스에 대한 변경은 무시되고, 이후 DB에서 적재된다")
+	void addBlockingEdge_isIgnored_whenWorkspaceNotLoaded() {
+		// given
+		index.addBlockingEdge(WORKSPACE_CODE, 1L, 2L);
+		when(issueRelationRepository.findBlockingEdgesByWorkspaceCode(WORKSPACE_CODE))
+			.thenReturn(List.of());
+
+		// when & then
+		assertThat(index.isReachable(WORKSPACE_CODE, 1L, 2L)).isFalse();
+	}
+}
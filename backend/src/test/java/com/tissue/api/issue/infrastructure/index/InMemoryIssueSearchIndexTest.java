@@ -0,0 +1,149 @@
+package com.tissue.api.issue.infrastructure.index;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.tissue.api.issue.domain.model.enums.IssuePriority;
+import com.tissue.api.issue.domain.model.enums.IssueStatus;
+import com.tissue.api.issue.domain.model.enums.IssueType;
+import com.tissue.api.issue.domain.service.search.IssueSearchDocument;
+import com.tissue.api.issue.infrastructure.repository.IssueRepository;
+import com.tissue.api.issue.presentation.controller.query.IssueSearchCondition;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryIssueSearchIndexTest {
+
+	private static final String WORKSPACE_CODE = "TESTCODE";
+
+	@Mock
+	private IssueRepository issueRepository;
+
+	private InMemoryIssueSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new InMemoryIssueSearchIndex(issueRepository);
+	}
+
+	@Test
+	@DisplayName("한글은 단어 중간의 일부만 입력해도 검색된다")
+	void search_matchesKoreanSubstring() {
+		// given
+		when(issueRepository.findSearchDocumentsByWorkspaceCode(WORKSPACE_CODE)).thenReturn(List.of(
+			document(1L, "로그인 페이지 오류 수정", IssueStatus.TODO, IssueType.BUG, IssuePriority.HIGH),
+			document(2L, "회원가입 화면 개선", IssueStatus.TODO, IssueType.TASK, IssuePriority.MEDIUM)
+		));
+
+		// when & then
+		assertThat(index.search(WORKSPACE_CODE, keyword("그인"))).containsExactly(1L);
+		assertThat(index.search(WORKSPACE_CODE, keyword("회원가입 개선"))).containsExactly(2L);
+		assertThat(index.search(WORKSPACE_CODE, keyword("로그아웃"))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("영문 단어는 대소문자 구분 없이 앞부분만 입력해도 검색된다")
+	void search_matchesWordPrefixIgnoringCase() {
+		// given
+		when(issueRepository.findSearchDocumentsByWorkspaceCode(WORKSPACE_CODE)).thenReturn(List.of(
+			document(1L, "Fix Authentication interceptor", IssueStatus.TODO, IssueType.BUG, IssuePriority.HIGH),
+			document(2L, "Add author column", IssueStatus.TODO, IssueType.TASK, IssuePriority.MEDIUM)
+		));
+
+		// when & then
+		assertThat(index.search(WORKSPACE_CODE, keyword("auth"))).containsExactly(2L, 1L);
+		assertThat(index.search(WORKSPACE_CODE, keyword("AUTHENTICATION"))).containsExactly(1L);
+		assertThat(index.search(WORKSPACE_CODE, keyword("ISSUE-2"))).containsExactly(2L);
+	}
+
+	@Test
+	@DisplayName("상태, 타입, 우선순위 필터는 모두 만족하는 이슈만 최신순으로 반환한다")
+	void search_appliesFiltersAsIntersection() {
+		// given
+		when(issueRepository.findSearchDocumentsByWorkspaceCode(WORKSPACE_CODE)).thenReturn(List.of(
+			document(1L, "first", IssueStatus.TODO, IssueType.BUG, IssuePriority.HIGH),
+			document(2L, "second", IssueStatus.IN_PROGRESS, IssueType.BUG, IssuePriority.LOW),
+			document(3L, "third", IssueStatus.DONE, IssueType.BUG, IssuePriority.HIGH),
+			document(4L, "fourth", IssueStatus.TODO, IssueType.TASK, IssuePriority.HIGH)
+		));
+
+		IssueSearchCondition condition = new IssueSearchCondition(
+			List.of(IssueStatus.TODO, IssueStatus.DONE),
+			List.of(IssueType.BUG),
+			List.of(IssuePriority.HIGH),
+			null
+		);
+
+		// when & then
+		assertThat(index.search(WORKSPACE_CODE, condition)).containsExactly(3L, 1L);
+	}
+
+	@Test
+	@DisplayName("다시 색인하면 이전 내용과 상태는 더 이상 검색되지 않는다")
+	void index_replacesPreviousVersion() {
+		// given
+		when(issueRepository.findSearchDocumentsByWorkspaceCode(WORKSPACE_CODE)).thenReturn(List.of(
+			document(1L, "old title", IssueStatus.TODO, IssueType.TASK, IssuePriority.MEDIUM)
+		));
+		index.search(WORKSPACE_CODE, keyword("old"));
+
+		// when
+		index.index(document(1L, "new title", IssueStatus.IN_PROGRESS, IssueType.TASK, IssuePriority.MEDIUM));
+
+		// then
+		assertThat(index.search(WORKSPACE_CODE, keyword("old"))).isEmpty();
+		assertThat(index.search(WORKSPACE_CODE, keyword("new"))).containsExactly(1L);
+		assertThat(index.search(WORKSPACE_CODE, new IssueSearchCondition(
+			List.of(IssueStatus.TODO), null, null, null))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("적재되지 않은 워크스페이스의 변경은 무시하고, 처음 검색할 때 DB에서 한 번만 적재한다")
+	void search_loadsWorkspaceOnlyOnce() {
+		// given
+		when(issueRepository.findSearchDocumentsByWorkspaceCode(WORKSPACE_CODE)).thenReturn(List.of(
+			document(1L, "first", IssueStatus.TODO, IssueType.TASK, IssuePriority.MEDIUM)
+		));
+		index.index(document(2L, "ignored", IssueStatus.TODO, IssueType.TASK, IssuePriority.MEDIUM));
+
+		// when
+		List<Long> firstResult = index.search(WORKSPACE_CODE, new IssueSearchCondition());
+		index.search(WORKSPACE_CODE, new IssueSearchCondition());
+
+		// then
+		assertThat(firstResult).containsExactly(1L);
+		verify(issueRepository, times(1)).findSearchDocumentsByWorkspaceCode(WORKSPACE_CODE);
+	}
+
+	private IssueSearchCondition keyword(String keyword) {
+		return new IssueSearchCondition(null, null, null, keyword);
+	}
+
+	private IssueSearchDocument document(
+		Long issueId,
+		String title,
+		IssueStatus status,
+		IssueType type,
+		IssuePriority priority
+	) {
+		return new IssueSearchDocument(
+			issueId,
+			WORKSPACE_CODE,
+			"ISSUE-" + issueId,
+			type,
+			status,
+			priority,
+			title,
+			"content",
+			null
+		);
+	}
+}
@@ -0,0 +1,102 @@
+package com.tissue.api.issue.infrastructure.rollup;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.tissue.api.issue.application.service.command.EpicStoryPointCalculator;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class DebouncedEpicStoryPointRollupTest {
+
+	@Mock
+	private EpicStoryPointCalculator epicStoryPointCalculator;
+
+	@Test
+	@DisplayName("같은 Epic에 대한 요청들은 디바운스 후 한 번만 재계산된다")
+	void flushDue_ShouldRecalculateOncePerEpic() {
+		// given
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		DebouncedEpicStoryPointRollup rollup = new DebouncedEpicStoryPointRollup(
+			epicStoryPointCalculator,
+			Runnable::run,
+			0,
+			0,
+			meterRegistry
+		);
+
+		rollup.requestRecalculation(1L);
+		rollup.requestRecalculation(1L);
+		rollup.requestRecalculation(1L);
+		rollup.requestRecalculation(2L);
+
+		// when
+		rollup.flushDue();
+		rollup.flushDue();
+
+		// then
+		verify(epicStoryPointCalculator, times(1)).recalculate(1L);
+		verify(epicStoryPointCalculator, times(1)).recalculate(2L);
+		assertThat(meterRegistry.get("epic.rollup.coalescing.ratio").gauge().value()).isEqualTo(2.0);
+	}
+
+	@Test
+	@DisplayName("quiet period가 지나지 않은 Epic은 재계산하지 않는다")
+	void flushDue_ShouldWait_UntilQuietPeriodPasses() {
+		// given
+		DebouncedEpicStoryPointRollup rollup = new DebouncedEpicStoryPointRollup(
+			epicStoryPointCalculator,
+			Runnable::run,
+			60_000,
+			60_000,
+			new SimpleMeterRegistry()
+		);
+		rollup.requestRecalculation(1L);
+
+		// when
+		rollup.flushDue();
+
+		// then
+		verifyNoInteractions(epicStoryPointCalculator);
+	}
+
+	@Test
+	@DisplayName("같은 Epic의 재계산이 실행 중이면 다음 재계산은 끝난 뒤에 실행된다")
+	void flushDue_ShouldNotRecalculateSameEpicConcurrently() {
+		// given
+		List<Runnable> submitted = new ArrayList<>();
+		DebouncedEpicStoryPointRollup rollup = new DebouncedEpicStoryPointRollup(
+			epicStoryPointCalculator,
+			submitted::add,
+			0,
+			0,
+			new SimpleMeterRegistry()
+		);
+		rollup.requestRecalculation(1L);
+		rollup.flushDue();
+
+		// when: 첫 재계산이 아직 실행되지 않은 동안 같은 Epic이 다시 due가 된다
+		rollup.requestRecalculation(1L);
+		rollup.flushDue();
+
+		// then
+		assertThat(submitted).hasSize(1);
+
+		submitted.get(0).run();
+		rollup.flushDue();
+
+		assertThat(submitted).hasSize(2);
+		submitted.get(1).run();
+		verify(epicStoryPointCalculator, times(2)).recalculate(1L);
+	}
+}
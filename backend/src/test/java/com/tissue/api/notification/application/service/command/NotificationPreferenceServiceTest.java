@@ -25,6 +25,9 @@ class NotificationPreferenceServiceTest {
 	@Mock
 	private NotificationPreferenceRepository repository;
 
+	@Mock
+	private NotificationPreferenceResolver preferenceResolver;
+
 	@InjectMocks
 	private NotificationPreferenceService service;
 
@@ -54,6 +57,7 @@ class NotificationPreferenceServiceTest {
 		assertThat(saved.getType()).isEqualTo(type);
 		assertThat(saved.getChannel()).isEqualTo(NotificationChannel.EMAIL);
 		assertThat(saved.isEnabled()).isTrue();
+		verify(preferenceResolver).evict(memberId, workspaceCode);
 	}
 
 	@Test
@@ -83,5 +87,6 @@ class NotificationPreferenceServiceTest {
 		// then
 		assertThat(existing.isEnabled()).isTrue();
 		verify(repository).save(existing);
+		verify(preferenceResolver).evict(memberId, workspaceCode);
 	}
 }
\ No newline at end of file
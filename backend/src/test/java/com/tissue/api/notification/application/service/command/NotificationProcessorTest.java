@@ -3,13 +3,11 @@ package com.tissue.api.notification.application.service.command;
 import static org.mockito.Mockito.*;
 
 import java.util.List;
-import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -22,6 +20,8 @@ import com.tissue.api.notification.domain.model.vo.EntityReference;
 import com.tissue.api.notification.domain.service.sender.NotificationSender;
 import com.tissue.api.notification.infrastructure.repository.NotificationPreferenceRepository;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 class NotificationProcessorTest {
 	@Mock
@@ -33,7 +33,6 @@ class NotificationProcessorTest {
 	@Mock
 	private NotificationSender emailSender;
 
-	@InjectMocks
 	private NotificationProcessor notificationProcessor;
 
 	@BeforeEach
@@ -41,9 +40,11 @@ class NotificationProcessorTest {
 		when(inAppSender.getChannel()).thenReturn(NotificationChannel.IN_APP);
 		when(emailSender.getChannel()).thenReturn(NotificationChannel.EMAIL);
 
-		// injectMocks 안에서 직접 sender list 주입이 안 되므로
+		NotificationPreferenceResolver preferenceResolver = new NotificationPreferenceResolver(
+			preferenceRepository, 100, 10, new SimpleMeterRegistry()
+		);
 		notificationProcessor = new NotificationProcessor(
-			List.of(inAppSender, emailSender), preferenceRepository
+			List.of(inAppSender, emailSender), preferenceResolver
 		);
 	}
 
@@ -61,8 +62,8 @@ class NotificationProcessorTest {
 				.stringKey("ISSUE-1")
 				.build());
 
-		when(preferenceRepository.findByReceiver(any(), any(), any(), any()))
-			.thenReturn(Optional.empty());
+		when(preferenceRepository.findAllByWorkspaceCodeAndReceiverMemberIdIn(eq("TESTCODE"), any()))
+			.thenReturn(List.of());
 
 		// when
 		notificationProcessor.process(notification);
@@ -86,14 +87,11 @@ class NotificationProcessorTest {
 				.stringKey("ISSUE-1")
 				.build());
 
-		when(preferenceRepository.findByReceiver(any(), any(), any(), eq(NotificationChannel.IN_APP)))
-			.thenReturn(Optional.of(
-				new NotificationPreference(1L, "TEST", NotificationType.ISSUE_CREATED, NotificationChannel.IN_APP,
-					true)));
-
-		when(preferenceRepository.findByReceiver(any(), any(), any(), eq(NotificationChannel.EMAIL)))
-			.thenReturn(Optional.of(
-				new NotificationPreference(1L, "TEST", NotificationType.ISSUE_CREATED, NotificationChannel.EMAIL,
+		when(preferenceRepository.findAllByWorkspaceCodeAndReceiverMemberIdIn(eq("TESTCODE"), any()))
+			.thenReturn(List.of(
+				new NotificationPreference(1L, "TESTCODE", NotificationType.ISSUE_CREATED, NotificationChannel.IN_APP,
+					true),
+				new NotificationPreference(1L, "TESTCODE", NotificationType.ISSUE_CREATED, NotificationChannel.EMAIL,
 					false)));
 
 		// when
@@ -118,14 +116,11 @@ class NotificationProcessorTest {
 				.stringKey("ISSUE-1")
 				.build());
 
-		when(preferenceRepository.findByReceiver(any(), any(), any(), eq(NotificationChannel.IN_APP)))
-			.thenReturn(Optional.of(
-				new NotificationPreference(1L, "TEST", NotificationType.ISSUE_CREATED, NotificationChannel.IN_APP,
-					false)));
-
-		when(preferenceRepository.findByReceiver(any(), any(), any(), eq(NotificationChannel.EMAIL)))
-			.thenReturn(Optional.of(
-				new NotificationPreference(1L, "TEST", NotificationType.ISSUE_CREATED, NotificationChannel.EMAIL,
+		when(preferenceRepository.findAllByWorkspaceCodeAndReceiverMemberIdIn(eq("TESTCODE"), any()))
+			.thenReturn(List.of(
+				new NotificationPreference(1L, "TESTCODE", NotificationType.ISSUE_CREATED, NotificationChannel.IN_APP,
+					false),
+				new NotificationPreference(1L, "TESTCODE", NotificationType.ISSUE_CREATED, NotificationChannel.EMAIL,
 					false)));
 
 		// when
@@ -135,4 +130,41 @@ class NotificationProcessorTest {
 		verify(inAppSender, never()).send(any());
 		verify(emailSender, never()).send(any());
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("여러 알림을 처리해도 수신자 설정은 한 번의 쿼리로 조회되고, 이후에는 캐시를 사용한다")
+	void process_shouldResolvePreferencesOnce_ForBatchOfNotifications() {
+		// given
+		Notification first = mockNotification(1L);
+		Notification second = mockNotification(2L);
+
+		when(preferenceRepository.findAllByWorkspaceCodeAndReceiverMemberIdIn(eq("TESTCODE"), any()))
+			.thenReturn(List.of(
+				new NotificationPreference(2L, "TESTCODE", NotificationType.ISSUE_CREATED, NotificationChannel.EMAIL,
+					false)));
+
+		// when
+		notificationProcessor.process(List.of(first, second));
+		notificationProcessor.process(first);
+
+		// then
+		verify(preferenceRepository, times(1)).findAllByWorkspaceCodeAndReceiverMemberIdIn(eq("TESTCODE"), any());
+		verify(inAppSender, times(2)).send(first);
+		verify(emailSender, times(2)).send(first);
+		verify(inAppSender).send(second);
+		verify(emailSender, never()).send(second);
+	}
+
+	private Notification mockNotification(Long receiverMemberId) {
+		Notification notification = mock(Notification.class);
+		when(notification.getReceiverMemberId()).thenReturn(receiverMemberId);
+		when(notification.getType()).thenReturn(NotificationType.ISSUE_CREATED);
+		when(notification.getEntityReference()).thenReturn(
+			EntityReference.builder()
+				.workspaceCode("TESTCODE")
+				.resourceType(ResourceType.ISSUE)
+				.stringKey("ISSUE-1")
+				.build());
+		return notification;
+	}
+}
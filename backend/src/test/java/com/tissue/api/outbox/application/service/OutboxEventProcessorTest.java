@@ -0,0 +1,217 @@
+package com.tissue.api.outbox.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tissue.api.common.event.DomainEvent;
+import com.tissue.api.common.event.DomainEventHandler;
+import com.tissue.api.issue.domain.event.IssueAssignedEvent;
+import com.tissue.api.issue.domain.model.enums.IssueType;
+import com.tissue.api.outbox.domain.enums.OutboxEventStatus;
+import com.tissue.api.outbox.domain.model.OutboxDelivery;
+import com.tissue.api.outbox.domain.model.OutboxEvent;
+import com.tissue.api.outbox.infrastructure.repository.OutboxDeliveryRepository;
+import com.tissue.api.outbox.infrastructure.repository.OutboxEventRepository;
+import com.tissue.api.outbox.infrastructure.serializer.OutboxPayloadSerializer;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxEventProcessorTest {
+
+	@Mock
+	private OutboxEventRepository outboxEventRepository;
+
+	@Mock
+	private OutboxDeliveryRepository outboxDeliveryRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Mock
+	private DomainEventHandler handler;
+
+	private final OutboxPayloadSerializer serializer = new OutboxPayloadSerializer();
+
+	private final AssignHandler assignHandler = new AssignHandler();
+	private final SearchHandler searchHandler = new SearchHandler();
+
+	private OutboxEventProcessor outboxEventProcessor;
+
+	@BeforeEach
+	void setUp() {
+		outboxEventProcessor = new OutboxEventProcessor(
+			outboxEventRepository,
+			outboxDeliveryRepository,
+			serializer,
+			List.of(handler),
+			new TransactionTemplate(transactionManager),
+			Duration.ofMinutes(5),
+			Duration.ofSeconds(1)
+		);
+	}
+
+	@Test
+	@DisplayName("선점한 이벤트는 역직렬화되어 핸들러에게 전달된다")
+	void process_ShouldHandleEvent_WhenClaimed() {
+		// given
+		IssueAssignedEvent event = new IssueAssignedEvent(1L, "ISSUE-1", "TESTCODE", IssueType.STORY, 10L, 20L);
+		OutboxEvent outboxEvent = OutboxEvent.of(event, serializer.serialize(event));
+
+		when(outboxEventRepository.claim(eq(1L), any(), any())).thenReturn(1);
+		when(outboxEventRepository.findById(1L)).thenReturn(Optional.of(outboxEvent));
+		when(outboxDeliveryRepository.findHandlersByOutboxEventId(1L)).thenReturn(Set.of());
+
+		// when
+		boolean processed = outboxEventProcessor.process(1L);
+
+		// then
+		assertThat(processed).isTrue();
+		verify(handler).handle(argThat(handled -> handled.getEventId().equals(event.getEventId())));
+		verify(outboxDeliveryRepository).save(any(OutboxDelivery.class));
+		assertThat(outboxEvent.getStatus()).isEqualTo(OutboxEventStatus.PUBLISHED);
+	}
+
+	@Test
+	@DisplayName("재시도할 때 이미 처리한 핸들러는 다시 실행하지 않는다")
+	void process_ShouldSkipDeliveredHandler_WhenRetried() {
+		// given
+		outboxEventProcessor = new OutboxEventProcessor(
+			outboxEventRepository,
+			outboxDeliveryRepository,
+			serializer,
+			List.of(assignHandler, searchHandler),
+			new TransactionTemplate(transactionManager),
+			Duration.ofMinutes(5),
+			Duration.ofSeconds(1)
+		);
+		IssueAssignedEvent event = new IssueAssignedEvent(1L, "ISSUE-1", "TESTCODE", IssueType.STORY, 10L, 20L);
+		OutboxEvent outboxEvent = OutboxEvent.of(event, serializer.serialize(event));
+
+		when(outboxEventRepository.claim(eq(1L), any(), any())).thenReturn(1);
+		when(outboxEventRepository.findById(1L)).thenReturn(Optional.of(outboxEvent));
+		when(outboxDeliveryRepository.findHandlersByOutboxEventId(1L))
+			.thenReturn(Set.of(AssignHandler.class.getName()));
+
+		// when
+		outboxEventProcessor.process(1L);
+
+		// then
+		assertThat(assignHandler.handled).isEmpty();
+		assertThat(searchHandler.handled).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("핸들러가 실패해도 다른 핸들러는 실행되고, 성공한 핸들러만 처리 기록이 남는다")
+	void process_ShouldRunOtherHandlers_WhenHandlerFails() {
+		// given
+		outboxEventProcessor = new OutboxEventProcessor(
+			outboxEventRepository,
+			outboxDeliveryRepository,
+			serializer,
+			List.of(assignHandler, searchHandler),
+			new TransactionTemplate(transactionManager),
+			Duration.ofMinutes(5),
+			Duration.ofSeconds(1)
+		);
+		IssueAssignedEvent event = new IssueAssignedEvent(1L, "ISSUE-1", "TESTCODE", IssueType.STORY, 10L, 20L);
+		OutboxEvent outboxEvent = OutboxEvent.of(event, serializer.serialize(event));
+
+		when(outboxEventRepository.claim(eq(1L), any(), any())).thenReturn(1);
+		when(outboxEventRepository.findById(1L)).thenReturn(Optional.of(outboxEvent));
+		when(outboxDeliveryRepository.findHandlersByOutboxEventId(1L)).thenReturn(Set.of());
+		assignHandler.failure = new IllegalStateException("smtp down");
+
+		// when & then
+		assertThatThrownBy(() -> outboxEventProcessor.process(1L))
+			.isInstanceOf(IllegalStateException.class);
+		assertThat(searchHandler.handled).hasSize(1);
+		verify(outboxDeliveryRepository, times(1)).save(any(OutboxDelivery.class));
+		assertThat(outboxEvent.getStatus()).isEqualTo(OutboxEventStatus.PENDING);
+	}
+
+	@Test
+	@DisplayName("다른 디스패처가 이미 처리한 이벤트는 다시 처리하지 않는다")
+	void process_ShouldSkip_WhenAlreadyClaimed() {
+		// given
+		when(outboxEventRepository.claim(eq(1L), any(), any())).thenReturn(0);
+
+		// when
+		boolean processed = outboxEventProcessor.process(1L);
+
+		// then
+		assertThat(processed).isFalse();
+		verify(outboxEventRepository, never()).findById(any());
+		verify(handler, never()).handle(any(DomainEvent.class));
+	}
+
+	@Test
+	@DisplayName("실패하면 백오프 후 다시 처리할 수 있는 PENDING 상태가 된다")
+	void recordFailure_ShouldScheduleRetryWithBackoff() {
+		// given
+		IssueAssignedEvent event = new IssueAssignedEvent(1L, "ISSUE-1", "TESTCODE", IssueType.STORY, 10L, 20L);
+		OutboxEvent outboxEvent = OutboxEvent.of(event, serializer.serialize(event));
+		when(outboxEventRepository.findById(1L)).thenReturn(Optional.of(outboxEvent));
+
+		// when
+		outboxEventProcessor.recordFailure(1L, "first", 5);
+		outboxEventProcessor.recordFailure(1L, "second", 5);
+
+		// then
+		assertThat(outboxEvent.getStatus()).isEqualTo(OutboxEventStatus.PENDING);
+		assertThat(outboxEvent.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(1));
+	}
+
+	@Test
+	@DisplayName("최대 시도 횟수만큼 실패하면 FAILED 상태가 된다")
+	void recordFailure_ShouldMarkFailed_WhenMaxAttemptsReached() {
+		// given
+		IssueAssignedEvent event = new IssueAssignedEvent(1L, "ISSUE-1", "TESTCODE", IssueType.STORY, 10L, 20L);
+		OutboxEvent outboxEvent = OutboxEvent.of(event, serializer.serialize(event));
+		when(outboxEventRepository.findById(1L)).thenReturn(Optional.of(outboxEvent));
+
+		// when
+		outboxEventProcessor.recordFailure(1L, "first", 2);
+		outboxEventProcessor.recordFailure(1L, "second", 2);
+
+		// then
+		assertThat(outboxEvent.getAttempts()).isEqualTo(2);
+		assertThat(outboxEvent.getLastError()).isEqualTo("second");
+		assertThat(outboxEvent.getStatus()).isEqualTo(OutboxEventStatus.FAILED);
+	}
+
+	private static class RecordingHandler implements DomainEventHandler {
+
+		private final List<DomainEvent> handled = new ArrayList<>();
+		private RuntimeException failure;
+
+		@Override
+		public void handle(DomainEvent event) {
+			if (failure != null) {
+				throw failure;
+			}
+			handled.add(event);
+		}
+	}
+
+	private static class AssignHandler extends RecordingHandler {
+	}
+
+	private static class SearchHandler extends RecordingHandler {
+	}
+}
@@ -0,0 +1,78 @@
+package com.tissue.api.outbox.infrastructure.serializer;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.util.ClassUtils;
+
+import com.tissue.api.common.event.DomainEvent;
+import com.tissue.api.issue.domain.event.IssueAssignedEvent;
+import com.tissue.api.issue.domain.event.IssuesStatusChangedEvent;
+import com.tissue.api.issue.domain.model.enums.IssueType;
+
+class OutboxPayloadSerializerTest {
+
+	private final OutboxPayloadSerializer serializer = new OutboxPayloadSerializer();
+
+	@Test
+	@DisplayName("직렬화 후 역직렬화한 이벤트는 eventId, occurredAt을 포함한 모든 값을 유지한다")
+	void serializeAndDeserialize_ShouldKeepEventIdentity() {
+		// given
+		IssueAssignedEvent event = new IssueAssignedEvent(1L, "ISSUE-1", "TESTCODE", IssueType.STORY, 10L, 20L);
+
+		// when
+		DomainEvent restored = serializer.deserialize(serializer.serialize(event));
+
+		// then
+		assertThat(restored).isInstanceOf(IssueAssignedEvent.class);
+		IssueAssignedEvent assigned = (IssueAssignedEvent)restored;
+		assertThat(assigned.getEventId()).isEqualTo(event.getEventId());
+		assertThat(assigned.getOccurredAt()).isEqualTo(event.getOccurredAt());
+		assertThat(assigned.getIssueKey()).isEqualTo("ISSUE-1");
+		assertThat(assigned.getWorkspaceCode()).isEqualTo("TESTCODE");
+		assertThat(assigned.getAssignedMemberId()).isEqualTo(20L);
+	}
+
+	@Test
+	@DisplayName("outbox에 저장되는 모든 이벤트 클래스는 serialVersionUID를 명시한다")
+	void allDomainEvents_DeclareSerialVersionUid() {
+		// given
+		ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+			@Override
+			protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+				return !beanDefinition.getMetadata().isInterface();
+			}
+		};
+		scanner.addIncludeFilter(new AssignableTypeFilter(DomainEvent.class));
+
+		List<Class<?>> eventClasses = scanner.findCandidateComponents("com.tissue.api").stream()
+			.map(BeanDefinition::getBeanClassName)
+			.map(className -> ClassUtils.resolveClassName(className, getClass().getClassLoader()))
+			.toList();
+
+		// when & then
+		assertThat(eventClasses).isNotEmpty();
+		assertThat(eventClasses).allSatisfy(eventClass -> assertThat(declaresSerialVersionUid(eventClass))
+			.as(eventClass.getName())
+			.isTrue());
+		assertThat(declaresSerialVersionUid(IssuesStatusChangedEvent.IssueStatusChange.class)).isTrue();
+	}
+
+	private boolean declaresSerialVersionUid(Class<?> type) {
+		try {
+			Field field = type.getDeclaredField("serialVersionUID");
+			return Modifier.isStatic(field.getModifiers()) && field.getType() == long.class;
+		} catch (NoSuchFieldException e) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,133 @@
+package com.tissue.api.security.authentication.strategy;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.tissue.api.security.authentication.presentation.dto.response.LoginResponse;
+import com.tissue.api.security.authentication.token.AuthTokenCodec;
+import com.tissue.api.security.authentication.token.TokenRevocationList;
+
+class TokenAuthenticationStrategyTest {
+
+	private static final Long MEMBER_ID = 1L;
+
+	private AuthTokenCodec tokenCodec;
+	private List<String> broadcasts;
+	private TokenAuthenticationStrategy strategy;
+
+	@BeforeEach
+	void setUp() {
+		tokenCodec = new AuthTokenCodec("test-secret-test-secret-test-secret");
+		broadcasts = new ArrayList<>();
+		strategy = new TokenAuthenticationStrategy(
+			tokenCodec,
+			new TokenRevocationList(100),
+			Duration.ofHours(1),
+			broadcasts::add
+		);
+	}
+
+	@Test
+	@DisplayName("로그인하면 발급한 토큰으로 로그인 멤버를 식별할 수 있다")
+	void findLoginMemberId_returnsMemberId_withIssuedToken() {
+		// given
+		String token = login();
+
+		// when & then
+		assertThat(strategy.findLoginMemberId(requestWith(token))).contains(MEMBER_ID);
+	}
+
+	@Test
+	@DisplayName("Authorization 헤더가 없으면 로그인 멤버를 찾을 수 없다")
+	void findLoginMemberId_returnsEmpty_withoutAuthorizationHeader() {
+		assertThat(strategy.findLoginMemberId(new MockHttpServletRequest())).isEmpty();
+	}
+
+	@Test
+	@DisplayName("만료된 토큰으로는 로그인 멤버를 찾을 수 없다")
+	void findLoginMemberId_returnsEmpty_ifTokenExpired() {
+		// given
+		long expiredAt = Instant.now().minusSeconds(1).getEpochSecond();
+		String token = tokenCodec.encode(tokenCodec.newToken(MEMBER_ID, expiredAt));
+
+		// when & then
+		assertThat(strategy.findLoginMemberId(requestWith(token))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("로그아웃한 토큰은 폐기되고 다른 노드로 전파된다")
+	void logout_revokesTokenAndBroadcasts() {
+		// given
+		String token = login();
+
+		// when
+		strategy.logout(requestWith(token));
+
+		// then
+		assertThat(strategy.findLoginMemberId(requestWith(token))).isEmpty();
+		assertThat(broadcasts).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("다른 노드에서 폐기한 토큰은 로컬에서도 거부된다")
+	void onRevocationBroadcast_revokesTokenLocally() {
+		// given
+		String token = login();
+		strategy.logout(requestWith(token));
+
+		TokenAuthenticationStrategy otherNode = new TokenAuthenticationStrategy(
+			tokenCodec,
+			new TokenRevocationList(100),
+			Duration.ofHours(1),
+			payload -> {
+			}
+		);
+		assertThat(otherNode.findLoginMemberId(requestWith(token))).contains(MEMBER_ID);
+
+		// when
+		otherNode.onRevocationBroadcast(broadcasts.get(0));
+
+		// then
+		assertThat(otherNode.findLoginMemberId(requestWith(token))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("형식이 잘못된 폐기 메시지는 예외 없이 무시한다")
+	void onRevocationBroadcast_ignoresMalformedPayload() {
+		// given
+		String token = login();
+
+		// when & then
+		assertThatNoException().isThrownBy(() -> {
+			strategy.onRevocationBroadcast("not-a-number:123");
+			strategy.onRevocationBroadcast("123:");
+			strategy.onRevocationBroadcast("malformed");
+		});
+		assertThat(strategy.findLoginMemberId(requestWith(token))).contains(MEMBER_ID);
+	}
+
+	private String login() {
+		LoginResponse loginResponse = LoginResponse.builder()
+			.memberId(MEMBER_ID)
+			.loginId("user123")
+			.build();
+
+		return strategy.login(new MockHttpServletRequest(), loginResponse).orElseThrow();
+	}
+
+	private MockHttpServletRequest requestWith(String token) {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+		return request;
+	}
+}
@@ -0,0 +1,64 @@
+package com.tissue.api.security.authentication.token;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AuthTokenCodecTest {
+
+	private static final String SECRET = "test-secret-test-secret-test-secret";
+
+	private final AuthTokenCodec codec = new AuthTokenCodec(SECRET);
+
+	@Test
+	@DisplayName("인코딩한 토큰을 디코딩하면 같은 토큰이 나온다")
+	void decode_returnsSameToken() {
+		// given
+		AuthToken token = codec.newToken(1L, 1_700_000_000L);
+
+		// when
+		String encoded = codec.encode(token);
+
+		// then
+		assertThat(codec.decode(encoded)).contains(token);
+	}
+
+	@Test
+	@DisplayName("payload가 변조된 토큰은 디코딩할 수 없다")
+	void decode_returnsEmpty_ifPayloadTampered() {
+		// given
+		String encoded = codec.encode(codec.newToken(1L, 1_700_000_000L));
+		String otherPayload = codec.encode(codec.newToken(2L, 1_700_000_000L)).split("\\.")[0];
+		String tampered = otherPayload + encoded.substring(encoded.indexOf('.'));
+
+		// when & then
+		assertThat(codec.decode(tampered)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("다른 secret으로 서명한 토큰은 디코딩할 수 없다")
+	void decode_returnsEmpty_ifSignedWithOtherSecret() {
+		// given
+		AuthTokenCodec otherCodec = new AuthTokenCodec("other-secret-other-secret-other-secret");
+		String encoded = otherCodec.encode(otherCodec.newToken(1L, 1_700_000_000L));
+
+		// when & then
+		assertThat(codec.decode(encoded)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("형식이 잘못된 토큰은 디코딩할 수 없다")
+	void decode_returnsEmpty_ifMalformed() {
+		assertThat(codec.decode("not-a-token")).isEmpty();
+		assertThat(codec.decode("abc.def")).isEmpty();
+		assertThat(codec.decode("!!!.???")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("secret이 32 bytes보다 짧으면 예외가 발생한다")
+	void constructor_throws_ifSecretTooShort() {
+		assertThatThrownBy(() -> new AuthTokenCodec("short"))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
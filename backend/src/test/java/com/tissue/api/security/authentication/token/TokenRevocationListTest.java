@@ -0,0 +1,99 @@
+package com.tissue.api.security.authentication.token;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.tissue.api.common.exception.type.TooManyRequestsException;
+
+class TokenRevocationListTest {
+
+	private static final long MEMBER_ID = 1L;
+	private static final long OTHER_MEMBER_ID = 2L;
+
+	private final long expiresAt = Instant.now().plusSeconds(3600).getEpochSecond();
+
+	@Test
+	@DisplayName("멤버별 제한을 넘으면 기존 엔트리를 버리지 않고 그 멤버의 새 로그아웃만 거부한다")
+	void revoke_throwsException_ifMemberLimitIsReached() {
+		// given
+		TokenRevocationList revocationList = new TokenRevocationList(2);
+		revocationList.revoke(MEMBER_ID, 1L, expiresAt);
+		revocationList.revoke(MEMBER_ID, 2L, expiresAt);
+
+		// when & then
+		assertThatThrownBy(() -> revocationList.revoke(MEMBER_ID, 3L, expiresAt))
+			.isInstanceOf(TooManyRequestsException.class);
+		assertThat(revocationList.isRevoked(1L)).isTrue();
+		assertThat(revocationList.isRevoked(2L)).isTrue();
+		assertThat(revocationList.isRevoked(3L)).isFalse();
+	}
+
+	@Test
+	@DisplayName("한 멤버가 제한에 도달해도 다른 멤버는 로그아웃할 수 있다")
+	void revoke_succeedsForOtherMember_ifOneMemberLimitIsReached() {
+		// given
+		TokenRevocationList revocationList = new TokenRevocationList(1);
+		revocationList.revoke(MEMBER_ID, 1L, expiresAt);
+
+		// when
+		revocationList.revoke(OTHER_MEMBER_ID, 2L, expiresAt);
+
+		// then
+		assertThat(revocationList.isRevoked(2L)).isTrue();
+	}
+
+	@Test
+	@DisplayName("같은 토큰을 다시 폐기해도 멤버별 수가 늘어나지 않는다")
+	void revoke_isIdempotent_forSameToken() {
+		// given
+		TokenRevocationList revocationList = new TokenRevocationList(2);
+		revocationList.revoke(MEMBER_ID, 1L, expiresAt);
+		revocationList.revoke(MEMBER_ID, 1L, expiresAt);
+
+		// when
+		revocationList.revoke(MEMBER_ID, 2L, expiresAt);
+
+		// then
+		assertThat(revocationList.isRevoked(2L)).isTrue();
+	}
+
+	@Test
+	@DisplayName("만료된 엔트리가 정리되면 다시 로그아웃할 수 있다")
+	void revoke_succeeds_afterExpiredEntriesAreRemoved() {
+		// given
+		TokenRevocationList revocationList = new TokenRevocationList(1);
+		revocationList.revoke(MEMBER_ID, 1L, Instant.now().minusSeconds(1).getEpochSecond());
+
+		// when
+		revocationList.revoke(MEMBER_ID, 2L, expiresAt);
+
+		// then
+		assertThat(revocationList.isRevoked(1L)).isFalse();
+		assertThat(revocationList.isRevoked(2L)).isTrue();
+	}
+
+	@Test
+	@DisplayName("로그아웃한 토큰만 저장하고, 다른 노드에서 받은 엔트리는 제한 없이 반영한다")
+	void restore_ignoresLimitAndIsNotPersisted() {
+		// given
+		List<Long> persisted = new ArrayList<>();
+		TokenRevocationList revocationList = new TokenRevocationList(1,
+			(tokenId, tokenExpiresAt) -> persisted.add(tokenId));
+		revocationList.revoke(MEMBER_ID, 1L, expiresAt);
+
+		// when
+		revocationList.restore(2L, expiresAt);
+		revocationList.restore(3L, expiresAt);
+
+		// then
+		assertThat(revocationList.isRevoked(2L)).isTrue();
+		assertThat(revocationList.isRevoked(3L)).isTrue();
+		assertThat(persisted).containsExactly(1L);
+	}
+}
@@ -20,9 +20,9 @@ import com.tissue.api.common.exception.type.AuthenticationFailedException;
 import com.tissue.api.common.exception.type.ForbiddenOperationException;
 import com.tissue.api.common.exception.type.InvalidRequestException;
 import com.tissue.api.security.session.SessionManager;
-import com.tissue.api.workspacemember.domain.model.WorkspaceMember;
+import com.tissue.api.workspacemember.application.service.command.WorkspaceMembershipResolver;
 import com.tissue.api.workspacemember.domain.model.enums.WorkspaceRole;
-import com.tissue.api.workspacemember.application.service.command.WorkspaceMemberReader;
+import com.tissue.api.workspacemember.domain.model.vo.WorkspaceMembership;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -34,7 +34,7 @@ class SelfOrRoleRequiredInterceptorTest {
 	@Mock
 	private SessionManager sessionManager;
 	@Mock
-	private WorkspaceMemberReader workspaceMemberReader;
+	private WorkspaceMembershipResolver workspaceMembershipResolver;
 	@Mock
 	private HttpServletRequest request;
 	@Mock
@@ -47,19 +47,6 @@ class SelfOrRoleRequiredInterceptorTest {
 	@InjectMocks
 	private SelfOrRoleRequiredInterceptor interceptor;
 
-	static class TestWorkspaceMember extends WorkspaceMember {
-		private final WorkspaceRole role;
-
-		public TestWorkspaceMember(WorkspaceRole role) {
-			this.role = role;
-		}
-
-		@Override
-		public WorkspaceRole getRole() {
-			return role;
-		}
-	}
-
 	@Test
 	@DisplayName("annotation이 없으면 true 반환")
 	void preHandle_returnsTrue_ifNoAnnotation() {
@@ -113,9 +100,9 @@ class SelfOrRoleRequiredInterceptorTest {
 		when(request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE)).thenReturn(pathVars);
 
 		// 권한 충분한 워크스페이스 멤버 모킹
-		TestWorkspaceMember member = new TestWorkspaceMember(WorkspaceRole.MANAGER);
-		when(workspaceMemberReader.findWorkspaceMember(loginMemberId, "WORKSPACE2"))
-			.thenReturn(member);
+		WorkspaceMembership membership = new WorkspaceMembership(1L, WorkspaceRole.MANAGER);
+		when(workspaceMembershipResolver.resolve(loginMemberId, "WORKSPACE2"))
+			.thenReturn(membership);
 
 		boolean result = interceptor.preHandle(request, response, handlerMethod);
 
@@ -142,9 +129,9 @@ class SelfOrRoleRequiredInterceptorTest {
 		when(request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE)).thenReturn(pathVars);
 
 		// 권한 낮은 멤버 모킹
-		TestWorkspaceMember member = new TestWorkspaceMember(WorkspaceRole.MEMBER);
-		when(workspaceMemberReader.findWorkspaceMember(loginMemberId, "WORKSPACE2"))
-			.thenReturn(member);
+		WorkspaceMembership membership = new WorkspaceMembership(1L, WorkspaceRole.MEMBER);
+		when(workspaceMembershipResolver.resolve(loginMemberId, "WORKSPACE2"))
+			.thenReturn(membership);
 
 		assertThatThrownBy(() -> interceptor.preHandle(request, response, handlerMethod))
 			.isInstanceOf(ForbiddenOperationException.class)
@@ -0,0 +1,132 @@
+package com.tissue.api.security.interceptor;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.tissue.api.security.authentication.interceptor.AuthenticationInterceptor;
+import com.tissue.api.security.authentication.strategy.SessionAuthenticationStrategy;
+import com.tissue.api.security.authorization.interceptor.RoleRequiredInterceptor;
+import com.tissue.api.security.authorization.interceptor.SelfOrRoleRequiredInterceptor;
+import com.tissue.api.security.session.SessionAttributes;
+import com.tissue.api.security.session.SessionManager;
+import com.tissue.api.security.session.SessionValidator;
+import com.tissue.api.workspacemember.application.service.command.WorkspaceMembershipResolver;
+import com.tissue.api.workspacemember.domain.model.enums.WorkspaceRole;
+import com.tissue.api.workspacemember.domain.model.vo.WorkspaceMembership;
+import com.tissue.api.workspacemember.infrastructure.repository.WorkspaceMemberRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기존 인터셉터 체인(3개)과 descriptor 기반 단일 인터셉터의 요청 당 처리 시간을 비교한다
+ *  - 멤버십은 두 경우 모두 같은 resolver 캐시에서 읽으므로, 애노테이션 처리 비용의 차이만 측정된다
+ *  - test 태스크에서는 제외되며 ./gradlew benchmark로 실행한다
+ */
+@Slf4j
+@Tag("benchmark")
+class HandlerSecurityInterceptorBenchmarkTest {
+
+	private static final int WARMUP_ITERATIONS = 200_000;
+	private static final int ITERATIONS = 1_000_000;
+
+	private final WorkspaceMemberRepository workspaceMemberRepository = mock(WorkspaceMemberRepository.class);
+
+	@Test
+	@DisplayName("단일 인터셉터는 인터셉터 체인과 같은 요청을 통과시키며 더 빠르다")
+	void combinedAndChain_allowSameRequest() throws Exception {
+		// given
+		SessionManager sessionManager = new SessionManager(null);
+		SessionValidator sessionValidator = new SessionValidator(sessionManager);
+		WorkspaceMembershipResolver resolver = membershipResolver();
+
+		List<HandlerInterceptor> chain = List.of(
+			new AuthenticationInterceptor(sessionValidator),
+			new RoleRequiredInterceptor(sessionManager, resolver),
+			new SelfOrRoleRequiredInterceptor(sessionManager, resolver)
+		);
+		List<HandlerInterceptor> combined = List.of(
+			new HandlerSecurityInterceptor(new HandlerSecurityDescriptorRegistry(),
+				new SessionAuthenticationStrategy(sessionManager), resolver)
+		);
+
+		HandlerMethod handler = HandlerSecurityInterceptorTest.handler("memberRequired");
+		MockHttpServletRequest request = loggedInRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		// when
+		double chainNanos = measure(chain, request, response, handler);
+		double combinedNanos = measure(combined, request, response, handler);
+
+		// then
+		log.info("handler security benchmark: chain {} ns/op, combined {} ns/op",
+			String.format("%.1f", chainNanos), String.format("%.1f", combinedNanos));
+
+		assertThat(runAll(chain, request, response, handler)).isTrue();
+		assertThat(runAll(combined, request, response, handler)).isTrue();
+		assertThat(combinedNanos).isLessThan(chainNanos);
+		// 모든 반복에서 멤버십은 resolver 캐시에서 읽는다
+		verify(workspaceMemberRepository, times(1)).findMembershipByMemberIdAndWorkspaceCode(1L, "TESTCODE");
+	}
+
+	private double measure(
+		List<HandlerInterceptor> interceptors,
+		MockHttpServletRequest request,
+		MockHttpServletResponse response,
+		HandlerMethod handler
+	) throws Exception {
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			runAll(interceptors, request, response, handler);
+		}
+
+		long startedAt = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			runAll(interceptors, request, response, handler);
+		}
+		return (System.nanoTime() - startedAt) / (double)ITERATIONS;
+	}
+
+	private boolean runAll(
+		List<HandlerInterceptor> interceptors,
+		MockHttpServletRequest request,
+		MockHttpServletResponse response,
+		HandlerMethod handler
+	) throws Exception {
+		boolean allowed = true;
+		for (HandlerInterceptor interceptor : interceptors) {
+			allowed &= interceptor.preHandle(request, response, handler);
+		}
+		return allowed;
+	}
+
+	private WorkspaceMembershipResolver membershipResolver() {
+		when(workspaceMemberRepository.findMembershipByMemberIdAndWorkspaceCode(1L, "TESTCODE"))
+			.thenReturn(Optional.of(new WorkspaceMembership(10L, WorkspaceRole.MEMBER)));
+
+		return new WorkspaceMembershipResolver(workspaceMemberRepository, 100, 600, new SimpleMeterRegistry());
+	}
+
+	private MockHttpServletRequest loggedInRequest() {
+		MockHttpSession session = new MockHttpSession();
+		session.setAttribute(SessionAttributes.LOGIN_MEMBER_ID, 1L);
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setSession(session);
+		request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("workspaceCode", "TESTCODE"));
+		return request;
+	}
+}
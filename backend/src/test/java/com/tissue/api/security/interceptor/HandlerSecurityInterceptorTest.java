@@ -0,0 +1,139 @@
+package com.tissue.api.security.interceptor;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.tissue.api.common.exception.type.AuthenticationFailedException;
+import com.tissue.api.common.exception.type.ForbiddenOperationException;
+import com.tissue.api.security.authentication.interceptor.LoginRequired;
+import com.tissue.api.security.authentication.strategy.SessionAuthenticationStrategy;
+import com.tissue.api.security.authorization.interceptor.RoleRequired;
+import com.tissue.api.security.authorization.interceptor.SelfOrRoleRequired;
+import com.tissue.api.security.session.SessionAttributes;
+import com.tissue.api.security.session.SessionManager;
+import com.tissue.api.workspacemember.application.service.command.WorkspaceMembershipResolver;
+import com.tissue.api.workspacemember.domain.model.enums.WorkspaceRole;
+import com.tissue.api.workspacemember.domain.model.vo.WorkspaceMembership;
+
+class HandlerSecurityInterceptorTest {
+
+	private static final String WORKSPACE_CODE = "TESTCODE";
+	private static final Long LOGIN_MEMBER_ID = 1L;
+
+	private WorkspaceMembershipResolver workspaceMembershipResolver;
+	private HandlerSecurityDescriptorRegistry descriptorRegistry;
+	private HandlerSecurityInterceptor interceptor;
+
+	private MockHttpServletRequest request;
+	private MockHttpServletResponse response;
+
+	@BeforeEach
+	void setUp() {
+		workspaceMembershipResolver = mock(WorkspaceMembershipResolver.class);
+		descriptorRegistry = new HandlerSecurityDescriptorRegistry();
+		interceptor = new HandlerSecurityInterceptor(
+			descriptorRegistry,
+			new SessionAuthenticationStrategy(new SessionManager(null)),
+			workspaceMembershipResolver
+		);
+
+		request = new MockHttpServletRequest();
+		response = new MockHttpServletResponse();
+	}
+
+	@Test
+	@DisplayName("보안 애노테이션이 없는 핸들러는 세션 없이 통과한다")
+	void preHandle_returnsTrue_ifNoSecurityAnnotation() throws Exception {
+		assertThat(interceptor.preHandle(request, response, handler("open"))).isTrue();
+	}
+
+	@Test
+	@DisplayName("@LoginRequired 핸들러에 로그인 세션이 없으면 예외가 발생한다")
+	void preHandle_throws_ifLoginRequiredAndNotLoggedIn() {
+		assertThatThrownBy(() -> interceptor.preHandle(request, response, handler("loginRequired")))
+			.isInstanceOf(AuthenticationFailedException.class);
+	}
+
+	@Test
+	@DisplayName("@RoleRequired 핸들러는 멤버십의 역할이 낮으면 예외가 발생한다")
+	void preHandle_throws_ifRoleIsLowerThanRequired() {
+		// given
+		login();
+		when(workspaceMembershipResolver.resolve(LOGIN_MEMBER_ID, WORKSPACE_CODE))
+			.thenReturn(new WorkspaceMembership(10L, WorkspaceRole.VIEWER));
+
+		// when & then
+		assertThatThrownBy(() -> interceptor.preHandle(request, response, handler("memberRequired")))
+			.isInstanceOf(ForbiddenOperationException.class)
+			.hasMessageContaining("Workspace role must be at least");
+	}
+
+	@Test
+	@DisplayName("@SelfOrRoleRequired 핸들러는 자기 자신이면 멤버십을 조회하지 않고 통과한다")
+	void preHandle_skipsMembership_ifSelf() throws Exception {
+		// given
+		login();
+		request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE,
+			Map.of("workspaceCode", WORKSPACE_CODE, "memberId", LOGIN_MEMBER_ID.toString()));
+
+		// when
+		boolean result = interceptor.preHandle(request, response, handler("selfOrManager"));
+
+		// then
+		assertThat(result).isTrue();
+		verifyNoInteractions(workspaceMembershipResolver);
+	}
+
+	@Test
+	@DisplayName("같은 메서드의 HandlerMethod 인스턴스가 달라도 descriptor는 한 번만 만들어진다")
+	void descriptor_isSharedAcrossHandlerMethodInstances() throws Exception {
+		HandlerSecurityDescriptor first = descriptorRegistry.get(handler("memberRequired"));
+		HandlerSecurityDescriptor second = descriptorRegistry.get(handler("memberRequired"));
+
+		assertThat(second).isSameAs(first);
+		assertThat(first.loginRequired()).isTrue();
+		assertThat(first.requiredRole()).isEqualTo(WorkspaceRole.MEMBER);
+	}
+
+	private void login() {
+		MockHttpSession session = new MockHttpSession();
+		session.setAttribute(SessionAttributes.LOGIN_MEMBER_ID, LOGIN_MEMBER_ID);
+		request.setSession(session);
+		request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("workspaceCode", WORKSPACE_CODE));
+	}
+
+	static HandlerMethod handler(String methodName) throws NoSuchMethodException {
+		return new HandlerMethod(new TestController(), methodName);
+	}
+
+	static class TestController {
+
+		public void open() {
+		}
+
+		@LoginRequired
+		public void loginRequired() {
+		}
+
+		@LoginRequired
+		@RoleRequired(role = WorkspaceRole.MEMBER)
+		public void memberRequired() {
+		}
+
+		@LoginRequired
+		@SelfOrRoleRequired(role = WorkspaceRole.MANAGER)
+		public void selfOrManager() {
+		}
+	}
+}
@@ -0,0 +1,170 @@
+package com.tissue.api.security.password;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.tissue.api.common.exception.type.TooManyRequestsException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordHashingExecutorTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private PasswordHashingExecutor hashingExecutor;
+	private ExecutorService callers;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		hashingExecutor = new PasswordHashingExecutor(1, 1, 2000, meterRegistry);
+		callers = Executors.newFixedThreadPool(2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		callers.shutdownNow();
+		hashingExecutor.shutdown();
+	}
+
+	@Test
+	@DisplayName("matches는 전용 풀에서 실행한 결과를 반환하고 실행 시간과 대기 시간을 기록한다")
+	void matches_returnsResultAndRecordsMetrics() {
+		// when
+		boolean result = hashingExecutor.matches(() -> true);
+
+		// then
+		assertThat(result).isTrue();
+		assertThat(meterRegistry.get("password.hash.duration").tag("operation", "matches").timer().count())
+			.isEqualTo(1);
+		assertThat(meterRegistry.get("password.hash.queue.wait").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("encode는 풀이 포화되어도 거절하지 않고 호출 스레드에서 실행한다")
+	void encode_runsOnCallerThread_evenIfSaturated() throws Exception {
+		// given - 스레드 1개는 실행 중, 큐 1칸은 대기 중
+		CountDownLatch release = saturate();
+
+		// when
+		try {
+			String result = hashingExecutor.encode(() -> Thread.currentThread().getName());
+
+			// then
+			assertThat(result).isEqualTo(Thread.currentThread().getName());
+			assertThat(meterRegistry.get("password.hash.duration").tag("operation", "encode").timer().count())
+				.isEqualTo(1);
+		} finally {
+			release.countDown();
+		}
+	}
+
+	@Test
+	@DisplayName("스레드와 큐가 모두 사용 중이면 바로 429로 거절한다")
+	void matches_throws_ifSaturated() throws Exception {
+		// given - 스레드 1개는 실행 중, 큐 1칸은 대기 중
+		CountDownLatch release = saturate();
+
+		// when & then
+		try {
+			assertThatThrownBy(() -> hashingExecutor.matches(() -> true))
+				.isInstanceOf(TooManyRequestsException.class);
+			assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+		} finally {
+			release.countDown();
+		}
+	}
+
+	@Test
+	@DisplayName("대기 시간이 timeout을 넘으면 429로 거절한다")
+	void matches_throws_ifTimedOut() {
+		// given
+		PasswordHashingExecutor slowExecutor = new PasswordHashingExecutor(1, 1, 50, new SimpleMeterRegistry());
+		CountDownLatch release = new CountDownLatch(1);
+
+		// when & then
+		try {
+			assertThatThrownBy(() -> slowExecutor.matches(() -> {
+				await(release);
+				return true;
+			})).isInstanceOf(TooManyRequestsException.class);
+		} finally {
+			release.countDown();
+			slowExecutor.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("timeout된 요청이 아직 큐에 있으면 검증을 실행하지 않는다")
+	void matches_skipsQueuedTask_ifTimedOut() throws Exception {
+		// given
+		PasswordHashingExecutor slowExecutor = new PasswordHashingExecutor(1, 2, 50, new SimpleMeterRegistry());
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicBoolean queuedTaskRan = new AtomicBoolean();
+
+		try {
+			callers.submit(() -> slowExecutor.matches(() -> {
+				started.countDown();
+				await(release);
+				return true;
+			}));
+			assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+			// when
+			assertThatThrownBy(() -> slowExecutor.matches(() -> {
+				queuedTaskRan.set(true);
+				return true;
+			})).isInstanceOf(TooManyRequestsException.class);
+			release.countDown();
+
+			// then - 실행 중이던 작업이 끝난 뒤에도 취소된 작업은 실행되지 않는다
+			assertThat(slowExecutor.matches(() -> true)).isTrue();
+			assertThat(queuedTaskRan).isFalse();
+		} finally {
+			release.countDown();
+			slowExecutor.shutdown();
+		}
+	}
+
+	private CountDownLatch saturate() throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		callers.submit(() -> hashingExecutor.matches(() -> {
+			started.countDown();
+			await(release);
+			return true;
+		}));
+		assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+		callers.submit(() -> hashingExecutor.matches(() -> true));
+		waitUntilQueued();
+		return release;
+	}
+
+	private void waitUntilQueued() throws InterruptedException {
+		for (int i = 0; i < 100; i++) {
+			if (meterRegistry.get("executor.queued").tag("name", "passwordHash").gauge().value() == 1) {
+				return;
+			}
+			Thread.sleep(10);
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package com.tissue.api.security.password;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class VerifiedPasswordCacheTest {
+
+	private final VerifiedPasswordCache cache = new VerifiedPasswordCache(100, 60, new SimpleMeterRegistry());
+
+	@Test
+	@DisplayName("검증에 성공한 비밀번호와 해시 조합만 검증된 것으로 본다")
+	void isVerified_onlyForMarkedCombination() {
+		// when
+		cache.markVerified("password1234!", "$2a$10$hash");
+
+		// then
+		assertThat(cache.isVerified("password1234!", "$2a$10$hash")).isTrue();
+		assertThat(cache.isVerified("wrong1234!", "$2a$10$hash")).isFalse();
+	}
+
+	@Test
+	@DisplayName("저장된 해시가 바뀌면 이전 검증 결과를 사용하지 않는다")
+	void isVerified_returnsFalse_ifEncodedPasswordChanged() {
+		// when
+		cache.markVerified("password1234!", "$2a$10$before");
+
+		// then
+		assertThat(cache.isVerified("password1234!", "$2a$10$after")).isFalse();
+	}
+}
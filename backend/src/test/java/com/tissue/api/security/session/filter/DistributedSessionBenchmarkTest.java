@@ -0,0 +1,120 @@
+package com.tissue.api.security.session.filter;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.tissue.api.common.enums.PermissionType;
+import com.tissue.api.security.session.SessionAttributes;
+import com.tissue.api.security.session.SessionManager;
+import com.tissue.api.security.session.store.InMemorySessionStore;
+import com.tissue.api.security.session.store.NearCachedSessionStore;
+import com.tissue.api.security.session.store.SessionInvalidationBroadcaster;
+import com.tissue.api.security.session.store.SessionSnapshot;
+import com.tissue.api.security.session.store.SessionSnapshotCodec;
+import com.tissue.api.security.session.store.SessionStore;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청 당 인증 오버헤드(세션 필터 + 로그인 멤버 조회)의 p50/p99를 측정한다
+ *  - remote: 매 요청 저장소에서 디코딩(Redis 조회에서 네트워크 왕복을 뺀 비용)
+ *  - near-cache: 노드 로컬 캐시 적중
+ *  - test 태스크에서는 제외되며 ./gradlew benchmark로 실행한다
+ */
+@Slf4j
+@Tag("benchmark")
+class DistributedSessionBenchmarkTest {
+
+	private static final int WARMUP_REQUESTS = 20_000;
+	private static final int REQUESTS = 100_000;
+	private static final String SESSION_ID = "benchmark-session";
+
+	private final SessionManager sessionManager = new SessionManager(null);
+
+	@Test
+	@DisplayName("near-cache 적중 시 요청 당 인증 오버헤드가 매 요청 저장소를 조회할 때보다 작다")
+	void measureAuthenticationOverhead() throws Exception {
+		// given
+		AtomicInteger remoteFinds = new AtomicInteger();
+		SessionStore remote = new InMemorySessionStore(new SessionSnapshotCodec()) {
+			@Override
+			public Optional<SessionSnapshot> find(String sessionId) {
+				remoteFinds.incrementAndGet();
+				return super.find(sessionId);
+			}
+		};
+		remote.create(new SessionSnapshot(SESSION_ID, System.currentTimeMillis(), System.currentTimeMillis(), 1800, Map.of(
+			SessionAttributes.LOGIN_MEMBER_ID, 1L,
+			SessionAttributes.LOGIN_MEMBER_LOGIN_ID, "tester",
+			SessionAttributes.LOGIN_MEMBER_EMAIL, "tester@test.com",
+			SessionAttributes.PERMISSION_TYPE, PermissionType.MEMBER_UPDATE,
+			SessionAttributes.PERMISSION_EXISTS, true
+		)));
+		SessionStore nearCached =
+			new NearCachedSessionStore(remote, SessionInvalidationBroadcaster.NONE, 100, 60, new SimpleMeterRegistry());
+
+		// when
+		long[] remoteNanos = measure(remote);
+		int remoteFindsBeforeNearCache = remoteFinds.get();
+		long[] nearCachedNanos = measure(nearCached);
+
+		// then
+		log.info("session auth overhead(remote): p50 {} ns, p99 {} ns",
+			percentile(remoteNanos, 0.50), percentile(remoteNanos, 0.99));
+		log.info("session auth overhead(near-cache): p50 {} ns, p99 {} ns",
+			percentile(nearCachedNanos, 0.50), percentile(nearCachedNanos, 0.99));
+
+		assertThat(percentile(nearCachedNanos, 0.50)).isLessThan(percentile(remoteNanos, 0.50));
+		// near-cache는 첫 요청에서만 저장소를 조회한다
+		assertThat(remoteFinds.get() - remoteFindsBeforeNearCache).isEqualTo(1);
+	}
+
+	private long[] measure(SessionStore sessionStore) throws Exception {
+		DistributedSessionFilter filter =
+			new DistributedSessionFilter(sessionStore, new DistributedSessionProperties("SESSION", 1800, 60));
+		FilterChain chain = (request, response) -> sessionManager
+			.getOptionalLoginMemberId(((HttpServletRequest)request).getSession(false))
+			.orElseThrow();
+
+		for (int i = 0; i < WARMUP_REQUESTS; i++) {
+			filter.doFilter(request(), new MockHttpServletResponse(), chain);
+		}
+
+		long[] elapsed = new long[REQUESTS];
+		for (int i = 0; i < REQUESTS; i++) {
+			MockHttpServletRequest request = request();
+			MockHttpServletResponse response = new MockHttpServletResponse();
+
+			long startedAt = System.nanoTime();
+			filter.doFilter(request, response, chain);
+			elapsed[i] = System.nanoTime() - startedAt;
+		}
+		return elapsed;
+	}
+
+	private MockHttpServletRequest request() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setCookies(new Cookie("SESSION", SESSION_ID));
+		return request;
+	}
+
+	private long percentile(long[] values, double percentile) {
+		long[] sorted = values.clone();
+		Arrays.sort(sorted);
+		return sorted[(int)Math.ceil(percentile * sorted.length) - 1];
+	}
+}
@@ -0,0 +1,176 @@
+package com.tissue.api.security.session.filter;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.tissue.api.security.session.SessionAttributes;
+import com.tissue.api.security.session.store.InMemorySessionStore;
+import com.tissue.api.security.session.store.NearCachedSessionStore;
+import com.tissue.api.security.session.store.SessionInvalidationBroadcaster;
+import com.tissue.api.security.session.store.SessionSnapshotCodec;
+import com.tissue.api.security.session.store.SessionStore;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+
+class DistributedSessionFilterTest {
+
+	private static final String COOKIE_NAME = "SESSION";
+
+	private SessionStore remoteStore;
+	private DistributedSessionFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		remoteStore = new InMemorySessionStore(new SessionSnapshotCodec());
+		filter = new DistributedSessionFilter(
+			new NearCachedSessionStore(remoteStore, SessionInvalidationBroadcaster.NONE, 100, 5, new SimpleMeterRegistry()),
+			new DistributedSessionProperties(COOKIE_NAME, 1800, 60)
+		);
+	}
+
+	@Test
+	@DisplayName("로그인한 요청에서 만든 세션을 다음 요청에서 쿠키로 읽을 수 있다")
+	void sessionCreatedInOneRequest_isVisibleInNextRequest() throws Exception {
+		// given
+		String sessionId = login(1L);
+
+		// when
+		Object[] loginMemberId = new Object[1];
+		execute(sessionId, request -> loginMemberId[0] = request.getSession(false)
+			.getAttribute(SessionAttributes.LOGIN_MEMBER_ID));
+
+		// then
+		assertThat(loginMemberId[0]).isEqualTo(1L);
+		assertThat(remoteStore.find(sessionId)).isPresent();
+	}
+
+	@Test
+	@DisplayName("세션을 무효화하면 저장소에서 삭제되고 이후 요청에는 세션이 없다")
+	void invalidate_deletesSessionFromStore() throws Exception {
+		// given
+		String sessionId = login(1L);
+
+		// when
+		MockHttpServletResponse response = execute(sessionId, request -> request.getSession(false).invalidate());
+
+		// then
+		HttpSession[] session = new HttpSession[1];
+		execute(sessionId, request -> session[0] = request.getSession(false));
+
+		assertThat(session[0]).isNull();
+		assertThat(remoteStore.find(sessionId)).isEmpty();
+		assertThat(response.getCookie(COOKIE_NAME).getMaxAge()).isZero();
+	}
+
+	@Test
+	@DisplayName("세션을 조회만 한 요청은 저장소에 다시 쓰지 않는다")
+	void readOnlyRequest_doesNotRewriteSession() throws Exception {
+		// given
+		String sessionId = login(1L);
+		long savedAccessTime = remoteStore.find(sessionId).orElseThrow().lastAccessedTime();
+
+		// when
+		execute(sessionId, request -> request.getSession(false).getAttribute(SessionAttributes.LOGIN_MEMBER_ID));
+
+		// then
+		assertThat(remoteStore.find(sessionId).orElseThrow().lastAccessedTime()).isEqualTo(savedAccessTime);
+	}
+
+	@Test
+	@DisplayName("로그인 응답이 클라이언트로 나가기 전에 세션이 저장되어, 응답 직후의 요청이 세션을 읽을 수 있다")
+	void loginSession_isStoredBeforeResponseIsFlushed() throws Exception {
+		// given
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		Object[] loginMemberIdReadAfterFlush = new Object[1];
+
+		FilterChain chain = (req, res) -> {
+			((HttpServletRequest)req).getSession().setAttribute(SessionAttributes.LOGIN_MEMBER_ID, 1L);
+			res.getWriter().write("{}");
+			res.flushBuffer();
+
+			// when: 응답을 받은 클라이언트가 필터가 끝나기 전에 보낸 다음 요청
+			String sessionId = response.getCookie(COOKIE_NAME).getValue();
+			execute(sessionId, next -> loginMemberIdReadAfterFlush[0] = next.getSession(false)
+				.getAttribute(SessionAttributes.LOGIN_MEMBER_ID));
+		};
+
+		filter.doFilter(request, response, chain);
+
+		// then
+		assertThat(loginMemberIdReadAfterFlush[0]).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("요청 도중 다른 요청이 로그아웃한 세션은 변경 없는 요청이 끝나도 되살아나지 않는다")
+	void sessionDeletedDuringRequest_isNotRestoredByTouch() throws Exception {
+		// given
+		filter = new DistributedSessionFilter(
+			new NearCachedSessionStore(remoteStore, SessionInvalidationBroadcaster.NONE, 100, 5, new SimpleMeterRegistry()),
+			new DistributedSessionProperties(COOKIE_NAME, 1800, 0)
+		);
+		String sessionId = login(1L);
+
+		// when
+		execute(sessionId, request -> {
+			request.getSession(false).getAttribute(SessionAttributes.LOGIN_MEMBER_ID);
+			remoteStore.delete(sessionId); // 다른 노드의 로그아웃
+		});
+
+		// then
+		assertThat(remoteStore.find(sessionId)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("요청 도중 다른 요청이 로그아웃한 세션은 속성을 바꾼 요청이 끝나도 다시 저장되지 않는다")
+	void sessionDeletedDuringRequest_isNotRestoredBySave() throws Exception {
+		// given
+		String sessionId = login(1L);
+
+		// when
+		execute(sessionId, request -> {
+			request.getSession(false).setAttribute(SessionAttributes.PERMISSION_EXISTS, true);
+			remoteStore.delete(sessionId); // 다른 노드의 로그아웃
+		});
+
+		// then
+		assertThat(remoteStore.find(sessionId)).isEmpty();
+	}
+
+	private String login(Long memberId) throws Exception {
+		MockHttpServletResponse response = execute(null,
+			request -> request.getSession().setAttribute(SessionAttributes.LOGIN_MEMBER_ID, memberId));
+		return response.getCookie(COOKIE_NAME).getValue();
+	}
+
+	private MockHttpServletResponse execute(String sessionId, RequestHandler handler)
+		throws IOException, ServletException {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		if (sessionId != null) {
+			request.setCookies(new Cookie(COOKIE_NAME, sessionId));
+		}
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		FilterChain chain = (req, res) -> handler.handle((HttpServletRequest)req);
+		filter.doFilter(request, response, chain);
+
+		return response;
+	}
+
+	@FunctionalInterface
+	private interface RequestHandler {
+		void handle(HttpServletRequest request) throws IOException, ServletException;
+	}
+}
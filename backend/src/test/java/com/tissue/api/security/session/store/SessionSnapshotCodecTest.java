@@ -0,0 +1,84 @@
+package com.tissue.api.security.session.store;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.LinkedMultiValueMap;
+
+import com.tissue.api.common.enums.PermissionType;
+import com.tissue.api.security.session.SessionAttributes;
+
+class SessionSnapshotCodecTest {
+
+	private final SessionSnapshotCodec codec = new SessionSnapshotCodec();
+
+	@Test
+	@DisplayName("로그인 정보와 임시 권한 속성을 인코딩 후 디코딩하면 같은 값이 복원된다")
+	void encodeDecode_restoresSessionAttributes() {
+		// given
+		LocalDateTime expiresAt = LocalDateTime.of(2025, 1, 1, 12, 30, 15, 123_000_000);
+		SessionSnapshot snapshot = new SessionSnapshot("session-id", 1_000L, 2_000L, 1800, Map.of(
+			SessionAttributes.LOGIN_MEMBER_ID, 1L,
+			SessionAttributes.LOGIN_MEMBER_LOGIN_ID, "tester",
+			SessionAttributes.PERMISSION_TYPE, PermissionType.MEMBER_UPDATE,
+			SessionAttributes.PERMISSION_EXISTS, true,
+			SessionAttributes.PERMISSION_EXPIRES_AT, expiresAt
+		));
+
+		// when
+		SessionSnapshot decoded = codec.decode(codec.encode(snapshot));
+
+		// then
+		assertThat(decoded).isEqualTo(snapshot);
+	}
+
+	@Test
+	@DisplayName("타입 태그가 없는 값은 JDK 직렬화로 저장된다")
+	void encodeDecode_fallsBackToJavaSerialization() {
+		// given
+		List<String> recentWorkspaces = new ArrayList<>(List.of("CODE1", "CODE2"));
+		SessionSnapshot snapshot = new SessionSnapshot("session-id", 1_000L, 2_000L, 1800,
+			Map.of("recentWorkspaces", recentWorkspaces));
+
+		// when
+		SessionSnapshot decoded = codec.decode(codec.encode(snapshot));
+
+		// then
+		assertThat(decoded.attributes().get("recentWorkspaces")).isEqualTo(recentWorkspaces);
+	}
+
+	@Test
+	@DisplayName("애플리케이션 패키지가 아닌 enum은 복원하지 않는다")
+	void decode_rejectsEnumOutsideApplicationPackage() {
+		// given
+		byte[] encoded = codec.encode(new SessionSnapshot("session-id", 1_000L, 2_000L, 1800,
+			Map.of("status", HttpStatus.OK)));
+
+		// when & then
+		assertThatThrownBy(() -> codec.decode(encoded))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining(HttpStatus.class.getName());
+	}
+
+	@Test
+	@DisplayName("JDK 직렬화 값은 허용 목록(애플리케이션 클래스, java.base) 밖의 클래스를 역직렬화하지 않는다")
+	void decode_rejectsSerializedClassOutsideAllowList() {
+		// given
+		LinkedMultiValueMap<String, String> value = new LinkedMultiValueMap<>();
+		value.add("key", "value");
+		byte[] encoded = codec.encode(new SessionSnapshot("session-id", 1_000L, 2_000L, 1800,
+			Map.of("values", value)));
+
+		// when & then
+		assertThatThrownBy(() -> codec.decode(encoded))
+			.isInstanceOf(UncheckedIOException.class);
+	}
+}
@@ -0,0 +1,143 @@
+package com.tissue.api.workspace.application.service.command;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.tissue.api.workspace.domain.model.vo.WorkspaceSnapshot;
+import com.tissue.api.workspace.infrastructure.repository.WorkspaceRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class WorkspaceSnapshotCacheTest {
+
+	private static final String WORKSPACE_CODE = "TESTCODE";
+
+	private WorkspaceRepository workspaceRepository;
+	private List<String> broadcasts;
+	private WorkspaceSnapshotCache cache;
+
+	@BeforeEach
+	void setUp() {
+		workspaceRepository = mock(WorkspaceRepository.class);
+		broadcasts = new ArrayList<>();
+		cache = new WorkspaceSnapshotCache(workspaceRepository, broadcasts::add, 100, 60, new SimpleMeterRegistry());
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	@DisplayName("같은 워크스페이스를 반복 조회하면 저장소는 한 번만 조회된다")
+	void find_loadsOnce() {
+		// given
+		when(workspaceRepository.findSnapshotByCode(WORKSPACE_CODE)).thenReturn(Optional.of(snapshot("before")));
+
+		// when
+		cache.find(WORKSPACE_CODE);
+		Optional<WorkspaceSnapshot> found = cache.find(WORKSPACE_CODE);
+
+		// then
+		assertThat(found).map(WorkspaceSnapshot::password).contains("before");
+		verify(workspaceRepository, times(1)).findSnapshotByCode(WORKSPACE_CODE);
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 워크스페이스는 캐시하지 않는다")
+	void find_doesNotCacheMissingWorkspace() {
+		// given
+		when(workspaceRepository.findSnapshotByCode(WORKSPACE_CODE))
+			.thenReturn(Optional.empty())
+			.thenReturn(Optional.of(snapshot("created")));
+
+		// when
+		Optional<WorkspaceSnapshot> missing = cache.find(WORKSPACE_CODE);
+		Optional<WorkspaceSnapshot> found = cache.find(WORKSPACE_CODE);
+
+		// then
+		assertThat(missing).isEmpty();
+		assertThat(found).map(WorkspaceSnapshot::password).contains("created");
+	}
+
+	@Test
+	@DisplayName("트랜잭션 밖에서 무효화하면 바로 다시 조회하고 다른 노드에 전파한다")
+	void evict_reloadsAndBroadcasts() {
+		// given
+		when(workspaceRepository.findSnapshotByCode(WORKSPACE_CODE))
+			.thenReturn(Optional.of(snapshot("before")))
+			.thenReturn(Optional.of(snapshot("after")));
+		cache.find(WORKSPACE_CODE);
+
+		// when
+		cache.evict(WORKSPACE_CODE);
+
+		// then
+		assertThat(cache.find(WORKSPACE_CODE)).map(WorkspaceSnapshot::password).contains("after");
+		assertThat(broadcasts).containsExactly(WORKSPACE_CODE);
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안에서 무효화하면 커밋 후에 다시 무효화하고 전파한다")
+	void evict_inTransaction_broadcastsAfterCommit() {
+		// given
+		TransactionSynchronizationManager.initSynchronization();
+		when(workspaceRepository.findSnapshotByCode(WORKSPACE_CODE))
+			.thenReturn(Optional.of(snapshot("uncommitted")))
+			.thenReturn(Optional.of(snapshot("committed")));
+
+		// when
+		cache.evict(WORKSPACE_CODE);
+		cache.find(WORKSPACE_CODE);
+		assertThat(broadcasts).isEmpty();
+
+		completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+		// then
+		assertThat(cache.find(WORKSPACE_CODE)).map(WorkspaceSnapshot::password).contains("committed");
+		assertThat(broadcasts).containsExactly(WORKSPACE_CODE);
+	}
+
+	@Test
+	@DisplayName("트랜잭션이 롤백되면 캐시만 무효화하고 전파하지 않는다")
+	void evict_inTransaction_doesNotBroadcastOnRollback() {
+		// given
+		TransactionSynchronizationManager.initSynchronization();
+		when(workspaceRepository.findSnapshotByCode(WORKSPACE_CODE))
+			.thenReturn(Optional.of(snapshot("uncommitted")))
+			.thenReturn(Optional.of(snapshot("before")));
+
+		// when
+		cache.evict(WORKSPACE_CODE);
+		cache.find(WORKSPACE_CODE);
+
+		completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+		// then
+		assertThat(cache.find(WORKSPACE_CODE)).map(WorkspaceSnapshot::password).contains("before");
+		assertThat(broadcasts).isEmpty();
+	}
+
+	private void completeTransaction(int status) {
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		TransactionSynchronizationManager.clearSynchronization();
+		synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+	}
+
+	private WorkspaceSnapshot snapshot(String password) {
+		return new WorkspaceSnapshot(1L, WORKSPACE_CODE, "workspace", "ISSUE", password, 1);
+	}
+}
@@ -0,0 +1,201 @@
+package com.tissue.api.workspace.infrastructure.sequence;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.tissue.api.workspace.domain.model.Workspace;
+import com.tissue.api.workspace.exception.WorkspaceNotFoundException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BlockLeaseWorkspaceSequenceAllocatorTest {
+
+	private static final String WORKSPACE_CODE = "TESTCODE";
+
+	private final AtomicInteger nextIssueNumber = new AtomicInteger(1);
+	private final AtomicInteger nextSprintNumber = new AtomicInteger(1);
+
+	private WorkspaceSequenceLeaser leaser;
+
+	@BeforeEach
+	void setUp() {
+		// lease는 workspace 카운터를 원자적으로 증가시키고, 증가시키기 전의 번호를 반환한다
+		leaser = mock(WorkspaceSequenceLeaser.class);
+		when(leaser.leaseIssueNumbers(eq(WORKSPACE_CODE), anyInt()))
+			.thenAnswer(invocation -> nextIssueNumber.getAndAdd(invocation.getArgument(1)));
+		when(leaser.leaseSprintNumbers(eq(WORKSPACE_CODE), anyInt()))
+			.thenAnswer(invocation -> nextSprintNumber.getAndAdd(invocation.getArgument(1)));
+	}
+
+	@Test
+	@DisplayName("블록을 모두 사용하기 전까지는 카운터를 다시 증가시키지 않는다")
+	void reserveIssueNumber_LeasesOncePerBlock() {
+		// given
+		BlockLeaseWorkspaceSequenceAllocator allocator = allocator(3);
+		Workspace workspace = workspace();
+
+		// when
+		List<String> issueKeys = IntStream.range(0, 4)
+			.mapToObj(i -> {
+				allocator.reserveIssueNumber(workspace);
+				return workspace.allocateIssueKey();
+			})
+			.toList();
+
+		// then
+		assertThat(issueKeys).containsExactly("ISSUE-1", "ISSUE-2", "ISSUE-3", "ISSUE-4");
+		verify(leaser, times(2)).leaseIssueNumbers(WORKSPACE_CODE, 3);
+		assertThat(workspace.getNextIssueNumber()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("여러 노드가 동시에 할당해도 이슈 번호는 중복되지 않는다")
+	void reserveIssueNumber_IsUniqueAcrossNodes() throws InterruptedException {
+		// given
+		List<BlockLeaseWorkspaceSequenceAllocator> nodes = List.of(allocator(5), allocator(5));
+		int threads = 8;
+		int reservationsPerThread = 50;
+
+		Set<Integer> issueNumbers = ConcurrentHashMap.newKeySet();
+		CountDownLatch done = new CountDownLatch(threads);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+		// when
+		for (int i = 0; i < threads; i++) {
+			BlockLeaseWorkspaceSequenceAllocator node = nodes.get(i % nodes.size());
+			executor.execute(() -> {
+				for (int j = 0; j < reservationsPerThread; j++) {
+					Workspace workspace = workspace();
+					node.reserveIssueNumber(workspace);
+					issueNumbers.add(workspace.getReservedIssueNumber());
+				}
+				done.countDown();
+			});
+		}
+
+		// then
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(issueNumbers).hasSize(threads * reservationsPerThread);
+		executor.shutdown();
+	}
+
+	@Test
+	@DisplayName("스프린트 번호는 이슈 번호와 별도의 블록에서 할당된다")
+	void reserveSprintNumber_UsesOwnCounter() {
+		// given
+		BlockLeaseWorkspaceSequenceAllocator allocator = allocator(50);
+		Workspace workspace = workspace();
+
+		// when
+		allocator.reserveIssueNumber(workspace);
+		allocator.reserveSprintNumber(workspace);
+
+		// then
+		assertThat(workspace.allocateIssueKey()).isEqualTo("ISSUE-1");
+		assertThat(workspace.allocateSprintNumber()).isEqualTo(1);
+		verify(leaser).leaseSprintNumbers(WORKSPACE_CODE, 1);
+	}
+
+	@Test
+	@DisplayName("여러 번호를 한 번에 예약하면 요청한 개수만큼 바로 lease하고, 남은 블록은 그대로 사용한다")
+	void reserveIssueNumbers_LeasesRequestedCountWithoutDisturbingBlock() {
+		// given
+		BlockLeaseWorkspaceSequenceAllocator allocator = allocator(3);
+		Workspace workspace = workspace();
+		allocator.reserveIssueNumber(workspace);
+		workspace.allocateIssueKey();
+
+		// when
+		int firstIssueNumber = allocator.reserveIssueNumbers(workspace, 10);
+		allocator.reserveIssueNumber(workspace);
+
+		// then
+		assertThat(firstIssueNumber).isEqualTo(4);
+		assertThat(workspace.allocateIssueKey()).isEqualTo("ISSUE-2");
+		verify(leaser).leaseIssueNumbers(WORKSPACE_CODE, 10);
+		assertThat(nextIssueNumber.get()).isEqualTo(14);
+	}
+
+	@Test
+	@DisplayName("워크스페이스가 없으면 WorkspaceNotFoundException이 발생한다")
+	void reserveIssueNumber_ThrowsWhenWorkspaceMissing() {
+		// given
+		when(leaser.leaseIssueNumbers(eq(WORKSPACE_CODE), anyInt()))
+			.thenThrow(new WorkspaceNotFoundException(WORKSPACE_CODE));
+		BlockLeaseWorkspaceSequenceAllocator allocator = allocator(50);
+
+		// when & then
+		assertThatThrownBy(() -> allocator.reserveIssueNumber(workspace()))
+			.isInstanceOf(WorkspaceNotFoundException.class);
+	}
+
+	@Test
+	@DisplayName("블록을 소진한 스레드들이 동시에 요청해도 한 스레드만 lease 한다")
+	void reserveIssueNumber_LeasesOnce_WhenThreadsExhaustBlockTogether() throws InterruptedException {
+		// given
+		CountDownLatch leaseStarted = new CountDownLatch(1);
+		CountDownLatch releaseLease = new CountDownLatch(1);
+		when(leaser.leaseIssueNumbers(eq(WORKSPACE_CODE), anyInt())).thenAnswer(invocation -> {
+			leaseStarted.countDown();
+			releaseLease.await(5, TimeUnit.SECONDS);
+			return nextIssueNumber.getAndAdd(invocation.getArgument(1));
+		});
+		BlockLeaseWorkspaceSequenceAllocator allocator = allocator(10);
+
+		int threads = 5;
+		Set<Integer> issueNumbers = ConcurrentHashMap.newKeySet();
+		CountDownLatch done = new CountDownLatch(threads);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+		// when
+		for (int i = 0; i < threads; i++) {
+			executor.execute(() -> {
+				Workspace workspace = workspace();
+				allocator.reserveIssueNumber(workspace);
+				issueNumbers.add(workspace.getReservedIssueNumber());
+				done.countDown();
+			});
+		}
+		assertThat(leaseStarted.await(5, TimeUnit.SECONDS)).isTrue();
+		releaseLease.countDown();
+
+		// then
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(issueNumbers).containsExactlyInAnyOrder(1, 2, 3, 4, 5);
+		verify(leaser, times(1)).leaseIssueNumbers(WORKSPACE_CODE, 10);
+		executor.shutdown();
+	}
+
+	private BlockLeaseWorkspaceSequenceAllocator allocator(int issueBlockSize) {
+		return new BlockLeaseWorkspaceSequenceAllocator(
+			leaser,
+			issueBlockSize,
+			1,
+			new SimpleMeterRegistry()
+		);
+	}
+
+	private Workspace workspace() {
+		Workspace workspace = Workspace.builder()
+			.name("test workspace")
+			.description("test description")
+			.build();
+		workspace.setCode(WORKSPACE_CODE);
+		return workspace;
+	}
+}
@@ -0,0 +1,77 @@
+package com.tissue.api.workspacemember.application.service.command;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.tissue.api.workspacemember.domain.model.WorkspaceMember;
+import com.tissue.api.workspacemember.domain.model.enums.WorkspaceRole;
+import com.tissue.api.workspacemember.domain.model.vo.WorkspaceMembership;
+import com.tissue.api.workspacemember.infrastructure.repository.WorkspaceMemberRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class WorkspaceMemberReaderTest {
+
+	private static final String WORKSPACE_CODE = "TESTCODE";
+
+	private WorkspaceMemberRepository workspaceMemberRepository;
+	private WorkspaceMembershipResolver resolver;
+	private WorkspaceMemberReader workspaceMemberReader;
+
+	@BeforeEach
+	void setUp() {
+		workspaceMemberRepository = mock(WorkspaceMemberRepository.class);
+		resolver = new WorkspaceMembershipResolver(workspaceMemberRepository, 100, 30, new SimpleMeterRegistry());
+		workspaceMemberReader = new WorkspaceMemberReader(workspaceMemberRepository, resolver);
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	@DisplayName("인터셉터가 요청 안에서 확인한 멤버십은 서비스에서 다시 조회하지 않는다")
+	void findMembership_reusesMembershipResolvedByInterceptor() {
+		// given
+		when(workspaceMemberRepository.findMembershipByMemberIdAndWorkspaceCode(1L, WORKSPACE_CODE))
+			.thenReturn(Optional.of(new WorkspaceMembership(10L, WorkspaceRole.MANAGER)));
+		resolver.resolve(1L, WORKSPACE_CODE); // 인터셉터
+
+		// when
+		WorkspaceMembership membership = workspaceMemberReader.findMembership(1L, WORKSPACE_CODE);
+
+		// then
+		assertThat(membership.role()).isEqualTo(WorkspaceRole.MANAGER);
+		verify(workspaceMemberRepository, times(1)).findMembershipByMemberIdAndWorkspaceCode(1L, WORKSPACE_CODE);
+		verify(workspaceMemberRepository, never()).findByMemberIdAndWorkspaceCode(anyLong(), anyString());
+	}
+
+	@Test
+	@DisplayName("연관관계에만 쓰는 워크스페이스 멤버는 멤버십의 id로 프록시를 가져온다")
+	void getReference_usesResolvedWorkspaceMemberId() {
+		// given
+		WorkspaceMember reference = mock(WorkspaceMember.class);
+		when(workspaceMemberRepository.findMembershipByMemberIdAndWorkspaceCode(1L, WORKSPACE_CODE))
+			.thenReturn(Optional.of(new WorkspaceMembership(10L, WorkspaceRole.MEMBER)));
+		when(workspaceMemberRepository.getReferenceById(10L)).thenReturn(reference);
+
+		// when
+		WorkspaceMember workspaceMember = workspaceMemberReader.getReference(1L, WORKSPACE_CODE);
+
+		// then
+		assertThat(workspaceMember).isSameAs(reference);
+		verify(workspaceMemberRepository, never()).findByMemberIdAndWorkspaceCode(anyLong(), anyString());
+	}
+}
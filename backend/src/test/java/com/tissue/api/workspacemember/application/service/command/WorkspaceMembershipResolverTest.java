@@ -0,0 +1,166 @@
+package com.tissue.api.workspacemember.application.service.command;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.tissue.api.workspacemember.domain.model.enums.WorkspaceRole;
+import com.tissue.api.workspacemember.domain.model.vo.WorkspaceMembership;
+import com.tissue.api.workspacemember.exception.WorkspaceMemberNotFoundException;
+import com.tissue.api.workspacemember.infrastructure.repository.WorkspaceMemberRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class WorkspaceMembershipResolverTest {
+
+	private static final String WORKSPACE_CODE = "TESTCODE";
+
+	private WorkspaceMemberRepository workspaceMemberRepository;
+	private WorkspaceMembershipResolver resolver;
+
+	@BeforeEach
+	void setUp() {
+		workspaceMemberRepository = mock(WorkspaceMemberRepository.class);
+		resolver = new WorkspaceMembershipResolver(workspaceMemberRepository, 100, 30, new SimpleMeterRegistry());
+	}
+
+	@AfterEach
+	void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	@DisplayName("같은 멤버십을 반복 조회하면 저장소는 한 번만 조회된다")
+	void resolve_loadsOnce() {
+		// given
+		when(workspaceMemberRepository.findMembershipByMemberIdAndWorkspaceCode(1L, WORKSPACE_CODE))
+			.thenReturn(Optional.of(new WorkspaceMembership(10L, WorkspaceRole.MEMBER)));
+
+		// when
+		resolver.resolve(1L, WORKSPACE_CODE);
+		WorkspaceMembership membership = resolver.resolve(1L, WORKSPACE_CODE);
+
+		// then
+		assertThat(membership.role()).isEqualTo(WorkspaceRole.MEMBER);
+		verify(workspaceMemberRepository, times(1)).findMembershipByMemberIdAndWorkspaceCode(1L, WORKSPACE_CODE);
+	}
+
+	@Test
+	@DisplayName("요청 안에서 조회한 멤버십은 공유 캐시가 무효화되어도 다시 조회하지 않는다")
+	void resolve_reusesMembershipResolvedInSameRequest() {
+		// given
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+		when(workspaceMemberRepository.findMembershipByMemberIdAndWorkspaceCode(1L, WORKSPACE_CODE))
+			.thenReturn(Optional.of(new WorkspaceMembership(10L, WorkspaceRole.MEMBER)));
+
+		resolver.resolve(1L, WORKSPACE_CODE);
+		resolver = new WorkspaceMembershipResolver(workspaceMemberRepository, 100, 30, new SimpleMeterRegistry());
+
+		// when
+		resolver.resolve(1L, WORKSPACE_CODE);
+
+		// then
+		verify(workspaceMemberRepository, times(1)).findMembershipByMemberIdAndWorkspaceCode(1L, WORKSPACE_CODE);
+	}
+
+	@Test
+	@DisplayName("무효화하면 다음 조회에서 변경된 역할을 읽는다")
+	void evict_reloadsChangedRole() {
+		// given
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+		when(workspaceMemberRepository.findMembershipByMemberIdAndWorkspaceCode(1L, WORKSPACE_CODE))
+			.thenReturn(Optional.of(new WorkspaceMembership(10L, WorkspaceRole.MEMBER)))
+			.thenReturn(Optional.of(new WorkspaceMembership(10L, WorkspaceRole.MANAGER)));
+
+		resolver.resolve(1L, WORKSPACE_CODE);
+
+		// when
+		resolver.evict(1L, WORKSPACE_CODE);
+
+		// then
+		assertThat(resolver.resolve(1L, WORKSPACE_CODE).role()).isEqualTo(WorkspaceRole.MANAGER);
+	}
+
+	@Test
+	@DisplayName("멤버가 아니면 예외가 발생하고, 결과를 캐시하지 않는다")
+	void resolve_throwsAndDoesNotCache_ifNotMember() {
+		// given
+		when(workspaceMemberRepository.findMembershipByMemberIdAndWorkspaceCode(1L, WORKSPACE_CODE))
+			.thenReturn(Optional.empty())
+			.thenReturn(Optional.of(new WorkspaceMembership(10L, WorkspaceRole.VIEWER)));
+
+		// when & then
+		assertThatThrownBy(() -> resolver.resolve(1L, WORKSPACE_CODE))
+			.isInstanceOf(WorkspaceMemberNotFoundException.class);
+		assertThat(resolver.resolve(1L, WORKSPACE_CODE).role()).isEqualTo(WorkspaceRole.VIEWER);
+	}
+
+	@Test
+	@DisplayName("무효화는 다른 노드로 전파되고, 전파받은 노드는 다음 조회에서 저장소를 다시 조회한다")
+	void evict_broadcastsToOtherNodes() {
+		// given
+		List<String> broadcasts = new ArrayList<>();
+		resolver = new WorkspaceMembershipResolver(
+			workspaceMemberRepository, broadcasts::add, 100, 30, new SimpleMeterRegistry());
+		WorkspaceMembershipResolver otherNode = new WorkspaceMembershipResolver(
+			workspaceMemberRepository, 100, 30, new SimpleMeterRegistry());
+		when(workspaceMemberRepository.findMembershipByMemberIdAndWorkspaceCode(1L, WORKSPACE_CODE))
+			.thenReturn(Optional.of(new WorkspaceMembership(10L, WorkspaceRole.MEMBER)))
+			.thenReturn(Optional.of(new WorkspaceMembership(10L, WorkspaceRole.MANAGER)));
+		otherNode.resolve(1L, WORKSPACE_CODE);
+
+		// when
+		resolver.evict(1L, WORKSPACE_CODE);
+		broadcasts.forEach(otherNode::evictLocal);
+
+		// then
+		assertThat(broadcasts).containsExactly("1:" + WORKSPACE_CODE);
+		assertThat(otherNode.resolve(1L, WORKSPACE_CODE).role()).isEqualTo(WorkspaceRole.MANAGER);
+	}
+
+	@Test
+	@DisplayName("워크스페이스를 무효화하면 그 워크스페이스의 멤버십만 모두 다시 조회한다")
+	void evictWorkspace_invalidatesAllMembershipsOfWorkspace() {
+		// given
+		List<String> broadcasts = new ArrayList<>();
+		resolver = new WorkspaceMembershipResolver(
+			workspaceMemberRepository, broadcasts::add, 100, 30, new SimpleMeterRegistry());
+		when(workspaceMemberRepository.findMembershipByMemberIdAndWorkspaceCode(anyLong(), anyString()))
+			.thenReturn(Optional.of(new WorkspaceMembership(10L, WorkspaceRole.MEMBER)));
+		resolver.resolve(1L, WORKSPACE_CODE);
+		resolver.resolve(2L, WORKSPACE_CODE);
+		resolver.resolve(1L, "OTHERCODE");
+
+		// when
+		resolver.evictWorkspace(WORKSPACE_CODE);
+		resolver.resolve(1L, WORKSPACE_CODE);
+		resolver.resolve(2L, WORKSPACE_CODE);
+		resolver.resolve(1L, "OTHERCODE");
+
+		// then
+		assertThat(broadcasts).containsExactly("*:" + WORKSPACE_CODE);
+		verify(workspaceMemberRepository, times(2)).findMembershipByMemberIdAndWorkspaceCode(1L, WORKSPACE_CODE);
+		verify(workspaceMemberRepository, times(2)).findMembershipByMemberIdAndWorkspaceCode(2L, WORKSPACE_CODE);
+		verify(workspaceMemberRepository, times(1)).findMembershipByMemberIdAndWorkspaceCode(1L, "OTHERCODE");
+	}
+
+	@Test
+	@DisplayName("형식이 잘못된 무효화 메시지는 무시한다")
+	void evictLocal_ignoresMalformedPayload() {
+		assertThatNoException().isThrownBy(() -> {
+			resolver.evictLocal("malformed");
+			resolver.evictLocal("abc:" + WORKSPACE_CODE);
+		});
+	}
+}
@@ -0,0 +1,303 @@
+package com.tissue.integration.service.command;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tissue.api.common.exception.type.InvalidOperationException;
+import com.tissue.api.common.exception.type.ResourceNotFoundException;
+import com.tissue.api.issue.application.service.command.bulk.IssueBulkStatusCommandService;
+import com.tissue.api.issue.domain.event.IssueStatusChangedEvent;
+import com.tissue.api.issue.domain.event.IssuesStatusChangedEvent;
+import com.tissue.api.issue.domain.model.Issue;
+import com.tissue.api.issue.domain.model.IssueRelation;
+import com.tissue.api.issue.domain.model.enums.IssuePriority;
+import com.tissue.api.issue.domain.model.enums.IssueRelationType;
+import com.tissue.api.issue.domain.model.enums.IssueStatus;
+import com.tissue.api.issue.domain.model.types.Task;
+import com.tissue.api.issue.presentation.controller.dto.request.BulkUpdateIssueStatusRequest;
+import com.tissue.api.issue.presentation.controller.dto.response.BulkUpdateIssueStatusResponse;
+import com.tissue.api.notification.application.eventhandler.NotificationEventHandler;
+import com.tissue.api.notification.domain.enums.NotificationType;
+import com.tissue.api.notification.domain.model.Notification;
+import com.tissue.api.notification.infrastructure.repository.NotificationRepository;
+import com.tissue.api.workspace.domain.model.Workspace;
+import com.tissue.api.workspacemember.domain.model.WorkspaceMember;
+import com.tissue.api.workspacemember.domain.model.enums.WorkspaceRole;
+import com.tissue.support.helper.ServiceIntegrationTestHelper;
+
+@RecordApplicationEvents
+class IssueBulkStatusCommandServiceIT extends ServiceIntegrationTestHelper {
+
+	@Autowired
+	IssueBulkStatusCommandService issueBulkStatusCommandService;
+	@Autowired
+	ApplicationEvents applicationEvents;
+	@Autowired
+	NotificationEventHandler notificationEventHandler;
+	@Autowired
+	NotificationRepository notificationRepository;
+
+	Workspace workspace;
+	WorkspaceMember owner;
+	WorkspaceMember reviewer;
+
+	@BeforeEach
+	void setUp() {
+		workspace = testDataFixture.createWorkspace("test workspace", null, null);
+		owner = testDataFixture.createWorkspaceMember(
+			testDataFixture.createMember("owner"),
+			workspace,
+			WorkspaceRole.OWNER
+		);
+		reviewer = testDataFixture.createWorkspaceMember(
+			testDataFixture.createMember("reviewer"),
+			workspace,
+			WorkspaceRole.MEMBER
+		);
+	}
+
+	@AfterEach
+	void tearDown() {
+		databaseCleaner.execute();
+	}
+
+	@Test
+	@Transactional
+	@DisplayName("여러 이슈의 상태를 한 번에 변경하고, 이미 요청한 상태인 이슈는 변경하지 않는다")
+	void updateIssueStatuses() {
+		// given
+		Task todo1 = createTask("todo 1");
+		Task todo2 = createTask("todo 2");
+		Task inProgress = createTask("in progress");
+		inProgress.updateStatus(IssueStatus.IN_PROGRESS);
+		flushAndClear();
+
+		// when
+		BulkUpdateIssueStatusResponse response = issueBulkStatusCommandService.updateIssueStatuses(
+			workspace.getCode(),
+			owner.getMember().getId(),
+			new BulkUpdateIssueStatusRequest(
+				List.of(todo1.getIssueKey(), inProgress.getIssueKey(), todo2.getIssueKey(), todo1.getIssueKey()),
+				IssueStatus.IN_PROGRESS
+			)
+		);
+		flushAndClear();
+
+		// then
+		assertThat(response.updatedIssueKeys()).containsExactly(todo1.getIssueKey(), todo2.getIssueKey());
+		assertThat(response.unchangedIssueKeys()).containsExactly(inProgress.getIssueKey());
+		assertThat(findIssue(todo1).getStatus()).isEqualTo(IssueStatus.IN_PROGRESS);
+		assertThat(findIssue(todo2).getStatus()).isEqualTo(IssueStatus.IN_PROGRESS);
+	}
+
+	@Test
+	@Transactional
+	@DisplayName("이슈마다 상태 변경 이벤트를 발행하지 않고 일괄 변경 이벤트 하나를 발행한다")
+	void updateIssueStatuses_PublishesSingleBatchedEvent() {
+		// given
+		List<String> issueKeys = IntStream.range(0, 5)
+			.mapToObj(i -> createTask("task " + i).getIssueKey())
+			.toList();
+		flushAndClear();
+
+		// when
+		issueBulkStatusCommandService.updateIssueStatuses(
+			workspace.getCode(),
+			owner.getMember().getId(),
+			new BulkUpdateIssueStatusRequest(issueKeys, IssueStatus.CLOSED)
+		);
+
+		// then
+		assertThat(applicationEvents.stream(IssueStatusChangedEvent.class)).isEmpty();
+		assertThat(applicationEvents.stream(IssuesStatusChangedEvent.class))
+			.singleElement()
+			.satisfies(event -> {
+				assertThat(event.getIssueKeys()).containsExactlyElementsOf(issueKeys);
+				assertThat(event.getChanges())
+					.allSatisfy(change -> assertThat(change.oldStatus()).isEqualTo(IssueStatus.TODO));
+			});
+	}
+
+	@Test
+	@Transactional
+	@DisplayName("여러 이슈를 구독하는 멤버도 일괄 변경 알림은 한 번만 받는다")
+	void updateIssueStatuses_NotifiesEachSubscriberOnce() {
+		// given
+		List<Task> tasks = IntStream.range(0, 3)
+			.mapToObj(i -> createTask("task " + i))
+			.toList();
+		tasks.forEach(task -> testDataFixture.addIssueReviewer(task, reviewer));
+		testDataFixture.addIssueAssignee(tasks.get(0), owner);
+		testDataFixture.addIssueAssignee(tasks.get(1), owner);
+		flushAndClear();
+
+		issueBulkStatusCommandService.updateIssueStatuses(
+			workspace.getCode(),
+			owner.getMember().getId(),
+			new BulkUpdateIssueStatusRequest(tasks.stream().map(Task::getIssueKey).toList(), IssueStatus.IN_PROGRESS)
+		);
+		IssuesStatusChangedEvent event = applicationEvents.stream(IssuesStatusChangedEvent.class)
+			.findFirst()
+			.orElseThrow();
+
+		// when
+		notificationEventHandler.handle(event);
+		flushAndClear();
+
+		// then
+		List<Long> receiverMemberIds = notificationRepository.findAll().stream()
+			.filter(notification -> notification.getType() == NotificationType.ISSUES_STATUS_CHANGED)
+			.map(Notification::getReceiverMemberId)
+			.toList();
+
+		assertThat(receiverMemberIds)
+			.doesNotHaveDuplicates()
+			.contains(owner.getMember().getId(), reviewer.getMember().getId());
+	}
+
+	@Test
+	@Transactional
+	@DisplayName("요청 안의 선행 이슈가 함께 DONE으로 변경되면 요청 순서에 관계없이 막혀있던 이슈도 DONE으로 변경할 수 있다")
+	void updateIssueStatuses_BlockingIssueInSameRequest() {
+		// given
+		Task blocked = createInProgressTask("blocked");
+		Task blocking = createInProgressTask("blocking");
+		// blocking이 DONE이어야 blocked를 DONE으로 변경할 수 있다(blocked의 들어오는 BLOCKED_BY 관계)
+		IssueRelation.createRelation(blocked, blocking, IssueRelationType.BLOCKS);
+		flushAndClear();
+
+		// when
+		BulkUpdateIssueStatusResponse response = issueBulkStatusCommandService.updateIssueStatuses(
+			workspace.getCode(),
+			owner.getMember().getId(),
+			new BulkUpdateIssueStatusRequest(
+				List.of(blocked.getIssueKey(), blocking.getIssueKey()),
+				IssueStatus.DONE
+			)
+		);
+
+		// then
+		assertThat(response.updatedIssueKeys())
+			.containsExactly(blocking.getIssueKey(), blocked.getIssueKey());
+	}
+
+	@Test
+	@Transactional
+	@DisplayName("하나라도 상태를 변경할 수 없으면 변경할 수 없는 이슈들을 모아서 예외가 발생한다")
+	void updateIssueStatuses_InvalidTransition() {
+		// given
+		Task inProgress = createInProgressTask("in progress");
+		Task todo = createTask("todo");
+		Task blocked = createInProgressTask("blocked");
+		Task blocking = createTask("blocking");
+		IssueRelation.createRelation(blocked, blocking, IssueRelationType.BLOCKS);
+		flushAndClear();
+
+		BulkUpdateIssueStatusRequest request = new BulkUpdateIssueStatusRequest(
+			List.of(inProgress.getIssueKey(), todo.getIssueKey(), blocked.getIssueKey()),
+			IssueStatus.DONE
+		);
+
+		// when & then
+		assertThatThrownBy(() -> issueBulkStatusCommandService.updateIssueStatuses(
+			workspace.getCode(),
+			owner.getMember().getId(),
+			request
+		))
+			.isInstanceOf(InvalidOperationException.class)
+			.hasMessageContaining(todo.getIssueKey() + ": Cannot change status from TODO to DONE.")
+			.hasMessageContaining(blocked.getIssueKey() + ": Cannot complete this issue.")
+			.hasMessageNotContaining(inProgress.getIssueKey() + ":");
+	}
+
+	@Test
+	@Transactional
+	@DisplayName("존재하지 않는 이슈가 있으면 존재하지 않는 이슈 키와 함께 예외가 발생한다")
+	void updateIssueStatuses_IssueNotFound() {
+		// given
+		Task task = createTask("task");
+		flushAndClear();
+
+		BulkUpdateIssueStatusRequest request = new BulkUpdateIssueStatusRequest(
+			List.of(task.getIssueKey(), "ISSUE-999"),
+			IssueStatus.IN_PROGRESS
+		);
+
+		// when & then
+		assertThatThrownBy(() -> issueBulkStatusCommandService.updateIssueStatuses(
+			workspace.getCode(),
+			owner.getMember().getId(),
+			request
+		))
+			.isInstanceOf(ResourceNotFoundException.class)
+			.hasMessageContaining("ISSUE-999");
+	}
+
+	@Test
+	@Transactional
+	@DisplayName("DONE 전환 검증에 필요한 리뷰어, 리뷰, 관계는 이슈 수에 관계없이 같은 수의 쿼리로 조회한다")
+	void updateIssueStatuses_QueryCountDoesNotDependOnIssueCount() {
+		// given
+		List<String> fewIssueKeys = createInProgressTasksWithReviewer(2);
+		List<String> manyIssueKeys = createInProgressTasksWithReviewer(8);
+		flushAndClear();
+
+		// when
+		long fewQueryCount = queryCounter.count(() -> issueBulkStatusCommandService.updateIssueStatuses(
+			workspace.getCode(),
+			owner.getMember().getId(),
+			new BulkUpdateIssueStatusRequest(fewIssueKeys, IssueStatus.DONE)
+		));
+		flushAndClear();
+		long manyQueryCount = queryCounter.count(() -> issueBulkStatusCommandService.updateIssueStatuses(
+			workspace.getCode(),
+			owner.getMember().getId(),
+			new BulkUpdateIssueStatusRequest(manyIssueKeys, IssueStatus.DONE)
+		));
+
+		// then
+		assertThat(manyQueryCount).isEqualTo(fewQueryCount);
+	}
+
+	private List<String> createInProgressTasksWithReviewer(int count) {
+		return IntStream.range(0, count)
+			.mapToObj(i -> {
+				Task task = createInProgressTask("task " + i);
+				testDataFixture.addIssueReviewer(task, reviewer);
+				return task.getIssueKey();
+			})
+			.toList();
+	}
+
+	private Task createInProgressTask(String title) {
+		Task task = createTask(title);
+		task.updateStatus(IssueStatus.IN_PROGRESS);
+		return task;
+	}
+
+	private Task createTask(String title) {
+		return testDataFixture.createTask(workspace, title, IssuePriority.MEDIUM, LocalDateTime.now().plusDays(7));
+	}
+
+	private Issue findIssue(Issue issue) {
+		return issueRepository.findByIssueKeyAndWorkspaceCode(issue.getIssueKey(), workspace.getCode())
+			.orElseThrow();
+	}
+
+	private void flushAndClear() {
+		entityManager.flush();
+		entityManager.clear();
+	}
+}
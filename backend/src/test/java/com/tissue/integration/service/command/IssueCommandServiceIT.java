@@ -9,6 +9,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.tissue.api.common.exception.type.InvalidOperationException;
@@ -23,6 +24,7 @@ import com.tissue.api.issue.presentation.controller.dto.request.update.UpdateSto
 import com.tissue.api.issue.presentation.controller.dto.response.IssueResponse;
 import com.tissue.api.member.domain.model.Member;
 import com.tissue.api.workspace.domain.model.Workspace;
+import com.tissue.api.workspace.presentation.dto.request.UpdateIssueKeyRequest;
 import com.tissue.api.workspacemember.domain.model.WorkspaceMember;
 import com.tissue.api.workspacemember.domain.model.enums.WorkspaceRole;
 import com.tissue.support.helper.ServiceIntegrationTestHelper;
@@ -108,6 +110,29 @@ class IssueCommandServiceIT extends ServiceIntegrationTestHelper {
 		assertThat(issue.getTitle()).isEqualTo("test issue");
 	}
 
+	@Test
+	@DisplayName("이슈 키 prefix를 변경하면 캐시된 워크스페이스가 무효화되어 이후 생성되는 이슈에 반영된다")
+	void createIssue_AfterIssueKeyPrefixUpdate_UsesNewPrefix() {
+		// given
+		CreateTaskRequest request = CreateTaskRequest.builder()
+			.common(CommonIssueCreateFields.builder()
+				.title("task issue")
+				.content("task issue")
+				.priority(IssuePriority.HIGH)
+				.build())
+			.build();
+
+		IssueResponse before = issueCommandService.createIssue(workspace.getCode(), member1.getId(), request);
+
+		// when
+		workspaceCommandService.updateIssueKeyPrefix(workspace.getCode(), new UpdateIssueKeyRequest("UPDATED"));
+		IssueResponse after = issueCommandService.createIssue(workspace.getCode(), member1.getId(), request);
+
+		// then
+		assertThat(before.issueKey()).isEqualTo("ISSUE-1");
+		assertThat(after.issueKey()).isEqualTo("UPDATED-2");
+	}
+
 	@Test
 	@Transactional
 	@DisplayName("제일 처음 생성된 이슈의 이슈키는 'ISSUE-1'이어야 한다")
@@ -410,6 +435,10 @@ class IssueCommandServiceIT extends ServiceIntegrationTestHelper {
 			new AddParentIssueRequest(parentIssue.getIssueKey())
 		);
 
+		// Epic 스토리 포인트는 커밋 직전에 재계산된다
+		TestTransaction.flagForCommit();
+		TestTransaction.end();
+
 		// then
 		Issue foundParentIssue = issueRepository.findByIssueKeyAndWorkspaceCode(
 			parentIssue.getIssueKey(),
@@ -458,6 +487,10 @@ class IssueCommandServiceIT extends ServiceIntegrationTestHelper {
 			request
 		);
 
+		// Epic 스토리 포인트는 커밋 직전에 재계산된다
+		TestTransaction.flagForCommit();
+		TestTransaction.end();
+
 		// then
 		Issue foundParentIssue = issueRepository.findByIssueKeyAndWorkspaceCode(
 			parentIssue.getIssueKey(),
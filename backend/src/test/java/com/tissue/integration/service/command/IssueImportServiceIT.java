@@ -0,0 +1,215 @@
+package com.tissue.integration.service.command;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.tissue.api.issue.application.service.command.bulk.IssueImportService;
+import com.tissue.api.issue.application.service.command.bulk.IssueImportWriter;
+import com.tissue.api.issue.domain.model.Issue;
+import com.tissue.api.issue.domain.model.enums.IssuePriority;
+import com.tissue.api.issue.infrastructure.importer.IssueImportFormat;
+import com.tissue.api.issue.infrastructure.importer.IssueImportReaderFactory;
+import com.tissue.api.issue.presentation.controller.dto.request.create.CommonIssueCreateFields;
+import com.tissue.api.issue.presentation.controller.dto.request.create.CreateTaskRequest;
+import com.tissue.api.issue.presentation.controller.dto.response.IssueImportResponse;
+import com.tissue.api.issue.presentation.controller.dto.response.IssueImportResponse.IssueImportError;
+import com.tissue.api.member.domain.model.Member;
+import com.tissue.api.workspace.domain.model.Workspace;
+import com.tissue.api.workspacemember.domain.model.enums.WorkspaceRole;
+import com.tissue.support.helper.ServiceIntegrationTestHelper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validator;
+
+/**
+ * 배치마다 트랜잭션을 커밋하는 것을 확인하기 위해 테스트 트랜잭션 없이 실행한다
+ */
+class IssueImportServiceIT extends ServiceIntegrationTestHelper {
+
+	@Autowired
+	IssueImportReaderFactory issueImportReaderFactory;
+	@Autowired
+	IssueImportWriter issueImportWriter;
+	@Autowired
+	Validator validator;
+
+	IssueImportService issueImportService;
+
+	Workspace workspace;
+	Member manager;
+
+	@BeforeEach
+	void setUp() {
+		workspace = testDataFixture.createWorkspace("test workspace", null, null);
+		manager = testDataFixture.createMember("manager");
+		testDataFixture.createWorkspaceMember(manager, workspace, WorkspaceRole.MANAGER);
+
+		issueImportService = new IssueImportService(
+			issueImportReaderFactory,
+			issueImportWriter,
+			validator,
+			2,
+			100,
+			new SimpleMeterRegistry()
+		);
+	}
+
+	@AfterEach
+	void tearDown() {
+		databaseCleaner.execute();
+	}
+
+	@Test
+	@DisplayName("NDJSON 본문의 이슈를 배치 단위로 생성하고, 이슈 키는 순서대로 할당된다")
+	void importIssues_Ndjson() {
+		// given
+		String body = """
+			{"type":"TASK","common":{"title":"task 1","content":"content","dueAt":"2026-12-31T00:00:00"}}
+			{"type":"STORY","common":{"title":"story 1","content":"content","dueAt":"2026-12-31T00:00:00"},"userStory":"as a user"}
+
+			{"type":"BUG","common":{"title":"bug 1","content":"content","dueAt":"2026-12-31T00:00:00"},"reproducingSteps":"steps","severity":"MAJOR"}
+			""";
+
+		// when
+		IssueImportResponse response = importIssues(IssueImportFormat.NDJSON, body);
+
+		// then
+		assertThat(response.totalRecords()).isEqualTo(3);
+		assertThat(response.importedCount()).isEqualTo(3);
+		assertThat(response.failedCount()).isZero();
+		assertThat(response.batchCount()).isEqualTo(2);
+		assertThat(response.completed()).isTrue();
+
+		assertThat(findTitlesByKeys(List.of("ISSUE-1", "ISSUE-2", "ISSUE-3")))
+			.containsExactlyInAnyOrder("task 1", "story 1", "bug 1");
+	}
+
+	@Test
+	@DisplayName("변환, 검증에 실패한 레코드는 줄 번호와 함께 보고하고 나머지 레코드는 생성한다")
+	void importIssues_ReportsFailedRecords() {
+		// given
+		String body = """
+			type,title,content,dueAt,userStory
+			TASK,task 1,content,2026-12-31T00:00:00,
+			STORY,story without user story,content,2026-12-31T00:00:00,
+			TASK,missing columns
+			TASK,task 2,content,2026-12-31T00:00:00,
+			""";
+
+		// when
+		IssueImportResponse response = importIssues(IssueImportFormat.CSV, body);
+
+		// then
+		assertThat(response.totalRecords()).isEqualTo(4);
+		assertThat(response.importedCount()).isEqualTo(2);
+		assertThat(response.failedCount()).isEqualTo(2);
+		assertThat(response.errors())
+			.extracting(IssueImportError::lineNumber)
+			.containsExactly(3L, 4L);
+		assertThat(response.errors().get(0).message()).startsWith("userStory");
+
+		// 실패한 레코드는 이슈 번호를 소비하지 않는다
+		assertThat(findTitlesByKeys(List.of("ISSUE-1", "ISSUE-2")))
+			.containsExactlyInAnyOrder("task 1", "task 2");
+		assertThat(workspaceRepository.findByCode(workspace.getCode()).orElseThrow().getNextIssueNumber())
+			.isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("가져오기와 이슈 생성이 동시에 실행되어도 이슈 번호가 겹치거나 되돌아가지 않는다")
+	void importIssues_ConcurrentWithCreateIssue() throws Exception {
+		// given
+		int importRecords = 40;
+		int creatingThreads = 4;
+		int createsPerThread = 10;
+
+		String body = IntStream.rangeClosed(1, importRecords)
+			.mapToObj(i -> "{\"type\":\"TASK\",\"common\":{\"title\":\"imported " + i
+				+ "\",\"content\":\"content\",\"dueAt\":\"2026-12-31T00:00:00\"}}")
+			.collect(Collectors.joining("\n"));
+
+		Set<String> createdIssueKeys = ConcurrentHashMap.newKeySet();
+		AtomicInteger createFailures = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(creatingThreads + 1);
+
+		Future<IssueImportResponse> imported = executor.submit(() -> {
+			start.await();
+			return importIssues(IssueImportFormat.NDJSON, body);
+		});
+		for (int i = 0; i < creatingThreads; i++) {
+			executor.execute(() -> {
+				try {
+					start.await();
+					for (int j = 0; j < createsPerThread; j++) {
+						createdIssueKeys.add(
+							issueCommandService.createIssue(workspace.getCode(), manager.getId(), taskRequest()).issueKey()
+						);
+					}
+				} catch (Exception e) {
+					createFailures.incrementAndGet();
+				}
+			});
+		}
+
+		// when
+		start.countDown();
+		IssueImportResponse response = imported.get(60, TimeUnit.SECONDS);
+		executor.shutdown();
+		assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+
+		// then
+		int creates = creatingThreads * createsPerThread;
+		assertThat(response.importedCount()).isEqualTo(importRecords);
+		assertThat(response.failedCount()).isZero();
+		assertThat(createFailures.get()).isZero();
+		assertThat(createdIssueKeys).hasSize(creates);
+
+		List<Issue> issues = issueRepository.findAll();
+		assertThat(issues).hasSize(importRecords + creates);
+		assertThat(issues).extracting(Issue::getIssueKey).doesNotHaveDuplicates();
+		assertThat(workspaceRepository.findByCode(workspace.getCode()).orElseThrow().getNextIssueNumber())
+			.isEqualTo(importRecords + creates + 1);
+	}
+
+	private CreateTaskRequest taskRequest() {
+		return CreateTaskRequest.builder()
+			.common(CommonIssueCreateFields.builder()
+				.title("created issue")
+				.content("content")
+				.priority(IssuePriority.MEDIUM)
+				.build())
+			.build();
+	}
+
+	private IssueImportResponse importIssues(IssueImportFormat format, String body) {
+		InputStream inputStream = new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+		return issueImportService.importIssues(workspace.getCode(), manager.getId(), format, inputStream);
+	}
+
+	private List<String> findTitlesByKeys(List<String> issueKeys) {
+		return issueRepository.findByIssueKeyInAndWorkspaceCode(issueKeys, workspace.getCode()).stream()
+			.map(Issue::getTitle)
+			.toList();
+	}
+}
@@ -0,0 +1,108 @@
+package com.tissue.integration.service.command;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.tissue.api.notification.domain.enums.NotificationType;
+import com.tissue.api.notification.domain.model.Notification;
+import com.tissue.api.notification.domain.model.vo.EntityReference;
+import com.tissue.api.notification.domain.model.vo.NotificationMessage;
+import com.tissue.api.notification.infrastructure.repository.NotificationRepository;
+import com.tissue.support.helper.ServiceIntegrationTestHelper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 하나의 이벤트를 수신자 500명에게 알림으로 저장할 때의 처리량(inserts/sec)을 측정한다
+ *  - 기본 프로필은 IDENTITY라서 INSERT마다 생성된 id를 받아와야 하므로 JDBC batch가 적용되지 않는다
+ *  - pooled sequence + JDBC batch와 비교하려면 ./gradlew benchmark -PbenchmarkProfiles=local,pooled-ids로 다시 실행한다
+ *  - 트랜잭션을 실제로 커밋해야 하므로 @Transactional을 사용하지 않는다
+ */
+@Slf4j
+@Tag("benchmark")
+class NotificationFanOutBenchmarkIT extends ServiceIntegrationTestHelper {
+
+	private static final int RECEIVERS = 500;
+	private static final int WARMUP_ROUNDS = 3;
+	private static final int MEASURED_ROUNDS = 10;
+
+	@Autowired
+	NotificationRepository notificationRepository;
+	@Autowired
+	PlatformTransactionManager transactionManager;
+	@Autowired
+	Environment environment;
+
+	TransactionTemplate transactionTemplate;
+
+	@BeforeEach
+	void setUp() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		databaseCleaner.execute();
+	}
+
+	@Test
+	@DisplayName("이벤트 하나를 수신자 500명에게 fan-out해서 저장한다")
+	void fanOutNotifications() {
+		// given
+		for (int round = 0; round < WARMUP_ROUNDS; round++) {
+			saveFanOut();
+		}
+
+		// when
+		long startedAt = System.nanoTime();
+		for (int round = 0; round < MEASURED_ROUNDS; round++) {
+			saveFanOut();
+		}
+		long elapsedNanos = System.nanoTime() - startedAt;
+
+		// then
+		int inserts = RECEIVERS * MEASURED_ROUNDS;
+		log.info("notification fan-out benchmark({}): {} inserts, {} receivers/event, {} inserts/sec",
+			idGenerationMode(), inserts, RECEIVERS,
+			String.format("%.1f", inserts / (elapsedNanos / 1_000_000_000.0)));
+
+		assertThat(notificationRepository.count()).isEqualTo((long)RECEIVERS * (WARMUP_ROUNDS + MEASURED_ROUNDS));
+	}
+
+	private String idGenerationMode() {
+		return environment.acceptsProfiles(Profiles.of("pooled-ids")) ? "pooled-ids" : "identity";
+	}
+
+	private void saveFanOut() {
+		UUID eventId = UUID.randomUUID();
+
+		List<Notification> notifications = LongStream.rangeClosed(1, RECEIVERS)
+			.mapToObj(receiverId -> Notification.builder()
+				.eventId(eventId)
+				.notificationType(NotificationType.ISSUE_CREATED)
+				.entityReference(EntityReference.forIssue("TESTCODE", "ISSUE-1"))
+				.actorMemberId(1L)
+				.actorDisplayName("actor")
+				.receiverMemberId(receiverId)
+				.receiverEmail("receiver" + receiverId + "@test.com")
+				.message(new NotificationMessage("test title", "test content"))
+				.build())
+			.toList();
+
+		transactionTemplate.executeWithoutResult(status -> notificationRepository.saveAll(notifications));
+	}
+}
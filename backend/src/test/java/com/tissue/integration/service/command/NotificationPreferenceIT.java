@@ -14,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.tissue.api.member.domain.model.Member;
 import com.tissue.api.notification.application.service.command.NotificationCommandService;
+import com.tissue.api.notification.application.service.command.NotificationPreferenceResolver;
 import com.tissue.api.notification.application.service.command.NotificationPreferenceService;
 import com.tissue.api.notification.application.service.command.NotificationProcessor;
 import com.tissue.api.notification.domain.enums.NotificationChannel;
@@ -22,7 +23,6 @@ import com.tissue.api.notification.domain.model.Notification;
 import com.tissue.api.notification.domain.model.vo.NotificationMessage;
 import com.tissue.api.notification.domain.service.sender.NotificationSender;
 import com.tissue.api.notification.infrastructure.message.SimpleNotificationMessageFactory;
-import com.tissue.api.notification.infrastructure.repository.NotificationPreferenceRepository;
 import com.tissue.api.notification.presentation.dto.request.UpdateNotificationPreferenceRequest;
 import com.tissue.api.workspace.domain.model.Workspace;
 import com.tissue.api.workspacemember.domain.model.WorkspaceMember;
@@ -42,7 +42,7 @@ public class NotificationPreferenceIT {
 	private NotificationCommandService notificationCommandService;
 
 	@Autowired
-	private NotificationPreferenceRepository preferenceRepository;
+	private NotificationPreferenceResolver preferenceResolver;
 
 	@Autowired
 	private SimpleNotificationMessageFactory simpleNotificationMessageFactory;
@@ -86,7 +86,7 @@ public class NotificationPreferenceIT {
 		// 실제 notificationProcessor에 직접 mockEmailSender를 주입함
 		notificationProcessor = new NotificationProcessor(
 			List.of(mockEmailSender),
-			preferenceRepository
+			preferenceResolver
 		);
 	}
 
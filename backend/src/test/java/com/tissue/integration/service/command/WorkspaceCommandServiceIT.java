@@ -7,6 +7,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.tissue.api.common.exception.type.AuthenticationFailedException;
 import com.tissue.api.member.domain.model.Member;
 import com.tissue.api.workspace.domain.model.Workspace;
 import com.tissue.api.workspace.exception.WorkspaceNotFoundException;
@@ -133,6 +134,31 @@ class WorkspaceCommandServiceIT extends ServiceIntegrationTestHelper {
 		assertThat(passwordEncoder.matches("updated1234!", updatedPassword)).isTrue();
 	}
 
+	@Test
+	@Transactional
+	@DisplayName("패스워드를 업데이트하면 캐시된 워크스페이스 정보가 무효화되어 새 패스워드로만 인증할 수 있다")
+	void updateWorkspacePassword_EvictsCachedSnapshot() {
+		// given
+		Workspace workspace = testDataFixture.createWorkspace(
+			"test workspace",
+			"password1234!",
+			null
+		);
+		workspaceAuthenticationService.authenticate("password1234!", workspace.getCode()); // 캐시에 적재
+
+		UpdateWorkspacePasswordRequest request = new UpdateWorkspacePasswordRequest("password1234!", "updated1234!");
+
+		// when
+		workspaceCommandService.updateWorkspacePassword(request, workspace.getCode());
+		entityManager.flush();
+
+		// then
+		assertThatNoException().isThrownBy(
+			() -> workspaceAuthenticationService.authenticate("updated1234!", workspace.getCode()));
+		assertThatThrownBy(() -> workspaceAuthenticationService.authenticate("password1234!", workspace.getCode()))
+			.isInstanceOf(AuthenticationFailedException.class);
+	}
+
 	@Test
 	@Transactional
 	@DisplayName("워크스페이스의 패스워드를 설정하지 않은 경우 패스워드 제공 없이 패스워드 업데이트가 가능하다")
@@ -62,4 +62,21 @@ class WorkspaceParticipationCommandServiceIT extends ServiceIntegrationTestHelpe
 			.isInstanceOf(InvalidOperationException.class);
 	}
 
+	@Test
+	@DisplayName("워크스페이스에 참여하면 멤버 수가 DB에 반영되고, 캐시된 스냅샷도 갱신된다")
+	void joinWorkspace_IncreasesMemberCountAndRefreshesSnapshot() {
+		// given
+		Member member = testDataFixture.createMember("tester");
+		int memberCount = workspaceReader.findWorkspaceSnapshot(workspace.getCode()).memberCount();
+
+		// when
+		workspaceParticipationCommandService.joinWorkspace(workspace.getCode(), member.getId());
+
+		// then
+		assertThat(workspaceRepository.findByCode(workspace.getCode()).orElseThrow().getMemberCount())
+			.isEqualTo(memberCount + 1);
+		assertThat(workspaceReader.findWorkspaceSnapshot(workspace.getCode()).memberCount())
+			.isEqualTo(memberCount + 1);
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,122 @@
+package com.tissue.integration.service.command;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.IntSummaryStatistics;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+import com.tissue.api.issue.domain.model.enums.IssuePriority;
+import com.tissue.api.issue.presentation.controller.dto.request.create.CommonIssueCreateFields;
+import com.tissue.api.issue.presentation.controller.dto.request.create.CreateTaskRequest;
+import com.tissue.api.member.domain.model.Member;
+import com.tissue.api.workspace.domain.model.Workspace;
+import com.tissue.api.workspacemember.domain.model.enums.WorkspaceRole;
+import com.tissue.support.helper.ServiceIntegrationTestHelper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 한 워크스페이스에 동시에 이슈를 생성할 때의 처리량(creates/sec)을 측정한다
+ *  - 트랜잭션을 실제로 커밋해야 하므로 @Transactional을 사용하지 않는다
+ *  - test 태스크에서는 제외되며 ./gradlew benchmark로 실행한다
+ */
+@Slf4j
+@Tag("benchmark")
+@TestPropertySource(properties = {
+	"api.workspace.sequence.mode=block",
+	"api.workspace.sequence.issue-block-size=20"
+})
+class WorkspaceSequenceBenchmarkIT extends ServiceIntegrationTestHelper {
+
+	private static final int THREADS = 8;
+	private static final int CREATES_PER_THREAD = 25;
+
+	Workspace workspace;
+	Member member;
+
+	@BeforeEach
+	void setUp() {
+		workspace = testDataFixture.createWorkspace("test workspace", null, null);
+		member = testDataFixture.createMember("member1");
+		testDataFixture.createWorkspaceMember(member, workspace, WorkspaceRole.MEMBER);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		databaseCleaner.execute();
+	}
+
+	@Test
+	@DisplayName("같은 워크스페이스에서 동시에 이슈를 생성해도 issueKey가 중복되지 않는다")
+	void concurrentCreateIssue_IssueKeysAreUnique() throws InterruptedException {
+		// given
+		Set<String> issueKeys = ConcurrentHashMap.newKeySet();
+		AtomicInteger failures = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(THREADS);
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+		for (int i = 0; i < THREADS; i++) {
+			executor.execute(() -> {
+				try {
+					start.await();
+					for (int j = 0; j < CREATES_PER_THREAD; j++) {
+						issueKeys.add(
+							issueCommandService.createIssue(workspace.getCode(), member.getId(), taskRequest()).issueKey()
+						);
+					}
+				} catch (Exception e) {
+					log.warn("Failed to create issue.", e);
+					failures.incrementAndGet();
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+
+		// when
+		long startedAt = System.nanoTime();
+		start.countDown();
+		assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+		long elapsedNanos = System.nanoTime() - startedAt;
+		executor.shutdown();
+
+		// then
+		int creates = THREADS * CREATES_PER_THREAD;
+		log.info("workspace sequence benchmark: {} creates, {} threads, {} creates/sec",
+			creates, THREADS, String.format("%.1f", creates / (elapsedNanos / 1_000_000_000.0)));
+
+		assertThat(failures.get()).isZero();
+		assertThat(issueKeys).hasSize(creates);
+		assertThat(issueRepository.findAll()).hasSize(creates);
+
+		// 한 노드에서 블록을 모두 소진했으므로 번호에 빈 구간이 없다
+		IntSummaryStatistics issueNumbers = issueKeys.stream()
+			.mapToInt(issueKey -> Integer.parseInt(issueKey.substring(issueKey.lastIndexOf('-') + 1)))
+			.summaryStatistics();
+		assertThat(issueNumbers.getMax() - issueNumbers.getMin() + 1).isEqualTo(creates);
+	}
+
+	private CreateTaskRequest taskRequest() {
+		return CreateTaskRequest.builder()
+			.common(CommonIssueCreateFields.builder()
+				.title("test issue")
+				.content("test content")
+				.priority(IssuePriority.MEDIUM)
+				.build())
+			.build();
+	}
+}
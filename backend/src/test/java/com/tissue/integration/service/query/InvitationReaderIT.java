@@ -2,6 +2,7 @@ package com.tissue.integration.service.query;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.junit.jupiter.api.AfterEach;
@@ -13,6 +14,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.tissue.api.common.dto.CursorRequest;
+import com.tissue.api.common.dto.CursorResponse;
 import com.tissue.api.invitation.domain.model.Invitation;
 import com.tissue.api.invitation.domain.enums.InvitationStatus;
 import com.tissue.api.invitation.presentation.controller.query.InvitationSearchCondition;
@@ -100,4 +103,50 @@ class InvitationReaderIT extends ServiceIntegrationTestHelper {
 		assertThat(result.getContent().get(0).status()).isEqualTo(InvitationStatus.PENDING);
 	}
 
+	@Test
+	@Transactional
+	@DisplayName("커서 기반으로 초대 목록을 조회할 때 생성 시각이 같으면 id 역순으로 이어서 조회한다")
+	void canQueryInvitationsByCursor_TieBreakById() {
+		// given
+		Member member = testDataFixture.createMember("tester");
+
+		Invitation invitation1 = testDataFixture.createInvitation(
+			testDataFixture.createWorkspace("workspace 1", null, null), member, InvitationStatus.PENDING);
+		Invitation invitation2 = testDataFixture.createInvitation(
+			testDataFixture.createWorkspace("workspace 2", null, null), member, InvitationStatus.PENDING);
+		Invitation invitation3 = testDataFixture.createInvitation(
+			testDataFixture.createWorkspace("workspace 3", null, null), member, InvitationStatus.PENDING);
+
+		entityManager.flush();
+		entityManager.createQuery("UPDATE Invitation i SET i.createdDate = :createdDate WHERE i.member.id = :memberId")
+			.setParameter("createdDate", LocalDateTime.of(2025, 1, 1, 0, 0))
+			.setParameter("memberId", member.getId())
+			.executeUpdate();
+		entityManager.clear();
+
+		InvitationSearchCondition searchCondition = new InvitationSearchCondition();
+
+		// when
+		CursorResponse<InvitationDetail> firstPage = invitationQueryService.getInvitations(
+			member.getId(),
+			searchCondition,
+			new CursorRequest(null, 2, true)
+		);
+		CursorResponse<InvitationDetail> secondPage = invitationQueryService.getInvitations(
+			member.getId(),
+			searchCondition,
+			new CursorRequest(firstPage.nextCursor(), 2, false)
+		);
+
+		// then
+		assertThat(firstPage.content()).extracting(InvitationDetail::invitationId)
+			.containsExactly(invitation3.getId(), invitation2.getId());
+		assertThat(firstPage.hasNext()).isTrue();
+		assertThat(firstPage.totalElements()).isEqualTo(3);
+
+		assertThat(secondPage.content()).extracting(InvitationDetail::invitationId)
+			.containsExactly(invitation1.getId());
+		assertThat(secondPage.hasNext()).isFalse();
+		assertThat(secondPage.totalElements()).isNull();
+	}
 }
@@ -0,0 +1,275 @@
+package com.tissue.integration.service.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tissue.api.issue.application.service.query.IssueQueryService;
+import com.tissue.api.issue.domain.model.IssueRelation;
+import com.tissue.api.issue.domain.model.enums.IssuePriority;
+import com.tissue.api.issue.domain.model.enums.IssueRelationType;
+import com.tissue.api.issue.domain.model.enums.IssueType;
+import com.tissue.api.issue.domain.model.types.Epic;
+import com.tissue.api.issue.domain.model.types.SubTask;
+import com.tissue.api.issue.domain.model.types.Task;
+import com.tissue.api.issue.exception.IssueNotFoundException;
+import com.tissue.api.issue.presentation.controller.dto.response.IssueDetail;
+import com.tissue.api.issue.presentation.controller.dto.response.IssueSearchDetail;
+import com.tissue.api.issue.presentation.controller.dto.response.IssueSummary;
+import com.tissue.api.issue.presentation.controller.dto.response.MultiGetIssuesResponse;
+import com.tissue.api.issue.presentation.controller.query.IssueSearchCondition;
+import com.tissue.api.member.domain.model.Member;
+import com.tissue.api.sprint.domain.model.Sprint;
+import com.tissue.api.workspace.domain.model.Workspace;
+import com.tissue.api.workspacemember.domain.model.WorkspaceMember;
+import com.tissue.api.workspacemember.domain.model.enums.WorkspaceRole;
+import com.tissue.support.helper.ServiceIntegrationTestHelper;
+
+class IssueQueryServiceIT extends ServiceIntegrationTestHelper {
+
+	/**
+	 * 이슈 1 + 담당자, 리뷰어, 구독자, 관계, 하위 이슈, 스프린트 각 1
+	 */
+	private static final long ISSUE_DETAIL_QUERY_COUNT = 7;
+
+	@Autowired
+	IssueQueryService issueQueryService;
+
+	Workspace workspace;
+
+	@BeforeEach
+	void setUp() {
+		workspace = testDataFixture.createWorkspace("test workspace", null, null);
+	}
+
+	@AfterEach
+	void tearDown() {
+		databaseCleaner.execute();
+	}
+
+	@Test
+	@Transactional
+	@DisplayName("키워드와 필터에 맞는 워크스페이스 이슈를 최신순으로 페이징 조회할 수 있다")
+	void searchIssues() {
+		// given
+		testDataFixture.createTask(workspace, "로그인 오류 수정", IssuePriority.HIGH, LocalDateTime.now().plusDays(1));
+		testDataFixture.createStory(workspace, "로그인 화면 개편", IssuePriority.HIGH, LocalDateTime.now().plusDays(1));
+		testDataFixture.createTask(workspace, "회원가입 개선", IssuePriority.HIGH, LocalDateTime.now().plusDays(1));
+		testDataFixture.createTask(workspace, "로그인 세션 만료", IssuePriority.LOW, LocalDateTime.now().plusDays(1));
+
+		IssueSearchCondition condition = new IssueSearchCondition(
+			null,
+			List.of(IssueType.TASK),
+			List.of(IssuePriority.HIGH, IssuePriority.LOW),
+			"로그인"
+		);
+
+		// when
+		Page<IssueSearchDetail> page = issueQueryService.searchIssues(
+			workspace.getCode(),
+			condition,
+			PageRequest.of(0, 1)
+		);
+
+		// then
+		assertThat(page.getTotalElements()).isEqualTo(2);
+		assertThat(page.getContent()).extracting(IssueSearchDetail::title).containsExactly("로그인 세션 만료");
+	}
+
+	@Test
+	@Transactional
+	@DisplayName("이슈 상세 조회 시 담당자, 리뷰어, 구독자, 관계, 하위 이슈, 스프린트를 함께 조회한다")
+	void getIssueDetail() {
+		// given
+		List<WorkspaceMember> members = createWorkspaceMembers(3);
+
+		Epic epic = testDataFixture.createEpic(workspace, "epic", IssuePriority.MEDIUM, LocalDateTime.now().plusDays(7));
+		Task task = createIssueGraph(epic, members);
+		flushAndClear();
+
+		// when
+		IssueDetail detail = issueQueryService.getIssueDetail(workspace.getCode(), task.getIssueKey());
+
+		// then
+		assertThat(detail.issueKey()).isEqualTo(task.getIssueKey());
+		assertThat(detail.parentIssueKey()).isEqualTo(epic.getIssueKey());
+		assertThat(detail.assignees()).extracting(IssueDetail.IssueMember::memberId)
+			.containsExactlyInAnyOrder(members.get(0).getMember().getId(), members.get(1).getMember().getId());
+		assertThat(detail.reviewers()).extracting(IssueDetail.IssueMember::memberId)
+			.containsExactly(members.get(2).getMember().getId());
+		assertThat(detail.watchers()).extracting(IssueDetail.IssueMember::displayName)
+			.containsExactly(members.get(0).getDisplayName());
+		assertThat(detail.relations()).extracting(IssueDetail.RelatedIssue::title, IssueDetail.RelatedIssue::relationType)
+			.containsExactly(tuple("related task", IssueRelationType.BLOCKS));
+		assertThat(detail.childIssues()).extracting(IssueDetail.ChildIssue::type)
+			.containsExactly(IssueType.SUB_TASK);
+		assertThat(detail.sprintKeys()).hasSize(1);
+	}
+
+	@Test
+	@Transactional
+	@DisplayName("담당자, 리뷰어, 구독자는 멤버 id와 워크스페이스 코드로 워크스페이스 멤버를 찾아서 조회한다")
+	void getIssueDetail_JoinsWorkspaceMemberByMemberIdAndWorkspaceCode() {
+		// given
+		// 워크스페이스에 참여하지 않은 멤버를 먼저 만들어서 member id와 workspace member id가 달라지게 한다
+		testDataFixture.createMember("outsider1");
+		testDataFixture.createMember("outsider2");
+		List<WorkspaceMember> members = createWorkspaceMembers(3);
+
+		// 같은 멤버들이 다른 워크스페이스에도 참여한다
+		Workspace otherWorkspace = testDataFixture.createWorkspace("other workspace", null, null);
+		members.forEach(member -> testDataFixture.createWorkspaceMember(
+			member.getMember(), otherWorkspace, WorkspaceRole.MEMBER));
+
+		Epic epic = testDataFixture.createEpic(workspace, "epic", IssuePriority.MEDIUM, LocalDateTime.now().plusDays(7));
+		Task task = createIssueGraph(epic, members);
+		flushAndClear();
+
+		// when
+		IssueDetail detail = issueQueryService.getIssueDetail(workspace.getCode(), task.getIssueKey());
+
+		// then
+		assertThat(members).allSatisfy(member -> assertThat(member.getId()).isNotEqualTo(member.getMember().getId()));
+		assertThat(detail.assignees()).extracting(IssueDetail.IssueMember::memberId)
+			.containsExactlyInAnyOrder(members.get(0).getMember().getId(), members.get(1).getMember().getId());
+		assertThat(detail.reviewers()).extracting(IssueDetail.IssueMember::memberId)
+			.containsExactly(members.get(2).getMember().getId());
+		assertThat(detail.watchers()).extracting(IssueDetail.IssueMember::memberId)
+			.containsExactly(members.get(0).getMember().getId());
+	}
+
+	@Test
+	@Transactional
+	@DisplayName("이슈 상세 조회는 컬렉션 크기와 관계없이 고정된 개수의 쿼리로 실행된다")
+	void getIssueDetail_QueryCountDoesNotDependOnCollectionSize() {
+		// given
+		List<WorkspaceMember> members = createWorkspaceMembers(10);
+
+		Epic epic = testDataFixture.createEpic(workspace, "epic", IssuePriority.MEDIUM, LocalDateTime.now().plusDays(7));
+		Task emptyTask = testDataFixture.createTask(workspace, "empty", IssuePriority.MEDIUM, LocalDateTime.now().plusDays(7));
+		Task fullTask = createIssueGraph(epic, members);
+		testDataFixture.addIssueAssignees(fullTask, members.subList(2, 10));
+		flushAndClear();
+
+		// when
+		long emptyTaskQueryCount = queryCounter.count(() -> issueQueryService.getIssueDetail(
+			workspace.getCode(), emptyTask.getIssueKey()));
+		long fullTaskQueryCount = queryCounter.count(() -> issueQueryService.getIssueDetail(
+			workspace.getCode(), fullTask.getIssueKey()));
+
+		// then
+		assertThat(emptyTaskQueryCount).isEqualTo(ISSUE_DETAIL_QUERY_COUNT);
+		assertThat(fullTaskQueryCount).isEqualTo(ISSUE_DETAIL_QUERY_COUNT);
+	}
+
+	@Test
+	@Transactional
+	@DisplayName("존재하지 않는 이슈를 상세 조회하면 예외가 발생한다")
+	void getIssueDetail_IssueNotFound() {
+		// when & then
+		assertThatThrownBy(() -> issueQueryService.getIssueDetail(workspace.getCode(), "ISSUE-999"))
+			.isInstanceOf(IssueNotFoundException.class);
+	}
+
+	@Test
+	@Transactional
+	@DisplayName("이슈 여러 건을 요청한 키 순서대로 조회하고, 존재하지 않는 이슈 키는 따로 응답한다")
+	void getIssueSummaries_PartialResult() {
+		// given
+		LocalDateTime dueAt = LocalDateTime.now().plusDays(7);
+		Task task1 = testDataFixture.createTask(workspace, "task 1", IssuePriority.MEDIUM, dueAt);
+		Task task2 = testDataFixture.createTask(workspace, "task 2", IssuePriority.MEDIUM, dueAt);
+		flushAndClear();
+
+		// when
+		MultiGetIssuesResponse response = issueQueryService.getIssueSummaries(
+			workspace.getCode(),
+			List.of(task2.getIssueKey(), "ISSUE-999", task1.getIssueKey(), task2.getIssueKey())
+		);
+
+		// then
+		assertThat(response.issues()).extracting(IssueSummary::issueKey)
+			.containsExactly(task2.getIssueKey(), task1.getIssueKey());
+		assertThat(response.missingIssueKeys()).containsExactly("ISSUE-999");
+	}
+
+	@Test
+	@Transactional
+	@DisplayName("이슈 키가 많으면 나눠서 조회한다")
+	void getIssueSummaries_ChunkedLookup() {
+		// given
+		LocalDateTime dueAt = LocalDateTime.now().plusDays(7);
+		List<String> issueKeys = new ArrayList<>();
+		for (int i = 0; i < 120; i++) {
+			issueKeys.add(testDataFixture.createTask(workspace, "task " + i, IssuePriority.MEDIUM, dueAt).getIssueKey());
+		}
+		flushAndClear();
+
+		// when
+		List<MultiGetIssuesResponse> responses = new ArrayList<>();
+		long queryCount = queryCounter.count(() -> responses.add(
+			issueQueryService.getIssueSummaries(workspace.getCode(), issueKeys)
+		));
+
+		// then
+		assertThat(queryCount).isEqualTo(3);
+		assertThat(responses.get(0).issues()).extracting(IssueSummary::issueKey).containsExactlyElementsOf(issueKeys);
+		assertThat(responses.get(0).missingIssueKeys()).isEmpty();
+	}
+
+	/**
+	 * epic의 하위 이슈(task)를 만들고 담당자 2, 리뷰어 1, 구독자 1, 관계 1, 하위 이슈 1, 스프린트 1을 연결한다
+	 */
+	private Task createIssueGraph(Epic epic, List<WorkspaceMember> members) {
+		LocalDateTime dueAt = LocalDateTime.now().plusDays(7);
+
+		Task task = testDataFixture.createTask(workspace, "task", IssuePriority.HIGH, dueAt);
+		Task relatedTask = testDataFixture.createTask(workspace, "related task", IssuePriority.HIGH, dueAt);
+		SubTask subTask = testDataFixture.createSubTask(workspace, "sub task", IssuePriority.HIGH, dueAt);
+
+		task.updateParentIssue(epic);
+		subTask.updateParentIssue(task);
+		IssueRelation.createRelation(task, relatedTask, IssueRelationType.BLOCKS);
+		task.addWatcher(members.get(0));
+
+		testDataFixture.addIssueAssignees(task, members.subList(0, 2));
+		testDataFixture.addIssueReviewers(task, members.subList(2, 3));
+
+		Sprint sprint = sprintRepository.save(Sprint.builder()
+			.title("sprint")
+			.goal("sprint goal")
+			.plannedStartDate(LocalDateTime.now().minusDays(1))
+			.plannedEndDate(dueAt)
+			.workspace(workspace)
+			.build()
+		);
+		sprint.addIssue(task);
+
+		return task;
+	}
+
+	private List<WorkspaceMember> createWorkspaceMembers(int count) {
+		List<WorkspaceMember> members = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			Member member = testDataFixture.createMember("member" + i);
+			members.add(testDataFixture.createWorkspaceMember(member, workspace, WorkspaceRole.MEMBER));
+		}
+		return members;
+	}
+
+	private void flushAndClear() {
+		entityManager.flush();
+		entityManager.clear();
+	}
+}
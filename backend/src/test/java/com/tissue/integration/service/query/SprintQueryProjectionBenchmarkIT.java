@@ -0,0 +1,116 @@
+package com.tissue.integration.service.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.tissue.api.issue.domain.model.enums.IssuePriority;
+import com.tissue.api.issue.domain.model.types.Task;
+import com.tissue.api.sprint.domain.model.Sprint;
+import com.tissue.api.sprint.presentation.dto.response.SprintDetail;
+import com.tissue.api.workspace.domain.model.Workspace;
+import com.tissue.support.helper.ServiceIntegrationTestHelper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 스프린트 상세 조회 시 엔티티 그래프를 로딩하는 방식과 projection으로 조회하는 방식을 비교한다
+ *  - 소요 시간과 현재 스레드의 할당 바이트(com.sun.management.ThreadMXBean)를 로그로 남긴다
+ *  - test 태스크에서는 제외되며 ./gradlew benchmark로 실행한다
+ */
+@Slf4j
+@Tag("benchmark")
+class SprintQueryProjectionBenchmarkIT extends ServiceIntegrationTestHelper {
+
+	private static final int ISSUE_COUNT = 200;
+	private static final int ROUNDS = 20;
+
+	Workspace workspace;
+	Sprint sprint;
+
+	@BeforeEach
+	void setUp() {
+		workspace = testDataFixture.createWorkspace("test workspace", null, null);
+
+		sprint = sprintRepository.save(Sprint.builder()
+			.title("benchmark sprint")
+			.goal("benchmark sprint")
+			.plannedStartDate(LocalDateTime.now().minusDays(1))
+			.plannedEndDate(LocalDateTime.now().plusDays(7))
+			.workspace(workspace)
+			.build()
+		);
+
+		String content = "content ".repeat(2_000);
+		for (int i = 0; i < ISSUE_COUNT; i++) {
+			sprint.addIssue(issueRepository.save(Task.builder()
+				.workspace(workspace)
+				.title("issue " + i)
+				.content(content)
+				.priority(IssuePriority.MEDIUM)
+				.dueAt(LocalDateTime.now().plusDays(7))
+				.build()
+			));
+		}
+		sprintRepository.saveAndFlush(sprint);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		databaseCleaner.execute();
+	}
+
+	@Test
+	@Transactional
+	@DisplayName("projection 조회는 엔티티 그래프 조회와 같은 이슈 키 목록을 더 적은 할당으로 반환한다")
+	void projectionAndEntityGraph_ReturnSameIssueKeys() {
+		// given
+		String sprintKey = sprint.getSprintKey();
+		String workspaceCode = workspace.getCode();
+
+		// when
+		Measurement entity = measure("entity graph", () -> SprintDetail.from(
+			sprintRepository.findBySprintKeyAndWorkspaceCodeWithIssues(sprintKey, workspaceCode).orElseThrow()
+		));
+		Measurement projection = measure("projection",
+			() -> sprintQueryService.getSprintDetail(workspaceCode, sprintKey));
+
+		// then
+		assertThat(projection.result().issueKeys())
+			.hasSize(ISSUE_COUNT)
+			.containsExactlyElementsOf(entity.result().issueKeys());
+		assertThat(projection.allocatedBytesPerOp()).isLessThan(entity.allocatedBytesPerOp());
+	}
+
+	private Measurement measure(String name, Supplier<SprintDetail> query) {
+		com.sun.management.ThreadMXBean threadMXBean =
+			(com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+
+		SprintDetail result = null;
+		long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+		long startedAt = System.nanoTime();
+		for (int i = 0; i < ROUNDS; i++) {
+			entityManager.clear();
+			result = query.get();
+		}
+		long elapsedNanos = System.nanoTime() - startedAt;
+		long allocatedBytesPerOp = (threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore) / ROUNDS;
+
+		log.info("sprint detail benchmark({}): {} issues, {} ms/op, {} KB allocated/op",
+			name, ISSUE_COUNT, elapsedNanos / ROUNDS / 1_000_000, allocatedBytesPerOp / 1024);
+
+		return new Measurement(result, allocatedBytesPerOp);
+	}
+
+	private record Measurement(SprintDetail result, long allocatedBytesPerOp) {
+	}
+}
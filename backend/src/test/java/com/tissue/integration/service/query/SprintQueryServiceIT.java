@@ -15,6 +15,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.tissue.api.common.dto.CursorRequest;
+import com.tissue.api.common.dto.CursorResponse;
 import com.tissue.api.issue.domain.model.enums.IssuePriority;
 import com.tissue.api.issue.domain.model.enums.IssueStatus;
 import com.tissue.api.issue.domain.model.enums.IssueType;
@@ -185,6 +187,46 @@ public class SprintQueryServiceIT extends ServiceIntegrationTestHelper {
 		assertThat(result.getTotalPages()).isEqualTo(1);
 	}
 
+	@Test
+	@Transactional
+	@DisplayName("커서 기반으로 스프린트 목록을 최신순으로 이어서 조회할 수 있다")
+	void canGetSprintsByCursor() {
+		// given
+		for (int i = 1; i <= 3; i++) {
+			sprintRepository.save(Sprint.builder()
+				.title("sprint " + i)
+				.goal("sprint " + i)
+				.plannedStartDate(LocalDateTime.now().minusDays(1))
+				.plannedEndDate(LocalDateTime.now().plusDays(i))
+				.workspace(workspace)
+				.build()
+			);
+		}
+		SprintSearchCondition searchCondition = new SprintSearchCondition();
+
+		// when
+		CursorResponse<SprintDetail> firstPage = sprintQueryService.getSprints(
+			workspace.getCode(),
+			searchCondition,
+			new CursorRequest(null, 2, true)
+		);
+		CursorResponse<SprintDetail> secondPage = sprintQueryService.getSprints(
+			workspace.getCode(),
+			searchCondition,
+			new CursorRequest(firstPage.nextCursor(), 2, false)
+		);
+
+		// then
+		assertThat(firstPage.content()).extracting(SprintDetail::sprintKey).containsExactly("SPRINT-3", "SPRINT-2");
+		assertThat(firstPage.hasNext()).isTrue();
+		assertThat(firstPage.totalElements()).isEqualTo(3);
+
+		assertThat(secondPage.content()).extracting(SprintDetail::sprintKey).containsExactly("SPRINT-1");
+		assertThat(secondPage.hasNext()).isFalse();
+		assertThat(secondPage.nextCursor()).isNull();
+		assertThat(secondPage.totalElements()).isNull();
+	}
+
 	@Test
 	@Transactional
 	@DisplayName("스프린트 상세 정보를 조회하는 경우, 등록된 이슈들에 대응되는 이슈 키의 목록을 확인할 수 있다")
@@ -404,4 +446,58 @@ public class SprintQueryServiceIT extends ServiceIntegrationTestHelper {
 		assertThat(result.getNumber()).isEqualTo(0);
 		assertThat(result.getTotalPages()).isEqualTo(1);
 	}
+
+	@Test
+	@Transactional
+	@DisplayName("커서 기반으로 스프린트 이슈를 조회할 때 추가된 시각이 같으면 id 역순으로 이어서 조회하고 전체 개수를 COUNT로 조회한다")
+	void canGetSprintIssuesByCursor_TieBreakById() {
+		// given
+		Sprint sprint = sprintRepository.save(Sprint.builder()
+			.title("test sprint")
+			.goal("test sprint")
+			.plannedStartDate(LocalDateTime.now().minusDays(1))
+			.plannedEndDate(LocalDateTime.now().plusDays(1))
+			.workspace(workspace)
+			.build()
+		);
+
+		sprint.addIssue(issue1);
+		sprint.addIssue(issue2);
+		sprint.addIssue(issue3);
+
+		entityManager.flush();
+		entityManager.createQuery(
+				"UPDATE SprintIssue si SET si.createdDate = :createdDate WHERE si.sprint.id = :sprintId")
+			.setParameter("createdDate", LocalDateTime.of(2025, 1, 1, 0, 0))
+			.setParameter("sprintId", sprint.getId())
+			.executeUpdate();
+		entityManager.clear();
+
+		SprintIssueSearchCondition condition = new SprintIssueSearchCondition();
+
+		// when
+		CursorResponse<SprintIssueDetail> firstPage = sprintQueryService.getSprintIssues(
+			workspace.getCode(),
+			sprint.getSprintKey(),
+			condition,
+			new CursorRequest(null, 2, true)
+		);
+		CursorResponse<SprintIssueDetail> secondPage = sprintQueryService.getSprintIssues(
+			workspace.getCode(),
+			sprint.getSprintKey(),
+			condition,
+			new CursorRequest(firstPage.nextCursor(), 2, false)
+		);
+
+		// then
+		assertThat(firstPage.content()).extracting(SprintIssueDetail::issueKey)
+			.containsExactly(issue3.getIssueKey(), issue2.getIssueKey());
+		assertThat(firstPage.hasNext()).isTrue();
+		assertThat(firstPage.totalElements()).isEqualTo(3);
+
+		assertThat(secondPage.content()).extracting(SprintIssueDetail::issueKey)
+			.containsExactly(issue1.getIssueKey());
+		assertThat(secondPage.hasNext()).isFalse();
+		assertThat(secondPage.totalElements()).isNull();
+	}
 }
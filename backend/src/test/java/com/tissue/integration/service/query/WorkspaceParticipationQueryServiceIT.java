@@ -2,6 +2,7 @@ package com.tissue.integration.service.query;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
@@ -14,6 +15,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.tissue.api.common.dto.CursorRequest;
+import com.tissue.api.common.dto.CursorResponse;
 import com.tissue.api.member.domain.model.Member;
 import com.tissue.api.workspace.domain.model.Workspace;
 import com.tissue.api.workspace.presentation.dto.WorkspaceDetail;
@@ -100,4 +103,42 @@ class WorkspaceParticipationQueryServiceIT extends ServiceIntegrationTestHelper
 			assertThat(workspaces.get(i).getName()).isEqualTo(expectedOrder.get(i));
 		}
 	}
-}
\ No newline at end of file
+
+	@Test
+	@Transactional
+	@DisplayName("커서 기반으로 참여한 워크스페이스를 조회할 때 참여 시각이 같으면 참여 id 역순으로 이어서 조회한다")
+	void memberCanQueryJoinedWorkspacesByCursor_TieBreakById() {
+		// given
+		Workspace workspace3 = testDataFixture.createWorkspace("workspace3", null, null);
+		testDataFixture.createWorkspaceMember(member1, workspace3, WorkspaceRole.MEMBER);
+
+		entityManager.flush();
+		entityManager.createQuery(
+				"UPDATE WorkspaceMember wm SET wm.createdDate = :createdDate WHERE wm.member.id = :memberId")
+			.setParameter("createdDate", LocalDateTime.of(2025, 1, 1, 0, 0))
+			.setParameter("memberId", member1.getId())
+			.executeUpdate();
+		entityManager.clear();
+
+		// when
+		CursorResponse<WorkspaceDetail> firstPage = workspaceParticipationQueryService.getWorkspaces(
+			member1.getId(),
+			new CursorRequest(null, 2, true)
+		);
+		CursorResponse<WorkspaceDetail> secondPage = workspaceParticipationQueryService.getWorkspaces(
+			member1.getId(),
+			new CursorRequest(firstPage.nextCursor(), 2, false)
+		);
+
+		// then
+		assertThat(firstPage.content()).extracting(WorkspaceDetail::getName)
+			.containsExactly("workspace3", "workspace2");
+		assertThat(firstPage.hasNext()).isTrue();
+		assertThat(firstPage.totalElements()).isEqualTo(3);
+
+		assertThat(secondPage.content()).extracting(WorkspaceDetail::getName)
+			.containsExactly("workspace1");
+		assertThat(secondPage.hasNext()).isFalse();
+		assertThat(secondPage.totalElements()).isNull();
+	}
+}
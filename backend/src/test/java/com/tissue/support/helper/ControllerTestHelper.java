@@ -20,6 +20,8 @@ import com.tissue.api.invitation.infrastructure.repository.InvitationRepository;
 import com.tissue.api.invitation.presentation.controller.command.InvitationController;
 import com.tissue.api.issue.application.service.command.IssueCommandService;
 import com.tissue.api.issue.application.service.command.IssueReviewerCommandService;
+import com.tissue.api.issue.application.service.command.bulk.IssueBulkStatusCommandService;
+import com.tissue.api.issue.application.service.command.bulk.IssueImportService;
 import com.tissue.api.issue.infrastructure.repository.IssueRepository;
 import com.tissue.api.issue.infrastructure.repository.IssueReviewerRepository;
 import com.tissue.api.issue.presentation.controller.command.IssueController;
@@ -39,6 +41,7 @@ import com.tissue.api.review.application.service.command.ReviewCommandService;
 import com.tissue.api.review.presentation.controller.ReviewController;
 import com.tissue.api.security.authentication.application.service.AuthenticationService;
 import com.tissue.api.security.authentication.presentation.controller.AuthenticationController;
+import com.tissue.api.security.authentication.strategy.SessionAuthenticationStrategy;
 import com.tissue.api.security.session.SessionManager;
 import com.tissue.api.security.session.SessionValidator;
 import com.tissue.api.util.WorkspaceCodeParser;
@@ -86,7 +89,7 @@ import lombok.extern.slf4j.Slf4j;
 		})
 	}
 )
-@Import(value = WebMvcTestConfig.class)
+@Import(value = {WebMvcTestConfig.class, SessionAuthenticationStrategy.class})
 public abstract class ControllerTestHelper {
 
 	@Autowired
@@ -147,6 +150,10 @@ public abstract class ControllerTestHelper {
 	@MockBean
 	protected IssueCommandService issueCommandService;
 	@MockBean
+	protected IssueImportService issueImportService;
+	@MockBean
+	protected IssueBulkStatusCommandService issueBulkStatusCommandService;
+	@MockBean
 	protected ReviewCommandService reviewCommandService;
 	@MockBean
 	protected IssueReviewerCommandService issueReviewerCommandService;
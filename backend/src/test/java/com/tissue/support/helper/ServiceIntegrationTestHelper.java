@@ -54,6 +54,7 @@ import com.tissue.api.workspacemember.application.service.query.WorkspacePartici
 import com.tissue.api.workspacemember.infrastructure.repository.WorkspaceMemberRepository;
 import com.tissue.support.fixture.TestDataFixture;
 import com.tissue.support.util.DatabaseCleaner;
+import com.tissue.support.util.QueryCounter;
 
 import jakarta.persistence.EntityManager;
 
@@ -69,6 +70,8 @@ public abstract class ServiceIntegrationTestHelper {
 	@Autowired
 	protected DatabaseCleaner databaseCleaner;
 	@Autowired
+	protected QueryCounter queryCounter;
+	@Autowired
 	protected PasswordEncoder passwordEncoder;
 	@Autowired
 	protected WorkspaceCodeParser workspaceCodeParser;
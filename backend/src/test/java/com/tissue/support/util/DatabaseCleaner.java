@@ -69,7 +69,10 @@ public class DatabaseCleaner {
 			try (ResultSet rs = connection.getMetaData().getColumns(null, null, tableName, null)) {
 				while (rs.next()) {
 					String columnName = rs.getString("COLUMN_NAME");
-					if (columnName.equalsIgnoreCase("ID") || columnName.equalsIgnoreCase(tableName + "_ID")) {
+					// pooled-ids 프로필에서는 id가 sequence로 할당되므로 identity 컬럼만 재시작한다
+					boolean identity = "YES".equalsIgnoreCase(rs.getString("IS_AUTOINCREMENT"));
+					if (identity
+						&& (columnName.equalsIgnoreCase("ID") || columnName.equalsIgnoreCase(tableName + "_ID"))) {
 						idColumns.add(columnName);
 					}
 				}
@@ -0,0 +1,32 @@
+package com.tissue.support.util;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 실행 중에 준비된 JDBC statement 수(Hibernate Statistics)를 센다
+ * - 쿼리 수가 조회 대상 수에 비례하지 않는지(N+1) 검증할 때 사용한다
+ * - 통계는 SessionFactory 전체에 대해 수집되므로 병렬로 실행되는 다른 테스트가 없을 때만 정확하다
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryCounter {
+
+	private final EntityManagerFactory entityManagerFactory;
+
+	public long count(Runnable runnable) {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+		try {
+			runnable.run();
+			return statistics.getPrepareStatementCount();
+		} finally {
+			statistics.setStatisticsEnabled(false);
+		}
+	}
+}
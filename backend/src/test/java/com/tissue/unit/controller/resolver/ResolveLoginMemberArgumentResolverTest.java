@@ -17,9 +17,9 @@ import org.springframework.web.context.request.NativeWebRequest;
 import com.tissue.api.common.exception.type.AuthenticationFailedException;
 import com.tissue.api.security.authentication.resolver.LoginMemberArgumentResolver;
 import com.tissue.api.security.authentication.resolver.ResolveLoginMember;
-import com.tissue.api.security.session.SessionManager;
+import com.tissue.api.security.authentication.strategy.AuthenticationStrategy;
 
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletRequest;
 
 @ExtendWith(MockitoExtension.class)
 class ResolveLoginMemberArgumentResolverTest {
@@ -27,9 +27,9 @@ class ResolveLoginMemberArgumentResolverTest {
 	@Mock
 	private NativeWebRequest webRequest;
 	@Mock
-	private HttpSession session;
+	private HttpServletRequest request;
 	@Mock
-	private SessionManager sessionManager;
+	private AuthenticationStrategy authenticationStrategy;
 
 	@InjectMocks
 	private LoginMemberArgumentResolver resolver;
@@ -93,48 +93,30 @@ class ResolveLoginMemberArgumentResolverTest {
 	void resolveArgument_WhenLoggedIn_ReturnLoginMember() {
 		// given
 		Long loginMemberId = 1L;
-		when(sessionManager.getSession(webRequest)).thenReturn(session);
-		when(sessionManager.getOptionalLoginMemberId(session)).thenReturn(Optional.of(loginMemberId));
+		when(webRequest.getNativeRequest(HttpServletRequest.class)).thenReturn(request);
+		when(authenticationStrategy.findLoginMemberId(request)).thenReturn(Optional.of(loginMemberId));
 
 		// when
 		Long result = (Long)resolver.resolveArgument(null, null, webRequest, null);
 
 		// then
-		assertThat(result).isNotNull()
-			.isInstanceOf(Long.class);
+		assertThat(result).isEqualTo(loginMemberId);
 
-		verify(sessionManager).getSession(webRequest);
-		verify(sessionManager).getOptionalLoginMemberId(session);
+		verify(authenticationStrategy).findLoginMemberId(request);
 	}
 
 	@Test
-	@DisplayName("세션이 없으면 예외가 발생한다")
-	void resolveArgument_WhenNoSession_ThrowUserNotLoggedInException() {
+	@DisplayName("로그인 정보가 없으면 예외가 발생한다")
+	void resolveArgument_WhenNotLoggedIn_ThrowAuthenticationFailedException() {
 		// given
-		when(sessionManager.getSession(webRequest)).thenThrow(new AuthenticationFailedException("User not logged in."));
+		when(webRequest.getNativeRequest(HttpServletRequest.class)).thenReturn(request);
+		when(authenticationStrategy.findLoginMemberId(request)).thenReturn(Optional.empty());
 
 		// when & then
 		assertThatThrownBy(() -> resolver.resolveArgument(null, null, webRequest, null))
 			.isInstanceOf(AuthenticationFailedException.class);
 
-		verify(sessionManager).getSession(webRequest);
-		verifyNoMoreInteractions(sessionManager);
-	}
-
-	@Test
-	@DisplayName("세션의 속성값이 존재하지 않으면 예외가 발생한다")
-	void resolveArgument_WhenMemberNotFound_ThrowMemberNotFoundException() {
-		// given
-		when(sessionManager.getSession(webRequest)).thenReturn(session);
-		when(sessionManager.getOptionalLoginMemberId(session)).thenThrow(
-			new AuthenticationFailedException("User not logged in."));
-
-		// when & then
-		assertThatThrownBy(() -> resolver.resolveArgument(null, null, webRequest, null))
-			.isInstanceOf(AuthenticationFailedException.class);
-
-		verify(sessionManager).getSession(webRequest);
-		verify(sessionManager).getOptionalLoginMemberId(session);
+		verify(authenticationStrategy).findLoginMemberId(request);
 	}
 
 }
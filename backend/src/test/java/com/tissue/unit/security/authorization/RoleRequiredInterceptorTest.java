@@ -26,9 +26,10 @@ import com.tissue.api.security.session.SessionManager;
 import com.tissue.api.util.WorkspaceCodeParser;
 import com.tissue.api.workspace.domain.model.Workspace;
 import com.tissue.api.workspace.infrastructure.repository.WorkspaceRepository;
+import com.tissue.api.workspacemember.application.service.command.WorkspaceMembershipResolver;
 import com.tissue.api.workspacemember.domain.model.WorkspaceMember;
 import com.tissue.api.workspacemember.domain.model.enums.WorkspaceRole;
-import com.tissue.api.workspacemember.infrastructure.repository.WorkspaceMemberRepository;
+import com.tissue.api.workspacemember.domain.model.vo.WorkspaceMembership;
 import com.tissue.api.workspacemember.exception.WorkspaceMemberNotFoundException;
 import com.tissue.support.fixture.entity.MemberEntityFixture;
 import com.tissue.support.fixture.entity.WorkspaceEntityFixture;
@@ -51,7 +52,7 @@ class RoleRequiredInterceptorTest {
 	@Mock
 	private WorkspaceRepository workspaceRepository;
 	@Mock
-	private WorkspaceMemberRepository workspaceMemberRepository;
+	private WorkspaceMembershipResolver workspaceMembershipResolver;
 	@Mock
 	private HttpServletRequest request;
 	@Mock
@@ -123,8 +124,8 @@ class RoleRequiredInterceptorTest {
 		when(handlerMethod.getMethodAnnotation(RoleRequired.class)).thenReturn(mock(RoleRequired.class));
 		when(request.getSession(false)).thenReturn(session);
 		when(sessionManager.getOptionalLoginMemberId(any(HttpSession.class))).thenReturn(Optional.of(1L));
-		when(workspaceMemberRepository.findByMemberIdAndWorkspaceCode(1L, TEST_WORKSPACE_CODE))
-			.thenReturn(Optional.empty());
+		when(workspaceMembershipResolver.resolve(1L, TEST_WORKSPACE_CODE))
+			.thenThrow(new WorkspaceMemberNotFoundException(1L, TEST_WORKSPACE_CODE));
 
 		Map<String, String> pathVariables = new HashMap<>();
 		pathVariables.put("workspaceCode", TEST_WORKSPACE_CODE);
@@ -154,8 +155,8 @@ class RoleRequiredInterceptorTest {
 		when(handlerMethod.getMethodAnnotation(RoleRequired.class)).thenReturn(roleRequired);
 		when(request.getSession(false)).thenReturn(session);
 		when(sessionManager.getOptionalLoginMemberId(any(HttpSession.class))).thenReturn(Optional.of(1L));
-		when(workspaceMemberRepository.findByMemberIdAndWorkspaceCode(1L, TEST_WORKSPACE_CODE))
-			.thenReturn(Optional.of(workspaceMember));
+		when(workspaceMembershipResolver.resolve(1L, TEST_WORKSPACE_CODE))
+			.thenReturn(new WorkspaceMembership(workspaceMember.getId(), workspaceMember.getRole()));
 		when(roleRequired.role()).thenReturn(WorkspaceRole.MANAGER);
 
 		Map<String, String> pathVariables = new HashMap<>();
@@ -186,8 +187,8 @@ class RoleRequiredInterceptorTest {
 		when(handlerMethod.getMethodAnnotation(RoleRequired.class)).thenReturn(roleRequired);
 		when(request.getSession(false)).thenReturn(session);
 		when(sessionManager.getOptionalLoginMemberId(any(HttpSession.class))).thenReturn(Optional.of(1L));
-		when(workspaceMemberRepository.findByMemberIdAndWorkspaceCode(1L, TEST_WORKSPACE_CODE))
-			.thenReturn(Optional.of(workspaceMember));
+		when(workspaceMembershipResolver.resolve(1L, TEST_WORKSPACE_CODE))
+			.thenReturn(new WorkspaceMembership(workspaceMember.getId(), workspaceMember.getRole()));
 		when(roleRequired.role()).thenReturn(WorkspaceRole.MEMBER);
 
 		Map<String, String> pathVariables = new HashMap<>();
@@ -15,7 +15,6 @@ import com.tissue.api.issue.application.service.reader.IssueReader;
 import com.tissue.api.issue.domain.event.IssueCreatedEvent;
 import com.tissue.api.issue.domain.model.Issue;
 import com.tissue.api.issue.domain.model.enums.IssueType;
-import com.tissue.api.member.domain.model.Member;
 import com.tissue.api.notification.application.eventhandler.NotificationEventHandler;
 import com.tissue.api.notification.application.service.command.NotificationCommandService;
 import com.tissue.api.notification.application.service.command.NotificationProcessor;
@@ -74,8 +73,6 @@ class NotificationEventHandlerTest {
 
 		WorkspaceMember wm1 = mock(WorkspaceMember.class);
 		WorkspaceMember wm2 = mock(WorkspaceMember.class);
-		when(wm1.getMember()).thenReturn(mock(Member.class));
-		when(wm2.getMember()).thenReturn(mock(Member.class));
 		List<WorkspaceMember> members = List.of(wm1, wm2);
 
 		when(targetService.getWorkspaceWideMemberTargets(workspaceCode)).thenReturn(members);
@@ -86,14 +83,14 @@ class NotificationEventHandlerTest {
 		Notification notification1 = mock(Notification.class);
 		Notification notification2 = mock(Notification.class);
 
-		when(notificationService.createNotification(eq(event), anyLong(), eq(msg)))
-			.thenReturn(notification1, notification2);
+		when(notificationService.createNotifications(event, members, msg))
+			.thenReturn(List.of(notification1, notification2));
 
 		// when
 		notificationEventHandler.handleIssueCreated(event);
 
 		// then
-		verify(notificationService, times(2)).createNotification(eq(event), anyLong(), eq(msg));
-		verify(notificationProcessor, times(2)).process(any(Notification.class));
+		verify(notificationService, times(1)).createNotifications(event, members, msg);
+		verify(notificationProcessor).process(List.of(notification1, notification2));
 	}
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.tissue.api.common.event.DomainEvent;
 import com.tissue.api.common.exception.type.ResourceNotFoundException;
+import com.tissue.api.member.domain.model.Member;
 import com.tissue.api.notification.application.service.command.NotificationCommandService;
 import com.tissue.api.notification.domain.enums.NotificationType;
 import com.tissue.api.notification.domain.enums.ResourceType;
@@ -91,6 +92,53 @@ class NotificationCommandServiceTest {
 		assertThat(savedNotification.isRead()).isFalse();
 	}
 
+	@Test
+	@DisplayName("여러 알림 생성 시 액터는 한 번만 조회하고 수신자는 다시 조회하지 않아야 함")
+	void createNotifications_ShouldReadActorOnceAndSaveAllAtOnce() {
+		// given
+		UUID eventId = UUID.randomUUID();
+		String workspaceCode = "WORKSPACE1";
+		Long actorId = 300L;
+		NotificationMessage message = new NotificationMessage("Test Title", "Test Message");
+
+		DomainEvent event = mock(DomainEvent.class);
+		when(event.getEventId()).thenReturn(eventId);
+		when(event.getActorMemberId()).thenReturn(actorId);
+		when(event.getNotificationType()).thenReturn(NotificationType.ISSUE_CREATED);
+		when(event.getWorkspaceCode()).thenReturn(workspaceCode);
+
+		WorkspaceMember actor = mock(WorkspaceMember.class);
+		when(actor.getDisplayName()).thenReturn("TestUser");
+		when(workspaceMemberReader.findWorkspaceMember(actorId, workspaceCode)).thenReturn(actor);
+
+		WorkspaceMember receiver1 = mockReceiver(100L, "receiver1@test.com");
+		WorkspaceMember receiver2 = mockReceiver(101L, "receiver2@test.com");
+
+		when(notificationRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		// when
+		List<Notification> notifications = notificationCommandService.createNotifications(
+			event,
+			List.of(receiver1, receiver2),
+			message
+		);
+
+		// then
+		verify(workspaceMemberReader, times(1)).findWorkspaceMember(anyLong(), anyString());
+		verify(notificationRepository, times(1)).saveAll(anyList());
+		verify(notificationRepository, never()).save(any());
+
+		assertThat(notifications)
+			.extracting(Notification::getReceiverMemberId, Notification::getReceiverEmail)
+			.containsExactly(
+				tuple(100L, "receiver1@test.com"),
+				tuple(101L, "receiver2@test.com")
+			);
+		assertThat(notifications)
+			.allMatch(notification -> notification.getEventId().equals(eventId))
+			.allMatch(notification -> notification.getActorDisplayName().equals("TestUser"));
+	}
+
 	@Test
 	@DisplayName("존재하는 알림을 읽음 표시할 수 있어야 함")
 	void markAsRead_WithExistingNotification_ShouldMarkAsRead() {
@@ -176,4 +224,14 @@ class NotificationCommandServiceTest {
 		// saveAll 메서드가 빈 리스트와 함께 호출되었는지 검증
 		verify(notificationRepository).saveAll(emptyList);
 	}
-}
\ No newline at end of file
+
+	private WorkspaceMember mockReceiver(Long memberId, String email) {
+		Member member = mock(Member.class);
+		when(member.getId()).thenReturn(memberId);
+
+		WorkspaceMember receiver = mock(WorkspaceMember.class);
+		when(receiver.getMember()).thenReturn(member);
+		when(receiver.getEmail()).thenReturn(email);
+		return receiver;
+	}
+}
@@ -0,0 +1,56 @@
+package com.tissue.unit.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.tissue.api.util.StringBloomFilter;
+import com.tissue.api.util.WorkspaceCodeGenerator;
+
+class StringBloomFilterTest {
+
+	private final WorkspaceCodeGenerator workspaceCodeGenerator = new WorkspaceCodeGenerator();
+
+	@Test
+	@DisplayName("추가한 값은 항상 포함된 것으로 판단한다")
+	void mightContain_returnsTrue_forAddedValues() {
+		// given
+		StringBloomFilter filter = new StringBloomFilter(10_000, 0.01);
+		List<String> codes = generateCodes(10_000);
+
+		// when
+		codes.forEach(filter::put);
+
+		// then
+		assertThat(codes).allMatch(filter::mightContain);
+	}
+
+	@Test
+	@DisplayName("추가하지 않은 값의 오탐률은 설정한 확률 근처에 머문다")
+	void mightContain_falsePositiveRate_isNearConfiguredProbability() {
+		// given
+		StringBloomFilter filter = new StringBloomFilter(100_000, 0.01);
+		generateCodes(100_000).forEach(filter::put);
+
+		// when
+		List<String> unseen = generateCodes(100_000);
+		long falsePositives = unseen.stream()
+			.filter(filter::mightContain)
+			.count();
+
+		// then
+		assertThat((double)falsePositives / unseen.size()).isLessThan(0.02);
+	}
+
+	private List<String> generateCodes(int count) {
+		List<String> codes = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			codes.add(workspaceCodeGenerator.generateWorkspaceCode());
+		}
+		return codes;
+	}
+}
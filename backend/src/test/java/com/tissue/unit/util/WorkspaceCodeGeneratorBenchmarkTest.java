@@ -0,0 +1,86 @@
+package com.tissue.unit.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.tissue.api.util.StringBloomFilter;
+import com.tissue.api.util.WorkspaceCodeGenerator;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이전 방식(UUID 문자열 -> SHA-256 -> Base62 -> 앞 8자리)과 현재 생성기의 코드 당 생성 시간을 비교하고,
+ * 코드가 많이 쌓인 상태에서 Bloom filter 사전 검사 비용을 측정한다
+ *  - 이전 방식의 Base62 인코딩은 BigInteger의 36진수 변환으로 대신한다(비교 기준: UUID 생성 + SHA-256 + 인코딩)
+ *  - test 태스크에서는 제외되며 ./gradlew benchmark로 실행한다
+ */
+@Slf4j
+@Tag("benchmark")
+class WorkspaceCodeGeneratorBenchmarkTest {
+
+	private static final int WARMUP_ITERATIONS = 50_000;
+	private static final int ITERATIONS = 200_000;
+
+	private final WorkspaceCodeGenerator workspaceCodeGenerator = new WorkspaceCodeGenerator();
+
+	@Test
+	@DisplayName("해시 없이 생성하는 코드는 SHA-256 기반 코드보다 빠르게 생성된다")
+	void compareGenerationTime() throws Exception {
+		MessageDigest digest = MessageDigest.getInstance("SHA-256");
+		Supplier<String> legacy = () -> new BigInteger(1, digest.digest(UUID.randomUUID().toString().getBytes()))
+			.toString(Character.MAX_RADIX)
+			.substring(0, 8);
+
+		double legacyNanos = measure(legacy);
+		double currentNanos = measure(workspaceCodeGenerator::generateWorkspaceCode);
+
+		log.info("workspace code generation - sha256: {} ns/op, direct: {} ns/op",
+			String.format("%.1f", legacyNanos), String.format("%.1f", currentNanos));
+
+		assertThat(currentNanos).isLessThan(legacyNanos);
+		assertThat(workspaceCodeGenerator.generateWorkspaceCode()).hasSize(8);
+	}
+
+	@Test
+	@DisplayName("코드 100만개가 등록된 Bloom filter의 사전 검사 시간과 재생성 비율을 측정한다")
+	void measurePrecheck() {
+		StringBloomFilter filter = new StringBloomFilter(1_000_000, 0.01);
+		for (int i = 0; i < 1_000_000; i++) {
+			filter.put(workspaceCodeGenerator.generateWorkspaceCode());
+		}
+
+		int regenerated = 0;
+		long startedAt = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			if (filter.mightContain(workspaceCodeGenerator.generateWorkspaceCode())) {
+				regenerated++;
+			}
+		}
+		double nanos = (System.nanoTime() - startedAt) / (double)ITERATIONS;
+
+		log.info("workspace code precheck - {} ns/op (generate + mightContain), regenerated: {}%",
+			String.format("%.1f", nanos), String.format("%.3f", regenerated * 100.0 / ITERATIONS));
+
+		assertThat(regenerated).isLessThan(ITERATIONS / 50);
+	}
+
+	private double measure(Supplier<String> generator) {
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			generator.get();
+		}
+
+		long startedAt = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			generator.get();
+		}
+		return (System.nanoTime() - startedAt) / (double)ITERATIONS;
+	}
+}
@@ -2,6 +2,9 @@ package com.tissue.unit.util;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -36,4 +39,34 @@ class WorkspaceCodeGeneratorTest {
 		assertThat(workspaceCode).matches("[A-Za-z0-9]+");
 	}
 
+	/**
+	 * 62^8 공간에서 n개를 뽑을 때 기대 충돌 수는 n^2 / (2 * 62^8) 이다(n = 200,000 이면 약 0.0001)
+	 */
+	@Test
+	@DisplayName("워크스페이스 코드 20만개를 생성해도 중복이 거의 발생하지 않는다")
+	void testGenerateWorkspaceCodeCollisionRate() {
+		int count = 200_000;
+		Set<String> codes = new HashSet<>(count * 2);
+
+		for (int i = 0; i < count; i++) {
+			codes.add(workspaceCodeGenerator.generateWorkspaceCode());
+		}
+
+		assertThat(count - codes.size()).isLessThanOrEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("워크스페이스 코드의 각 자리에 Base62 문자가 고르게 분포한다")
+	void testGenerateWorkspaceCodeDistribution() {
+		int count = 62_000;
+		int[] firstCharCounts = new int[128];
+
+		for (int i = 0; i < count; i++) {
+			firstCharCounts[workspaceCodeGenerator.generateWorkspaceCode().charAt(0)]++;
+		}
+
+		for (char c : "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789".toCharArray()) {
+			assertThat(firstCharCounts[c]).isBetween(700, 1300);
+		}
+	}
 }